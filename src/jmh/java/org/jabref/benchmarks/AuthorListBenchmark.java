@@ -0,0 +1,61 @@
+package org.jabref.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.jabref.model.entry.AuthorList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures parsing and formatting author fields from many threads at once, as done by parallel searching, sorting and
+ * rendering of the main table. The fields are new strings equal to the cached ones, as read from entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Threads(Threads.MAX)
+public class AuthorListBenchmark {
+
+    @Param({"1000", "100000"})
+    public int numberOfDistinctFields;
+
+    private String[] authorFields;
+
+    @Setup
+    public void init() {
+        authorFields = new String[numberOfDistinctFields];
+        for (int i = 0; i < numberOfDistinctFields; i++) {
+            authorFields[i] = "Author" + i + ", J{\\\"o}rg and von Other" + (i % 100) + ", Anna and Third, T.";
+        }
+    }
+
+    private String randomAuthorField() {
+        return new String(authorFields[ThreadLocalRandom.current().nextInt(authorFields.length)]);
+    }
+
+    @Benchmark
+    public AuthorList parse() {
+        return AuthorList.parse(randomAuthorField());
+    }
+
+    @Benchmark
+    public String getAsLastFirstNames() {
+        return AuthorList.parse(randomAuthorField()).getAsLastFirstNames(true, false);
+    }
+
+    @Benchmark
+    public String getForAlphabetization() {
+        return AuthorList.fixAuthorForAlphabetization(randomAuthorField());
+    }
+
+    @Benchmark
+    public String getLatexFreeFirstLastNames() {
+        return AuthorList.parse(randomAuthorField()).latexFree().getAsFirstLastNamesWithAnd();
+    }
+}
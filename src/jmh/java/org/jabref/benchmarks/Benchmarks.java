@@ -52,6 +52,7 @@ public class Benchmarks {
     private String bibtexString;
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
+    private String accentedLatexConversionString;
     private String htmlConversionString;
 
     @Setup
@@ -75,6 +76,8 @@ public class Benchmarks {
 
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
+        accentedLatexConversionString = "M{\\\"{o}}nch and Mali\\'{n}ski and \\L\\k{e}ski and Monta\\~{n}a";
+
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
     }
 
@@ -128,6 +131,18 @@ public class Benchmarks {
         return f.format(latexConversionString);
     }
 
+    @Benchmark
+    public String latexToUnicodeConversionOfAccents() {
+        LatexToUnicodeFormatter f = new LatexToUnicodeFormatter();
+        return f.format(accentedLatexConversionString);
+    }
+
+    @Benchmark
+    public String latexToUnicodeConversionOfPlainText() {
+        LatexToUnicodeFormatter f = new LatexToUnicodeFormatter();
+        return f.format("This is my title 500");
+    }
+
     @Benchmark
     public String latexToHTMLConversion() {
         HTMLChars f = new HTMLChars();
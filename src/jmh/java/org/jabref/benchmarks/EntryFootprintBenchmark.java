@@ -0,0 +1,94 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.ref.Reference;
+import java.util.Random;
+
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.preferences.JabRefPreferences;
+import org.jabref.preferences.PreferencesService;
+
+import com.airhacks.afterburner.injection.Injector;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the heap retained by the entries of a parsed library. The result is reported as the secondary metric
+ * "bytesPerEntry"; the time is only the time needed to parse the library and to measure the heap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+public class EntryFootprintBenchmark {
+
+    private static final int NUMBER_OF_ENTRIES = 20_000;
+
+    private String bibtexString;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long bytesPerEntry;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesPerEntry = 0;
+        }
+    }
+
+    @Setup
+    public void init() {
+        Injector.setModelOrService(PreferencesService.class, JabRefPreferences.getInstance());
+
+        Random randomizer = new Random();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            builder.append("@Article{id").append(i).append(",\n")
+                   .append("  author   = {Firstname Lastname and M{\\\"{u}}ller, Hans and FirstnameB LastnameB").append(i).append("},\n")
+                   .append("  title    = {This is my title ").append(i).append("},\n")
+                   .append("  journal  = {Journal Title ").append(i % 100).append("},\n")
+                   .append("  year     = {").append(1900 + (i % 125)).append("},\n")
+                   .append("  keywords = {testkeyword, other keyword},\n")
+                   .append("  doi      = {10.1000/").append(randomizer.nextInt()).append("},\n")
+                   .append("}\n\n");
+        }
+        bibtexString = builder.toString();
+    }
+
+    @Benchmark
+    public int parsedLibrary(Footprint footprint) throws IOException {
+        PreferencesService preferencesService = Injector.instantiateModelOrService(PreferencesService.class);
+        BibtexParser parser = new BibtexParser(preferencesService.getImportFormatPreferences());
+
+        long before = usedHeap();
+        ParserResult result = parser.parse(new StringReader(bibtexString));
+        for (BibEntry entry : result.getDatabase().getEntries()) {
+            // The main table and the search access these, so they are part of the footprint in practice
+            entry.getFieldLatexFree(StandardField.AUTHOR);
+            entry.getFieldLatexFree(StandardField.TITLE);
+        }
+        long after = usedHeap();
+
+        int entryCount = result.getDatabase().getEntryCount();
+        footprint.bytesPerEntry = (after - before) / entryCount;
+        Reference.reachabilityFence(result);
+        return entryCount;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,58 @@
+package org.jabref.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.jabref.logic.importer.fileformat.RisImporter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the import of large RIS files, as exported by library systems
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+public class RisImporterBenchmark {
+
+    @Param({"10", "100"})
+    public int sizeInMegabytes;
+
+    private String risString;
+
+    @Setup
+    public void init() {
+        long size = sizeInMegabytes * 1024L * 1024L;
+        StringBuilder builder = new StringBuilder((int) size + 1024);
+        for (int i = 0; builder.length() < size; i++) {
+            builder.append("TY  - JOUR\n")
+                   .append("AU  - Lastname, Firstname\n")
+                   .append("AU  - Müller, Hans").append(i).append('\n')
+                   .append("TI  - This is my title ").append(i).append('\n')
+                   .append("  which continues on the next line\n")
+                   .append("JO  - Journal Title ").append(i % 100).append('\n')
+                   .append("PY  - ").append(1900 + (i % 125)).append("/05/01\n")
+                   .append("SP  - ").append(i % 1000).append('\n')
+                   .append("EP  - ").append((i % 1000) + 10).append('\n')
+                   .append("KW  - testkeyword\n")
+                   .append("KW  - other keyword\n")
+                   .append("AB  - An abstract – with a dash\n")
+                   .append("DO  - 10.1000/").append(i).append('\n')
+                   .append("ER  - \n\n");
+        }
+        risString = builder.toString();
+    }
+
+    @Benchmark
+    public int importDatabase() throws IOException {
+        return new RisImporter().importDatabase(new BufferedReader(new StringReader(risString)))
+                                .getDatabase()
+                                .getEntryCount();
+    }
+}
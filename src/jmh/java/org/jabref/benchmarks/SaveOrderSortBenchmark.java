@@ -0,0 +1,55 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jabref.logic.exporter.BibDatabaseWriter;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.metadata.SelfContainedSaveOrder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures sorting a large library in the save order author, year, title. The entries are created anew for each
+ * iteration, so that the first sort (e.g., the first save after opening the library) is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+public class SaveOrderSortBenchmark {
+
+    private static final int NUMBER_OF_ENTRIES = 100_000;
+
+    private final SelfContainedSaveOrder saveOrder = new SelfContainedSaveOrder(SaveOrder.OrderType.SPECIFIED, List.of(
+            new SaveOrder.SortCriterion(StandardField.AUTHOR),
+            new SaveOrder.SortCriterion(StandardField.YEAR),
+            new SaveOrder.SortCriterion(StandardField.TITLE)));
+
+    private List<BibEntry> entries;
+
+    @Setup(Level.Iteration)
+    public void init() {
+        Random random = new Random(42);
+        entries = new ArrayList<>(NUMBER_OF_ENTRIES);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            // Few distinct authors and years, so that the later criteria are needed as well
+            entries.add(new BibEntry()
+                    .withField(StandardField.AUTHOR, "Author" + random.nextInt(1000) + ", Jörg and Other, Anna")
+                    .withField(StandardField.YEAR, String.valueOf(1950 + random.nextInt(70)))
+                    .withField(StandardField.TITLE, "{The} Title of Entry " + random.nextInt(NUMBER_OF_ENTRIES)));
+        }
+    }
+
+    @Benchmark
+    public List<BibEntry> getSortedEntries() {
+        return BibDatabaseWriter.getSortedEntries(entries, saveOrder);
+    }
+}
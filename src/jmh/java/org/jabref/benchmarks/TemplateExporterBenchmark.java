@@ -0,0 +1,72 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.logic.exporter.TemplateExporter;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.SaveOrder;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures exporting a large library with the built-in HTML and DocBook templates
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+public class TemplateExporterBenchmark {
+
+    private static final int NUMBER_OF_ENTRIES = 100_000;
+
+    @Param({"html", "docbook5"})
+    public String layoutName;
+
+    private TemplateExporter exporter;
+    private BibDatabaseContext databaseContext;
+    private List<BibEntry> entries;
+    private Path exportFile;
+
+    @Setup
+    public void init() throws IOException {
+        exporter = new TemplateExporter(layoutName, layoutName, layoutName, null, StandardFileType.XML,
+                JabRefPreferences.getInstance().getLayoutFormatterPreferences(), SaveOrder.getDefaultSaveOrder());
+        databaseContext = new BibDatabaseContext();
+        entries = new ArrayList<>(NUMBER_OF_ENTRIES);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Author" + i + ", J{\\\"o}rg and Other, Anna")
+                    .withField(StandardField.TITLE, "Title of {E}ntry " + i)
+                    .withField(StandardField.JOURNAL, "Journal " + (i % 100))
+                    .withField(StandardField.YEAR, String.valueOf(1950 + (i % 70)))
+                    .withField(StandardField.PAGES, (i % 100) + "--" + ((i % 100) + 10))
+                    .withField(StandardField.ABSTRACT, "An abstract with some \\emph{LaTeX} & special characters"));
+        }
+        exportFile = Files.createTempFile("jabref-export", ".tmp");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(exportFile);
+    }
+
+    @Benchmark
+    public void export() throws Exception {
+        exporter.export(databaseContext, exportFile, entries);
+    }
+}
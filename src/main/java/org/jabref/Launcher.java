@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.jabref.cli.ArgumentProcessor;
 import org.jabref.cli.JabRefCLI;
@@ -17,11 +18,14 @@ import org.jabref.gui.JabRefGUI;
 import org.jabref.gui.util.DefaultDirectoryMonitor;
 import org.jabref.gui.util.DefaultFileUpdateMonitor;
 import org.jabref.logic.UiCommand;
+import org.jabref.logic.importer.ImporterPreferences;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.net.HttpResponseCache;
 import org.jabref.logic.net.ProxyAuthenticator;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.net.ProxyRegisterer;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.net.ssl.SSLPreferences;
 import org.jabref.logic.net.ssl.TrustStoreManager;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
@@ -30,6 +34,7 @@ import org.jabref.logic.remote.client.RemoteClient;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.OS;
+import org.jabref.logic.util.StartupTimeline;
 import org.jabref.migrations.PreferencesMigrations;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.util.DirectoryMonitor;
@@ -55,40 +60,62 @@ public class Launcher {
     private static Logger LOGGER;
 
     public static void main(String[] args) {
-        initLogging(args);
+        StartupTimeline timeline = StartupTimeline.INSTANCE;
+        timeline.measure("Logging", () -> initLogging(args));
 
         try {
             Injector.setModelOrService(BuildInfo.class, new BuildInfo());
 
             // Initialize preferences
-            final JabRefPreferences preferences = JabRefPreferences.getInstance();
+            final JabRefPreferences preferences = timeline.measure("Preferences", JabRefPreferences::getInstance);
             Injector.setModelOrService(PreferencesService.class, preferences);
 
             // Early exit in case another instance is already running
-            if (!handleMultipleAppInstances(args, preferences.getRemotePreferences())) {
+            if (!timeline.measure("Remote instance check", () -> handleMultipleAppInstances(args, preferences.getRemotePreferences()))) {
                 return;
             }
 
-            BibEntryTypesManager entryTypesManager = preferences.getCustomEntryTypesRepository();
+            BibEntryTypesManager entryTypesManager = timeline.measure("Entry types", preferences::getCustomEntryTypesRepository);
             Injector.setModelOrService(BibEntryTypesManager.class, entryTypesManager);
 
-            PreferencesMigrations.runMigrations(preferences, entryTypesManager);
+            timeline.measure("Preferences migrations", () -> PreferencesMigrations.runMigrations(preferences, entryTypesManager));
 
-            Injector.setModelOrService(JournalAbbreviationRepository.class, JournalAbbreviationLoader.loadRepository(preferences.getJournalAbbreviationPreferences()));
-            Injector.setModelOrService(ProtectedTermsLoader.class, new ProtectedTermsLoader(preferences.getProtectedTermsPreferences()));
+            // The following services do not depend on each other, so they are started in parallel. They are only
+            // waited for before the command line arguments are processed, which is the first use of them.
+            CompletableFuture<JournalAbbreviationRepository> journalAbbreviationRepository = CompletableFuture.supplyAsync(() ->
+                    timeline.measure("Journal abbreviations", () -> JournalAbbreviationLoader.loadRepository(preferences.getJournalAbbreviationPreferences())),
+                    HeadlessExecutorService.INSTANCE);
+            CompletableFuture<Void> sslConfiguration = CompletableFuture.runAsync(() ->
+                    timeline.measure("SSL", () -> configureSSL(preferences.getSSLPreferences())),
+                    HeadlessExecutorService.INSTANCE);
+            ImporterPreferences importerPreferences = preferences.getImporterPreferences();
+            CompletableFuture<Void> responseCache = CompletableFuture.runAsync(() ->
+                    timeline.measure("Web response cache", () -> configureResponseCache(importerPreferences)),
+                    HeadlessExecutorService.INSTANCE);
+            // Nothing depends on the removal of outdated indices
+            HeadlessExecutorService.INSTANCE.execute(() -> timeline.measure("Old search indices", Launcher::clearOldSearchIndices));
 
-            configureProxy(preferences.getProxyPreferences());
-            configureSSL(preferences.getSSLPreferences());
+            // The term lists are read on first use
+            Injector.setModelOrService(ProtectedTermsLoader.class, new ProtectedTermsLoader(preferences.getProtectedTermsPreferences()));
 
-            clearOldSearchIndices();
+            timeline.measure("Proxy", () -> configureProxy(preferences.getProxyPreferences()));
 
             try {
-                DefaultFileUpdateMonitor fileUpdateMonitor = new DefaultFileUpdateMonitor();
-                Injector.setModelOrService(FileUpdateMonitor.class, fileUpdateMonitor);
-                HeadlessExecutorService.INSTANCE.executeInterruptableTask(fileUpdateMonitor, "FileUpdateMonitor");
+                DefaultFileUpdateMonitor fileUpdateMonitor = timeline.measure("File monitors", () -> {
+                    DefaultFileUpdateMonitor monitor = new DefaultFileUpdateMonitor();
+                    Injector.setModelOrService(FileUpdateMonitor.class, monitor);
+                    HeadlessExecutorService.INSTANCE.executeInterruptableTask(monitor, "FileUpdateMonitor");
+
+                    DirectoryMonitor directoryMonitor = new DefaultDirectoryMonitor();
+                    Injector.setModelOrService(DirectoryMonitor.class, directoryMonitor);
+                    return monitor;
+                });
 
-                DirectoryMonitor directoryMonitor = new DefaultDirectoryMonitor();
-                Injector.setModelOrService(DirectoryMonitor.class, directoryMonitor);
+                timeline.measure("Waiting for services", () -> {
+                    Injector.setModelOrService(JournalAbbreviationRepository.class, journalAbbreviationRepository.join());
+                    sslConfiguration.join();
+                    responseCache.join();
+                });
 
                 // Process arguments
                 ArgumentProcessor argumentProcessor = new ArgumentProcessor(
@@ -97,11 +124,13 @@ public class Launcher {
                         preferences,
                         fileUpdateMonitor,
                         entryTypesManager);
-                argumentProcessor.processArguments();
+                timeline.measure("Command line arguments", argumentProcessor::processArguments);
                 if (argumentProcessor.shouldShutDown()) {
+                    timeline.finish("Command line arguments processed");
                     LOGGER.debug("JabRef shut down after processing command line arguments");
                     // A clean shutdown takes 60s time
-                    // We don't need the clean shutdown here
+                    // We don't need the clean shutdown here, but the stored web responses have to be written
+                    URLDownload.closeResponseCache();
                     System.exit(0);
                 }
 
@@ -111,6 +140,7 @@ public class Launcher {
             } catch (ParseException e) {
                 LOGGER.error("Problem parsing arguments", e);
                 JabRefCLI.printUsage(preferences);
+                URLDownload.closeResponseCache();
             }
         } catch (Exception ex) {
             LOGGER.error("Unexpected exception", ex);
@@ -203,6 +233,12 @@ public class Launcher {
         TrustStoreManager.createTruststoreFileIfNotExist(Path.of(sslPreferences.getTruststorePath()));
     }
 
+    private static void configureResponseCache(ImporterPreferences importerPreferences) {
+        URLDownload.setResponseCache(HttpResponseCache.withMaximumSizeInMegabytes(
+                OS.getNativeDesktop().getCacheDirectory().resolve("http-cache.mv"),
+                importerPreferences.getResponseCacheSize()));
+    }
+
     private static void clearOldSearchIndices() {
         Path currentIndexPath = OS.getNativeDesktop().getFulltextIndexBaseDirectory();
         Path appData = currentIndexPath.getParent();
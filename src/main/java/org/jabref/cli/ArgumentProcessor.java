@@ -44,6 +44,7 @@ import org.jabref.logic.search.DatabaseSearcher;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.shared.prefs.SharedDatabasePreferences;
 import org.jabref.logic.util.OS;
+import org.jabref.logic.util.StartupTimeline;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.logic.xmp.XmpPreferences;
 import org.jabref.model.database.BibDatabase;
@@ -197,6 +198,14 @@ public class ArgumentProcessor {
             cli.displayVersion();
         }
 
+        if ((startupMode == Mode.INITIAL_START) && cli.isOffline()) {
+            URLDownload.getResponseCache().ifPresent(cache -> cache.setCacheOnly(true));
+        }
+
+        if ((startupMode == Mode.INITIAL_START) && cli.isStartupTimeline()) {
+            StartupTimeline.INSTANCE.printOnFinish();
+        }
+
         if ((startupMode == Mode.INITIAL_START) && cli.isHelp()) {
             JabRefCLI.printUsage(preferencesService);
             guiNeeded = false;
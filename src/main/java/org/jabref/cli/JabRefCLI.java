@@ -128,6 +128,14 @@ public class JabRefCLI {
         return cl.hasOption("debug");
     }
 
+    public boolean isOffline() {
+        return cl.hasOption("offline");
+    }
+
+    public boolean isStartupTimeline() {
+        return cl.hasOption("startup-timeline");
+    }
+
     public boolean isFetcherEngine() {
         return cl.hasOption("fetch");
     }
@@ -189,6 +197,8 @@ public class JabRefCLI {
         options.addOption("b", "blank", false, Localization.lang("Do not open any files at startup"));
         options.addOption("v", "version", false, Localization.lang("Display version"));
         options.addOption(null, "debug", false, Localization.lang("Show debug level messages"));
+        options.addOption(null, "offline", false, Localization.lang("Do not access the network. Use only cached web responses"));
+        options.addOption(null, "startup-timeline", false, Localization.lang("Print how long the phases of the startup took"));
 
         options.addOption(Option
                 .builder("i")
@@ -14,6 +14,10 @@ import javafx.stage.Screen;
 import javafx.stage.Stage;
 import javafx.stage.WindowEvent;
 
+import org.jabref.gui.desktop.JabRefDesktop;
+import org.jabref.gui.entryeditor.citationrelationtab.BibEntryRelationsCache;
+import org.jabref.gui.entryeditor.citationrelationtab.BibEntryRelationsRepository;
+import org.jabref.gui.entryeditor.citationrelationtab.semanticscholar.SemanticScholarFetcher;
 import org.jabref.gui.frame.JabRefFrame;
 import org.jabref.gui.help.VersionWorker;
 import org.jabref.gui.icon.IconTheme;
@@ -28,10 +32,13 @@ import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.UiCommand;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.net.ProxyRegisterer;
+import org.jabref.logic.net.URLDownload;
+import org.jabref.logic.pdf.PersistentAnnotationCache;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.server.RemoteListenerServerManager;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.StartupTimeline;
 import org.jabref.logic.util.WebViewStore;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.strings.StringUtil;
@@ -64,6 +71,8 @@ public class JabRefGUI extends Application {
     private static ClipBoardManager clipBoardManager;
     private static DialogService dialogService;
     private static JabRefFrame mainFrame;
+    private static PersistentAnnotationCache annotationCache;
+    private static BibEntryRelationsCache relationsCache;
 
     private static RemoteListenerServerManager remoteListenerServerManager;
 
@@ -83,9 +92,10 @@ public class JabRefGUI extends Application {
 
         FallbackExceptionHandler.installExceptionHandler();
 
-        initialize();
+        StartupTimeline timeline = StartupTimeline.INSTANCE;
+        timeline.measure("GUI services", this::initialize);
 
-        JabRefGUI.mainFrame = new JabRefFrame(
+        JabRefGUI.mainFrame = timeline.measure("Main frame", () -> new JabRefFrame(
                 mainStage,
                 dialogService,
                 fileUpdateMonitor,
@@ -94,9 +104,10 @@ public class JabRefGUI extends Application {
                 countingUndoManager,
                 Injector.instantiateModelOrService(BibEntryTypesManager.class),
                 clipBoardManager,
-                taskExecutor);
+                taskExecutor));
 
-        openWindow();
+        timeline.measure("Main window", this::openWindow);
+        timeline.finish("Main window shown");
 
         startBackgroundTasks();
 
@@ -150,6 +161,19 @@ public class JabRefGUI extends Application {
 
         JabRefGUI.clipBoardManager = new ClipBoardManager();
         Injector.setModelOrService(ClipBoardManager.class, clipBoardManager);
+
+        JabRefGUI.annotationCache = new PersistentAnnotationCache(JabRefDesktop.getCacheDirectory().resolve("annotations.mv"));
+        Injector.setModelOrService(PersistentAnnotationCache.class, annotationCache);
+
+        JabRefGUI.relationsCache = new BibEntryRelationsCache(
+                JabRefDesktop.getCacheDirectory().resolve("citation-relations.mv"),
+                BibEntryRelationsCache.DEFAULT_TIME_TO_LIVE,
+                BibEntryRelationsCache.DEFAULT_MAXIMUM_NUMBER_OF_DOIS);
+        Injector.setModelOrService(BibEntryRelationsCache.class, relationsCache);
+        // Shared by all entry editors, so that their requests for the same DOI are coalesced
+        Injector.setModelOrService(BibEntryRelationsRepository.class, new BibEntryRelationsRepository(
+                new SemanticScholarFetcher(preferencesService.getImporterPreferences()),
+                relationsCache));
     }
 
     private void setupProxy() {
@@ -340,10 +364,14 @@ public class JabRefGUI extends Application {
         OOBibBaseConnect.closeOfficeConnection();
         stopBackgroundTasks();
         shutdownThreadPools();
+        // The caches are closed after the tasks which may write to them are stopped
+        annotationCache.close();
+        relationsCache.close();
     }
 
     public void stopBackgroundTasks() {
         Unirest.shutDown();
+        URLDownload.closeResponseCache();
     }
 
     public static void shutdownThreadPools() {
@@ -4,10 +4,12 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -49,6 +51,7 @@ import org.jabref.gui.dialogs.AutosaveUiManager;
 import org.jabref.gui.entryeditor.EntryEditor;
 import org.jabref.gui.exporter.SaveDatabaseAction;
 import org.jabref.gui.fieldeditors.LinkedFileViewModel;
+import org.jabref.gui.importer.actions.GUIPostOpenAction;
 import org.jabref.gui.importer.actions.OpenDatabaseAction;
 import org.jabref.gui.linkedfile.DeleteFileAction;
 import org.jabref.gui.maintable.BibEntryTableViewModel;
@@ -71,11 +74,13 @@ import org.jabref.logic.importer.util.FileFieldParser;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.pdf.FileAnnotationCache;
+import org.jabref.logic.pdf.PersistentAnnotationCache;
 import org.jabref.logic.pdf.search.IndexingTaskManager;
 import org.jabref.logic.pdf.search.PdfIndexer;
 import org.jabref.logic.pdf.search.PdfIndexerManager;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.shared.DatabaseLocation;
+import org.jabref.logic.util.TaskPriority;
 import org.jabref.logic.util.UpdateField;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.FieldChange;
@@ -90,6 +95,7 @@ import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.StandardField;
@@ -118,6 +124,9 @@ public class LibraryTab extends Tab {
     private enum PanelMode { MAIN_TABLE, MAIN_TABLE_AND_ENTRY_EDITOR }
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LibraryTab.class);
+    // The number of entries above and below each selected entry whose annotations are read in advance
+    private static final int ANNOTATION_PREFETCH_NEIGHBOURS = 5;
+    private static final int ANNOTATION_PREFETCH_LIMIT = 50;
     private final LibraryTabContainer tabContainer;
     private final CountingUndoManager undoManager;
     private final DialogService dialogService;
@@ -127,6 +136,8 @@ public class LibraryTab extends Tab {
     private final BibEntryTypesManager entryTypesManager;
     private final BooleanProperty changedProperty = new SimpleBooleanProperty(false);
     private final BooleanProperty nonUndoableChangeProperty = new SimpleBooleanProperty(false);
+    // Cancels the annotation prefetch for the previous selection
+    private final Object annotationPrefetchKey = new Object();
 
     private BibDatabaseContext bibDatabaseContext;
     private MainTableDataModel tableModel;
@@ -161,7 +172,7 @@ public class LibraryTab extends Tab {
 
     private Optional<DatabaseChangeMonitor> changeMonitor = Optional.empty();
 
-    private BackgroundTask<ParserResult> dataLoadingTask;
+    private BackgroundTask<LoadedLibrary> dataLoadingTask;
 
     private final ClipBoardManager clipBoardManager;
     private final IndexingTaskManager indexingTaskManager;
@@ -198,7 +209,7 @@ public class LibraryTab extends Tab {
         this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, taskExecutor, selectedGroupsProperty(), searchQueryProperty(), resultSizeProperty());
 
         citationStyleCache = new CitationStyleCache(bibDatabaseContext);
-        annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences());
+        setupAnnotationCache();
 
         setupMainPanel();
         setupAutoCompletion();
@@ -211,7 +222,7 @@ public class LibraryTab extends Tab {
         // ensure that all entry changes mark the panel as changed
         this.bibDatabaseContext.getDatabase().registerListener(this);
 
-        this.getDatabase().registerListener(new UpdateTimestampListener(preferencesService));
+        this.getDatabase().registerListener(new UpdateTimestampListener(preferencesService, this.getDatabase()));
 
         this.entryEditor = createEntryEditor();
 
@@ -229,6 +240,49 @@ public class LibraryTab extends Tab {
         setOnClosed(this::onClosed);
     }
 
+    /**
+     * Creates the annotation cache backed by the persistent annotation store.
+     */
+    private void setupAnnotationCache() {
+        annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences(), Injector.instantiateModelOrService(PersistentAnnotationCache.class));
+    }
+
+    /**
+     * Reads the annotations of the selected entries and of their neighbours in the main table in the background, so
+     * that the annotations tab opens instantly for them and for the entries reached by moving the selection. A new
+     * selection cancels the reading for the previous one.
+     */
+    private void prefetchAnnotations() {
+        List<BibEntryTableViewModel> shownEntries = mainTable.getItems();
+        List<Integer> selectedIndices = mainTable.getSelectionModel().getSelectedIndices().stream()
+                                                 .limit(ANNOTATION_PREFETCH_LIMIT)
+                                                 .toList();
+        Set<BibEntry> entries = new LinkedHashSet<>();
+        selectedIndices.forEach(index -> entries.add(shownEntries.get(index).getEntry()));
+        for (int distance = 1; distance <= ANNOTATION_PREFETCH_NEIGHBOURS; distance++) {
+            for (int index : selectedIndices) {
+                if (index - distance >= 0) {
+                    entries.add(shownEntries.get(index - distance).getEntry());
+                }
+                if (index + distance < shownEntries.size()) {
+                    entries.add(shownEntries.get(index + distance).getEntry());
+                }
+            }
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        FileAnnotationCache cache = annotationCache;
+        List<BibEntry> entriesToPrefetch = entries.stream().limit(ANNOTATION_PREFETCH_LIMIT).toList();
+        BackgroundTask.wrap(() -> cache.prefetch(entriesToPrefetch))
+                      .computeBound(true)
+                      .withPriority(TaskPriority.BACKGROUND)
+                      .withSupersedeKey(annotationPrefetchKey)
+                      .onFailure(exception -> LOGGER.warn("Could not prefetch annotations", exception))
+                      .executeWith(taskExecutor);
+    }
+
     private EntryEditor createEntryEditor() {
         Supplier<LibraryTab> tabSupplier = () -> this;
         return new EntryEditor(this,
@@ -255,7 +309,7 @@ public class LibraryTab extends Tab {
         text.append("]");
     }
 
-    private void setDataLoadingTask(BackgroundTask<ParserResult> dataLoadingTask) {
+    private void setDataLoadingTask(BackgroundTask<LoadedLibrary> dataLoadingTask) {
         this.loading.set(true);
         this.dataLoadingTask = dataLoadingTask;
     }
@@ -275,18 +329,27 @@ public class LibraryTab extends Tab {
         getMainTable().placeholderProperty().setValue(loadingLayout);
     }
 
-    private void onDatabaseLoadingSucceed(ParserResult result) {
+    /**
+     * Runs in the background after the library is parsed, so that the check does not block the JavaFX thread
+     */
+    private LoadedLibrary determinePostOpenActions(ParserResult result) {
+        return new LoadedLibrary(result, OpenDatabaseAction.getNecessaryPostOpenActions(result, preferencesService));
+    }
+
+    private void onDatabaseLoadingSucceed(LoadedLibrary loadedLibrary) {
+        ParserResult result = loadedLibrary.parserResult();
         BibDatabaseContext context = result.getDatabaseContext();
-        OpenDatabaseAction.performPostOpenActions(result, dialogService, preferencesService);
+        OpenDatabaseAction.performPostOpenActions(result, loadedLibrary.postOpenActions(), dialogService, preferencesService);
 
         setDatabaseContext(context);
 
         if (preferencesService.getFilePreferences().shouldFulltextIndexLinkedFiles()) {
-            try {
-                indexingTaskManager.updateIndex(PdfIndexerManager.getIndexer(bibDatabaseContext, preferencesService.getFilePreferences()), bibDatabaseContext);
-            } catch (IOException e) {
-                LOGGER.error("Cannot access lucene index", e);
-            }
+            // Opening the index reads from disk, thus it is done in the background
+            BackgroundTask.wrap(() -> PdfIndexerManager.getIndexer(context, preferencesService.getFilePreferences()))
+                          .withPriority(TaskPriority.BACKGROUND)
+                          .onSuccess(indexer -> indexingTaskManager.updateIndex(indexer, context))
+                          .onFailure(exception -> LOGGER.error("Cannot access lucene index", exception))
+                          .executeWith(taskExecutor);
         }
 
         LOGGER.trace("loading.set(false);");
@@ -331,7 +394,7 @@ public class LibraryTab extends Tab {
         this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, taskExecutor, selectedGroupsProperty(), searchQueryProperty(), resultSizeProperty());
 
         citationStyleCache = new CitationStyleCache(bibDatabaseContext);
-        annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences());
+        setupAnnotationCache();
 
         setupMainPanel();
         setupAutoCompletion();
@@ -344,7 +407,7 @@ public class LibraryTab extends Tab {
         // ensure that all entry changes mark the panel as changed
         this.bibDatabaseContext.getDatabase().registerListener(this);
 
-        this.getDatabase().registerListener(new UpdateTimestampListener(preferencesService));
+        this.getDatabase().registerListener(new UpdateTimestampListener(preferencesService, this.getDatabase()));
 
         this.entryEditor = createEntryEditor();
 
@@ -584,6 +647,7 @@ public class LibraryTab extends Tab {
                 // Update entry editor and preview according to selected entries
                 entryEditor.setCurrentlyEditedEntry(entries.getFirst());
             }
+            prefetchAnnotations();
         });
     }
 
@@ -1024,11 +1088,12 @@ public class LibraryTab extends Tab {
                 clipBoardManager,
                 taskExecutor);
 
-        newTab.setDataLoadingTask(dataLoadingTask);
-        dataLoadingTask.onRunning(newTab::onDatabaseLoadingStarted)
-                       .onSuccess(newTab::onDatabaseLoadingSucceed)
-                       .onFailure(newTab::onDatabaseLoadingFailed)
-                       .executeWith(taskExecutor);
+        BackgroundTask<LoadedLibrary> loadingTask = dataLoadingTask.thenRun(newTab::determinePostOpenActions);
+        newTab.setDataLoadingTask(loadingTask);
+        loadingTask.onRunning(newTab::onDatabaseLoadingStarted)
+                   .onSuccess(newTab::onDatabaseLoadingSucceed)
+                   .onFailure(newTab::onDatabaseLoadingFailed)
+                   .executeWith(taskExecutor);
 
         return newTab;
     }
@@ -1115,30 +1180,53 @@ public class LibraryTab extends Tab {
         public void listen(FieldChangedEvent fieldChangedEvent) {
             if (preferencesService.getFilePreferences().shouldFulltextIndexLinkedFiles()) {
                 if (fieldChangedEvent.getField().equals(StandardField.FILE)) {
-                    List<LinkedFile> oldFileList = FileFieldParser.parse(fieldChangedEvent.getOldValue());
-                    List<LinkedFile> newFileList = FileFieldParser.parse(fieldChangedEvent.getNewValue());
-
-                    List<LinkedFile> addedFiles = new ArrayList<>(newFileList);
-                    addedFiles.removeAll(oldFileList);
-                    List<LinkedFile> removedFiles = new ArrayList<>(oldFileList);
-                    removedFiles.removeAll(newFileList);
-
-                    try {
-                        PdfIndexer indexer = PdfIndexerManager.getIndexer(bibDatabaseContext, preferencesService.getFilePreferences());
-                        indexingTaskManager.addToIndex(indexer, fieldChangedEvent.getBibEntry(), addedFiles);
-                        indexingTaskManager.removeFromIndex(indexer, removedFiles);
-                    } catch (IOException e) {
-                        LOGGER.warn("I/O error when writing lucene index", e);
+                    updateLinkedFilesInIndex(fieldChangedEvent.getBibEntry(), fieldChangedEvent.getOldValue(), fieldChangedEvent.getNewValue());
+                }
+            }
+        }
+
+        @Subscribe
+        public void listen(FieldsChangedEvent fieldsChangedEvent) {
+            if (preferencesService.getFilePreferences().shouldFulltextIndexLinkedFiles()) {
+                for (FieldChange change : fieldsChangedEvent.getChanges()) {
+                    if (change.getField().equals(StandardField.FILE)) {
+                        updateLinkedFilesInIndex(change.getEntry(), change.getOldValue(), change.getNewValue());
                     }
                 }
             }
         }
+
+        private void updateLinkedFilesInIndex(BibEntry entry, String oldValue, String newValue) {
+            List<LinkedFile> oldFileList = FileFieldParser.parse(oldValue);
+            List<LinkedFile> newFileList = FileFieldParser.parse(newValue);
+
+            List<LinkedFile> addedFiles = new ArrayList<>(newFileList);
+            addedFiles.removeAll(oldFileList);
+            List<LinkedFile> removedFiles = new ArrayList<>(oldFileList);
+            removedFiles.removeAll(newFileList);
+
+            try {
+                PdfIndexer indexer = PdfIndexerManager.getIndexer(bibDatabaseContext, preferencesService.getFilePreferences());
+                indexingTaskManager.addToIndex(indexer, entry, addedFiles);
+                indexingTaskManager.removeFromIndex(indexer, removedFiles);
+            } catch (IOException e) {
+                LOGGER.warn("I/O error when writing lucene index", e);
+            }
+        }
     }
 
     public IndexingTaskManager getIndexingTaskManager() {
         return indexingTaskManager;
     }
 
+    /**
+     * A parsed library together with the post open actions it needs
+     */
+    private record LoadedLibrary(
+            ParserResult parserResult,
+            List<GUIPostOpenAction> postOpenActions) {
+    }
+
     public static class DatabaseNotification extends NotificationPane {
         public DatabaseNotification(Node content) {
             super(content);
@@ -1,7 +1,10 @@
 package org.jabref.gui;
 
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.preferences.PreferencesService;
 
@@ -12,18 +15,34 @@ import com.google.common.eventbus.Subscribe;
  */
 class UpdateTimestampListener {
     private final PreferencesService preferencesService;
+    private final BibDatabase database;
 
-    UpdateTimestampListener(PreferencesService preferencesService) {
+    UpdateTimestampListener(PreferencesService preferencesService, BibDatabase database) {
         this.preferencesService = preferencesService;
+        this.database = database;
     }
 
     @Subscribe
     public void listen(EntryChangedEvent event) {
         // The event source needs to be checked, since the timestamp is always updated on every change. The cleanup formatter is an exception to that behaviour,
         // since it just should move the contents from the timestamp field to modificationdate or creationdate.
-        if (preferencesService.getTimestampPreferences().shouldAddModificationDate() && event.getEntriesEventSource() != EntriesEventSource.CLEANUP_TIMESTAMP) {
+        if (shouldUpdateTimestamp(event)) {
             event.getBibEntry().setField(StandardField.MODIFICATIONDATE,
                     preferencesService.getTimestampPreferences().now());
         }
     }
+
+    @Subscribe
+    public void listen(FieldsChangedEvent event) {
+        if (shouldUpdateTimestamp(event)) {
+            String now = preferencesService.getTimestampPreferences().now();
+            // The timestamps of the batch are set in a batch, too, so that the listeners are notified only once
+            database.batch(() -> event.getBibEntries().forEach(entry -> entry.setField(StandardField.MODIFICATIONDATE, now)),
+                    event.getEntriesEventSource());
+        }
+    }
+
+    private boolean shouldUpdateTimestamp(EntriesEvent event) {
+        return preferencesService.getTimestampPreferences().shouldAddModificationDate() && event.getEntriesEventSource() != EntriesEventSource.CLEANUP_TIMESTAMP;
+    }
 }
@@ -17,10 +17,14 @@ import org.controlsfx.control.textfield.AutoCompletionBinding;
  */
 public class BibEntrySuggestionProvider extends SuggestionProvider<BibEntry> {
 
-    private final BibDatabase database;
+    private final SuggestionIndex<BibEntry> index;
 
     public BibEntrySuggestionProvider(BibDatabase database) {
-        this.database = database;
+        this.index = new SuggestionIndex<>(database,
+                InternalField.KEY_FIELD::equals,
+                (entry, citationKey) -> Stream.of(new SuggestionIndex.Suggestion<>(citationKey, entry)),
+                // Entries with the same key are different suggestions, and entries may change while being indexed
+                Equivalence.identity());
     }
 
     @Override
@@ -43,6 +47,11 @@ public class BibEntrySuggestionProvider extends SuggestionProvider<BibEntry> {
 
     @Override
     public Stream<BibEntry> getSource() {
-        return database.getEntries().parallelStream();
+        return index.getAll();
+    }
+
+    @Override
+    protected Stream<BibEntry> getCandidates(String text) {
+        return index.find(text);
     }
 }
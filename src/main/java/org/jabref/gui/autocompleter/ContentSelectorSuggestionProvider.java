@@ -24,6 +24,11 @@ public class ContentSelectorSuggestionProvider extends StringSuggestionProvider
         return Stream.concat(contentSelectorValues.stream(), suggestionProvider.getSource());
     }
 
+    @Override
+    protected Stream<String> getCandidates(String text) {
+        return Stream.concat(contentSelectorValues.stream(), suggestionProvider.getCandidates(text));
+    }
+
     @Override
     public List<String> getPossibleSuggestions() {
         List<String> suggestions = new ArrayList<>();
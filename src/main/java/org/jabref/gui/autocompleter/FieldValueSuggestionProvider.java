@@ -6,21 +6,30 @@ import java.util.stream.Stream;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 
+import com.google.common.base.Equivalence;
+
 /**
  * Stores the full content of one field.
  */
 class FieldValueSuggestionProvider extends StringSuggestionProvider {
 
-    private final Field field;
-    private final BibDatabase database;
+    private final SuggestionIndex<String> index;
 
     FieldValueSuggestionProvider(Field field, BibDatabase database) {
-        this.field = Objects.requireNonNull(field);
-        this.database = database;
+        Objects.requireNonNull(field);
+        this.index = new SuggestionIndex<>(database,
+                field::equals,
+                (entry, value) -> Stream.of(new SuggestionIndex.Suggestion<>(value, value)),
+                Equivalence.equals());
     }
 
     @Override
     public Stream<String> getSource() {
-        return database.getEntries().parallelStream().flatMap(entry -> entry.getField(field).stream());
+        return index.getAll();
+    }
+
+    @Override
+    protected Stream<String> getCandidates(String text) {
+        return index.find(text);
     }
 }
@@ -23,7 +23,7 @@ import org.controlsfx.control.textfield.AutoCompletionBinding;
 public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
     private final Collection<Field> fields;
-    private final BibDatabase database;
+    private final SuggestionIndex<Author> index;
 
     PersonNameSuggestionProvider(Field field, BibDatabase database) {
         this(Collections.singletonList(Objects.requireNonNull(field)), database);
@@ -33,7 +33,11 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         super();
 
         this.fields = Objects.requireNonNull(fields);
-        this.database = database;
+        this.index = new SuggestionIndex<>(database,
+                this.fields::contains,
+                (entry, value) -> AuthorList.parse(value).getAuthors().stream()
+                                            .map(author -> new SuggestionIndex.Suggestion<>(author.getFamilyGiven(false), author)),
+                Equivalence.equals());
     }
 
     public Stream<Author> getAuthors(BibEntry entry) {
@@ -63,8 +67,11 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
     @Override
     public Stream<Author> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(this::getAuthors);
+        return index.getAll();
+    }
+
+    @Override
+    protected Stream<Author> getCandidates(String text) {
+        return index.find(text);
     }
 }
@@ -0,0 +1,220 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.jabref.model.FieldChange;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.base.Equivalence;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Index of the suggestions found in the fields of a library. It is built once when it is queried for the first time and
+ * then kept up to date by listening to the changes of the library. This avoids going through all entries (and parsing
+ * their fields again) for each typed character.
+ * <p>
+ * The suggestions are kept sorted by their lowercase text, so that the suggestions starting with the typed text are
+ * found by a range lookup. Suggestions containing the typed text somewhere else are found by a scan over the distinct
+ * texts, which is still much smaller than the library.
+ *
+ * @param <T> type of the suggestions
+ */
+class SuggestionIndex<T> {
+
+    // Separates the lowercase text (used for matching) from the original text in the keys of the index
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final BibDatabase database;
+    private final Predicate<Field> isIndexedField;
+    private final BiFunction<BibEntry, String, Stream<Suggestion<T>>> suggestionsOfFieldValue;
+    private final Equivalence<T> sameSuggestion;
+
+    // Key: lowercase text + separator + text; value: the suggestions with this text and how often they occur
+    private final NavigableMap<String, List<Occurrences<T>>> suggestions = new ConcurrentSkipListMap<>();
+
+    private boolean isBuilt;
+
+    /**
+     * @param isIndexedField          selects the fields whose values contain suggestions
+     * @param suggestionsOfFieldValue extracts the suggestions from the value of an indexed field of the given entry
+     * @param sameSuggestion          decides whether two suggestions with the same text are counted as one
+     */
+    SuggestionIndex(BibDatabase database,
+                    Predicate<Field> isIndexedField,
+                    BiFunction<BibEntry, String, Stream<Suggestion<T>>> suggestionsOfFieldValue,
+                    Equivalence<T> sameSuggestion) {
+        this.database = Objects.requireNonNull(database);
+        this.isIndexedField = isIndexedField;
+        this.suggestionsOfFieldValue = suggestionsOfFieldValue;
+        this.sameSuggestion = sameSuggestion;
+    }
+
+    /**
+     * Returns the suggestions whose text contains the given text (ignoring case). The suggestions starting with the
+     * text come first. The stream is evaluated lazily, so limiting it avoids the scan for other matches.
+     */
+    public Stream<T> find(String text) {
+        buildIfNecessary();
+        String lowercaseText = text.toLowerCase(Locale.ROOT);
+        Stream<List<Occurrences<T>>> startingWithText = suggestions.subMap(lowercaseText, true, lowercaseText + Character.MAX_VALUE, true)
+                                                                   .values().stream();
+        Stream<List<Occurrences<T>>> containingText = suggestions.entrySet().stream()
+                                                                 .filter(entry -> containsElsewhere(entry.getKey(), lowercaseText))
+                                                                 .map(Map.Entry::getValue);
+        return Stream.concat(startingWithText, containingText)
+                     .flatMap(List::stream)
+                     .map(Occurrences::suggestion);
+    }
+
+    /**
+     * Returns all suggestions, each one once
+     */
+    public Stream<T> getAll() {
+        buildIfNecessary();
+        return suggestions.values().stream()
+                          .flatMap(List::stream)
+                          .map(Occurrences::suggestion);
+    }
+
+    /**
+     * Checks whether the lowercase part of the key contains the text, but does not start with it
+     */
+    private static boolean containsElsewhere(String key, String lowercaseText) {
+        if (key.startsWith(lowercaseText)) {
+            return false;
+        }
+        int index = key.indexOf(lowercaseText);
+        return (index > 0) && ((index + lowercaseText.length()) <= key.indexOf(KEY_SEPARATOR));
+    }
+
+    private synchronized void buildIfNecessary() {
+        if (isBuilt) {
+            return;
+        }
+        database.registerListener(this);
+        for (BibEntry entry : database.getEntries()) {
+            addEntry(entry);
+        }
+        isBuilt = true;
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        if (isBuilt) {
+            event.getBibEntries().forEach(this::addEntry);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        if (isBuilt) {
+            event.getBibEntries().forEach(this::removeEntry);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        if (isBuilt && isIndexedField.test(event.getField())) {
+            update(event.getBibEntry(), event.getOldValue(), event.getNewValue());
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldsChangedEvent event) {
+        if (isBuilt) {
+            for (FieldChange change : event.getChanges()) {
+                if (isIndexedField.test(change.getField())) {
+                    update(change.getEntry(), change.getOldValue(), change.getNewValue());
+                }
+            }
+        }
+    }
+
+    private void addEntry(BibEntry entry) {
+        entry.getFieldMap().forEach((field, value) -> {
+            if (isIndexedField.test(field)) {
+                suggestionsOfFieldValue.apply(entry, value).forEach(this::add);
+            }
+        });
+    }
+
+    private void removeEntry(BibEntry entry) {
+        entry.getFieldMap().forEach((field, value) -> {
+            if (isIndexedField.test(field)) {
+                suggestionsOfFieldValue.apply(entry, value).forEach(this::remove);
+            }
+        });
+    }
+
+    private void update(BibEntry entry, String oldValue, String newValue) {
+        if (oldValue != null) {
+            suggestionsOfFieldValue.apply(entry, oldValue).forEach(this::remove);
+        }
+        if (newValue != null) {
+            suggestionsOfFieldValue.apply(entry, newValue).forEach(this::add);
+        }
+    }
+
+    private void add(Suggestion<T> suggestion) {
+        suggestions.compute(getKey(suggestion), (key, occurrences) -> {
+            List<Occurrences<T>> updated = occurrences == null ? new ArrayList<>(1) : new ArrayList<>(occurrences);
+            for (int i = 0; i < updated.size(); i++) {
+                Occurrences<T> existing = updated.get(i);
+                if (sameSuggestion.equivalent(existing.suggestion(), suggestion.value())) {
+                    updated.set(i, new Occurrences<>(existing.suggestion(), existing.count() + 1));
+                    return List.copyOf(updated);
+                }
+            }
+            updated.add(new Occurrences<>(suggestion.value(), 1));
+            return List.copyOf(updated);
+        });
+    }
+
+    private void remove(Suggestion<T> suggestion) {
+        suggestions.computeIfPresent(getKey(suggestion), (key, occurrences) -> {
+            List<Occurrences<T>> updated = new ArrayList<>(occurrences);
+            for (int i = 0; i < updated.size(); i++) {
+                Occurrences<T> existing = updated.get(i);
+                if (sameSuggestion.equivalent(existing.suggestion(), suggestion.value())) {
+                    if (existing.count() > 1) {
+                        updated.set(i, new Occurrences<>(existing.suggestion(), existing.count() - 1));
+                    } else {
+                        updated.remove(i);
+                    }
+                    break;
+                }
+            }
+            // Returning null removes the key
+            return updated.isEmpty() ? null : List.copyOf(updated);
+        });
+    }
+
+    private static String getKey(Suggestion<?> suggestion) {
+        return suggestion.text().toLowerCase(Locale.ROOT) + KEY_SEPARATOR + suggestion.text();
+    }
+
+    /**
+     * @param text  the text the user input is matched against
+     * @param value the suggestion offered to the user
+     */
+    record Suggestion<T>(String text, T value) {
+    }
+
+    private record Occurrences<T>(T suggestion, int count) {
+    }
+}
@@ -47,7 +47,8 @@ public abstract class SuggestionProvider<T> {
         if (!request.getUserText().isEmpty()) {
             Comparator<T> comparator = getComparator();
             Equivalence<T> equivalence = getEquivalence();
-            return getSource().filter(candidate -> isMatch(candidate, request))
+            return getCandidates(request.getUserText())
+                              .filter(candidate -> isMatch(candidate, request))
                               .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
                               .distinct()
                               .limit(10)
@@ -82,4 +83,12 @@ public abstract class SuggestionProvider<T> {
     protected abstract boolean isMatch(T candidate, ISuggestionRequest request);
 
     public abstract Stream<T> getSource();
+
+    /**
+     * Returns the suggestions which possibly match the given text. Providers with an index override this to avoid
+     * going through all suggestions of {@link #getSource()}.
+     */
+    protected Stream<T> getCandidates(String text) {
+        return getSource();
+    }
 }
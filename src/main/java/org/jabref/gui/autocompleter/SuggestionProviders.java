@@ -1,16 +1,20 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 
 public class SuggestionProviders {
 
     private final boolean isEmpty;
+    private final Map<Field, SuggestionProvider<?>> providers = new ConcurrentHashMap<>();
     private BibDatabase database;
     private JournalAbbreviationRepository abbreviationRepository;
     private AutoCompletePreferences autoCompletePreferences;
@@ -31,11 +35,19 @@ public class SuggestionProviders {
             return new EmptySuggestionProvider();
         }
 
+        // The providers index the library on first use, thus they are shared by all editors of a field
+        Set<FieldProperty> fieldProperties = field.getProperties();
+        if (fieldProperties.contains(FieldProperty.SINGLE_ENTRY_LINK) || fieldProperties.contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
+            // All entry link fields suggest citation keys
+            return providers.computeIfAbsent(InternalField.KEY_FIELD, key -> new BibEntrySuggestionProvider(database));
+        }
+        return providers.computeIfAbsent(field, this::createForField);
+    }
+
+    private SuggestionProvider<?> createForField(Field field) {
         Set<FieldProperty> fieldProperties = field.getProperties();
         if (fieldProperties.contains(FieldProperty.PERSON_NAMES)) {
             return new PersonNameSuggestionProvider(field, database);
-        } else if (fieldProperties.contains(FieldProperty.SINGLE_ENTRY_LINK) || fieldProperties.contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-            return new BibEntrySuggestionProvider(database);
         } else if (fieldProperties.contains(FieldProperty.JOURNAL_NAME) || StandardField.PUBLISHER == field) {
             return new JournalsSuggestionProvider(field, database, abbreviationRepository);
         } else {
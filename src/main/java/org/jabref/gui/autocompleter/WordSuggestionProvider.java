@@ -5,24 +5,34 @@ import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
+import org.jabref.model.strings.StringUtil;
+
+import com.google.common.base.Equivalence;
 
 /**
  * Stores all words in the given field.
  */
 public class WordSuggestionProvider extends StringSuggestionProvider {
 
-    private final Field field;
-    private final BibDatabase database;
+    private final SuggestionIndex<String> index;
 
     public WordSuggestionProvider(Field field, BibDatabase database) {
-        this.field = Objects.requireNonNull(field);
-        this.database = database;
+        Objects.requireNonNull(field);
+        this.index = new SuggestionIndex<>(database,
+                field::equals,
+                (entry, value) -> StringUtil.getStringAsWords(value).stream()
+                                            .distinct()
+                                            .map(word -> new SuggestionIndex.Suggestion<>(word, word)),
+                Equivalence.equals());
     }
 
     @Override
     public Stream<String> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(entry -> entry.getFieldAsWords(field).stream());
+        return index.getAll();
+    }
+
+    @Override
+    protected Stream<String> getCandidates(String text) {
+        return index.find(text);
     }
 }
@@ -109,18 +109,20 @@ public class GenerateCitationKeyAction extends SimpleCommand {
 
             @Override
             protected Void call() {
-                    if (isCanceled) {
-                        return null;
-                    }
+                if (isCanceled) {
+                    return null;
+                }
                 UiTaskExecutor.runInJavaFXThread(() -> {
-                        updateProgress(0, entries.size());
-                        messageProperty().set(Localization.lang("%0/%1 entries", 0, entries.size()));
-                    });
-                    stateManager.getActiveDatabase().ifPresent(databaseContext -> {
-                        // generate the new citation keys for each entry
-                        compound = new NamedCompound(Localization.lang("Autogenerate citation keys"));
-                        CitationKeyGenerator keyGenerator =
-                                new CitationKeyGenerator(databaseContext, preferencesService.getCitationKeyPatternPreferences());
+                    updateProgress(0, entries.size());
+                    messageProperty().set(Localization.lang("%0/%1 entries", 0, entries.size()));
+                });
+                stateManager.getActiveDatabase().ifPresent(databaseContext -> {
+                    // generate the new citation keys for each entry
+                    compound = new NamedCompound(Localization.lang("Autogenerate citation keys"));
+                    CitationKeyGenerator keyGenerator =
+                            new CitationKeyGenerator(databaseContext, preferencesService.getCitationKeyPatternPreferences());
+                    // listeners are notified once about all new keys
+                    databaseContext.getDatabase().batch(() -> {
                         int entriesDone = 0;
                         for (BibEntry entry : entries) {
                             keyGenerator.generateAndSetKey(entry)
@@ -132,9 +134,10 @@ public class GenerateCitationKeyAction extends SimpleCommand {
                                 messageProperty().set(Localization.lang("%0/%1 entries", finalEntriesDone, entries.size()));
                             });
                         }
-                        compound.end();
                     });
-                    return null;
+                    compound.end();
+                });
+                return null;
             }
 
             @Override
@@ -91,30 +91,13 @@ public class CleanupAction extends SimpleCommand {
             preferences.getCleanupPreferences().setFieldFormatterCleanups(preset.getFieldFormatterCleanups());
 
             BackgroundTask.wrap(() -> cleanup(stateManager.getActiveDatabase().get(), preset))
+                          .computeBound(true)
                           .onSuccess(result -> showResults())
                           .onFailure(dialogService::showErrorDialogAndWait)
                           .executeWith(taskExecutor);
         });
     }
 
-    /**
-     * Runs the cleanup on the entry and records the change.
-     */
-    private void doCleanup(BibDatabaseContext databaseContext, CleanupPreferences preset, BibEntry entry, NamedCompound ce) {
-        // Create and run cleaner
-        CleanupWorker cleaner = new CleanupWorker(
-                databaseContext,
-                preferences.getFilePreferences(),
-                preferences.getTimestampPreferences());
-
-        List<FieldChange> changes = cleaner.cleanup(preset, entry);
-
-        // Register undo action
-        for (FieldChange change : changes) {
-            ce.addEdit(new UndoableFieldChange(change));
-        }
-    }
-
     private void showResults() {
         if (isCanceled) {
             return;
@@ -135,17 +118,26 @@ public class CleanupAction extends SimpleCommand {
     }
 
     private void cleanup(BibDatabaseContext databaseContext, CleanupPreferences cleanupPreferences) {
-        for (BibEntry entry : stateManager.getSelectedEntries()) {
-            // undo granularity is on entry level
-            NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
-
-            doCleanup(databaseContext, cleanupPreferences, entry, ce);
-
-            ce.end();
-            if (ce.hasEdits()) {
-                modifiedEntriesCount++;
-                undoManager.addEdit(ce);
+        CleanupWorker cleaner = new CleanupWorker(
+                databaseContext,
+                preferences.getFilePreferences(),
+                preferences.getTimestampPreferences());
+        List<BibEntry> entries = List.copyOf(stateManager.getSelectedEntries());
+
+        // one undo step for the whole cleanup, and listeners are notified once about all changes
+        NamedCompound compound = new NamedCompound(Localization.lang("Cleanup entries"));
+        databaseContext.getDatabase().batch(() -> {
+            for (List<FieldChange> changes : cleaner.cleanupEntries(cleanupPreferences, entries)) {
+                if (!changes.isEmpty()) {
+                    modifiedEntriesCount++;
+                    changes.forEach(change -> compound.addEdit(new UndoableFieldChange(change)));
+                }
             }
+        });
+
+        compound.end();
+        if (compound.hasEdits()) {
+            undoManager.addEdit(compound);
         }
     }
 }
@@ -103,6 +103,16 @@ public abstract class NativeDesktop {
                                              OS.APP_DIR_APP_AUTHOR));
     }
 
+    /**
+     * Returns the directory for data which can be recomputed at any time, e.g., the annotations read from PDF files.
+     */
+    public Path getCacheDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserCacheDir(OS.APP_DIR_APP_NAME,
+                                             "cache",
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
     public Path getSslDirectory() {
         return Path.of(AppDirsFactory.getInstance()
                                      .getUserDataDir(OS.APP_DIR_APP_NAME,
@@ -1,40 +1,182 @@
 package org.jabref.gui.entryeditor.citationrelationtab;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.identifier.DOI;
+import org.jabref.model.entry.types.EntryTypeFactory;
 
-import org.eclipse.jgit.util.LRUMap;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-public class BibEntryRelationsCache {
-    private static final Integer MAX_CACHED_ENTRIES = 100;
-    private static final Map<String, List<BibEntry>> CITATIONS_MAP = new LRUMap<>(MAX_CACHED_ENTRIES, MAX_CACHED_ENTRIES);
-    private static final Map<String, List<BibEntry>> REFERENCES_MAP = new LRUMap<>(MAX_CACHED_ENTRIES, MAX_CACHED_ENTRIES);
+/**
+ * Stores the citations and references of entries, keyed by their DOI.
+ * <p>
+ * If a store file is given, the relations survive restarts of JabRef. Each relation list is stored together with the
+ * time it was fetched; after the configured time to live, the list is reported as not cached so that it is fetched
+ * again. The number of DOIs is bounded; if the bound is exceeded, the relations fetched longest ago are evicted.
+ * <p>
+ * The entries are stored as plain string arrays (type followed by field name/value pairs), because {@link BibEntry}
+ * is not serializable.
+ */
+public class BibEntryRelationsCache implements AutoCloseable {
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofDays(7);
+    public static final int DEFAULT_MAXIMUM_NUMBER_OF_DOIS = 10_000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BibEntryRelationsCache.class);
+
+    private final MVStore store;
+    private final MVMap<String, Object[]> citationsMap;
+    private final MVMap<String, Object[]> referencesMap;
+    private final Duration timeToLive;
+    private final int maximumNumberOfDois;
+
+    /**
+     * Creates an in-memory cache
+     */
+    public BibEntryRelationsCache() {
+        this(null, DEFAULT_TIME_TO_LIVE, DEFAULT_MAXIMUM_NUMBER_OF_DOIS);
+    }
+
+    /**
+     * @param storeFile           the file the relations are persisted in. If it is {@code null} or cannot be opened, an
+     *                            in-memory store is used.
+     * @param timeToLive          the duration after which stored relations should be fetched again
+     * @param maximumNumberOfDois the maximum number of DOIs for which citations and references are kept
+     */
+    public BibEntryRelationsCache(Path storeFile, Duration timeToLive, int maximumNumberOfDois) {
+        this.store = openStore(storeFile);
+        this.citationsMap = store.openMap("citations");
+        this.referencesMap = store.openMap("references");
+        this.timeToLive = timeToLive;
+        this.maximumNumberOfDois = maximumNumberOfDois;
+    }
+
+    private static MVStore openStore(Path storeFile) {
+        if (storeFile != null) {
+            try {
+                Files.createDirectories(storeFile.getParent());
+                return new MVStore.Builder().fileName(storeFile.toAbsolutePath().toString()).compress().open();
+            } catch (IOException | IllegalStateException e) {
+                LOGGER.warn("Could not open citation relations store '{}'. Falling back to an in-memory store.", storeFile, e);
+            }
+        }
+        return new MVStore.Builder().open();
+    }
 
     public List<BibEntry> getCitations(BibEntry entry) {
-        return CITATIONS_MAP.getOrDefault(entry.getDOI().map(DOI::getDOI).orElse(""), Collections.emptyList());
+        return get(citationsMap, entry);
     }
 
     public List<BibEntry> getReferences(BibEntry entry) {
-        return REFERENCES_MAP.getOrDefault(entry.getDOI().map(DOI::getDOI).orElse(""), Collections.emptyList());
+        return get(referencesMap, entry);
     }
 
     public void cacheOrMergeCitations(BibEntry entry, List<BibEntry> citations) {
-        entry.getDOI().ifPresent(doi -> CITATIONS_MAP.put(doi.getDOI(), citations));
+        put(citationsMap, entry, citations);
     }
 
     public void cacheOrMergeReferences(BibEntry entry, List<BibEntry> references) {
-        entry.getDOI().ifPresent(doi -> REFERENCES_MAP.putIfAbsent(doi.getDOI(), references));
+        put(referencesMap, entry, references);
     }
 
+    /**
+     * @return true if citations of the entry are stored and younger than the time to live
+     */
     public boolean citationsCached(BibEntry entry) {
-        return CITATIONS_MAP.containsKey(entry.getDOI().map(DOI::getDOI).orElse(""));
+        return isFresh(citationsMap, entry);
     }
 
+    /**
+     * @return true if references of the entry are stored and younger than the time to live
+     */
     public boolean referencesCached(BibEntry entry) {
-        return REFERENCES_MAP.containsKey(entry.getDOI().map(DOI::getDOI).orElse(""));
+        return isFresh(referencesMap, entry);
+    }
+
+    private static String getKey(BibEntry entry) {
+        return entry.getDOI().map(DOI::getDOI).orElse("");
+    }
+
+    private List<BibEntry> get(MVMap<String, Object[]> map, BibEntry entry) {
+        Object[] stored = map.get(getKey(entry));
+        if (stored == null) {
+            return Collections.emptyList();
+        }
+        return decode((Object[]) stored[1]);
+    }
+
+    private void put(MVMap<String, Object[]> map, BibEntry entry, List<BibEntry> relations) {
+        entry.getDOI().ifPresent(doi -> {
+            map.put(doi.getDOI(), new Object[] {System.currentTimeMillis(), encode(relations)});
+            evictIfNecessary(map);
+        });
+    }
+
+    private boolean isFresh(MVMap<String, Object[]> map, BibEntry entry) {
+        Object[] stored = map.get(getKey(entry));
+        return (stored != null) && ((System.currentTimeMillis() - (Long) stored[0]) < timeToLive.toMillis());
+    }
+
+    /**
+     * Removes the relations fetched longest ago. To avoid sorting on every insertion, a tenth of the capacity is freed
+     * at once.
+     */
+    private void evictIfNecessary(MVMap<String, Object[]> map) {
+        if (map.size() <= maximumNumberOfDois) {
+            return;
+        }
+        int targetSize = maximumNumberOfDois - (maximumNumberOfDois / 10);
+        map.entrySet().stream()
+           .sorted(Comparator.comparingLong(stored -> (Long) stored.getValue()[0]))
+           .limit(Math.max(0, map.size() - targetSize))
+           .map(Map.Entry::getKey)
+           .toList()
+           .forEach(map::remove);
+    }
+
+    private static Object[] encode(List<BibEntry> entries) {
+        Object[] encoded = new Object[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i);
+            List<String> fields = new ArrayList<>();
+            fields.add(entry.getType().getName());
+            for (Map.Entry<Field, String> field : entry.getFieldMap().entrySet()) {
+                fields.add(field.getKey().getName());
+                fields.add(field.getValue());
+            }
+            encoded[i] = fields.toArray(new String[0]);
+        }
+        return encoded;
+    }
+
+    private static List<BibEntry> decode(Object[] encoded) {
+        List<BibEntry> entries = new ArrayList<>(encoded.length);
+        for (Object encodedEntry : encoded) {
+            String[] fields = (String[]) encodedEntry;
+            BibEntry entry = new BibEntry(EntryTypeFactory.parse(fields[0]));
+            for (int i = 1; (i + 1) < fields.length; i += 2) {
+                entry.setField(FieldFactory.parseField(fields[i]), fields[i + 1]);
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    @Override
+    public void close() {
+        store.close();
     }
 }
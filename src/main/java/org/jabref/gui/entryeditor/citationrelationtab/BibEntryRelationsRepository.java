@@ -1,28 +1,46 @@
 package org.jabref.gui.entryeditor.citationrelationtab;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
 
-import org.jabref.gui.entryeditor.citationrelationtab.semanticscholar.SemanticScholarFetcher;
+import org.jabref.gui.entryeditor.citationrelationtab.semanticscholar.CitationFetcher;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.identifier.DOI;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Provides the citations and references of entries. Results are kept in a {@link BibEntryRelationsCache}.
+ * <p>
+ * Concurrent requests for the same DOI are coalesced: while a fetch is in flight, further callers wait for its result
+ * instead of calling the fetcher again. Thus, one repository is shared by all entry editors (see
+ * {@link org.jabref.gui.JabRefGUI}).
+ */
 public class BibEntryRelationsRepository {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntryRelationsRepository.class);
 
-    private final SemanticScholarFetcher fetcher;
+    private final CitationFetcher fetcher;
     private final BibEntryRelationsCache cache;
 
-    public BibEntryRelationsRepository(SemanticScholarFetcher fetcher, BibEntryRelationsCache cache) {
+    private final Map<String, CompletableFuture<Void>> citationsInFlight = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Void>> referencesInFlight = new ConcurrentHashMap<>();
+
+    public BibEntryRelationsRepository(CitationFetcher fetcher, BibEntryRelationsCache cache) {
         this.fetcher = fetcher;
         this.cache = cache;
     }
 
     public List<BibEntry> getCitations(BibEntry entry) {
         if (needToRefreshCitations(entry)) {
-            forceRefreshCitations(entry);
+            refreshCitations(entry, () -> needToRefreshCitations(entry));
         }
 
         return cache.getCitations(entry);
@@ -30,26 +48,24 @@ public class BibEntryRelationsRepository {
 
     public List<BibEntry> getReferences(BibEntry entry) {
         if (needToRefreshReferences(entry)) {
-            List<BibEntry> references;
-            try {
-                references = fetcher.searchCiting(entry);
-            } catch (FetcherException e) {
-                LOGGER.error("Error while fetching references", e);
-                references = List.of();
-            }
-            cache.cacheOrMergeReferences(entry, references);
+            refreshReferences(entry, () -> needToRefreshReferences(entry));
         }
 
         return cache.getReferences(entry);
     }
 
     public void forceRefreshCitations(BibEntry entry) {
-        try {
-            List<BibEntry> citations = fetcher.searchCitedBy(entry);
-            cache.cacheOrMergeCitations(entry, citations);
-        } catch (FetcherException e) {
-            LOGGER.error("Error while fetching citations", e);
-        }
+        refreshCitations(entry, () -> true);
+    }
+
+    private void refreshCitations(BibEntry entry, BooleanSupplier isNeeded) {
+        fetchCoalesced(citationsInFlight, entry, isNeeded, () -> {
+            try {
+                cache.cacheOrMergeCitations(entry, fetcher.searchCitedBy(entry));
+            } catch (FetcherException e) {
+                LOGGER.error("Error while fetching citations", e);
+            }
+        });
     }
 
     public boolean needToRefreshCitations(BibEntry entry) {
@@ -61,13 +77,74 @@ public class BibEntryRelationsRepository {
     }
 
     public void forceRefreshReferences(BibEntry entry) {
-        List<BibEntry> references;
+        refreshReferences(entry, () -> true);
+    }
+
+    private void refreshReferences(BibEntry entry, BooleanSupplier isNeeded) {
+        fetchCoalesced(referencesInFlight, entry, isNeeded, () -> {
+            List<BibEntry> references;
+            try {
+                references = fetcher.searchCiting(entry);
+            } catch (FetcherException e) {
+                LOGGER.error("Error while fetching references", e);
+                references = List.of();
+            }
+            cache.cacheOrMergeReferences(entry, references);
+        });
+    }
+
+    /**
+     * Fetches the citations and references of all given entries which are not cached yet or whose cached relations are
+     * outdated. Entries without DOI are skipped and entries sharing a DOI are fetched only once. The prefetch stops when
+     * the calling thread is interrupted.
+     * <p>
+     * This method is blocking and should be called in a background task.
+     */
+    public void prefetch(Collection<BibEntry> entries) {
+        Collection<BibEntry> distinctEntries = entries.stream()
+                                                      .filter(entry -> entry.getDOI().isPresent())
+                                                      .collect(Collectors.toMap(entry -> entry.getDOI().map(DOI::getDOI).get(),
+                                                              entry -> entry,
+                                                              (first, second) -> first))
+                                                      .values();
+        for (BibEntry entry : distinctEntries) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            // Both fetch only if necessary
+            getCitations(entry);
+            getReferences(entry);
+        }
+    }
+
+    /**
+     * Runs the given fetch unless a fetch for the DOI of the entry is already running. In the latter case, the method
+     * waits for the running fetch to finish. The fetch is skipped if it is no longer needed when it may start, e.g.,
+     * because a fetch for the same DOI has finished since the caller checked the cache.
+     */
+    private void fetchCoalesced(Map<String, CompletableFuture<Void>> inFlight, BibEntry entry, BooleanSupplier isNeeded, Runnable fetch) {
+        Optional<String> entryDoi = entry.getDOI().map(DOI::getDOI);
+        if (entryDoi.isEmpty()) {
+            // Entries without DOI cannot be identified across editors
+            fetch.run();
+            return;
+        }
+        String doi = entryDoi.get();
+        CompletableFuture<Void> ownFetch = new CompletableFuture<>();
+        CompletableFuture<Void> runningFetch = inFlight.putIfAbsent(doi, ownFetch);
+        if (runningFetch != null) {
+            LOGGER.debug("Waiting for running fetch of {}", doi);
+            runningFetch.join();
+            return;
+        }
+
         try {
-            references = fetcher.searchCiting(entry);
-        } catch (FetcherException e) {
-            LOGGER.error("Error while fetching references", e);
-            references = List.of();
+            if (isNeeded.getAsBoolean()) {
+                fetch.run();
+            }
+        } finally {
+            inFlight.remove(doi);
+            ownFetch.complete(null);
         }
-        cache.cacheOrMergeReferences(entry, references);
     }
 }
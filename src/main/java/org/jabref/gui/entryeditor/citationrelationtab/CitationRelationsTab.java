@@ -31,7 +31,6 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.desktop.JabRefDesktop;
 import org.jabref.gui.entryeditor.EntryEditorTab;
 import org.jabref.gui.entryeditor.citationrelationtab.semanticscholar.CitationFetcher;
-import org.jabref.gui.entryeditor.citationrelationtab.semanticscholar.SemanticScholarFetcher;
 import org.jabref.gui.icon.IconTheme;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.NoSelectionModel;
@@ -49,6 +48,7 @@ import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.FileUpdateMonitor;
 import org.jabref.preferences.PreferencesService;
 
+import com.airhacks.afterburner.injection.Injector;
 import com.tobiasdiez.easybind.EasyBind;
 import org.controlsfx.control.CheckListView;
 import org.slf4j.Logger;
@@ -63,11 +63,15 @@ public class CitationRelationsTab extends EntryEditorTab {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationRelationsTab.class);
 
+    // A prefetch for the selected entries supersedes the one for the previous selection
+    private static final Object PREFETCH_KEY = new Object();
+
     // Tasks used to implement asynchronous fetching of related articles
     private static BackgroundTask<List<BibEntry>> citingTask;
     private static BackgroundTask<List<BibEntry>> citedByTask;
     private final DialogService dialogService;
     private final BibDatabaseContext databaseContext;
+    private final StateManager stateManager;
     private final PreferencesService preferencesService;
     private final LibraryTab libraryTab;
     private final TaskExecutor taskExecutor;
@@ -85,6 +89,7 @@ public class CitationRelationsTab extends EntryEditorTab {
                                 TaskExecutor taskExecutor) {
         this.dialogService = dialogService;
         this.databaseContext = databaseContext;
+        this.stateManager = stateManager;
         this.preferencesService = preferencesService;
         this.libraryTab = libraryTab;
         this.taskExecutor = taskExecutor;
@@ -92,8 +97,7 @@ public class CitationRelationsTab extends EntryEditorTab {
         setTooltip(new Tooltip(Localization.lang("Show articles related by citation")));
 
         this.duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
-        this.bibEntryRelationsRepository = new BibEntryRelationsRepository(new SemanticScholarFetcher(preferencesService.getImporterPreferences()),
-                new BibEntryRelationsCache());
+        this.bibEntryRelationsRepository = Injector.instantiateModelOrService(BibEntryRelationsRepository.class);
         citationsRelationsTabViewModel = new CitationsRelationsTabViewModel(databaseContext, preferencesService, undoManager, stateManager, dialogService, fileUpdateMonitor, taskExecutor);
     }
 
@@ -310,6 +314,22 @@ public class CitationRelationsTab extends EntryEditorTab {
     @Override
     protected void bindToEntry(BibEntry entry) {
         setContent(getPaneAndStartSearch(entry));
+        prefetchRelationsOfSelectedEntries();
+    }
+
+    /**
+     * Fetches the relations of all selected entries in the background, so that they are cached when the user moves
+     * through the selection (e.g., all entries of a group). Each DOI is fetched once.
+     */
+    private void prefetchRelationsOfSelectedEntries() {
+        List<BibEntry> selectedEntries = List.copyOf(stateManager.getSelectedEntries());
+        if (selectedEntries.size() < 2) {
+            return;
+        }
+        BackgroundTask.wrap(() -> bibEntryRelationsRepository.prefetch(selectedEntries))
+                      .withSupersedeKey(PREFETCH_KEY)
+                      .onFailure(exception -> LOGGER.warn("Could not prefetch citation relations", exception))
+                      .executeWith(taskExecutor);
     }
 
     /**
@@ -134,6 +134,7 @@ public class ExportCommand extends SimpleCommand {
                             abbreviationRepository);
                     return null; // can not use BackgroundTask.wrap(Runnable) because Runnable.run() can't throw Exceptions
                 })
+                .computeBound(true)
                 .onSuccess(save -> {
                     LibraryTab.DatabaseNotification notificationPane = tabSupplier.get().getNotificationPane();
                     notificationPane.notify(
@@ -94,6 +94,7 @@ public class ExportToClipboardAction extends SimpleCommand {
                 Localization.lang("Export"), defaultChoice, exporters);
 
         selectedExporter.ifPresent(exporter -> BackgroundTask.wrap(() -> exportToClipboard(exporter))
+                                                             .computeBound(true)
                                                              .onSuccess(this::setContentToClipboard)
                                                              .onFailure(ex -> {
                                                                  LOGGER.error("Error exporting to clipboard", ex);
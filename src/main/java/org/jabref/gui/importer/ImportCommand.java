@@ -103,8 +103,8 @@ public class ImportCommand extends SimpleCommand {
         }
 
         Optional<Importer> format = FileFilterConverter.getImporter(selectedExtensionFilter, importers);
-        BackgroundTask<ParserResult> task = BackgroundTask.wrap(
-                () -> doImport(Collections.singletonList(file), format.orElse(null)));
+        BackgroundTask<ParserResult> task = BackgroundTask.wrap(() -> doImport(Collections.singletonList(file), format.orElse(null)))
+                                                          .computeBound(true);
 
         if (importMethod == ImportMethod.AS_NEW) {
             task.onSuccess(parserResult -> {
@@ -6,6 +6,8 @@ import javax.swing.undo.UndoManager;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.css.PseudoClass;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
@@ -66,6 +68,7 @@ public class ImportEntriesDialog extends BaseDialog<Boolean> {
     @FXML private VBox bibTeXDataBox;
 
     private final BackgroundTask<ParserResult> task;
+    private final ObservableList<BibEntry> receivedEntries;
     private final BibDatabaseContext database;
     private ImportEntriesViewModel viewModel;
 
@@ -84,8 +87,21 @@ public class ImportEntriesDialog extends BaseDialog<Boolean> {
      * @param task     the task executed for parsing the selected files(s).
      */
     public ImportEntriesDialog(BibDatabaseContext database, BackgroundTask<ParserResult> task) {
+        this(database, task, FXCollections.observableArrayList());
+    }
+
+    /**
+     * Imports the given entries into the given database. The entries are shown as soon as the task adds them to the
+     * given list, and the remaining ones when the task is finished.
+     *
+     * @param database        the database to import into
+     * @param task            the task providing all entries
+     * @param receivedEntries the entries the task provided so far, changed by the task in the JavaFX thread
+     */
+    public ImportEntriesDialog(BibDatabaseContext database, BackgroundTask<ParserResult> task, ObservableList<BibEntry> receivedEntries) {
         this.database = database;
         this.task = task;
+        this.receivedEntries = receivedEntries;
         ViewLoader.view(this)
                   .load()
                   .setAsDialogPane(this);
@@ -109,7 +125,7 @@ public class ImportEntriesDialog extends BaseDialog<Boolean> {
 
     @FXML
     private void initialize() {
-        viewModel = new ImportEntriesViewModel(task, taskExecutor, database, dialogService, undoManager, preferences, stateManager, entryTypesManager, fileUpdateMonitor);
+        viewModel = new ImportEntriesViewModel(task, receivedEntries, taskExecutor, database, dialogService, undoManager, preferences, stateManager, entryTypesManager, fileUpdateMonitor);
         Label placeholder = new Label();
         placeholder.textProperty().bind(viewModel.messageProperty());
         entriesListView.setPlaceholder(placeholder);
@@ -154,7 +170,7 @@ public class ImportEntriesDialog extends BaseDialog<Boolean> {
                     container.getStyleClass().add("entry-container");
                     container.prefWidthProperty().bind(entriesListView.widthProperty().subtract(25));
 
-                    BackgroundTask.wrap(() -> viewModel.hasDuplicate(entry)).onSuccess(duplicateFound -> {
+                    BackgroundTask.wrap(() -> viewModel.hasDuplicate(entry)).computeBound(true).onSuccess(duplicateFound -> {
                         if (duplicateFound) {
                             Node icon = IconTheme.JabRefIcons.ERROR.getGraphicNode();
                             Tooltip tooltip = new Tooltip(Localization.lang("Possible duplicate of existing entry. Will be resolved on import."));
@@ -2,8 +2,11 @@ package org.jabref.gui.importer;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.swing.undo.UndoManager;
 
@@ -11,7 +14,6 @@ import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import org.jabref.gui.AbstractViewModel;
@@ -57,8 +59,11 @@ public class ImportEntriesViewModel extends AbstractViewModel {
     /**
      * @param databaseContext the database to import into
      * @param task            the task executed for parsing the selected files(s).
+     * @param receivedEntries the entries the task provided while it is running. They are shown at once, and the
+     *                        other entries of the result are added when the task is finished.
      */
     public ImportEntriesViewModel(BackgroundTask<ParserResult> task,
+                                  ObservableList<BibEntry> receivedEntries,
                                   TaskExecutor taskExecutor,
                                   BibDatabaseContext databaseContext,
                                   DialogService dialogService,
@@ -75,7 +80,7 @@ public class ImportEntriesViewModel extends AbstractViewModel {
         this.stateManager = stateManager;
         this.entryTypesManager = entryTypesManager;
         this.fileUpdateMonitor = fileUpdateMonitor;
-        this.entries = FXCollections.observableArrayList();
+        this.entries = receivedEntries;
         this.message = new SimpleStringProperty();
         this.message.bind(task.messageProperty());
         this.selectedDb = new SimpleObjectProperty<>();
@@ -84,7 +89,11 @@ public class ImportEntriesViewModel extends AbstractViewModel {
             // store the complete parser result (to import groups, ... later on)
             this.parserResult = parserResult;
             // fill in the list for the user, where one can select the entries to import
-            entries.addAll(parserResult.getDatabase().getEntries());
+            Set<BibEntry> shownEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+            shownEntries.addAll(entries);
+            parserResult.getDatabase().getEntries().stream()
+                        .filter(entry -> !shownEntries.contains(entry))
+                        .forEach(entries::add);
             if (entries.isEmpty()) {
                 task.updateMessage(Localization.lang("No entries corresponding to given query"));
             }
@@ -9,6 +9,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Semaphore;
 
 import javax.swing.undo.UndoManager;
 
@@ -55,6 +56,10 @@ public class OpenDatabaseAction extends SimpleCommand {
             // Check for new custom entry types loaded from the BIB file:
             new CheckForNewEntryTypesAction());
 
+    // Parsing is compute-bound: when the last session is restored, the libraries are parsed in parallel, but not more
+    // of them than there are processors. The rest of the loading may wait for the user or the network.
+    private static final Semaphore PARSING_PERMITS = new Semaphore(Runtime.getRuntime().availableProcessors());
+
     private final LibraryTabContainer tabContainer;
     private final PreferencesService preferencesService;
     private final StateManager stateManager;
@@ -91,10 +96,28 @@ public class OpenDatabaseAction extends SimpleCommand {
      * @param result     The result of the BIB file parse operation.
      */
     public static void performPostOpenActions(ParserResult result, DialogService dialogService, PreferencesService preferencesService) {
-        for (GUIPostOpenAction action : OpenDatabaseAction.POST_OPEN_ACTIONS) {
-            if (action.isActionNecessary(result, preferencesService)) {
-                action.performAction(result, dialogService, preferencesService);
-            }
+        performPostOpenActions(result, getNecessaryPostOpenActions(result, preferencesService), dialogService, preferencesService);
+    }
+
+    /**
+     * Determines the post open actions which need to be performed. This goes through all entries, thus it should be
+     * done in the background while loading the library.
+     *
+     * @param result     The result of the BIB file parse operation.
+     */
+    public static List<GUIPostOpenAction> getNecessaryPostOpenActions(ParserResult result, PreferencesService preferencesService) {
+        return POST_OPEN_ACTIONS.stream()
+                                .filter(action -> action.isActionNecessary(result, preferencesService))
+                                .toList();
+    }
+
+    /**
+     * Performs the given post open actions, which were determined by {@link #getNecessaryPostOpenActions(ParserResult, PreferencesService)}.
+     * The actions may ask the user, thus this has to be called in the JavaFX thread.
+     */
+    public static void performPostOpenActions(ParserResult result, List<GUIPostOpenAction> necessaryActions, DialogService dialogService, PreferencesService preferencesService) {
+        for (GUIPostOpenAction action : necessaryActions) {
+            action.performAction(result, dialogService, preferencesService);
         }
     }
 
@@ -228,9 +251,14 @@ public class OpenDatabaseAction extends SimpleCommand {
         try {
             if (parserResult == null) {
                 // No backup was restored, do the "normal" loading
-                parserResult = OpenDatabase.loadDatabase(fileToLoad,
-                        preferencesService.getImportFormatPreferences(),
-                        fileUpdateMonitor);
+                PARSING_PERMITS.acquire();
+                try {
+                    parserResult = OpenDatabase.loadDatabase(fileToLoad,
+                            preferencesService.getImportFormatPreferences(),
+                            fileUpdateMonitor);
+                } finally {
+                    PARSING_PERMITS.release();
+                }
             }
 
             if (parserResult.hasWarnings()) {
@@ -1,6 +1,8 @@
 package org.jabref.gui.importer.fetcher;
 
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javafx.beans.property.ListProperty;
 import javafx.beans.property.ObjectProperty;
@@ -15,11 +17,15 @@ import org.jabref.gui.DialogService;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.importer.ImportEntriesDialog;
 import org.jabref.gui.util.BackgroundTask;
+import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.importer.CompositeIdFetcher;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.logic.importer.WebFetchers;
+import org.jabref.logic.importer.fetcher.CompositeSearchBasedFetcher;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.model.database.BibDatabases;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.OptionalUtil;
 import org.jabref.preferences.PreferencesService;
@@ -153,15 +159,47 @@ public class WebSearchPaneViewModel {
             fetcherName = Localization.lang("Identifier-based Web Search");
         }
 
-        BackgroundTask<ParserResult> task = BackgroundTask.wrap(parserResultCallable)
-                             .withInitialMessage(Localization.lang("Processing %0", query));
+        BackgroundTask<ParserResult> task;
+        // The results of the catalogs which already answered are shown while the others are still queried
+        ObservableList<BibEntry> receivedEntries = FXCollections.observableArrayList();
+        if ((activeFetcher instanceof CompositeSearchBasedFetcher compositeFetcher) && !CompositeIdFetcher.containsValidId(query)) {
+            task = createCompositeSearchTask(compositeFetcher, query, receivedEntries);
+        } else {
+            task = BackgroundTask.wrap(parserResultCallable);
+        }
+        task.withInitialMessage(Localization.lang("Processing %0", query));
         task.onFailure(dialogService::showErrorDialogAndWait);
 
-        ImportEntriesDialog dialog = new ImportEntriesDialog(stateManager.getActiveDatabase().get(), task);
+        ImportEntriesDialog dialog = new ImportEntriesDialog(stateManager.getActiveDatabase().get(), task, receivedEntries);
         dialog.setTitle(fetcherName);
         dialogService.showCustomDialogAndWait(dialog);
     }
 
+    /**
+     * Creates a task which adds the results of each catalog to the given list as soon as the catalog answers, so that
+     * the user can inspect them while slower catalogs are still queried. Each answering catalog is reported as
+     * progress.
+     */
+    private BackgroundTask<ParserResult> createCompositeSearchTask(CompositeSearchBasedFetcher fetcher, String query, ObservableList<BibEntry> receivedEntries) {
+        return new BackgroundTask<>() {
+            @Override
+            protected ParserResult call() throws Exception {
+                int numberOfCatalogs = fetcher.getNumberOfFetchers();
+                AtomicInteger answeredCatalogs = new AtomicInteger();
+                return new ParserResult(fetcher.performSearch(query, (catalog, entries) -> {
+                    int answered = answeredCatalogs.incrementAndGet();
+                    updateProgress(answered, numberOfCatalogs);
+                    // Empty entries are not part of the final result either, see ParserResult
+                    List<BibEntry> catalogEntries = BibDatabases.purgeEmptyEntries(entries);
+                    UiTaskExecutor.runInJavaFXThread(() -> {
+                        receivedEntries.addAll(catalogEntries);
+                        updateMessage(Localization.lang("Received results from %0 of %1 catalogs", String.valueOf(answered), String.valueOf(numberOfCatalogs)));
+                    });
+                }));
+            }
+        };
+    }
+
     public ValidationStatus queryValidationStatus() {
         return searchQueryValidator.getValidationStatus();
     }
@@ -1,10 +1,8 @@
 package org.jabref.gui.integrity;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 
-import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
@@ -17,9 +15,12 @@ import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.entry.BibEntry;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.preferences.PreferencesService;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 
 public class IntegrityCheckAction extends SimpleCommand {
@@ -30,6 +31,8 @@ public class IntegrityCheckAction extends SimpleCommand {
     private final PreferencesService preferencesService;
     private final StateManager stateManager;
     private final JournalAbbreviationRepository abbreviationRepository;
+    // Weak keys are compared by identity; the hash code of a library changes with its content
+    private final Cache<BibDatabaseContext, ReusableIntegrityCheck> integrityChecks = CacheBuilder.newBuilder().weakKeys().build();
 
     public IntegrityCheckAction(Supplier<LibraryTab> tabSupplier,
                                 PreferencesService preferencesService,
@@ -46,31 +49,35 @@ public class IntegrityCheckAction extends SimpleCommand {
         this.executable.bind(needsDatabase(this.stateManager));
     }
 
-    @Override
-    public void execute() {
-        BibDatabaseContext database = stateManager.getActiveDatabase().orElseThrow(() -> new NullPointerException("Database null"));
+    /**
+     * Returns the integrity check used the last time for the given library, so that entries unchanged since then are not
+     * checked again. A new check is created if the settings influencing the memoized results changed.
+     */
+    private IntegrityCheck getIntegrityCheck(BibDatabaseContext database) {
+        boolean allowIntegerEdition = preferencesService.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex();
+        ReusableIntegrityCheck reusable = integrityChecks.getIfPresent(database);
+        if ((reusable != null) && (reusable.mode() == database.getMode()) && (reusable.allowIntegerEdition() == allowIntegerEdition)) {
+            return reusable.check();
+        }
+
         IntegrityCheck check = new IntegrityCheck(database,
                 preferencesService.getFilePreferences(),
                 preferencesService.getCitationKeyPatternPreferences(),
                 abbreviationRepository,
-                preferencesService.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex());
+                allowIntegerEdition);
+        integrityChecks.put(database, new ReusableIntegrityCheck(check, database.getMode(), allowIntegerEdition));
+        return check;
+    }
+
+    @Override
+    public void execute() {
+        BibDatabaseContext database = stateManager.getActiveDatabase().orElseThrow(() -> new NullPointerException("Database null"));
+        IntegrityCheck check = getIntegrityCheck(database);
 
         Task<List<IntegrityMessage>> task = new Task<>() {
             @Override
             protected List<IntegrityMessage> call() {
-                ObservableList<BibEntry> entries = database.getDatabase().getEntries();
-                List<IntegrityMessage> result = new ArrayList<>(check.checkDatabase(database.getDatabase()));
-                for (int i = 0; i < entries.size(); i++) {
-                    if (isCancelled()) {
-                        break;
-                    }
-
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
-                }
-
-                return result;
+                return check.check(this::updateProgress, this::isCancelled);
             }
         };
         task.setOnSucceeded(value -> {
@@ -89,4 +96,7 @@ public class IntegrityCheckAction extends SimpleCommand {
                 task);
         taskExecutor.execute(task);
     }
+
+    private record ReusableIntegrityCheck(IntegrityCheck check, BibDatabaseMode mode, boolean allowIntegerEdition) {
+    }
 }
@@ -23,6 +23,7 @@ import org.jabref.gui.util.FilteredListProxy;
 import org.jabref.gui.util.OptionalObjectProperty;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.search.SearchQuery;
+import org.jabref.logic.util.TaskPriority;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.GroupTreeNode;
@@ -48,6 +49,9 @@ public class MainTableDataModel {
     private final Subscription searchDisplayModeSubscription;
     private final Subscription selectedGroupsSubscription;
     private final Subscription groupViewModeSubscription;
+    // An update of the matches cancels the outdated update still running for the previous query or groups
+    private final Object searchMatchesUpdateKey = new Object();
+    private final Object groupMatchesUpdateKey = new Object();
     private Optional<MatcherSet> groupsMatcher;
 
     public MainTableDataModel(BibDatabaseContext context,
@@ -77,7 +81,9 @@ public class MainTableDataModel {
                             updateEntrySearchMatch(searchQueryProperty.get(), entry, searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT);
                             updateEntryGroupMatch(entry, groupsMatcher, groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT), !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER));
                         }
-                    }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered, change.getFrom(), change.getTo())).executeWith(taskExecutor);
+                    }).computeBound(true)
+                      .onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered, change.getFrom(), change.getTo()))
+                      .executeWith(taskExecutor);
                 }
             }
         });
@@ -96,7 +102,11 @@ public class MainTableDataModel {
         BackgroundTask.wrap(() -> {
             boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
             entriesViewModel.forEach(entry -> updateEntrySearchMatch(query, entry, isFloatingMode));
-        }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
+        }).withPriority(TaskPriority.INTERACTIVE)
+          .computeBound(true)
+          .withSupersedeKey(searchMatchesUpdateKey)
+          .onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered))
+          .executeWith(taskExecutor);
     }
 
     private static void updateEntrySearchMatch(Optional<SearchQuery> query, BibEntryTableViewModel entry, boolean isFloatingMode) {
@@ -118,7 +128,10 @@ public class MainTableDataModel {
         BackgroundTask.wrap(() -> {
             boolean isFloatingMode = mode == SearchDisplayMode.FLOAT;
             entriesViewModel.forEach(entry -> setEntrySearchVisibility(entry, entry.isMatchedBySearch().get(), isFloatingMode));
-        }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
+        }).withPriority(TaskPriority.INTERACTIVE)
+          .computeBound(true)
+          .onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered))
+          .executeWith(taskExecutor);
     }
 
     private void updateGroupMatches(ObservableList<GroupTreeNode> groups) {
@@ -127,7 +140,11 @@ public class MainTableDataModel {
             boolean isInvertMode = groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT);
             boolean isFloatingMode = !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER);
             entriesViewModel.forEach(entry -> updateEntryGroupMatch(entry, groupsMatcher, isInvertMode, isFloatingMode));
-        }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
+        }).withPriority(TaskPriority.INTERACTIVE)
+          .computeBound(true)
+          .withSupersedeKey(groupMatchesUpdateKey)
+          .onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered))
+          .executeWith(taskExecutor);
     }
 
     private void updateEntryGroupMatch(BibEntryTableViewModel entry, Optional<MatcherSet> groupsMatcher, boolean isInvertMode, boolean isFloatingMode) {
@@ -19,6 +19,7 @@ import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.FilteredListProxy;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.search.SearchQuery;
+import org.jabref.logic.util.TaskPriority;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.preferences.PreferencesService;
@@ -33,6 +34,8 @@ public class SearchResultsTableDataModel {
     private final StateManager stateManager;
     private final FilteredList<BibEntryTableViewModel> entriesFiltered;
     private final TaskExecutor taskExecutor;
+    // An update of the matches cancels the outdated update still running for the previous query
+    private final Object searchMatchesUpdateKey = new Object();
 
     public SearchResultsTableDataModel(BibDatabaseContext bibDatabaseContext, PreferencesService preferencesService, StateManager stateManager, TaskExecutor taskExecutor) {
         NameDisplayPreferences nameDisplayPreferences = preferencesService.getNameDisplayPreferences();
@@ -62,6 +65,9 @@ public class SearchResultsTableDataModel {
 
     private void updateSearchMatches(Optional<SearchQuery> query) {
         BackgroundTask.wrap(() -> entriesViewModel.forEach(entry -> entry.isVisibleBySearch().set(isMatchedBySearch(query, entry))))
+                      .withPriority(TaskPriority.INTERACTIVE)
+                      .computeBound(true)
+                      .withSupersedeKey(searchMatchesUpdateKey)
                       .onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered))
                       .executeWith(taskExecutor);
     }
@@ -21,6 +21,7 @@ import org.jabref.gui.mergeentries.EntriesMergeResult;
 import org.jabref.gui.mergeentries.MergeEntriesDialog;
 import org.jabref.gui.undo.UndoableRemoveEntries;
 import org.jabref.gui.util.TaskExecutor;
+import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.shared.DBMSConnection;
@@ -77,6 +78,11 @@ public class SharedDatabaseUIManager {
 
     @Subscribe
     public void listen(ConnectionLostEvent connectionLostEvent) {
+        // The synchronizer posts its events from its background threads, but the dialogs need the JavaFX thread
+        UiTaskExecutor.runInJavaFXThread(() -> onConnectionLost(connectionLostEvent));
+    }
+
+    private void onConnectionLost(ConnectionLostEvent connectionLostEvent) {
         ButtonType reconnect = new ButtonType(Localization.lang("Reconnect"), ButtonData.YES);
         ButtonType workOffline = new ButtonType(Localization.lang("Work offline"), ButtonData.NO);
         ButtonType closeLibrary = new ButtonType(Localization.lang("Close library"), ButtonData.CANCEL_CLOSE);
@@ -104,6 +110,10 @@ public class SharedDatabaseUIManager {
 
     @Subscribe
     public void listen(UpdateRefusedEvent updateRefusedEvent) {
+        UiTaskExecutor.runInJavaFXThread(() -> onUpdateRefused(updateRefusedEvent));
+    }
+
+    private void onUpdateRefused(UpdateRefusedEvent updateRefusedEvent) {
         dialogService.notify(Localization.lang("Update refused."));
 
         BibEntry localBibEntry = updateRefusedEvent.getLocalBibEntry();
@@ -137,6 +147,10 @@ public class SharedDatabaseUIManager {
 
     @Subscribe
     public void listen(SharedEntriesNotPresentEvent event) {
+        UiTaskExecutor.runInJavaFXThread(() -> onSharedEntriesNotPresent(event));
+    }
+
+    private void onSharedEntriesNotPresent(SharedEntriesNotPresentEvent event) {
         LibraryTab libraryTab = tabContainer.getCurrentLibraryTab();
         EntryEditor entryEditor = libraryTab.getEntryEditor();
 
@@ -216,7 +230,8 @@ public class SharedDatabaseUIManager {
                 preferencesService.getBibEntryPreferences().getKeywordSeparator(),
                 preferencesService.getFieldPreferences(),
                 preferencesService.getCitationKeyPatternPreferences().getKeyPatterns(),
-                fileUpdateMonitor);
+                fileUpdateMonitor,
+                UiTaskExecutor::runInJavaFXThread);
         bibDatabaseContext.convertToSharedDatabase(synchronizer);
         return bibDatabaseContext;
     }
@@ -1,5 +1,6 @@
 package org.jabref.gui.util;
 
+import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -19,6 +20,8 @@ import javafx.scene.Node;
 
 import org.jabref.gui.icon.IconTheme;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.TaskPriority;
+import org.jabref.logic.util.TaskScheduler;
 
 import com.google.common.collect.ImmutableMap;
 import com.tobiasdiez.easybind.EasyBind;
@@ -70,6 +73,9 @@ public abstract class BackgroundTask<V> {
     private final DoubleProperty workDonePercentage = new SimpleDoubleProperty(0);
     private final BooleanProperty showToUser = new SimpleBooleanProperty(false);
     private final BooleanProperty willBeRecoveredAutomatically = new SimpleBooleanProperty(false);
+    private TaskPriority priority = TaskPriority.USER_INITIATED;
+    private boolean isComputeBound;
+    private Object supersedeKey;
 
     public BackgroundTask() {
         workDonePercentage.bind(EasyBind.map(progress, BackgroundTask.BackgroundProgress::getWorkDonePercentage));
@@ -163,6 +169,49 @@ public abstract class BackgroundTask<V> {
         this.willBeRecoveredAutomatically.set(willBeRecoveredAutomatically);
     }
 
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Sets the priority of the task. By default, a task is {@link TaskPriority#USER_INITIATED}.
+     * <p>
+     * The priority only orders the compute-bound tasks waiting for a thread of the bounded pool. It has no effect on
+     * a task which is not {@link #computeBound(boolean) compute-bound}, because such a task starts on a virtual thread
+     * of its own at once. Since the pool does not preempt running tasks, a long-running task must not be compute-bound
+     * regardless of its priority.
+     */
+    public BackgroundTask<V> withPriority(TaskPriority priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    public boolean isComputeBound() {
+        return isComputeBound;
+    }
+
+    /**
+     * Marks the task as compute-bound, so that it runs on the bounded thread pool of the {@link TaskScheduler}. By
+     * default, a task is expected to block on I/O (e.g., network or file access) and runs on a virtual thread.
+     */
+    public BackgroundTask<V> computeBound(boolean isComputeBound) {
+        this.isComputeBound = isComputeBound;
+        return this;
+    }
+
+    public Optional<Object> getSupersedeKey() {
+        return Optional.ofNullable(supersedeKey);
+    }
+
+    /**
+     * Cancels the unfinished task executed before with the same key when this task is executed. This is meant for
+     * tasks whose result is outdated by the next one, e.g., updating the search results while typing.
+     */
+    public BackgroundTask<V> withSupersedeKey(Object supersedeKey) {
+        this.supersedeKey = supersedeKey;
+        return this;
+    }
+
     /**
      * Sets the {@link Runnable} that is invoked after the task is started.
      */
@@ -5,7 +5,6 @@ import java.util.WeakHashMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
@@ -19,14 +18,17 @@ import javafx.concurrent.Task;
 import org.jabref.gui.StateManager;
 import org.jabref.logic.util.DelayTaskThrottler;
 import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.TaskPriority;
+import org.jabref.logic.util.TaskScheduler;
 
 import com.airhacks.afterburner.injection.Injector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A very simple implementation of the {@link TaskExecutor} interface.
- * Every submitted task is invoked in a separate thread.
+ * An implementation of the {@link TaskExecutor} interface, which runs the submitted tasks on a {@link TaskScheduler}
+ * according to their priority. Tasks blocking on I/O get a virtual thread, compute-bound tasks share a thread pool
+ * sized to leave one processor for the JavaFX thread.
  * <p>
  * In case something does not interact well with JavaFX, you can use the {@link HeadlessExecutorService}
  */
@@ -34,7 +36,7 @@ public class UiTaskExecutor implements TaskExecutor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UiTaskExecutor.class);
 
-    private final ExecutorService executor = Executors.newFixedThreadPool(5);
+    private final TaskScheduler scheduler = new TaskScheduler("JabRef task", Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
     private final ScheduledExecutorService scheduledExecutor = Executors.newScheduledThreadPool(2);
     private final WeakHashMap<DelayTaskThrottler, Void> throttlers = new WeakHashMap<>();
 
@@ -107,13 +109,21 @@ public class UiTaskExecutor implements TaskExecutor {
                 LOGGER.info("Background task visible without GUI");
             }
         }
-        return execute(javafxTask);
+        return task.getSupersedeKey()
+                   .map(supersedeKey -> scheduler.submit(javafxTask, task.getPriority(), task.isComputeBound(), supersedeKey))
+                   .orElseGet(() -> scheduler.submit(javafxTask, task.getPriority(), task.isComputeBound()));
     }
 
     @Override
     public <V> Future<V> execute(Task<V> task) {
-        executor.submit(task);
-        return task;
+        return scheduler.submit(task, TaskPriority.USER_INITIATED, false);
+    }
+
+    /**
+     * Returns the queue depth and the waiting times of the tasks with the given priority.
+     */
+    public TaskScheduler.Metrics getMetrics(TaskPriority priority) {
+        return scheduler.getMetrics(priority);
     }
 
     @Override
@@ -130,7 +140,7 @@ public class UiTaskExecutor implements TaskExecutor {
         if (stateManager != null) {
             stateManager.getRunningBackgroundTasks().stream().forEach(Task::cancel);
         }
-        executor.shutdownNow();
+        scheduler.shutdown();
         scheduledExecutor.shutdownNow();
         throttlers.forEach((throttler, aVoid) -> throttler.shutdown());
     }
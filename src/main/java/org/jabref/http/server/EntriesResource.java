@@ -0,0 +1,165 @@
+package org.jabref.http.server;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.jabref.http.dto.BibEntryDTO;
+import org.jabref.logic.search.SearchQuery;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.search.rules.SearchRules;
+import org.jabref.preferences.PreferencesService;
+
+import com.google.gson.Gson;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Serves single entries and search results of a library. The lookups are answered from the parsed library kept in the
+ * {@link LibraryCache}: citation keys are looked up in an index built once per version of the library file. Searches
+ * are matched against all entries; their results are kept for recent queries.
+ */
+@Path("libraries/{id}/entries")
+public class EntriesResource {
+
+    /**
+     * Name of the property containing the citation key if only some fields are requested
+     */
+    static final String CITATION_KEY_PROPERTY = "citationKey";
+
+    @Inject
+    PreferencesService preferences;
+
+    @Inject
+    Gson gson;
+
+    /**
+     * Returns the entries of the library as JSON array.
+     *
+     * @param query         a search query in the syntax of the search bar; all entries if not given
+     * @param caseSensitive whether the query is case-sensitive
+     * @param regex         whether the terms of the query are regular expressions
+     * @param fields        comma-separated fields to return instead of {@link BibEntryDTO}s, e.g. {@code title,author}
+     * @param offset        the index of the first matching entry to return
+     * @param limit         the maximum number of entries to return; all remaining entries if not given
+     */
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getEntries(@PathParam("id") String id,
+                               @QueryParam("q") String query,
+                               @QueryParam("caseSensitive") boolean caseSensitive,
+                               @QueryParam("regex") boolean regex,
+                               @QueryParam("fields") String fields,
+                               @QueryParam("offset") @DefaultValue("0") int offset,
+                               @QueryParam("limit") Integer limit,
+                               @Context Request request) {
+        LibraryCache.CachedLibrary library = LibraryCache.getInstance().get(preferences, id);
+        EntityTag entityTag = library.version().getEntityTag("entries");
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        List<Integer> indices;
+        if ((query == null) || query.isBlank()) {
+            indices = null;
+        } else {
+            EnumSet<SearchRules.SearchFlags> searchFlags = EnumSet.noneOf(SearchRules.SearchFlags.class);
+            if (caseSensitive) {
+                searchFlags.add(SearchRules.SearchFlags.CASE_SENSITIVE);
+            }
+            if (regex) {
+                searchFlags.add(SearchRules.SearchFlags.REGULAR_EXPRESSION);
+            }
+            SearchQuery searchQuery = new SearchQuery(query, searchFlags);
+            if (!searchQuery.isValid()) {
+                throw new BadRequestException("Invalid search query " + query);
+            }
+            indices = library.getEntryIndices(searchQuery);
+        }
+        int total = indices == null ? library.getEntries().size() : indices.size();
+        List<Integer> page = LibraryCache.getPage(indices == null ? allIndices(total) : indices, offset, limit);
+        List<String> entries = render(library, page, fields);
+        return Response.ok(LibraryCache.toJsonArray(entries))
+                       .tag(entityTag)
+                       .header(LibraryResource.TOTAL_COUNT_HEADER, total)
+                       .build();
+    }
+
+    /**
+     * Returns the entry with the given citation key. If several entries have this key, the first one is returned.
+     *
+     * @param fields comma-separated fields to return instead of a {@link BibEntryDTO}, e.g. {@code title,author}
+     */
+    @GET
+    @Path("{citationKey}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getEntry(@PathParam("id") String id,
+                             @PathParam("citationKey") String citationKey,
+                             @QueryParam("fields") String fields,
+                             @Context Request request) {
+        LibraryCache.CachedLibrary library = LibraryCache.getInstance().get(preferences, id);
+        List<Integer> indices = library.getEntryIndices(citationKey);
+        if (indices.isEmpty()) {
+            throw new NotFoundException("No entry with citation key " + citationKey);
+        }
+        EntityTag entityTag = library.version().getEntityTag("entry");
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+        return Response.ok(render(library, indices.subList(0, 1), fields).getFirst())
+                       .tag(entityTag)
+                       .build();
+    }
+
+    private List<String> render(LibraryCache.CachedLibrary library, List<Integer> indices, String fields) {
+        if ((fields == null) || fields.isBlank()) {
+            List<String> entriesAsJson = library.getEntriesAsJson(gson, preferences.getFieldPreferences());
+            return indices.stream().map(entriesAsJson::get).toList();
+        }
+        List<Field> requestedFields = Arrays.stream(fields.split(","))
+                                            .map(String::trim)
+                                            .filter(name -> !name.isEmpty())
+                                            .map(FieldFactory::parseField)
+                                            .toList();
+        List<BibEntry> entries = library.getEntries();
+        return indices.stream()
+                      .map(entries::get)
+                      .map(entry -> gson.toJson(project(entry, requestedFields)))
+                      .toList();
+    }
+
+    /**
+     * Returns the citation key and the given fields of the entry. Fields the entry does not have are left out.
+     */
+    private static Map<String, String> project(BibEntry entry, List<Field> fields) {
+        Map<String, String> projection = new LinkedHashMap<>();
+        projection.put(CITATION_KEY_PROPERTY, entry.getCitationKey().orElse(""));
+        for (Field field : fields) {
+            entry.getField(field).ifPresent(value -> projection.put(field.getName(), value));
+        }
+        return projection;
+    }
+
+    private static List<Integer> allIndices(int size) {
+        return IntStream.range(0, size).boxed().toList();
+    }
+}
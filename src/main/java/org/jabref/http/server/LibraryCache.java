@@ -0,0 +1,288 @@
+package org.jabref.http.server;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import org.jabref.http.dto.BibEntryDTO;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.search.SearchQuery;
+import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.preferences.PreferencesService;
+
+import com.airhacks.afterburner.injection.Injector;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.gson.Gson;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.InternalServerErrorException;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the parsed libraries served by the server, so that a library is parsed (and rendered) again only if its file
+ * has been modified since the last request. Also contains the paging and JSON streaming shared by the resources.
+ */
+class LibraryCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryCache.class);
+    private static final LibraryCache INSTANCE = new LibraryCache();
+
+    // Distinct search queries whose results are kept per library
+    private static final int MAX_CACHED_QUERIES = 100;
+
+    private final Map<Path, String> libraryIds = new ConcurrentHashMap<>();
+    // Only libraries which are opened are kept, see getLibraryPath
+    private final Map<Path, CachedLibrary> libraries = new ConcurrentHashMap<>();
+
+    static LibraryCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the id of the library used in the URLs of the server
+     */
+    String getId(Path library) {
+        return libraryIds.computeIfAbsent(library, path -> path.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(path));
+    }
+
+    /**
+     * Returns the path of the opened library with the given id. Libraries which are no longer opened are removed from
+     * the cache.
+     *
+     * @throws NotFoundException if there is no such library
+     */
+    Path getLibraryPath(PreferencesService preferences, String id) {
+        List<Path> openedLibraries = List.copyOf(preferences.getGuiPreferences().getLastFilesOpened());
+        libraries.keySet().retainAll(openedLibraries);
+        libraryIds.keySet().retainAll(openedLibraries);
+        return openedLibraries.stream()
+                              .filter(path -> getId(path).equals(id))
+                              .findAny()
+                              .orElseThrow(NotFoundException::new);
+    }
+
+    /**
+     * Returns the parsed library with the given id
+     *
+     * @throws NotFoundException            if there is no such library
+     * @throws InternalServerErrorException if the library cannot be read
+     */
+    CachedLibrary get(PreferencesService preferences, String id) {
+        Path library = getLibraryPath(preferences, id);
+        try {
+            return get(library, preferences.getImportFormatPreferences());
+        } catch (IOException e) {
+            LOGGER.warn("Could not find open library file {}", library, e);
+            throw new InternalServerErrorException("Could not parse library", e);
+        }
+    }
+
+    /**
+     * Returns the parsed library. The library is parsed again if the file has been modified since it was cached.
+     */
+    CachedLibrary get(Path library, ImportFormatPreferences importFormatPreferences) throws IOException {
+        FileVersion version = FileVersion.of(library);
+        CachedLibrary cached = libraries.get(library);
+        if ((cached != null) && cached.version().equals(version)) {
+            return cached;
+        }
+        try {
+            // Concurrent requests for the same library wait for a single parse
+            return libraries.compute(library, (path, current) -> {
+                if ((current != null) && current.version().equals(version)) {
+                    return current;
+                }
+                try {
+                    ParserResult parserResult = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor()).importDatabase(path);
+                    return new CachedLibrary(version, parserResult);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns the requested part of the given list
+     *
+     * @throws BadRequestException if offset or limit are negative
+     */
+    static <T> List<T> getPage(List<T> list, int offset, Integer limit) {
+        if ((offset < 0) || ((limit != null) && (limit < 0))) {
+            throw new BadRequestException("offset and limit must not be negative");
+        }
+        int from = Math.min(offset, list.size());
+        int to = limit == null ? list.size() : (int) Math.min((long) from + limit, list.size());
+        return list.subList(from, to);
+    }
+
+    /**
+     * Writes the given JSON values as JSON array, without building the whole array in memory first
+     */
+    static StreamingOutput toJsonArray(List<String> jsonValues) {
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.write('[');
+            for (int i = 0; i < jsonValues.size(); i++) {
+                writer.write(i == 0 ? "\n" : ",\n");
+                writer.write(jsonValues.get(i));
+            }
+            writer.write(jsonValues.isEmpty() ? "]" : "\n]");
+            writer.flush();
+        };
+    }
+
+    /**
+     * Identifies a version of a file by its modification time and size
+     */
+    record FileVersion(FileTime lastModified, long size) {
+        static FileVersion of(Path file) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return new FileVersion(attributes.lastModifiedTime(), attributes.size());
+        }
+
+        /**
+         * @param representation distinguishes the different media types of the same file
+         */
+        EntityTag getEntityTag(String representation) {
+            return new EntityTag(Long.toHexString(lastModified.toMillis()) + "-" + Long.toHexString(size) + "-" + representation);
+        }
+    }
+
+    /**
+     * The preferences the JSON rendering of the entries depends on
+     */
+    record RenderingOptions(boolean resolveStrings, List<Field> resolvableFields, List<Field> nonWrappableFields) {
+        static RenderingOptions of(FieldPreferences fieldPreferences) {
+            return new RenderingOptions(
+                    fieldPreferences.shouldResolveStrings(),
+                    List.copyOf(fieldPreferences.getResolvableFields()),
+                    List.copyOf(fieldPreferences.getNonWrappableFields()));
+        }
+    }
+
+    /**
+     * A parsed library together with its renderings and lookup structures, which are created on first use
+     */
+    static class CachedLibrary {
+        private final FileVersion version;
+        private final ParserResult parserResult;
+        private final Cache<String, List<Integer>> searchResults = CacheBuilder.newBuilder()
+                                                                               .maximumSize(MAX_CACHED_QUERIES)
+                                                                               .build();
+        private List<String> entriesAsJson;
+        private RenderingOptions entriesAsJsonOptions;
+        private String cslJson;
+        private Map<String, List<Integer>> entryIndicesByCitationKey;
+
+        CachedLibrary(FileVersion version, ParserResult parserResult) {
+            this.version = version;
+            this.parserResult = parserResult;
+        }
+
+        FileVersion version() {
+            return version;
+        }
+
+        ParserResult parserResult() {
+            return parserResult;
+        }
+
+        List<BibEntry> getEntries() {
+            return parserResult.getDatabase().getEntries();
+        }
+
+        /**
+         * Returns the entries as {@link BibEntryDTO}s rendered as JSON, in the order of {@link #getEntries()}. The
+         * entries are rendered again if the field preferences changed since the last call.
+         */
+        synchronized List<String> getEntriesAsJson(Gson gson, FieldPreferences fieldPreferences) {
+            RenderingOptions options = RenderingOptions.of(fieldPreferences);
+            if ((entriesAsJson == null) || !options.equals(entriesAsJsonOptions)) {
+                BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
+                BibDatabaseMode mode = parserResult.getDatabaseContext().getMode();
+                entriesAsJson = getEntries().stream()
+                                            .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
+                                            .map(entry -> gson.toJson(new BibEntryDTO(entry, mode, fieldPreferences, entryTypesManager)))
+                                            .toList();
+                entriesAsJsonOptions = options;
+            }
+            return entriesAsJson;
+        }
+
+        /**
+         * Returns the positions (in {@link #getEntries()}) of the entries with the given citation key
+         */
+        synchronized List<Integer> getEntryIndices(String citationKey) {
+            if (entryIndicesByCitationKey == null) {
+                entryIndicesByCitationKey = new HashMap<>();
+                List<BibEntry> entries = getEntries();
+                for (int i = 0; i < entries.size(); i++) {
+                    int index = i;
+                    entries.get(i).getCitationKey().ifPresent(key ->
+                            entryIndicesByCitationKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(index));
+                }
+            }
+            return entryIndicesByCitationKey.getOrDefault(citationKey, List.of());
+        }
+
+        /**
+         * Returns the positions (in {@link #getEntries()}) of the entries matching the given query. There is no search
+         * index: a new query is matched against all entries. The results of recent queries are kept, so that paging
+         * through the results of a query does not search again.
+         */
+        List<Integer> getEntryIndices(SearchQuery query) {
+            try {
+                // The description contains the query and its flags
+                return searchResults.get(query.toString(), () -> {
+                    List<BibEntry> entries = getEntries();
+                    List<Integer> matches = new ArrayList<>();
+                    for (int i = 0; i < entries.size(); i++) {
+                        if (query.isMatch(entries.get(i))) {
+                            matches.add(i);
+                        }
+                    }
+                    return List.copyOf(matches);
+                });
+            } catch (ExecutionException e) {
+                throw new InternalServerErrorException("Could not search library", e.getCause());
+            }
+        }
+
+        synchronized String getCslJson(Supplier<String> renderer) {
+            if (cslJson == null) {
+                cslJson = renderer.get();
+            }
+            return cslJson;
+        }
+    }
+}
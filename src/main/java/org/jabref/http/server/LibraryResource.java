@@ -3,29 +3,28 @@ package org.jabref.http.server;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.List;
-import java.util.Objects;
 
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.dto.BibEntryDTO;
 import org.jabref.logic.citationstyle.JabRefItemDataProvider;
-import org.jabref.logic.importer.ParserResult;
-import org.jabref.logic.importer.fileformat.BibtexImporter;
-import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.entry.BibEntryTypesManager;
-import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.PreferencesService;
 
-import com.airhacks.afterburner.injection.Injector;
 import com.google.gson.Gson;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.InternalServerErrorException;
-import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,66 +32,82 @@ import org.slf4j.LoggerFactory;
 public class LibraryResource {
     public static final Logger LOGGER = LoggerFactory.getLogger(LibraryResource.class);
 
+    /**
+     * Response header containing the number of all entries of a library, independent of the requested page
+     */
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     @Inject
     PreferencesService preferences;
 
     @Inject
     Gson gson;
 
+    /**
+     * Returns the entries of the library as JSON array of {@link BibEntryDTO}s.
+     *
+     * @param offset the index of the first entry to return
+     * @param limit  the maximum number of entries to return; all remaining entries if not given
+     */
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public String getJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
-        List<BibEntryDTO> list = parserResult.getDatabase().getEntries().stream()
-                                             .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
-                                             .map(entry -> new BibEntryDTO(entry, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), entryTypesManager))
-                                             .toList();
-        return gson.toJson(list);
+    public Response getJson(@PathParam("id") String id,
+                            @QueryParam("offset") @DefaultValue("0") int offset,
+                            @QueryParam("limit") Integer limit,
+                            @Context Request request) {
+        LibraryCache.CachedLibrary library = LibraryCache.getInstance().get(preferences, id);
+        EntityTag entityTag = library.version().getEntityTag("json");
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        List<String> entries = library.getEntriesAsJson(gson, preferences.getFieldPreferences());
+        return Response.ok(LibraryCache.toJsonArray(LibraryCache.getPage(entries, offset, limit)))
+                       .tag(entityTag)
+                       .header(TOTAL_COUNT_HEADER, entries.size())
+                       .build();
     }
 
     @GET
     @Produces(JabrefMediaType.JSON_CSL_ITEM)
-    public String getClsItemJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
-        jabRefItemDataProvider.setData(parserResult.getDatabaseContext(), new BibEntryTypesManager());
-        return jabRefItemDataProvider.toJson();
-    }
-
-    private ParserResult getParserResult(String id) {
-        java.nio.file.Path library = getLibraryPath(id);
-        ParserResult parserResult;
-        try {
-            parserResult = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor()).importDatabase(library);
-        } catch (IOException e) {
-            LOGGER.warn("Could not find open library file {}", library, e);
-            throw new InternalServerErrorException("Could not parse library", e);
+    public Response getClsItemJson(@PathParam("id") String id, @Context Request request) {
+        LibraryCache.CachedLibrary library = LibraryCache.getInstance().get(preferences, id);
+        EntityTag entityTag = library.version().getEntityTag("csl");
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.build();
         }
-        return parserResult;
+
+        String cslJson = library.getCslJson(() -> {
+            JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
+            jabRefItemDataProvider.setData(library.parserResult().getDatabaseContext(), new BibEntryTypesManager());
+            return jabRefItemDataProvider.toJson();
+        });
+        return Response.ok(cslJson)
+                       .tag(entityTag)
+                       .build();
     }
 
     @GET
     @Produces(JabrefMediaType.BIBTEX)
-    public Response getBibtex(@PathParam("id") String id) {
-        java.nio.file.Path library = getLibraryPath(id);
-        String libraryAsString;
+    public Response getBibtex(@PathParam("id") String id, @Context Request request) {
+        java.nio.file.Path library = LibraryCache.getInstance().getLibraryPath(preferences, id);
+        EntityTag entityTag;
         try {
-            libraryAsString = Files.readString(library);
+            entityTag = LibraryCache.FileVersion.of(library).getEntityTag("bibtex");
         } catch (IOException e) {
             LOGGER.error("Could not read library {}", library, e);
             throw new InternalServerErrorException("Could not read library " + library, e);
         }
-        return Response.ok()
-                .entity(libraryAsString)
-                .build();
-    }
-
-    private java.nio.file.Path getLibraryPath(String id) {
-        return preferences.getGuiPreferences().getLastFilesOpened()
-                          .stream()
-                          .filter(p -> (p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p)).equals(id))
-                          .findAny()
-                          .orElseThrow(NotFoundException::new);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+        // The file is streamed instead of being read into memory first
+        StreamingOutput output = outputStream -> Files.copy(library, outputStream);
+        return Response.ok(output)
+                       .tag(entityTag)
+                       .build();
     }
 }
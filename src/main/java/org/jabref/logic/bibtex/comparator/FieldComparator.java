@@ -1,9 +1,9 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.text.CollationKey;
 import java.text.Collator;
 import java.text.ParseException;
 import java.text.RuleBasedCollator;
-import java.util.Comparator;
 import java.util.Locale;
 import java.util.Optional;
 
@@ -21,7 +21,7 @@ import org.jabref.model.strings.StringUtil;
 /**
  * A comparator for BibEntry fields
  */
-public class FieldComparator implements Comparator<BibEntry> {
+public class FieldComparator implements SortKeyComparator<BibEntry, FieldComparator.SortKey> {
 
     private static final Collator COLLATOR = getCollator();
 
@@ -33,6 +33,7 @@ public class FieldComparator implements Comparator<BibEntry> {
     private final FieldType fieldType;
     private final boolean isNumeric;
     private final int multiplier;
+    private final SortKeyType sortKeyType;
 
     public FieldComparator(Field field) {
         this(new OrFields(field), false);
@@ -47,6 +48,7 @@ public class FieldComparator implements Comparator<BibEntry> {
         fieldType = determineFieldType();
         isNumeric = this.fields.getPrimary().isNumeric();
         multiplier = descending ? -1 : 1;
+        sortKeyType = new SortKeyType(fields);
     }
 
     private static Collator getCollator() {
@@ -82,94 +84,98 @@ public class FieldComparator implements Comparator<BibEntry> {
         return null;
     }
 
+    /**
+     * Returns the normalized value compared by this comparator. It is computed once and kept by the entry until the
+     * entry changes.
+     */
     @Override
-    public int compare(BibEntry e1, BibEntry e2) {
-        String f1;
-        String f2;
+    public SortKey getSortKey(BibEntry entry) {
+        return entry.getSortKey(sortKeyType, this::computeSortKey);
+    }
 
+    private SortKey computeSortKey(BibEntry entry) {
+        String value;
         if (fieldType == FieldType.TYPE) {
             // Sort by type.
-            f1 = e1.getType().getDisplayName();
-            f2 = e2.getType().getDisplayName();
+            value = entry.getType().getDisplayName();
         } else {
-            f1 = getFieldValue(e1);
-            f2 = getFieldValue(e2);
+            value = getFieldValue(entry);
         }
 
-        // Catch all cases involving null:
-        if ((f1 == null) && (f2 == null)) {
-            return 0;
-        } else if (f1 == null) {
-            return -multiplier;
-        } else if (f2 == null) {
-            return +multiplier;
+        if (value == null) {
+            return SortKey.ABSENT;
         }
 
-        // Now we know that both f1 and f2 are != null
         if (fieldType == FieldType.NAME) {
-            f1 = AuthorList.fixAuthorForAlphabetization(f1);
-            f2 = AuthorList.fixAuthorForAlphabetization(f2);
+            value = AuthorList.fixAuthorForAlphabetization(value);
         } else if (fieldType == FieldType.YEAR) {
-            int f1year;
-            try {
-                f1year = StringUtil.intValueOf(f1);
-            } catch (NumberFormatException ex) {
-                f1year = 0;
-            }
-            int f2year;
+            int year;
             try {
-                f2year = StringUtil.intValueOf(f2);
+                year = StringUtil.intValueOf(value);
             } catch (NumberFormatException ex) {
-                f2year = 0;
+                year = 0;
             }
-            int comparisonResult = Integer.compare(f1year, f2year);
-            return comparisonResult * multiplier;
+            return new SortKey(year, null);
         } else if (fieldType == FieldType.MONTH) {
-            int month1 = Month.parse(f1).map(Month::getNumber).orElse(-1);
-            int month2 = Month.parse(f2).map(Month::getNumber).orElse(-1);
-            return Integer.compare(month1, month2) * multiplier;
+            return new SortKey(Month.parse(value).map(Month::getNumber).orElse(-1), null);
         }
 
         if (isNumeric) {
             // Cannot use {@link org.jabref.logic.util.comparator.NumericFieldComparator}, because
             //   we need the "Else both are strings" branch and
             //   unparseable strings are sorted differently.
-            int i1;
-            boolean i1present;
             try {
-                i1 = StringUtil.intValueOf(f1);
-                i1present = true;
+                return new SortKey(StringUtil.intValueOf(value), null);
             } catch (NumberFormatException ex) {
-                i1 = 0;
-                i1present = false;
-            }
-            int i2;
-            boolean i2present;
-            try {
-                i2 = StringUtil.intValueOf(f2);
-                i2present = true;
-            } catch (NumberFormatException ex) {
-                i2 = 0;
-                i2present = false;
+                // Not parseable, so it is compared as string.
             }
+        }
 
-            if (i1present && i2present) {
-                // Ok, parsing was successful. Update f1 and f2:
-                return Integer.compare(i1, i2) * multiplier;
-            } else if (i1present) {
-                // The first one was parsable, but not the second one.
-                // This means we consider one < two
-                return -1 * multiplier;
-            } else if (i2present) {
-                // The second one was parsable, but not the first one.
-                // This means we consider one > two
-                return multiplier;
-            }
-            // Else none of them were parseable, and we can fall back on comparing strings.
+        return new SortKey(null, COLLATOR.getCollationKey(value.toLowerCase(Locale.ENGLISH)));
+    }
+
+    @Override
+    public int compareSortKeys(SortKey key1, SortKey key2) {
+        // Catch all cases involving absent values:
+        if (!key1.isPresent() && !key2.isPresent()) {
+            return 0;
+        } else if (!key1.isPresent()) {
+            return -multiplier;
+        } else if (!key2.isPresent()) {
+            return +multiplier;
+        }
+
+        if ((key1.number() != null) && (key2.number() != null)) {
+            return Integer.compare(key1.number(), key2.number()) * multiplier;
+        } else if (key1.number() != null) {
+            // The first one was parsable, but not the second one.
+            // This means we consider one < two
+            return -1 * multiplier;
+        } else if (key2.number() != null) {
+            // The second one was parsable, but not the first one.
+            // This means we consider one > two
+            return multiplier;
+        }
+        // Else both are strings.
+        return key1.text().compareTo(key2.text()) * multiplier;
+    }
+
+    /**
+     * The normalized value of an entry: a number (years, months, numeric fields), the collation key of a text, or
+     * absent if the entry does not have the field.
+     */
+    public record SortKey(Integer number, CollationKey text) {
+        static final SortKey ABSENT = new SortKey(null, null);
+
+        boolean isPresent() {
+            return (number != null) || (text != null);
         }
+    }
 
-        String ours = f1.toLowerCase(Locale.ENGLISH);
-        String theirs = f2.toLowerCase(Locale.ENGLISH);
-        return COLLATOR.compare(ours, theirs) * multiplier;
+    /**
+     * Identifies the sort keys of this comparator in the cache of an entry. The keys only depend on the compared fields,
+     * as the field type and the numeric handling are derived from them.
+     */
+    private record SortKeyType(OrFields fields) {
     }
 }
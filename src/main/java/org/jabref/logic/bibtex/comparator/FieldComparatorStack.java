@@ -1,7 +1,9 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * This class represents a list of comparators. The first Comparator takes precedence,
@@ -26,4 +28,59 @@ public class FieldComparatorStack<T> implements Comparator<T> {
         }
         return 0;
     }
+
+    /**
+     * Sorts the given list in the same order as {@code list.sort(this)}. The keys of all {@link SortKeyComparator}s are
+     * retrieved once per element before sorting, so that large lists are not slowed down by normalizing the same values
+     * over and over again.
+     */
+    public void sort(List<T> list) {
+        List<KeyedElement<T>> keyedElements = new ArrayList<>(list.size());
+        for (T element : list) {
+            Object[] sortKeys = new Object[comparators.size()];
+            for (int i = 0; i < comparators.size(); i++) {
+                if (comparators.get(i) instanceof SortKeyComparator<?, ?> sortKeyComparator) {
+                    sortKeys[i] = getSortKey(sortKeyComparator, element);
+                }
+            }
+            keyedElements.add(new KeyedElement<>(element, sortKeys));
+        }
+
+        keyedElements.sort(this::compareKeyed);
+
+        ListIterator<T> iterator = list.listIterator();
+        for (KeyedElement<T> keyedElement : keyedElements) {
+            iterator.next();
+            iterator.set(keyedElement.element());
+        }
+    }
+
+    private int compareKeyed(KeyedElement<T> o1, KeyedElement<T> o2) {
+        for (int i = 0; i < comparators.size(); i++) {
+            Comparator<? super T> comp = comparators.get(i);
+            int res;
+            if (comp instanceof SortKeyComparator<?, ?> sortKeyComparator) {
+                res = compareSortKeys(sortKeyComparator, o1.sortKeys()[i], o2.sortKeys()[i]);
+            } else {
+                res = comp.compare(o1.element(), o2.element());
+            }
+            if (res != 0) {
+                return res;
+            }
+        }
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E, K> K getSortKey(SortKeyComparator<E, K> comparator, Object element) {
+        return comparator.getSortKey((E) element);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> int compareSortKeys(SortKeyComparator<?, K> comparator, Object key1, Object key2) {
+        return comparator.compareSortKeys((K) key1, (K) key2);
+    }
+
+    private record KeyedElement<T>(T element, Object[] sortKeys) {
+    }
 }
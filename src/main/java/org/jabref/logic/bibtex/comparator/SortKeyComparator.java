@@ -0,0 +1,22 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.util.Comparator;
+
+/**
+ * A comparator which compares keys extracted from the elements. When many elements are sorted, the keys can be
+ * extracted once per element instead of twice per comparison (see {@link FieldComparatorStack#sort(java.util.List)}).
+ *
+ * @param <T> type of the compared elements
+ * @param <K> type of the sort keys
+ */
+public interface SortKeyComparator<T, K> extends Comparator<T> {
+
+    K getSortKey(T element);
+
+    int compareSortKeys(K key1, K key2);
+
+    @Override
+    default int compare(T o1, T o2) {
+        return compareSortKeys(getSortKey(o1), getSortKey(o2));
+    }
+}
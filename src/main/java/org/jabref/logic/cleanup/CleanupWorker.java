@@ -17,6 +17,10 @@ public class CleanupWorker {
     private final FilePreferences filePreferences;
     private final TimestampPreferences timestampPreferences;
 
+    // Moving and renaming linked files runs one entry after another, because several entries may link the same file
+    // and the new file names of different entries may collide
+    private final Object fileMovingLock = new Object();
+
     public CleanupWorker(BibDatabaseContext databaseContext, FilePreferences filePreferences, TimestampPreferences timestampPreferences) {
         this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
@@ -27,13 +31,29 @@ public class CleanupWorker {
         Objects.requireNonNull(preset);
         Objects.requireNonNull(entry);
 
+        return runJobs(determineCleanupActions(preset), entry);
+    }
+
+    /**
+     * Cleans up the given entries in parallel. Only the jobs moving or renaming linked files are not run in parallel.
+     *
+     * @return the changes of each entry, in the order of the given entries
+     */
+    public List<List<FieldChange>> cleanupEntries(CleanupPreferences preset, List<BibEntry> entries) {
+        Objects.requireNonNull(preset);
+        Objects.requireNonNull(entries);
+
         List<CleanupJob> jobs = determineCleanupActions(preset);
+        return entries.parallelStream()
+                      .map(entry -> runJobs(jobs, entry))
+                      .toList();
+    }
 
+    private static List<FieldChange> runJobs(List<CleanupJob> jobs, BibEntry entry) {
         List<FieldChange> changes = new ArrayList<>();
         for (CleanupJob job : jobs) {
             changes.addAll(job.cleanup(entry));
         }
-
         return changes;
     }
 
@@ -62,9 +82,9 @@ public class CleanupWorker {
             case MAKE_PATHS_RELATIVE ->
                     new RelativePathsCleanup(databaseContext, filePreferences);
             case RENAME_PDF ->
-                    new RenamePdfCleanup(false, databaseContext, filePreferences);
+                    movingFiles(new RenamePdfCleanup(false, databaseContext, filePreferences));
             case RENAME_PDF_ONLY_RELATIVE_PATHS ->
-                    new RenamePdfCleanup(true, databaseContext, filePreferences);
+                    movingFiles(new RenamePdfCleanup(true, databaseContext, filePreferences));
             case CLEAN_UP_UPGRADE_EXTERNAL_LINKS ->
                     new UpgradePdfPsToFileCleanup();
             case CLEAN_UP_DELETED_LINKED_FILES ->
@@ -78,7 +98,7 @@ public class CleanupWorker {
             case CONVERT_TIMESTAMP_TO_MODIFICATIONDATE ->
                     new TimeStampToModificationDate(timestampPreferences);
             case MOVE_PDF ->
-                    new MoveFilesCleanup(databaseContext, filePreferences);
+                    movingFiles(new MoveFilesCleanup(databaseContext, filePreferences));
             case FIX_FILE_LINKS ->
                     new FileLinksCleanup();
             case CLEAN_UP_ISSN ->
@@ -87,4 +107,12 @@ public class CleanupWorker {
                     throw new UnsupportedOperationException(action.name());
         };
     }
+
+    private CleanupJob movingFiles(CleanupJob job) {
+        return entry -> {
+            synchronized (fileMovingLock) {
+                return job.cleanup(entry);
+            }
+        };
+    }
 }
@@ -0,0 +1,33 @@
+package org.jabref.logic.crawler;
+
+import java.util.Optional;
+
+import org.jabref.model.study.FetchResult;
+
+/**
+ * Keeps the results of the query/fetcher pairs which were already fetched during a crawl, so that an interrupted crawl
+ * does not have to query the catalogs again.
+ */
+interface CrawlCheckpoint {
+
+    /**
+     * Does not keep anything, i.e., every pair is fetched.
+     */
+    CrawlCheckpoint NONE = new CrawlCheckpoint() {
+        @Override
+        public Optional<FetchResult> load(String query, String fetcherName) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void save(String query, FetchResult fetchResult) {
+        }
+    };
+
+    /**
+     * @return the result fetched for the given pair during an earlier, unfinished crawl
+     */
+    Optional<FetchResult> load(String query, String fetcherName);
+
+    void save(String query, FetchResult fetchResult);
+}
@@ -58,7 +58,7 @@ public class Crawler {
      *
      * The whole process works as follows:
      * <ol>
-     *     <li>Then the search is executed</li>
+     *     <li>Then the search is executed. Results of an earlier, interrupted crawl are reused.</li>
      *     <li>The repository changes to the search branch</li>
      *     <li>Afterwards, the results are persisted on the search branch.</li>
      *     <li>Finally, the changes are merged into the work branch</li>
@@ -67,7 +67,7 @@ public class Crawler {
      * @throws IOException Thrown if a problem occurred during the persistence of the result.
      */
     public void performCrawl() throws IOException, GitAPIException, SaveException {
-        List<QueryResult> results = studyFetcher.crawl();
+        List<QueryResult> results = studyFetcher.crawl(studyRepository.getCrawlCheckpoint());
         studyRepository.persist(results);
     }
 }
@@ -2,8 +2,14 @@ package org.jabref.logic.crawler;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.PagedSearchBasedFetcher;
@@ -19,13 +25,18 @@ import org.slf4j.LoggerFactory;
 /**
  * Delegates the search of the provided set of targeted E-Libraries with the provided queries to the E-Library specific fetchers,
  * and aggregates the results returned by the fetchers by query and E-Library.
+ * <p>
+ * All query/fetcher pairs run concurrently on virtual threads. To respect the rate limits of the catalogs, the number
+ * of concurrent requests per catalog is bounded.
  */
 class StudyFetcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(StudyFetcher.class);
     private static final int MAX_AMOUNT_OF_RESULTS_PER_FETCHER = 100;
+    private static final int MAX_CONCURRENT_REQUESTS_PER_FETCHER = 2;
 
     private final List<SearchBasedFetcher> activeFetchers;
     private final List<String> searchQueries;
+    private final Map<String, Semaphore> fetcherPermits = new ConcurrentHashMap<>();
 
     StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries) throws IllegalArgumentException {
         this.searchQueries = searchQueries;
@@ -38,29 +49,64 @@ class StudyFetcher {
      * If any library API is not available, its corresponding entry is missing from the internal map.
      */
     public List<QueryResult> crawl() {
-        return searchQueries.parallelStream()
-                            .map(this::getQueryResult)
-                            .collect(Collectors.toList());
-    }
-
-    private QueryResult getQueryResult(String searchQuery) {
-        return new QueryResult(searchQuery, performSearchOnQuery(searchQuery));
+        return crawl(CrawlCheckpoint.NONE);
     }
 
     /**
-     * Queries all catalogs on the given searchQuery.
-     *
-     * @param searchQuery The query the search is performed for.
-     * @return Mapping of each fetcher by name and all their retrieved publications as a BibDatabase
+     * Same as {@link #crawl()}, but skips the pairs already contained in the checkpoint and saves each newly fetched pair
+     * to the checkpoint as soon as it is complete.
      */
-    private List<FetchResult> performSearchOnQuery(String searchQuery) {
-        return activeFetchers.parallelStream()
-                             .map(fetcher -> performSearchOnQueryForFetcher(searchQuery, fetcher))
-                             .filter(Objects::nonNull)
-                             .collect(Collectors.toList());
+    public List<QueryResult> crawl(CrawlCheckpoint checkpoint) {
+        List<List<Future<Optional<FetchResult>>>> pendingResults = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String searchQuery : searchQueries) {
+                List<Future<Optional<FetchResult>>> pendingQueryResults = new ArrayList<>();
+                for (SearchBasedFetcher fetcher : activeFetchers) {
+                    pendingQueryResults.add(executor.submit(() -> getFetchResult(searchQuery, fetcher, checkpoint)));
+                }
+                pendingResults.add(pendingQueryResults);
+            }
+        }
+
+        List<QueryResult> results = new ArrayList<>();
+        for (int i = 0; i < searchQueries.size(); i++) {
+            String searchQuery = searchQueries.get(i);
+            List<FetchResult> fetchResults = new ArrayList<>();
+            for (Future<Optional<FetchResult>> pendingResult : pendingResults.get(i)) {
+                try {
+                    pendingResult.get().ifPresent(fetchResults::add);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOGGER.debug("Crawl was interrupted");
+                } catch (ExecutionException e) {
+                    LOGGER.warn("Fetching results for query '{}' failed", searchQuery, e.getCause());
+                }
+            }
+            results.add(new QueryResult(searchQuery, fetchResults));
+        }
+        return results;
+    }
+
+    private Optional<FetchResult> getFetchResult(String searchQuery, SearchBasedFetcher fetcher, CrawlCheckpoint checkpoint) throws InterruptedException {
+        Optional<FetchResult> checkpointedResult = checkpoint.load(searchQuery, fetcher.getName());
+        if (checkpointedResult.isPresent()) {
+            LOGGER.debug("Using results of {} for '{}' from previous crawl", fetcher.getName(), searchQuery);
+            return checkpointedResult;
+        }
+
+        Semaphore permits = fetcherPermits.computeIfAbsent(fetcher.getName(), name -> new Semaphore(MAX_CONCURRENT_REQUESTS_PER_FETCHER));
+        permits.acquire();
+        Optional<FetchResult> fetchResult;
+        try {
+            fetchResult = performSearchOnQueryForFetcher(searchQuery, fetcher);
+        } finally {
+            permits.release();
+        }
+        fetchResult.ifPresent(result -> checkpoint.save(searchQuery, result));
+        return fetchResult;
     }
 
-    private FetchResult performSearchOnQueryForFetcher(String searchQuery, SearchBasedFetcher fetcher) {
+    private Optional<FetchResult> performSearchOnQueryForFetcher(String searchQuery, SearchBasedFetcher fetcher) {
         try {
             List<BibEntry> fetchResult = new ArrayList<>();
             if (fetcher instanceof PagedSearchBasedFetcher basedFetcher) {
@@ -71,10 +117,10 @@ class StudyFetcher {
             } else {
                 fetchResult = fetcher.performSearch(searchQuery);
             }
-            return new FetchResult(fetcher.getName(), new BibDatabase(fetchResult));
+            return Optional.of(new FetchResult(fetcher.getName(), new BibDatabase(fetchResult)));
         } catch (FetcherException e) {
             LOGGER.warn("%s API request failed".formatted(fetcher.getName()), e);
-            return null;
+            return Optional.empty();
         }
     }
 }
@@ -1,15 +1,21 @@
 package org.jabref.logic.crawler;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.database.DatabaseMerger;
@@ -62,6 +68,12 @@ public class StudyRepository {
     private static final String WORK_BRANCH = "work";
     private static final String SEARCH_BRANCH = "search";
 
+    // Results of an interrupted crawl are kept inside the git directory, so that they are neither committed nor touched
+    // by switching branches
+    private static final String CRAWL_CHECKPOINT_DIRECTORY = "jabref-crawl";
+    // Results of an interrupted crawl older than this are fetched again
+    private static final Duration CRAWL_CHECKPOINT_TIME_TO_LIVE = Duration.ofDays(1);
+
     private final Path repositoryPath;
     private final Path studyDefinitionFile;
     private final SlrGitHandler gitHandler;
@@ -227,6 +239,8 @@ public class StudyRepository {
             // First commit changes to search branch and update remote
             String commitMessage = "Conducted search: " + LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
             boolean newSearchResults = gitHandler.createCommitOnCurrentBranch(commitMessage, false);
+            // The results are part of the repository now, so a new crawl has to fetch again
+            clearCrawlCheckpoint();
             gitHandler.checkoutBranch(WORK_BRANCH);
             if (!newSearchResults) {
                 return;
@@ -240,6 +254,61 @@ public class StudyRepository {
         }
     }
 
+    /**
+     * Returns a checkpoint keeping the result of each query/fetcher pair of the current crawl until the results are
+     * persisted. If the crawl is interrupted, the next crawl uses the kept results instead of querying the catalogs
+     * again.
+     */
+    CrawlCheckpoint getCrawlCheckpoint() {
+        if (!Files.isDirectory(repositoryPath.resolve(".git"))) {
+            return CrawlCheckpoint.NONE;
+        }
+        return new CrawlCheckpoint() {
+            @Override
+            public Optional<FetchResult> load(String query, String fetcherName) {
+                Path checkpointFile = getPathToCrawlCheckpointFile(query, fetcherName);
+                try {
+                    if (Files.notExists(checkpointFile)
+                            || Files.getLastModifiedTime(checkpointFile).toInstant().isBefore(Instant.now().minus(CRAWL_CHECKPOINT_TIME_TO_LIVE))) {
+                        return Optional.empty();
+                    }
+                    BibDatabase entries = OpenDatabase.loadDatabase(checkpointFile,
+                            preferencesService.getImportFormatPreferences(),
+                            fileUpdateMonitor).getDatabase();
+                    return Optional.of(new FetchResult(fetcherName, entries));
+                } catch (IOException e) {
+                    LOGGER.warn("Could not read results of previous crawl from {}", checkpointFile, e);
+                    return Optional.empty();
+                }
+            }
+
+            @Override
+            public void save(String query, FetchResult fetchResult) {
+                Path checkpointFile = getPathToCrawlCheckpointFile(query, fetchResult.getFetcherName());
+                try {
+                    Files.createDirectories(checkpointFile.getParent());
+                    writeResultToFile(checkpointFile, new BibDatabaseContext(fetchResult.getFetchResult()));
+                } catch (IOException | SaveException e) {
+                    LOGGER.warn("Could not keep results of {} for '{}'", fetchResult.getFetcherName(), query, e);
+                }
+            }
+        };
+    }
+
+    private void clearCrawlCheckpoint() {
+        Path checkpointDirectory = getPathToCrawlCheckpointDirectory();
+        if (Files.notExists(checkpointDirectory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(checkpointDirectory)) {
+            files.sorted(Comparator.reverseOrder())
+                 .map(Path::toFile)
+                 .forEach(File::delete);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete results of previous crawl at {}", checkpointDirectory, e);
+        }
+    }
+
     /**
      * Update the remote tracking branches of the work and search branches
      * The currently checked out branch is not changed if the method is executed successfully
@@ -457,6 +526,14 @@ public class StudyRepository {
         return repositoryPath.resolve(Crawler.FILENAME_STUDY_RESULT_BIB);
     }
 
+    private Path getPathToCrawlCheckpointDirectory() {
+        return repositoryPath.resolve(".git").resolve(CRAWL_CHECKPOINT_DIRECTORY);
+    }
+
+    private Path getPathToCrawlCheckpointFile(String query, String fetcherName) {
+        return getPathToCrawlCheckpointDirectory().resolve(computeIDForQuery(query)).resolve(FileNameCleaner.cleanFileName(fetcherName) + ".bib");
+    }
+
     private Path getPathToQueryDirectory(String query) {
         return repositoryPath.resolve(trimNameAndAddID(query));
     }
@@ -54,10 +54,13 @@ public class DatabaseMerger {
     }
 
     private void mergeEntries(BibDatabase target, BibDatabase other) {
-        DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+        DuplicateIndex existingEntries = new DuplicateIndex(
+                new DuplicateCheck(new BibEntryTypesManager()),
+                BibDatabaseModeDetection.inferMode(target),
+                target.getEntries());
         List<BibEntry> newEntries = other.getEntries().stream()
                                          // Remove all entries that are already part of the database (duplicate)
-                                         .filter(entry -> duplicateCheck.containsDuplicate(target, entry, BibDatabaseModeDetection.inferMode(target)).isEmpty())
+                                         .filter(entry -> existingEntries.findDuplicate(entry).isEmpty())
                                          .collect(Collectors.toList());
         target.insertEntries(newEntries);
     }
@@ -0,0 +1,104 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+
+/**
+ * Index over a set of entries to look up duplicates of other entries without comparing against every indexed entry.
+ * <p>
+ * Entries sharing an identifier (e.g., DOI or eprint) are found by a hash lookup. Otherwise, {@link DuplicateCheck} is
+ * asked only for the indexed entries sharing at least one title word with the given entry, and for the indexed entries
+ * without a usable title. Entries whose titles have no word in common are very unlikely to reach the duplicate
+ * threshold, so this gives the same result as {@link DuplicateCheck#containsDuplicate} in practice.
+ */
+public class DuplicateIndex {
+
+    private static final Pattern NON_WORD_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Shorter words are mostly articles and prepositions, which are shared by unrelated titles
+    private static final int MINIMUM_WORD_LENGTH = 4;
+
+    private final DuplicateCheck duplicateCheck;
+    private final BibDatabaseMode databaseMode;
+    private final Map<String, BibEntry> entriesByIdentifier = new HashMap<>();
+    private final Map<String, List<BibEntry>> entriesByTitleWord = new HashMap<>();
+    private final List<BibEntry> entriesWithoutTitleWords = new ArrayList<>();
+
+    public DuplicateIndex(DuplicateCheck duplicateCheck, BibDatabaseMode databaseMode, List<BibEntry> entries) {
+        this.duplicateCheck = duplicateCheck;
+        this.databaseMode = databaseMode;
+        entries.forEach(this::add);
+    }
+
+    public void add(BibEntry entry) {
+        for (String identifier : getIdentifiers(entry)) {
+            entriesByIdentifier.putIfAbsent(identifier, entry);
+        }
+        Set<String> titleWords = getTitleWords(entry);
+        if (titleWords.isEmpty()) {
+            entriesWithoutTitleWords.add(entry);
+        }
+        for (String word : titleWords) {
+            entriesByTitleWord.computeIfAbsent(word, key -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    /**
+     * @return an indexed entry which is a duplicate of the given entry, or an empty Optional if there is none
+     */
+    public Optional<BibEntry> findDuplicate(BibEntry entry) {
+        for (String identifier : getIdentifiers(entry)) {
+            BibEntry sameIdentifier = entriesByIdentifier.get(identifier);
+            if (sameIdentifier != null) {
+                return Optional.of(sameIdentifier);
+            }
+        }
+
+        Set<BibEntry> candidates = new LinkedHashSet<>(entriesWithoutTitleWords);
+        Set<String> titleWords = getTitleWords(entry);
+        if (titleWords.isEmpty()) {
+            entriesByTitleWord.values().forEach(candidates::addAll);
+        }
+        for (String word : titleWords) {
+            candidates.addAll(entriesByTitleWord.getOrDefault(word, List.of()));
+        }
+        return candidates.stream()
+                         .filter(candidate -> duplicateCheck.isDuplicate(entry, candidate, databaseMode))
+                         .findFirst();
+    }
+
+    private static List<String> getIdentifiers(BibEntry entry) {
+        List<String> identifiers = new ArrayList<>();
+        for (Map.Entry<Field, String> field : entry.getFieldMap().entrySet()) {
+            if (field.getKey().getProperties().contains(FieldProperty.IDENTIFIER)) {
+                identifiers.add(field.getKey().getName() + '\u0000' + field.getValue());
+            }
+        }
+        return identifiers;
+    }
+
+    private static Set<String> getTitleWords(BibEntry entry) {
+        Set<String> words = new LinkedHashSet<>();
+        entry.getField(StandardField.TITLE).ifPresent(title -> {
+            for (String word : NON_WORD_CHARACTERS.split(title.toLowerCase(Locale.ROOT))) {
+                if (word.length() >= MINIMUM_WORD_LENGTH) {
+                    words.add(word);
+                }
+            }
+        });
+        return words;
+    }
+}
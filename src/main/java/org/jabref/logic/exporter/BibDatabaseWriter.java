@@ -142,7 +142,7 @@ public abstract class BibDatabaseWriter {
         FieldComparatorStack<BibEntry> comparatorStack = new FieldComparatorStack<>(comparators);
 
         List<BibEntry> sorted = new ArrayList<>(entriesToSort);
-        sorted.sort(comparatorStack);
+        comparatorStack.sort(sorted);
         return sorted;
     }
 
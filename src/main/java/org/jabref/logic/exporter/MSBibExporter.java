@@ -6,16 +6,19 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.TransformerFactoryConfigurationError;
-import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 
+import org.jabref.logic.msbib.MSBibConverter;
 import org.jabref.logic.msbib.MSBibDatabase;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 
@@ -42,16 +45,19 @@ class MSBibExporter extends Exporter {
             return;
         }
 
-        MSBibDatabase msBibDatabase = new MSBibDatabase(databaseContext.getDatabase(), entries);
+        BibDatabase database = databaseContext.getDatabase();
+        StreamingXmlWriter<BibEntry> streamingWriter = new StreamingXmlWriter<>(
+                MSBibExporter::writeStartElements,
+                (writer, entry) -> MSBibConverter.convert(database.resolveForStrings(entry, false)).writeEntry(writer));
 
         // forcing to use UTF8 output format for some problems with XML export in other encodings
         try (AtomicFileWriter ps = new AtomicFileWriter(file, StandardCharsets.UTF_8)) {
             try {
-                DOMSource source = new DOMSource(msBibDatabase.getDomForExport());
                 StreamResult result = new StreamResult(ps);
                 Transformer trans = transformerFactory.newTransformer();
                 trans.setOutputProperty(OutputKeys.INDENT, "yes");
-                trans.transform(source, result);
+                trans.setOutputProperty(OutputKeys.STANDALONE, "no");
+                streamingWriter.write(entries, trans, result);
             } catch (TransformerException | IllegalArgumentException | TransformerFactoryConfigurationError e) {
                 throw new SaveException(e);
             }
@@ -59,4 +65,11 @@ class MSBibExporter extends Exporter {
             throw new SaveException(ex);
         }
     }
+
+    private static void writeStartElements(XMLStreamWriter writer) throws XMLStreamException {
+        writer.writeStartElement(MSBibDatabase.PREFIX, "Sources", MSBibDatabase.NAMESPACE);
+        writer.writeDefaultNamespace(MSBibDatabase.NAMESPACE);
+        writer.writeNamespace(MSBibDatabase.PREFIX, MSBibDatabase.NAMESPACE);
+        writer.writeAttribute("SelectedStyle", "");
+    }
 }
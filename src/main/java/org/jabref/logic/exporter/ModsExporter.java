@@ -2,8 +2,6 @@ package org.jabref.logic.exporter;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -14,7 +12,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
 
-import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.OutputKeys;
@@ -22,7 +19,6 @@ import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
-import javax.xml.transform.stream.StreamSource;
 
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabaseContext;
@@ -32,9 +28,6 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.EntryType;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 /**
  * TemplateExporter for exporting in MODS XML format.
  */
@@ -45,8 +38,6 @@ class ModsExporter extends Exporter {
     private static final String DOUBLE_MINUS = "--";
     private static final String MODS_SCHEMA_LOCATION = "http://www.loc.gov/standards/mods/v3/mods-3-6.xsd";
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(ModsExporter.class);
-
     public ModsExporter() {
         super("mods", "MODS", StandardFileType.XML);
     }
@@ -59,111 +50,90 @@ class ModsExporter extends Exporter {
             return;
         }
 
-        XMLStreamWriter writer = null;
-        try {
-            StringWriter sw = new StringWriter();
-            // writer is not an auto closable!
-            writer = createWriter(sw);
-
-            for (BibEntry bibEntry : entries) {
-                if (bibEntry.getCitationKey().isPresent()) {
-                    String citekey = bibEntry.getCitationKey().get();
-                    addIdentifier(writer, new UnknownField("citekey"), citekey);
-                } else {
-                    writer.writeStartElement("mods", "mods", MODS_NAMESPACE_URI);
-                }
-
-                Map<Field, String> fieldMap = new TreeMap<>(Comparator.comparing(Field::getName));
-                fieldMap.putAll(bibEntry.getFieldMap());
-                addGenre(writer, bibEntry.getType());
-
-                List<String> originItems = new ArrayList<>();
-                List<String> parts = new ArrayList<>();
-
-                for (Map.Entry<Field, String> entry : fieldMap.entrySet()) {
-                    Field field = entry.getKey();
-                    String value = entry.getValue();
-
-                    if (StandardField.AUTHOR == field) {
-                        handleAuthors(writer, value);
-                    } else if (new UnknownField("affiliation").equals(field)) {
-                        addAffiliation(writer, value);
-                    } else if (StandardField.ABSTRACT == field) {
-                        addAbstract(writer, value);
-                    } else if (StandardField.TITLE == field) {
-                        addTitle(writer, value);
-                    } else if (StandardField.LANGUAGE == field) {
-                        addLanguage(writer, value);
-                    } else if (StandardField.LOCATION == field) {
-                        addLocation(writer, value);
-                    } else if (StandardField.URL == field) {
-                        addUrl(writer, value);
-                    } else if (StandardField.NOTE == field) {
-                        addNote(writer, value);
-                    } else if (StandardField.KEYWORDS == field) {
-                        addKeyWords(writer, value);
-                    } else if (StandardField.URI == field) {
-                        addIdentifier(writer, StandardField.URI, value);
-                    } else if (StandardField.ISBN == field) {
-                        addIdentifier(writer, StandardField.ISBN, value);
-                    } else if (StandardField.ISSN == field) {
-                        addIdentifier(writer, StandardField.ISSN, value);
-                    } else if (StandardField.DOI == field) {
-                        addIdentifier(writer, StandardField.DOI, value);
-                    } else if (StandardField.PMID == field) {
-                        addIdentifier(writer, StandardField.PMID, value);
-                    } else if (StandardField.PAGES == field) {
-                        addPart(parts, value);
-                    } else if (StandardField.VOLUME == field) {
-                        addPart(parts, value);
-                    } else if (StandardField.ISSUE == field) {
-                        addPart(parts, value);
-                    }
-                    trackOriginInformation(originItems, field, value);
-                }
-                writeOriginInformation(writer, originItems, fieldMap);
-                // Write related items
-                writeRelatedInformation(writer, parts, fieldMap);
-                writer.writeEndElement(); // end mods
-            }
-            writer.writeEndDocument();
-            writerFormatted(file, sw);
-        } catch (XMLStreamException | IOException | TransformerException ex) {
+        StreamingXmlWriter<BibEntry> streamingWriter = new StreamingXmlWriter<>(this::writeStartElements, this::writeEntry);
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            streamingWriter.write(entries, createTransformer(), new StreamResult(outputStream));
+        } catch (IOException | TransformerException ex) {
             throw new SaveException(ex);
-        } finally {
-            try {
-                if (writer != null) {
-                    writer.flush();
-                    writer.close();
-                }
-            } catch (XMLStreamException e) {
-                LOGGER.error("Error closing XML writer", e);
-            }
         }
     }
 
-    private XMLStreamWriter createWriter(StringWriter sw) throws XMLStreamException {
-        XMLOutputFactory outputFactory = XMLOutputFactory.newFactory();
-
-        XMLStreamWriter writer = outputFactory.createXMLStreamWriter(new StreamResult(sw));
-        writer.writeDTD("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+    private void writeStartElements(XMLStreamWriter writer) throws XMLStreamException {
         writer.writeStartElement("mods", "modsCollection", MODS_NAMESPACE_URI);
         writer.writeNamespace("mods", MODS_NAMESPACE_URI);
         writer.writeNamespace("ns2", "http://www.w3.org/1999/xlink");
         writer.writeNamespace("xsi", "http://www.w3.org/2001/XMLSchema-instance");
         writer.writeAttribute("xsi", "http://www.w3.org/2001/XMLSchema-instance", "schemaLocation", MODS_SCHEMA_LOCATION);
-        return writer;
     }
 
-    private void writerFormatted(Path file, StringWriter sw) throws TransformerException, IOException {
+    private void writeEntry(XMLStreamWriter writer, BibEntry bibEntry) throws XMLStreamException {
+        if (bibEntry.getCitationKey().isPresent()) {
+            String citekey = bibEntry.getCitationKey().get();
+            addIdentifier(writer, new UnknownField("citekey"), citekey);
+        } else {
+            writer.writeStartElement("mods", "mods", MODS_NAMESPACE_URI);
+        }
+
+        Map<Field, String> fieldMap = new TreeMap<>(Comparator.comparing(Field::getName));
+        fieldMap.putAll(bibEntry.getFieldMap());
+        addGenre(writer, bibEntry.getType());
+
+        List<String> originItems = new ArrayList<>();
+        List<String> parts = new ArrayList<>();
+
+        for (Map.Entry<Field, String> entry : fieldMap.entrySet()) {
+            Field field = entry.getKey();
+            String value = entry.getValue();
+
+            if (StandardField.AUTHOR == field) {
+                handleAuthors(writer, value);
+            } else if (new UnknownField("affiliation").equals(field)) {
+                addAffiliation(writer, value);
+            } else if (StandardField.ABSTRACT == field) {
+                addAbstract(writer, value);
+            } else if (StandardField.TITLE == field) {
+                addTitle(writer, value);
+            } else if (StandardField.LANGUAGE == field) {
+                addLanguage(writer, value);
+            } else if (StandardField.LOCATION == field) {
+                addLocation(writer, value);
+            } else if (StandardField.URL == field) {
+                addUrl(writer, value);
+            } else if (StandardField.NOTE == field) {
+                addNote(writer, value);
+            } else if (StandardField.KEYWORDS == field) {
+                addKeyWords(writer, value);
+            } else if (StandardField.URI == field) {
+                addIdentifier(writer, StandardField.URI, value);
+            } else if (StandardField.ISBN == field) {
+                addIdentifier(writer, StandardField.ISBN, value);
+            } else if (StandardField.ISSN == field) {
+                addIdentifier(writer, StandardField.ISSN, value);
+            } else if (StandardField.DOI == field) {
+                addIdentifier(writer, StandardField.DOI, value);
+            } else if (StandardField.PMID == field) {
+                addIdentifier(writer, StandardField.PMID, value);
+            } else if (StandardField.PAGES == field) {
+                addPart(parts, value);
+            } else if (StandardField.VOLUME == field) {
+                addPart(parts, value);
+            } else if (StandardField.ISSUE == field) {
+                addPart(parts, value);
+            }
+            trackOriginInformation(originItems, field, value);
+        }
+        writeOriginInformation(writer, originItems, fieldMap);
+        // Write related items
+        writeRelatedInformation(writer, parts, fieldMap);
+        writer.writeEndElement(); // end mods
+    }
+
+    private Transformer createTransformer() throws TransformerException {
         Transformer transformer = TransformerFactory.newInstance().newTransformer();
         transformer.setOutputProperty(OutputKeys.INDENT, "yes");
         transformer.setOutputProperty(OutputKeys.STANDALONE, "yes");
         transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
-
-        try (OutputStream outputStream = Files.newOutputStream(file)) {
-            transformer.transform(new StreamSource(new StringReader(sw.toString())), new StreamResult(outputStream));
-        }
+        return transformer;
     }
 
     private void writeOriginInformation(XMLStreamWriter writer, List<String> originItems, Map<Field, String> fieldMap) throws XMLStreamException {
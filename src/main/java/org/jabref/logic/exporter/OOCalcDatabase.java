@@ -44,7 +44,7 @@ class OOCalcDatabase {
         comparators.add(new FieldComparator(StandardField.YEAR));
         comparators.add(new FieldComparator(InternalField.KEY_FIELD));
 
-        this.entries.sort(new FieldComparatorStack<>(comparators));
+        new FieldComparatorStack<BibEntry>(comparators).sort(this.entries);
     }
 
     private static String getField(BibEntry e, Field field) {
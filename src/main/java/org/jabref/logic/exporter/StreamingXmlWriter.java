@@ -0,0 +1,188 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.stream.IntStream;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.Result;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.stream.StreamSource;
+
+/**
+ * Writes an XML export one entry after another instead of building the tree of the whole library first. The XML of
+ * the entries is written in chunks in parallel by {@link XMLStreamWriter}s and read by the given {@link Transformer}
+ * while it formats the output. Thus, only the XML of a limited number of chunks is kept in memory, and the output is
+ * formatted exactly like a tree of the whole library passed to the same transformer.
+ *
+ * @param <T> type of the exported entries
+ */
+class StreamingXmlWriter<T> {
+
+    private static final int ENTRIES_PER_CHUNK = 256;
+
+    // The written XML is only read by the transformer, so the writer of the JDK is sufficient
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newDefaultFactory();
+
+    @FunctionalInterface
+    interface RootElementWriter {
+        /**
+         * Writes the start of the root element including its namespaces and attributes, and the start of any element
+         * between the root element and the entries.
+         */
+        void writeStartElements(XMLStreamWriter writer) throws XMLStreamException;
+    }
+
+    @FunctionalInterface
+    interface EntryWriter<T> {
+        /**
+         * Writes the element of one entry. The entries are written in parallel, so this must not depend on other
+         * entries.
+         */
+        void writeEntry(XMLStreamWriter writer, T entry) throws XMLStreamException;
+    }
+
+    private final RootElementWriter rootElementWriter;
+    private final EntryWriter<T> entryWriter;
+
+    StreamingXmlWriter(RootElementWriter rootElementWriter, EntryWriter<T> entryWriter) {
+        this.rootElementWriter = Objects.requireNonNull(rootElementWriter);
+        this.entryWriter = Objects.requireNonNull(entryWriter);
+    }
+
+    /**
+     * Writes the XML of the given entries in their order to the given result. An {@link XMLStreamException} while
+     * writing an entry is thrown as cause of the {@link TransformerException}.
+     */
+    void write(List<T> entries, Transformer transformer, Result result) throws TransformerException {
+        transformer.transform(new StreamSource(new ChunkReader(entries)), result);
+    }
+
+    /**
+     * Writes a document containing the given entries. The entries are returned separately from the text before and
+     * after them, so that the entries of all chunks can be put between the start and the end of one document.
+     */
+    private XmlText writeChunk(List<T> entries) throws XMLStreamException {
+        StringWriter stringWriter = new StringWriter();
+        XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(stringWriter);
+        rootElementWriter.writeStartElements(writer);
+        // Writing characters closes the open start tag
+        writer.writeCharacters("");
+        writer.flush();
+        int entriesStart = stringWriter.getBuffer().length();
+
+        for (T entry : entries) {
+            entryWriter.writeEntry(writer, entry);
+        }
+        writer.writeCharacters("");
+        writer.flush();
+        int entriesEnd = stringWriter.getBuffer().length();
+
+        writer.writeEndDocument();
+        writer.close();
+        String text = stringWriter.toString();
+        return new XmlText(text.substring(0, entriesStart), text.substring(entriesStart, entriesEnd), text.substring(entriesEnd));
+    }
+
+    private record XmlText(String start, String entries, String end) {
+    }
+
+    /**
+     * Provides the XML of the document while it is read. The chunks of a window are written in parallel when the XML of
+     * the previous window has been read.
+     */
+    private class ChunkReader extends Reader {
+
+        private final List<T> entries;
+        private final int chunkCount;
+        // Only a limited number of chunks is kept in memory until it is read
+        private final int chunksPerWindow = 4 * Runtime.getRuntime().availableProcessors();
+        private final Queue<String> texts = new ArrayDeque<>();
+
+        private int nextChunk;
+        private String documentEnd;
+        private boolean isDocumentEndRead;
+        private String text = "";
+        private int position;
+
+        ChunkReader(List<T> entries) {
+            this.entries = entries;
+            this.chunkCount = (entries.size() + ENTRIES_PER_CHUNK - 1) / ENTRIES_PER_CHUNK;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while (position == text.length()) {
+                if (texts.isEmpty() && !writeNextTexts()) {
+                    return -1;
+                }
+                text = texts.remove();
+                position = 0;
+            }
+            int count = Math.min(length, text.length() - position);
+            text.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        /**
+         * Adds the next texts of the document: first the start of the document, then the entries of a window, and
+         * finally the end of the document.
+         *
+         * @return false if the whole document has been read
+         */
+        private boolean writeNextTexts() throws IOException {
+            try {
+                if (documentEnd == null) {
+                    XmlText document = writeChunk(List.of());
+                    texts.add(document.start());
+                    documentEnd = document.end();
+                } else if (nextChunk < chunkCount) {
+                    int windowEnd = Math.min(nextChunk + chunksPerWindow, chunkCount);
+                    IntStream.range(nextChunk, windowEnd)
+                             .parallel()
+                             .mapToObj(this::writeEntries)
+                             .forEachOrdered(texts::add);
+                    nextChunk = windowEnd;
+                } else if (!isDocumentEndRead) {
+                    texts.add(documentEnd);
+                    isDocumentEndRead = true;
+                } else {
+                    return false;
+                }
+                return true;
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        private String writeEntries(int chunk) {
+            int start = chunk * ENTRIES_PER_CHUNK;
+            int end = Math.min(start + ENTRIES_PER_CHUNK, entries.size());
+            try {
+                return writeChunk(entries.subList(start, end)).entries();
+            } catch (XMLStreamException e) {
+                throw new UncheckedIOException(new IOException(e));
+            }
+        }
+
+        @Override
+        public void close() {
+            texts.clear();
+        }
+    }
+}
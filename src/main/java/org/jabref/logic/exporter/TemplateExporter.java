@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -15,16 +16,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.layout.LayoutHelper;
-import org.jabref.logic.layout.format.Number;
 import org.jabref.logic.util.FileType;
 import org.jabref.logic.util.OS;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.types.EntryType;
@@ -45,6 +47,7 @@ public class TemplateExporter extends Exporter {
     private static final String FORMATTERS_EXTENSION = ".formatters";
     private static final String BEGIN_INFIX = ".begin";
     private static final String END_INFIX = ".end";
+    private static final int ENTRIES_PER_CHUNK = 256;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
@@ -253,48 +256,31 @@ public class TemplateExporter extends Exporter {
                     LOGGER.warn("Missing formatters found: {}", missingFormatters);
                 }
             }
+            // Load the type-specific layouts before laying out the entries in parallel
             Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
-
-            Number.serialExportNumber = 0;
             for (BibEntry entry : sorted) {
-                Number.serialExportNumber++; // Increment entry counter.
-                // Get the layout
                 EntryType type = entry.getType();
                 if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
-                    }
+                    continue;
                 }
-
-                // Write the entry
-                if (layout != null) {
-                    if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
-                        for (String line : lines) {
-                            if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
-                            }
-                        }
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
+                try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
+                    // We try to get a type-specific layout for this entry.
+                    layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
+                    Layout layout = layoutHelper.getLayoutFromText();
+                    layouts.put(type, layout);
+                    if (layout != null) {
+                        missingFormatters.addAll(layout.getMissingFormatters());
                     }
+                } catch (IOException ex) {
+                    // The exception indicates that no type-specific layout
+                    // exists, so we
+                    // go with the default one.
+                    layouts.put(type, defLayout);
                 }
             }
 
+            writeEntries(ps, sorted, layouts, databaseContext.getDatabase());
+
             // Print footer
             Layout endLayout = null;
             try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
@@ -319,6 +305,57 @@ public class TemplateExporter extends Exporter {
         }
     }
 
+    /**
+     * Writes the layouts of the given entries. The entries are laid out in chunks in parallel, but written in their
+     * order. If a layout depends on the previous entries (i.e., uses groups), the entries are laid out one after another.
+     */
+    private void writeEntries(Writer writer, List<BibEntry> entries, Map<EntryType, Layout> layouts, BibDatabase database) throws IOException {
+        boolean inParallel = layouts.values().stream()
+                                    .filter(Objects::nonNull)
+                                    .noneMatch(Layout::dependsOnPreviousEntries);
+        int chunkCount = (entries.size() + ENTRIES_PER_CHUNK - 1) / ENTRIES_PER_CHUNK;
+        // Only a limited number of chunks is kept in memory until it is written
+        int chunksPerWindow = inParallel ? 4 * Runtime.getRuntime().availableProcessors() : 1;
+
+        for (int window = 0; window < chunkCount; window += chunksPerWindow) {
+            IntStream chunks = IntStream.range(window, Math.min(window + chunksPerWindow, chunkCount));
+            if (inParallel) {
+                chunks = chunks.parallel();
+            }
+            List<String> chunkTexts = chunks.mapToObj(chunk -> layoutEntries(entries, chunk * ENTRIES_PER_CHUNK, layouts, database))
+                                            .toList();
+            for (String chunkText : chunkTexts) {
+                writer.write(chunkText);
+            }
+        }
+    }
+
+    private String layoutEntries(List<BibEntry> entries, int start, Map<EntryType, Layout> layouts, BibDatabase database) {
+        StringBuilder builder = new StringBuilder();
+        int end = Math.min(start + ENTRIES_PER_CHUNK, entries.size());
+        for (int i = start; i < end; i++) {
+            BibEntry entry = entries.get(i);
+            Layout layout = layouts.get(entry.getType());
+            if (layout == null) {
+                continue;
+            }
+
+            // The entries are numbered starting at 1
+            String text = layout.doLayout(entry, database, i + 1);
+            if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
+                String[] lines = text.split(BLANK_LINE_PATTERN);
+                for (String line : lines) {
+                    if (!line.isBlank() && !line.isEmpty()) {
+                        builder.append(line).append(OS.NEWLINE);
+                    }
+                }
+            } else {
+                builder.append(text);
+            }
+        }
+        return builder.toString();
+    }
+
     /**
      * See if there is a name formatter file bundled with this export format.
      * If so, read all the name formatters so they can be used by the filter layouts.
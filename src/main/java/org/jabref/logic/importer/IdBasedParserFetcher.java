@@ -42,7 +42,7 @@ public interface IdBasedParserFetcher extends IdBasedFetcher, ParserFetcher {
             return Optional.empty();
         }
 
-        try (InputStream stream = getUrlDownload(getUrlForIdentifier(identifier)).asInputStream()) {
+        try (InputStream stream = getUrlDownload(getUrlForIdentifier(identifier)).cached().asInputStream()) {
             List<BibEntry> fetchedEntries = getParser().parseEntries(stream);
 
             if (fetchedEntries.isEmpty()) {
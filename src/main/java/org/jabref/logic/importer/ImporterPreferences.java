@@ -6,8 +6,10 @@ import java.util.Optional;
 import java.util.Set;
 
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -26,6 +28,8 @@ public class ImporterPreferences {
     private final ObservableSet<CustomImporter> customImporters;
     private final BooleanProperty persistCustomKeys;
     private final ObservableList<String> catalogs;
+    private final IntegerProperty responseCacheSize;
+
     public ImporterPreferences(boolean importerEnabled,
                                boolean generateNewKeyOnImport,
                                Path importWorkingDirectory,
@@ -33,7 +37,8 @@ public class ImporterPreferences {
                                Set<CustomImporter> customImporters,
                                Set<FetcherApiKey> apiKeys,
                                boolean persistCustomKeys,
-                               List<String> catalogs) {
+                               List<String> catalogs,
+                               int responseCacheSize) {
         this.importerEnabled = new SimpleBooleanProperty(importerEnabled);
         this.generateNewKeyOnImport = new SimpleBooleanProperty(generateNewKeyOnImport);
         this.importWorkingDirectory = new SimpleObjectProperty<>(importWorkingDirectory);
@@ -42,6 +47,7 @@ public class ImporterPreferences {
         this.apiKeys = FXCollections.observableSet(apiKeys);
         this.persistCustomKeys = new SimpleBooleanProperty(persistCustomKeys);
         this.catalogs = FXCollections.observableArrayList(catalogs);
+        this.responseCacheSize = new SimpleIntegerProperty(responseCacheSize);
     }
 
     public boolean areImporterEnabled() {
@@ -133,4 +139,19 @@ public class ImporterPreferences {
     public ObservableList<String> getCatalogs() {
           return catalogs;
     }
+
+    /**
+     * @return the maximum size of the cache for web responses in megabytes. A change takes effect after a restart.
+     */
+    public int getResponseCacheSize() {
+        return responseCacheSize.get();
+    }
+
+    public IntegerProperty responseCacheSizeProperty() {
+        return responseCacheSize;
+    }
+
+    public void setResponseCacheSize(int responseCacheSize) {
+        this.responseCacheSize.set(responseCacheSize);
+    }
 }
@@ -0,0 +1,138 @@
+package org.jabref.logic.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Splits the input of a line-based import format (e.g., ISI or Medline) into its records while reading it. Thus, an
+ * importer only keeps the lines of the records it currently parses instead of the whole input.
+ * <p>
+ * A record is returned as its lines, because the formats differ in how a field is continued on the following lines and
+ * in which order repeated fields (e.g., one line per author) have to be combined.
+ */
+public class RecordReader {
+
+    private final Predicate<String> isRecordStart;
+    private final Predicate<String> isSeparator;
+
+    private RecordReader(Predicate<String> isRecordStart, Predicate<String> isSeparator) {
+        this.isRecordStart = Objects.requireNonNull(isRecordStart);
+        this.isSeparator = Objects.requireNonNull(isSeparator);
+    }
+
+    /**
+     * Creates a reader for formats in which each record begins with a line matching the given predicate. The lines
+     * before the first such line (e.g., a file header) are returned as a record of their own.
+     */
+    public static RecordReader startingWith(Predicate<String> isRecordStart) {
+        return new RecordReader(isRecordStart, line -> false);
+    }
+
+    /**
+     * Creates a reader for formats in which the records are separated by lines matching the given predicate (e.g.,
+     * empty lines). The separating lines do not belong to any record.
+     */
+    public static RecordReader separatedBy(Predicate<String> isSeparator) {
+        return new RecordReader(line -> false, isSeparator);
+    }
+
+    /**
+     * Returns the records of the input one after another. Records without any line are skipped. The input is read
+     * lazily; an {@link IOException} while reading is thrown as {@link UncheckedIOException}.
+     */
+    public Stream<List<String>> records(BufferedReader reader) {
+        Iterator<List<String>> iterator = new RecordIterator(reader);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Parses all records of the input. The records are parsed in parallel, so the record parser must not depend on
+     * other records. The entries are returned in the order of their records.
+     *
+     * @param recordParser creates the entry of a record, or returns an empty optional if the record does not contain
+     *                     an entry
+     */
+    public List<BibEntry> parse(BufferedReader reader, Function<List<String>, Optional<BibEntry>> recordParser) throws IOException {
+        try (Stream<List<String>> records = records(reader)) {
+            return records.parallel()
+                          .map(recordParser)
+                          .flatMap(Optional::stream)
+                          .toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private class RecordIterator implements Iterator<List<String>> {
+
+        private final BufferedReader reader;
+        private List<String> nextRecord;
+        // The line starting the next record, which was read while looking for the end of the current one
+        private String nextRecordStart;
+        private boolean isInputRead;
+
+        RecordIterator(BufferedReader reader) {
+            this.reader = Objects.requireNonNull(reader);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if ((nextRecord == null) && !isInputRead) {
+                nextRecord = readRecord();
+            }
+            return nextRecord != null;
+        }
+
+        @Override
+        public List<String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<String> record = nextRecord;
+            nextRecord = null;
+            return record;
+        }
+
+        private List<String> readRecord() {
+            List<String> lines = new ArrayList<>();
+            if (nextRecordStart != null) {
+                lines.add(nextRecordStart);
+                nextRecordStart = null;
+            }
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (isSeparator.test(line)) {
+                        if (!lines.isEmpty()) {
+                            return lines;
+                        }
+                    } else if (isRecordStart.test(line) && !lines.isEmpty()) {
+                        nextRecordStart = line;
+                        return lines;
+                    } else {
+                        lines.add(line);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            isInputRead = true;
+            return lines.isEmpty() ? null : lines;
+        }
+    }
+}
@@ -40,14 +40,21 @@ public interface SearchBasedFetcher extends WebFetcher {
             return Collections.emptyList();
         }
 
+        return this.performSearch(parseQuery(searchQuery));
+    }
+
+    /**
+     * Parses a free-text query into a lucene query
+     *
+     * @param searchQuery query string that can be parsed into a lucene query
+     * @return the root node of the lucene query
+     */
+    static QueryNode parseQuery(String searchQuery) throws FetcherException {
         SyntaxParser parser = new StandardSyntaxParser();
-        QueryNode queryNode;
         try {
-            queryNode = parser.parse(searchQuery, NO_EXPLICIT_FIELD);
+            return parser.parse(searchQuery, NO_EXPLICIT_FIELD);
         } catch (QueryNodeParseException e) {
             throw new FetcherException("An error occurred when parsing the query");
         }
-
-        return this.performSearch(queryNode);
     }
 }
@@ -1,10 +1,18 @@
 package org.jabref.logic.importer.fetcher;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.logic.help.HelpFile;
 import org.jabref.logic.importer.FetcherException;
@@ -16,17 +24,36 @@ import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Queries all selected catalogs at once and combines their results.
+ * <p>
+ * Each catalog is queried on its own virtual thread, so that blocking HTTP calls do not occupy the common fork-join
+ * pool. Results are collected in the order the catalogs answer and are passed to a {@link FetcherResultListener}, so
+ * that they can be shown while the other catalogs are still queried. Catalogs which do not answer within the timeout
+ * are skipped, and all outstanding requests are cancelled as soon as enough results are present.
+ */
 public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
 
     public static final String FETCHER_NAME = "Search Selected";
 
+    public static final Duration DEFAULT_FETCHER_TIMEOUT = Duration.ofSeconds(30);
+
     private static final Logger LOGGER = LoggerFactory.getLogger(CompositeSearchBasedFetcher.class);
 
     private Set<SearchBasedFetcher> fetchers;
     private final int maximumNumberOfReturnedResults;
+    private final Duration fetcherTimeout;
 
     public CompositeSearchBasedFetcher(Set<SearchBasedFetcher> searchBasedFetchers, ImporterPreferences importerPreferences, int maximumNumberOfReturnedResults)
             throws IllegalArgumentException {
+        this(searchBasedFetchers, importerPreferences, maximumNumberOfReturnedResults, DEFAULT_FETCHER_TIMEOUT);
+    }
+
+    /**
+     * @param fetcherTimeout the time each catalog has to answer. Results arriving later are discarded.
+     */
+    public CompositeSearchBasedFetcher(Set<SearchBasedFetcher> searchBasedFetchers, ImporterPreferences importerPreferences, int maximumNumberOfReturnedResults, Duration fetcherTimeout)
+            throws IllegalArgumentException {
         if (searchBasedFetchers == null) {
             throw new IllegalArgumentException("The set of searchBasedFetchers must not be null!");
         }
@@ -39,6 +66,7 @@ public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
                                                                                        .anyMatch((name -> name.equals(searchBasedFetcher.getName()))))
                                       .collect(Collectors.toSet());
         this.maximumNumberOfReturnedResults = maximumNumberOfReturnedResults;
+        this.fetcherTimeout = fetcherTimeout;
     }
 
     @Override
@@ -51,19 +79,93 @@ public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
         return Optional.empty();
     }
 
+    /**
+     * @return the number of catalogs queried by this fetcher
+     */
+    public int getNumberOfFetchers() {
+        return fetchers.size();
+    }
+
     @Override
     public List<BibEntry> performSearch(QueryNode luceneQuery) throws FetcherException {
-        // All entries have to be converted into one format, this is necessary for the format conversion
-        return fetchers.parallelStream()
-                       .flatMap(searchBasedFetcher -> {
-                           try {
-                               return searchBasedFetcher.performSearch(luceneQuery).stream();
-                           } catch (FetcherException e) {
-                               LOGGER.warn("%s API request failed".formatted(searchBasedFetcher.getName()), e);
-                               return Stream.empty();
-                           }
-                       })
-                       .limit(maximumNumberOfReturnedResults)
-                       .collect(Collectors.toList());
+        return performSearch(luceneQuery, (fetcher, result) -> {
+        });
+    }
+
+    /**
+     * Parses the given free-text query and queries all catalogs concurrently.
+     *
+     * @param searchQuery    query string that can be parsed into a lucene query
+     * @param resultListener notified (on the thread of the caller) with the results of each catalog as it answers
+     */
+    public List<BibEntry> performSearch(String searchQuery, FetcherResultListener resultListener) throws FetcherException {
+        if (searchQuery.isBlank()) {
+            return new ArrayList<>();
+        }
+        return performSearch(SearchBasedFetcher.parseQuery(searchQuery), resultListener);
+    }
+
+    /**
+     * Queries all catalogs concurrently.
+     *
+     * @param resultListener notified (on the thread of the caller) with the results of each catalog as it answers
+     */
+    public List<BibEntry> performSearch(QueryNode luceneQuery, FetcherResultListener resultListener) throws FetcherException {
+        List<BibEntry> results = new ArrayList<>();
+        if (fetchers.isEmpty()) {
+            return results;
+        }
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        CompletionService<FetcherResult> completionService = new ExecutorCompletionService<>(executor);
+        for (SearchBasedFetcher fetcher : fetchers) {
+            completionService.submit(() -> new FetcherResult(fetcher, search(fetcher, luceneQuery)));
+        }
+
+        long deadline = System.nanoTime() + fetcherTimeout.toNanos();
+        try {
+            for (int answered = 0; (answered < fetchers.size()) && (results.size() < maximumNumberOfReturnedResults); answered++) {
+                Future<FetcherResult> next = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    LOGGER.warn("{} of {} catalogs did not answer within {}", fetchers.size() - answered, fetchers.size(), fetcherTimeout);
+                    break;
+                }
+                try {
+                    FetcherResult fetcherResult = next.get();
+                    List<BibEntry> acceptedEntries = fetcherResult.entries().subList(0, Math.min(fetcherResult.entries().size(), maximumNumberOfReturnedResults - results.size()));
+                    results.addAll(acceptedEntries);
+                    resultListener.onResult(fetcherResult.fetcher(), acceptedEntries);
+                } catch (ExecutionException e) {
+                    LOGGER.warn("Catalog search failed", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            LOGGER.debug("Search was cancelled");
+            Thread.currentThread().interrupt();
+        } finally {
+            // Cancels the catalogs which have not answered yet
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    private static List<BibEntry> search(SearchBasedFetcher fetcher, QueryNode luceneQuery) {
+        try {
+            return fetcher.performSearch(luceneQuery);
+        } catch (FetcherException e) {
+            LOGGER.warn("%s API request failed".formatted(fetcher.getName()), e);
+            return List.of();
+        }
+    }
+
+    private record FetcherResult(SearchBasedFetcher fetcher, List<BibEntry> entries) {
+    }
+
+    @FunctionalInterface
+    public interface FetcherResultListener {
+        /**
+         * @param entries the results of the catalog which are part of the combined result
+         */
+        void onResult(SearchBasedFetcher fetcher, List<BibEntry> entries);
     }
 }
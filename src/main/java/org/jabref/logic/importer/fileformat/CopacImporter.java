@@ -2,13 +2,14 @@ package org.jabref.logic.importer.fileformat;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.RecordReader;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
@@ -26,6 +27,9 @@ public class CopacImporter extends Importer {
 
     private static final Pattern COPAC_PATTERN = Pattern.compile("^\\s*TI- ");
 
+    // Each item begins with its title
+    private static final RecordReader RECORD_READER = RecordReader.startingWith(line -> line.startsWith("TI- "));
+
     @Override
     public String getName() {
         return "Copac";
@@ -68,14 +72,12 @@ public class CopacImporter extends Importer {
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
         Objects.requireNonNull(reader);
+        return new ParserResult(RECORD_READER.parse(reader, this::parseRecord));
+    }
 
-        List<String> entries = new LinkedList<>();
+    private Optional<BibEntry> parseRecord(List<String> recordLines) {
         StringBuilder sb = new StringBuilder();
-
-        // Preprocess entries
-        String str;
-
-        while ((str = reader.readLine()) != null) {
+        for (String str : recordLines) {
             if (str.length() < 4) {
                 continue;
             }
@@ -85,65 +87,52 @@ public class CopacImporter extends Importer {
             if ("    ".equals(code)) {
                 sb.append(' ').append(str.trim());
             } else {
-                // beginning of a new item
-                if ("TI- ".equals(str.substring(0, 4))) {
-                    if (!sb.isEmpty()) {
-                        entries.add(sb.toString());
-                    }
-                    sb = new StringBuilder();
-                }
                 sb.append('\n').append(str);
             }
         }
-
-        if (!sb.isEmpty()) {
-            entries.add(sb.toString());
+        if (sb.isEmpty()) {
+            return Optional.empty();
         }
+        String entry = sb.toString();
+
+        // Copac does not contain enough information on the type of the
+        // document. A book is assumed.
+        BibEntry b = new BibEntry(StandardEntryType.Book);
+
+        String[] lines = entry.split("\n");
 
-        List<BibEntry> results = new LinkedList<>();
-
-        for (String entry : entries) {
-            // Copac does not contain enough information on the type of the
-            // document. A book is assumed.
-            BibEntry b = new BibEntry(StandardEntryType.Book);
-
-            String[] lines = entry.split("\n");
-
-            for (String line1 : lines) {
-                String line = line1.trim();
-                if (line.length() < 4) {
-                    continue;
-                }
-                String code = line.substring(0, 4);
-
-                switch (code) {
-                    case "TI- " ->
-                            setOrAppend(b, StandardField.TITLE, line.substring(4).trim(), ", ");
-                    case "AU- " ->
-                            setOrAppend(b, StandardField.AUTHOR, line.substring(4).trim(), " and ");
-                    case "PY- " ->
-                            setOrAppend(b, StandardField.YEAR, line.substring(4).trim(), ", ");
-                    case "PU- " ->
-                            setOrAppend(b, StandardField.PUBLISHER, line.substring(4).trim(), ", ");
-                    case "SE- " ->
-                            setOrAppend(b, StandardField.SERIES, line.substring(4).trim(), ", ");
-                    case "IS- " ->
-                            setOrAppend(b, StandardField.ISBN, line.substring(4).trim(), ", ");
-                    case "KW- " ->
-                            setOrAppend(b, StandardField.KEYWORDS, line.substring(4).trim(), ", ");
-                    case "NT- " ->
-                            setOrAppend(b, StandardField.NOTE, line.substring(4).trim(), ", ");
-                    case "PD- " ->
-                            setOrAppend(b, new UnknownField("physicaldimensions"), line.substring(4).trim(), ", ");
-                    case "DT- " ->
-                            setOrAppend(b, new UnknownField("documenttype"), line.substring(4).trim(), ", ");
-                    default ->
-                            setOrAppend(b, FieldFactory.parseField(StandardEntryType.Book, line.substring(0, 2)), line.substring(4).trim(), ", ");
-                }
+        for (String line1 : lines) {
+            String line = line1.trim();
+            if (line.length() < 4) {
+                continue;
+            }
+            String code = line.substring(0, 4);
+
+            switch (code) {
+                case "TI- " ->
+                        setOrAppend(b, StandardField.TITLE, line.substring(4).trim(), ", ");
+                case "AU- " ->
+                        setOrAppend(b, StandardField.AUTHOR, line.substring(4).trim(), " and ");
+                case "PY- " ->
+                        setOrAppend(b, StandardField.YEAR, line.substring(4).trim(), ", ");
+                case "PU- " ->
+                        setOrAppend(b, StandardField.PUBLISHER, line.substring(4).trim(), ", ");
+                case "SE- " ->
+                        setOrAppend(b, StandardField.SERIES, line.substring(4).trim(), ", ");
+                case "IS- " ->
+                        setOrAppend(b, StandardField.ISBN, line.substring(4).trim(), ", ");
+                case "KW- " ->
+                        setOrAppend(b, StandardField.KEYWORDS, line.substring(4).trim(), ", ");
+                case "NT- " ->
+                        setOrAppend(b, StandardField.NOTE, line.substring(4).trim(), ", ");
+                case "PD- " ->
+                        setOrAppend(b, new UnknownField("physicaldimensions"), line.substring(4).trim(), ", ");
+                case "DT- " ->
+                        setOrAppend(b, new UnknownField("documenttype"), line.substring(4).trim(), ", ");
+                default ->
+                        setOrAppend(b, FieldFactory.parseField(StandardEntryType.Book, line.substring(0, 2)), line.substring(4).trim(), ", ");
             }
-            results.add(b);
         }
-
-        return new ParserResult(results);
+        return Optional.of(b);
     }
 }
@@ -2,16 +2,18 @@ package org.jabref.logic.importer.fileformat;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.RecordReader;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
@@ -33,6 +35,10 @@ public class MedlinePlainImporter extends Importer {
     private static final Pattern PMCR_PATTERN = Pattern.compile("PMCR.*-.*");
     private static final Pattern CREATE_DATE_PATTERN = Pattern.compile("\\d{4}/[0123]?\\d/\\s?[012]\\d:[0-5]\\d");
     private static final Pattern COMPLETE_DATE_PATTERN = Pattern.compile("\\d{8}");
+
+    // The entries are separated by empty lines
+    private static final RecordReader RECORD_READER = RecordReader.separatedBy(String::isEmpty);
+
     private final ImportFormatPreferences importFormatPreferences;
 
     public MedlinePlainImporter(ImportFormatPreferences importFormatPreferences) {
@@ -76,164 +82,159 @@ public class MedlinePlainImporter extends Importer {
 
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
-        List<BibEntry> bibitems = new ArrayList<>();
-
-        // use optional here, so that no exception will be thrown if the file is empty
-        String linesAsString = reader.lines().reduce((line, nextline) -> line + "\n" + nextline).orElse("");
-
-        String[] entries = linesAsString.replace("\u2013", "-").replace("\u2014", "--").replace("\u2015", "--")
-                                        .split("\\n\\n");
+        return new ParserResult(RECORD_READER.parse(reader, this::parseRecord));
+    }
 
-        for (String entry1 : entries) {
-            if (entry1.trim().isEmpty() || !entry1.contains("-")) {
-                continue;
-            }
+    private Optional<BibEntry> parseRecord(List<String> recordLines) {
+        String entry1 = recordLines.stream()
+                                   .map(line -> line.replace("\u2013", "-").replace("\u2014", "--").replace("\u2015", "--"))
+                                   .collect(Collectors.joining("\n"));
+        if (entry1.trim().isEmpty() || !entry1.contains("-")) {
+            return Optional.empty();
+        }
 
-            EntryType type = BibEntry.DEFAULT_TYPE;
-            StringBuilder author = new StringBuilder();
-            StringBuilder editor = new StringBuilder();
-            StringBuilder comment = new StringBuilder();
-            Map<Field, String> fieldConversionMap = new HashMap<>();
+        EntryType type = BibEntry.DEFAULT_TYPE;
+        StringBuilder author = new StringBuilder();
+        StringBuilder editor = new StringBuilder();
+        StringBuilder comment = new StringBuilder();
+        Map<Field, String> fieldConversionMap = new HashMap<>();
 
-            String[] lines = entry1.split("\n");
+        String[] lines = entry1.split("\n");
 
-            for (int j = 0; j < lines.length; j++) {
-                StringBuilder current = new StringBuilder(lines[j]);
-                boolean done = false;
+        for (int j = 0; j < lines.length; j++) {
+            StringBuilder current = new StringBuilder(lines[j]);
+            boolean done = false;
 
-                while (!done && (j < (lines.length - 1))) {
-                    if (lines[j + 1].length() <= 4) {
-                        j++;
-                        continue;
-                    }
-                    if (lines[j + 1].charAt(4) != '-') {
-                        if ((!current.isEmpty()) && !Character.isWhitespace(current.charAt(current.length() - 1))) {
-                            current.append(' ');
-                        }
-                        current.append(lines[j + 1].trim());
-                        j++;
-                    } else {
-                        done = true;
-                    }
-                }
-                String entry = current.toString();
-                if (!checkLineValidity(entry)) {
+            while (!done && (j < (lines.length - 1))) {
+                if (lines[j + 1].length() <= 4) {
+                    j++;
                     continue;
                 }
+                if (lines[j + 1].charAt(4) != '-') {
+                    if ((!current.isEmpty()) && !Character.isWhitespace(current.charAt(current.length() - 1))) {
+                        current.append(' ');
+                    }
+                    current.append(lines[j + 1].trim());
+                    j++;
+                } else {
+                    done = true;
+                }
+            }
+            String entry = current.toString();
+            if (!checkLineValidity(entry)) {
+                continue;
+            }
 
-                String label = entry.substring(0, entry.indexOf('-')).trim();
-                String value = entry.substring(entry.indexOf('-') + 1).trim();
+            String label = entry.substring(0, entry.indexOf('-')).trim();
+            String value = entry.substring(entry.indexOf('-') + 1).trim();
 
-                if ("PT".equals(label)) {
-                    type = addSourceType(value, type);
+            if ("PT".equals(label)) {
+                type = addSourceType(value, type);
+            }
+            addDates(fieldConversionMap, label, value);
+            addAbstract(fieldConversionMap, label, value);
+            addTitles(fieldConversionMap, label, value, type);
+            addIDs(fieldConversionMap, label, value);
+            addStandardNumber(fieldConversionMap, label, value);
+
+            if ("FAU".equals(label)) {
+                if (author.isEmpty()) {
+                    author = new StringBuilder(value);
+                } else {
+                    author.append(" and ").append(value);
                 }
-                addDates(fieldConversionMap, label, value);
-                addAbstract(fieldConversionMap, label, value);
-                addTitles(fieldConversionMap, label, value, type);
-                addIDs(fieldConversionMap, label, value);
-                addStandardNumber(fieldConversionMap, label, value);
-
-                if ("FAU".equals(label)) {
-                    if (author.isEmpty()) {
-                        author = new StringBuilder(value);
-                    } else {
-                        author.append(" and ").append(value);
-                    }
-                } else if ("FED".equals(label)) {
-                    if (editor.isEmpty()) {
-                        editor = new StringBuilder(value);
-                    } else {
-                        editor.append(" and ").append(value);
-                    }
+            } else if ("FED".equals(label)) {
+                if (editor.isEmpty()) {
+                    editor = new StringBuilder(value);
+                } else {
+                    editor.append(" and ").append(value);
                 }
+            }
 
-                // store the fields in a map
-                Map<String, Field> hashMap = new HashMap<>();
-                hashMap.put("PMID", StandardField.PMID);
-                hashMap.put("PG", StandardField.PAGES);
-                hashMap.put("PL", StandardField.ADDRESS);
-                hashMap.put("PHST", new UnknownField("history"));
-                hashMap.put("PST", new UnknownField("publication-status"));
-                hashMap.put("VI", StandardField.VOLUME);
-                hashMap.put("LA", StandardField.LANGUAGE);
-                hashMap.put("PUBM", new UnknownField("model"));
-                hashMap.put("RN", new UnknownField("registry-number"));
-                hashMap.put("NM", new UnknownField("substance-name"));
-                hashMap.put("OCI", new UnknownField("copyright-owner"));
-                hashMap.put("CN", new UnknownField("corporate"));
-                hashMap.put("IP", StandardField.ISSUE);
-                hashMap.put("EN", StandardField.EDITION);
-                hashMap.put("GS", new UnknownField("gene-symbol"));
-                hashMap.put("GN", StandardField.NOTE);
-                hashMap.put("GR", new UnknownField("grantno"));
-                hashMap.put("SO", new UnknownField("source"));
-                hashMap.put("NR", new UnknownField("number-of-references"));
-                hashMap.put("SFM", new UnknownField("space-flight-mission"));
-                hashMap.put("STAT", new UnknownField("status"));
-                hashMap.put("SB", new UnknownField("subset"));
-                hashMap.put("OTO", new UnknownField("termowner"));
-                hashMap.put("OWN", StandardField.OWNER);
-
-                // add the fields to hm
-                for (Map.Entry<String, Field> mapEntry : hashMap.entrySet()) {
-                    String medlineKey = mapEntry.getKey();
-                    Field bibtexKey = mapEntry.getValue();
-                    if (medlineKey.equals(label)) {
-                        fieldConversionMap.put(bibtexKey, value);
-                    }
+            // store the fields in a map
+            Map<String, Field> hashMap = new HashMap<>();
+            hashMap.put("PMID", StandardField.PMID);
+            hashMap.put("PG", StandardField.PAGES);
+            hashMap.put("PL", StandardField.ADDRESS);
+            hashMap.put("PHST", new UnknownField("history"));
+            hashMap.put("PST", new UnknownField("publication-status"));
+            hashMap.put("VI", StandardField.VOLUME);
+            hashMap.put("LA", StandardField.LANGUAGE);
+            hashMap.put("PUBM", new UnknownField("model"));
+            hashMap.put("RN", new UnknownField("registry-number"));
+            hashMap.put("NM", new UnknownField("substance-name"));
+            hashMap.put("OCI", new UnknownField("copyright-owner"));
+            hashMap.put("CN", new UnknownField("corporate"));
+            hashMap.put("IP", StandardField.ISSUE);
+            hashMap.put("EN", StandardField.EDITION);
+            hashMap.put("GS", new UnknownField("gene-symbol"));
+            hashMap.put("GN", StandardField.NOTE);
+            hashMap.put("GR", new UnknownField("grantno"));
+            hashMap.put("SO", new UnknownField("source"));
+            hashMap.put("NR", new UnknownField("number-of-references"));
+            hashMap.put("SFM", new UnknownField("space-flight-mission"));
+            hashMap.put("STAT", new UnknownField("status"));
+            hashMap.put("SB", new UnknownField("subset"));
+            hashMap.put("OTO", new UnknownField("termowner"));
+            hashMap.put("OWN", StandardField.OWNER);
+
+            // add the fields to hm
+            for (Map.Entry<String, Field> mapEntry : hashMap.entrySet()) {
+                String medlineKey = mapEntry.getKey();
+                Field bibtexKey = mapEntry.getValue();
+                if (medlineKey.equals(label)) {
+                    fieldConversionMap.put(bibtexKey, value);
                 }
+            }
 
-                switch (label) {
-                    case "IRAD",
-                         "IR",
-                         "FIR" -> {
-                        fieldConversionMap.merge(new UnknownField("investigator"), value, (a, b) -> a + ", " + b);
-                    }
-                    case "MH",
-                         "OT" -> {
-                        if (!fieldConversionMap.containsKey(StandardField.KEYWORDS)) {
-                            fieldConversionMap.put(StandardField.KEYWORDS, value);
-                        } else {
-                            fieldConversionMap.compute(StandardField.KEYWORDS, (k, kw) -> kw + importFormatPreferences.bibEntryPreferences().getKeywordSeparator() + " " + value);
-                        }
+            switch (label) {
+                case "IRAD",
+                     "IR",
+                     "FIR" -> {
+                    fieldConversionMap.merge(new UnknownField("investigator"), value, (a, b) -> a + ", " + b);
+                }
+                case "MH",
+                     "OT" -> {
+                    if (!fieldConversionMap.containsKey(StandardField.KEYWORDS)) {
+                        fieldConversionMap.put(StandardField.KEYWORDS, value);
+                    } else {
+                        fieldConversionMap.compute(StandardField.KEYWORDS, (k, kw) -> kw + importFormatPreferences.bibEntryPreferences().getKeywordSeparator() + " " + value);
                     }
-                    case "CON",
-                         "CIN",
-                         "EIN",
-                         "EFR",
-                         "CRI",
-                         "CRF",
-                         "PRIN",
-                         "PROF",
-                         "RPI",
-                         "RPF",
-                         "RIN",
-                         "ROF",
-                         "UIN",
-                         "UOF",
-                         "SPIN",
-                         "ORI" -> {
-                        if (!comment.isEmpty()) {
-                            comment.append("\n");
-                        }
-                        comment.append(value);
+                }
+                case "CON",
+                     "CIN",
+                     "EIN",
+                     "EFR",
+                     "CRI",
+                     "CRF",
+                     "PRIN",
+                     "PROF",
+                     "RPI",
+                     "RPF",
+                     "RIN",
+                     "ROF",
+                     "UIN",
+                     "UOF",
+                     "SPIN",
+                     "ORI" -> {
+                    if (!comment.isEmpty()) {
+                        comment.append("\n");
                     }
+                    comment.append(value);
                 }
             }
-            fixAuthors(fieldConversionMap, author.toString(), StandardField.AUTHOR);
-            fixAuthors(fieldConversionMap, editor.toString(), StandardField.EDITOR);
-            if (!comment.isEmpty()) {
-                fieldConversionMap.put(StandardField.COMMENT, comment.toString());
-            }
-
-            BibEntry b = new BibEntry(type);
-
-            // create one here
-            b.setField(fieldConversionMap);
-            bibitems.add(b);
         }
+        fixAuthors(fieldConversionMap, author.toString(), StandardField.AUTHOR);
+        fixAuthors(fieldConversionMap, editor.toString(), StandardField.EDITOR);
+        if (!comment.isEmpty()) {
+            fieldConversionMap.put(StandardField.COMMENT, comment.toString());
+        }
+
+        BibEntry b = new BibEntry(type);
 
-        return new ParserResult(bibitems);
+        // create one here
+        b.setField(fieldConversionMap);
+        return Optional.of(b);
     }
 
     private boolean checkLineValidity(String line) {
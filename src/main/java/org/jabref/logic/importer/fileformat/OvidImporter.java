@@ -2,15 +2,16 @@ package org.jabref.logic.importer.fileformat;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.RecordReader;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
@@ -45,6 +46,9 @@ public class OvidImporter extends Importer {
     private static final String OVID_PATTERN_STRING = "<[0-9]+>";
     private static final Pattern OVID_PATTERN = Pattern.compile(OVID_PATTERN_STRING);
 
+    // Each record begins with its number, e.g., "<12>"
+    private static final RecordReader RECORD_READER = RecordReader.startingWith(line -> OVID_PATTERN.matcher(line).lookingAt());
+
     private static final int MAX_ITEMS = 50;
 
     @Override
@@ -77,10 +81,18 @@ public class OvidImporter extends Importer {
 
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
-        List<BibEntry> bibitems = new ArrayList<>();
+        return new ParserResult(RECORD_READER.parse(reader, this::parseRecord));
+    }
+
+    private Optional<BibEntry> parseRecord(List<String> lines) {
+        Matcher recordNumber = OVID_PATTERN.matcher(lines.getFirst());
+        if (!recordNumber.lookingAt()) {
+            // the lines before the first record
+            return Optional.empty();
+        }
         StringBuilder sb = new StringBuilder();
-        String line;
-        while ((line = reader.readLine()) != null) {
+        sb.append(lines.getFirst().substring(recordNumber.end())).append('\n');
+        for (String line : lines.subList(1, lines.size())) {
             if (!line.isEmpty() && (line.charAt(0) != ' ')) {
                 sb.append("__NEWFIELD__");
             }
@@ -88,129 +100,123 @@ public class OvidImporter extends Importer {
             sb.append('\n');
         }
 
-        String[] items = sb.toString().split(OVID_PATTERN_STRING);
-
-        for (int i = 1; i < items.length; i++) {
-            Map<Field, String> h = new HashMap<>();
-            String[] fields = items[i].split("__NEWFIELD__");
-            for (String field : fields) {
-                int linebreak = field.indexOf('\n');
-                String fieldName = field.substring(0, linebreak).trim();
-                String content = field.substring(linebreak).trim();
-
-                // Check if this is the author field (due to a minor special treatment for this field):
-                boolean isAuthor = (fieldName.indexOf("Author") == 0)
-                        && !fieldName.contains("Author Keywords")
-                        && !fieldName.contains("Author e-mail");
-
-                // Remove unnecessary dots at the end of lines, unless this is the author field,
-                // in which case a dot at the end could be significant:
-                if (!isAuthor && content.endsWith(".")) {
+        Map<Field, String> h = new HashMap<>();
+        String[] fields = sb.toString().split("__NEWFIELD__");
+        for (String field : fields) {
+            int linebreak = field.indexOf('\n');
+            String fieldName = field.substring(0, linebreak).trim();
+            String content = field.substring(linebreak).trim();
+
+            // Check if this is the author field (due to a minor special treatment for this field):
+            boolean isAuthor = (fieldName.indexOf("Author") == 0)
+                    && !fieldName.contains("Author Keywords")
+                    && !fieldName.contains("Author e-mail");
+
+            // Remove unnecessary dots at the end of lines, unless this is the author field,
+            // in which case a dot at the end could be significant:
+            if (!isAuthor && content.endsWith(".")) {
+                content = content.substring(0, content.length() - 1);
+            }
+            if (isAuthor) {
+                h.put(StandardField.AUTHOR, content);
+            } else if (fieldName.startsWith("Title")) {
+                content = content.replaceAll("\\[.+\\]", "").trim();
+                if (content.endsWith(".")) {
                     content = content.substring(0, content.length() - 1);
                 }
-                if (isAuthor) {
-                    h.put(StandardField.AUTHOR, content);
-                } else if (fieldName.startsWith("Title")) {
-                    content = content.replaceAll("\\[.+\\]", "").trim();
-                    if (content.endsWith(".")) {
-                        content = content.substring(0, content.length() - 1);
-                    }
-                    h.put(StandardField.TITLE, content);
-                } else if (fieldName.startsWith("Chapter Title")) {
-                    h.put(new UnknownField("chaptertitle"), content);
-                } else if (fieldName.startsWith("Source")) {
-                    Matcher matcher;
-                    if ((matcher = OvidImporter.OVID_SOURCE_PATTERN.matcher(content)).find()) {
-                        h.put(StandardField.JOURNAL, matcher.group(1));
-                        h.put(StandardField.VOLUME, matcher.group(2));
-                        h.put(StandardField.ISSUE, matcher.group(3));
-                        h.put(StandardField.PAGES, matcher.group(4));
-                        h.put(StandardField.YEAR, matcher.group(5));
-                    } else if ((matcher = OvidImporter.OVID_SOURCE_PATTERN_NO_ISSUE.matcher(content)).find()) { // may be missing the issue
-                        h.put(StandardField.JOURNAL, matcher.group(1));
-                        h.put(StandardField.VOLUME, matcher.group(2));
-                        h.put(StandardField.PAGES, matcher.group(3));
-                        h.put(StandardField.YEAR, matcher.group(4));
-                    } else if ((matcher = OvidImporter.OVID_SOURCE_PATTERN_2.matcher(content)).find()) {
-                        h.put(StandardField.JOURNAL, matcher.group(1));
-                        h.put(StandardField.VOLUME, matcher.group(2));
-                        h.put(StandardField.ISSUE, matcher.group(3));
-                        h.put(StandardField.MONTH, matcher.group(4));
-                        h.put(StandardField.YEAR, matcher.group(5));
-                        h.put(StandardField.PAGES, matcher.group(6));
-                    } else if ((matcher = OvidImporter.INCOLLECTION_PATTERN.matcher(content)).find()) {
-                        h.put(StandardField.EDITOR, matcher.group(1).replace(" (Ed)", ""));
-                        h.put(StandardField.YEAR, matcher.group(2));
-                        h.put(StandardField.BOOKTITLE, matcher.group(3));
-                        h.put(StandardField.PAGES, matcher.group(4));
-                        h.put(StandardField.ADDRESS, matcher.group(5));
-                        h.put(StandardField.PUBLISHER, matcher.group(6));
-                    } else if ((matcher = OvidImporter.BOOK_PATTERN.matcher(content)).find()) {
-                        h.put(StandardField.YEAR, matcher.group(1));
-                        h.put(StandardField.PAGES, matcher.group(2));
-                        h.put(StandardField.ADDRESS, matcher.group(3));
-                        h.put(StandardField.PUBLISHER, matcher.group(4));
-                    }
-                    // Add double hyphens to page ranges:
-                    if (h.get(StandardField.PAGES) != null) {
-                        h.put(StandardField.PAGES, h.get(StandardField.PAGES).replace("-", "--"));
-                    }
-                } else if ("Abstract".equals(fieldName)) {
-                    h.put(StandardField.ABSTRACT, content);
-                } else if ("Publication Type".equals(fieldName)) {
-                    if (content.contains("Book")) {
-                        h.put(InternalField.TYPE_HEADER, "book");
-                    } else if (content.contains("Journal")) {
-                        h.put(InternalField.TYPE_HEADER, "article");
-                    } else if (content.contains("Conference Paper")) {
-                        h.put(InternalField.TYPE_HEADER, "inproceedings");
-                    }
-                } else if (fieldName.startsWith("Language")) {
-                    h.put(StandardField.LANGUAGE, content);
-                } else if (fieldName.startsWith("Author Keywords")) {
-                    content = content.replace(";", ",").replace("  ", " ");
-                    h.put(StandardField.KEYWORDS, content);
-                } else if (fieldName.startsWith("ISSN")) {
-                    h.put(StandardField.ISSN, content);
-                } else if (fieldName.startsWith("DOI Number")) {
-                    h.put(StandardField.DOI, content);
+                h.put(StandardField.TITLE, content);
+            } else if (fieldName.startsWith("Chapter Title")) {
+                h.put(new UnknownField("chaptertitle"), content);
+            } else if (fieldName.startsWith("Source")) {
+                Matcher matcher;
+                if ((matcher = OvidImporter.OVID_SOURCE_PATTERN.matcher(content)).find()) {
+                    h.put(StandardField.JOURNAL, matcher.group(1));
+                    h.put(StandardField.VOLUME, matcher.group(2));
+                    h.put(StandardField.ISSUE, matcher.group(3));
+                    h.put(StandardField.PAGES, matcher.group(4));
+                    h.put(StandardField.YEAR, matcher.group(5));
+                } else if ((matcher = OvidImporter.OVID_SOURCE_PATTERN_NO_ISSUE.matcher(content)).find()) { // may be missing the issue
+                    h.put(StandardField.JOURNAL, matcher.group(1));
+                    h.put(StandardField.VOLUME, matcher.group(2));
+                    h.put(StandardField.PAGES, matcher.group(3));
+                    h.put(StandardField.YEAR, matcher.group(4));
+                } else if ((matcher = OvidImporter.OVID_SOURCE_PATTERN_2.matcher(content)).find()) {
+                    h.put(StandardField.JOURNAL, matcher.group(1));
+                    h.put(StandardField.VOLUME, matcher.group(2));
+                    h.put(StandardField.ISSUE, matcher.group(3));
+                    h.put(StandardField.MONTH, matcher.group(4));
+                    h.put(StandardField.YEAR, matcher.group(5));
+                    h.put(StandardField.PAGES, matcher.group(6));
+                } else if ((matcher = OvidImporter.INCOLLECTION_PATTERN.matcher(content)).find()) {
+                    h.put(StandardField.EDITOR, matcher.group(1).replace(" (Ed)", ""));
+                    h.put(StandardField.YEAR, matcher.group(2));
+                    h.put(StandardField.BOOKTITLE, matcher.group(3));
+                    h.put(StandardField.PAGES, matcher.group(4));
+                    h.put(StandardField.ADDRESS, matcher.group(5));
+                    h.put(StandardField.PUBLISHER, matcher.group(6));
+                } else if ((matcher = OvidImporter.BOOK_PATTERN.matcher(content)).find()) {
+                    h.put(StandardField.YEAR, matcher.group(1));
+                    h.put(StandardField.PAGES, matcher.group(2));
+                    h.put(StandardField.ADDRESS, matcher.group(3));
+                    h.put(StandardField.PUBLISHER, matcher.group(4));
                 }
+                // Add double hyphens to page ranges:
+                if (h.get(StandardField.PAGES) != null) {
+                    h.put(StandardField.PAGES, h.get(StandardField.PAGES).replace("-", "--"));
+                }
+            } else if ("Abstract".equals(fieldName)) {
+                h.put(StandardField.ABSTRACT, content);
+            } else if ("Publication Type".equals(fieldName)) {
+                if (content.contains("Book")) {
+                    h.put(InternalField.TYPE_HEADER, "book");
+                } else if (content.contains("Journal")) {
+                    h.put(InternalField.TYPE_HEADER, "article");
+                } else if (content.contains("Conference Paper")) {
+                    h.put(InternalField.TYPE_HEADER, "inproceedings");
+                }
+            } else if (fieldName.startsWith("Language")) {
+                h.put(StandardField.LANGUAGE, content);
+            } else if (fieldName.startsWith("Author Keywords")) {
+                content = content.replace(";", ",").replace("  ", " ");
+                h.put(StandardField.KEYWORDS, content);
+            } else if (fieldName.startsWith("ISSN")) {
+                h.put(StandardField.ISSN, content);
+            } else if (fieldName.startsWith("DOI Number")) {
+                h.put(StandardField.DOI, content);
             }
+        }
 
-            // Now we need to check if a book entry has given editors in the author field;
-            // if so, rearrange:
-            String auth = h.get(StandardField.AUTHOR);
-            if ((auth != null) && auth.contains(" [Ed]")) {
-                h.remove(StandardField.AUTHOR);
-                h.put(StandardField.EDITOR, auth.replace(" [Ed]", ""));
-            }
-
-            // Rearrange names properly:
-            auth = h.get(StandardField.AUTHOR);
-            if (auth != null) {
-                h.put(StandardField.AUTHOR, fixNames(auth));
-            }
-            auth = h.get(StandardField.EDITOR);
-            if (auth != null) {
-                h.put(StandardField.EDITOR, fixNames(auth));
-            }
+        // Now we need to check if a book entry has given editors in the author field;
+        // if so, rearrange:
+        String auth = h.get(StandardField.AUTHOR);
+        if ((auth != null) && auth.contains(" [Ed]")) {
+            h.remove(StandardField.AUTHOR);
+            h.put(StandardField.EDITOR, auth.replace(" [Ed]", ""));
+        }
 
-            // Set the entrytype properly:
-            EntryType entryType = h.containsKey(InternalField.TYPE_HEADER) ? EntryTypeFactory.parse(h.get(InternalField.TYPE_HEADER)) : BibEntry.DEFAULT_TYPE;
-            h.remove(InternalField.TYPE_HEADER);
-            if (entryType.equals(StandardEntryType.Book) && h.containsKey(new UnknownField("chaptertitle"))) {
-                // This means we have an "incollection" entry.
-                entryType = StandardEntryType.InCollection;
-                // Move the "chaptertitle" to just "title":
-                h.put(StandardField.TITLE, h.remove(new UnknownField("chaptertitle")));
-            }
-            BibEntry b = new BibEntry(entryType);
-            b.setField(h);
+        // Rearrange names properly:
+        auth = h.get(StandardField.AUTHOR);
+        if (auth != null) {
+            h.put(StandardField.AUTHOR, fixNames(auth));
+        }
+        auth = h.get(StandardField.EDITOR);
+        if (auth != null) {
+            h.put(StandardField.EDITOR, fixNames(auth));
+        }
 
-            bibitems.add(b);
+        // Set the entrytype properly:
+        EntryType entryType = h.containsKey(InternalField.TYPE_HEADER) ? EntryTypeFactory.parse(h.get(InternalField.TYPE_HEADER)) : BibEntry.DEFAULT_TYPE;
+        h.remove(InternalField.TYPE_HEADER);
+        if (entryType.equals(StandardEntryType.Book) && h.containsKey(new UnknownField("chaptertitle"))) {
+            // This means we have an "incollection" entry.
+            entryType = StandardEntryType.InCollection;
+            // Move the "chaptertitle" to just "title":
+            h.put(StandardField.TITLE, h.remove(new UnknownField("chaptertitle")));
         }
+        BibEntry b = new BibEntry(entryType);
+        b.setField(h);
 
-        return new ParserResult(bibitems);
+        return Optional.of(b);
     }
 
     /**
@@ -12,14 +12,18 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.InternalField;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+
 public class CitationKeyDeviationChecker implements EntryChecker {
 
-    private final BibDatabaseContext bibDatabaseContext;
-    private final CitationKeyPatternPreferences citationKeyPatternPreferences;
+    private final Supplier<CitationKeyGenerator> citationKeyGenerator;
 
     public CitationKeyDeviationChecker(BibDatabaseContext bibDatabaseContext, CitationKeyPatternPreferences citationKeyPatternPreferences) {
-        this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
-        this.citationKeyPatternPreferences = Objects.requireNonNull(citationKeyPatternPreferences);
+        Objects.requireNonNull(bibDatabaseContext);
+        Objects.requireNonNull(citationKeyPatternPreferences);
+        // The generator resolves the key patterns of the library, so it is created once and not for each entry
+        this.citationKeyGenerator = Suppliers.memoize(() -> new CitationKeyGenerator(bibDatabaseContext, citationKeyPatternPreferences));
     }
 
     @Override
@@ -32,7 +36,7 @@ public class CitationKeyDeviationChecker implements EntryChecker {
         String key = valuekey.get();
 
         // generate new key
-        String generatedKey = new CitationKeyGenerator(bibDatabaseContext, citationKeyPatternPreferences).generateKey(entry);
+        String generatedKey = citationKeyGenerator.get().generateKey(entry);
 
         if (!Objects.equals(key, generatedKey)) {
             return Collections.singletonList(new IntegrityMessage(
@@ -2,7 +2,12 @@ package org.jabref.logic.integrity;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
 
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -12,32 +17,49 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.preferences.FilePreferences;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Checks all entries of a library for problems.
+ * <p>
+ * Most checkers only look at the entry itself. Their messages are memoized per entry together with a fingerprint of the
+ * entry content, so that checking the library again only evaluates entries changed in between. Checkers depending on
+ * other entries of the library (e.g., citation key duplication) or on the file system are evaluated on each run.
+ * The entries are checked in parallel.
+ */
 public class IntegrityCheck {
 
     private final BibDatabaseContext bibDatabaseContext;
-    private final FieldCheckers fieldCheckers;
+    private final CitationKeyPatternPreferences citationKeyPatternPreferences;
+    private final List<FieldChecker> fieldCheckers;
+    private final List<FieldChecker> fileCheckers;
     private final List<EntryChecker> entryCheckers;
 
+    // Weak keys are compared by identity, so equal entries do not share their messages
+    private final Cache<BibEntry, EntryResult> entryResults = CacheBuilder.newBuilder().weakKeys().build();
+
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
                           CitationKeyPatternPreferences citationKeyPatternPreferences,
                           JournalAbbreviationRepository journalAbbreviationRepository,
                           boolean allowIntegerEdition) {
         this.bibDatabaseContext = bibDatabaseContext;
+        this.citationKeyPatternPreferences = citationKeyPatternPreferences;
 
-        fieldCheckers = new FieldCheckers(bibDatabaseContext,
+        List<FieldChecker> allFieldCheckers = new FieldCheckers(bibDatabaseContext,
                 filePreferences,
                 journalAbbreviationRepository,
-                allowIntegerEdition);
+                allowIntegerEdition).getAll();
+        // The result of the file checker changes when files are moved, even if the entry stays the same
+        fieldCheckers = allFieldCheckers.stream().filter(checker -> checker.field != StandardField.FILE).toList();
+        fileCheckers = allFieldCheckers.stream().filter(checker -> checker.field == StandardField.FILE).toList();
 
         entryCheckers = new ArrayList<>(List.of(
                 new CitationKeyChecker(),
                 new TypeChecker(),
                 new BibStringChecker(),
                 new HTMLCharacterChecker(),
-                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
-                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
-                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()),
                 new AmpersandChecker(),
                 new LatexIntegrityChecker(),
                 new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository)));
@@ -55,36 +77,97 @@ public class IntegrityCheck {
     }
 
     List<IntegrityMessage> check() {
-        List<IntegrityMessage> result = new ArrayList<>();
+        return check((checked, total) -> {
+        }, () -> false);
+    }
 
+    /**
+     * Checks all entries in parallel and afterwards the library as a whole.
+     *
+     * @param progressConsumer called with the number of checked entries and the number of all entries
+     * @param isCancelled      polled before each entry; once it returns true, the remaining entries are skipped
+     */
+    public List<IntegrityMessage> check(BiConsumer<Integer, Integer> progressConsumer, BooleanSupplier isCancelled) {
         BibDatabase database = bibDatabaseContext.getDatabase();
-
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
-        }
+        List<BibEntry> entries = List.copyOf(database.getEntries());
+        List<EntryChecker> libraryCheckers = createLibraryCheckers();
+        AtomicInteger checkedEntries = new AtomicInteger();
+
+        List<IntegrityMessage> result = new ArrayList<>(entries.parallelStream()
+                                                               .flatMap(entry -> {
+                                                                   if (isCancelled.getAsBoolean()) {
+                                                                       return Stream.empty();
+                                                                   }
+                                                                   List<IntegrityMessage> messages = checkEntry(entry, libraryCheckers);
+                                                                   progressConsumer.accept(checkedEntries.incrementAndGet(), entries.size());
+                                                                   return messages.stream();
+                                                               })
+                                                               .toList());
         result.addAll(checkDatabase(database));
-
         return result;
     }
 
     public List<IntegrityMessage> checkEntry(BibEntry entry) {
-        List<IntegrityMessage> result = new ArrayList<>();
         if (entry == null) {
-            return result;
+            return new ArrayList<>();
         }
+        return checkEntry(entry, createLibraryCheckers());
+    }
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
-            result.addAll(fieldChecker.check(entry));
+    public List<IntegrityMessage> checkDatabase(BibDatabase database) {
+        return new DoiDuplicationChecker().check(database);
+    }
+
+    /**
+     * Creates the checkers whose results depend on the other entries of the library. These are created for each run, as
+     * they may capture the state of the library (e.g., the citation key patterns).
+     */
+    private List<EntryChecker> createLibraryCheckers() {
+        List<EntryChecker> libraryCheckers = new ArrayList<>(fileCheckers);
+        libraryCheckers.add(new EntryLinkChecker(bibDatabaseContext.getDatabase()));
+        libraryCheckers.add(new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences));
+        libraryCheckers.add(new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()));
+        return libraryCheckers;
+    }
+
+    private List<IntegrityMessage> checkEntry(BibEntry entry, List<EntryChecker> libraryCheckers) {
+        List<IntegrityMessage> result = new ArrayList<>(getEntryMessages(entry));
+        for (EntryChecker libraryChecker : libraryCheckers) {
+            result.addAll(libraryChecker.check(entry));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the messages of the checkers only looking at the entry itself. These are computed again only if the
+     * content of the entry changed since the last check.
+     */
+    private List<IntegrityMessage> getEntryMessages(BibEntry entry) {
+        String fingerprint = getFingerprint(entry);
+        EntryResult memoized = entryResults.getIfPresent(entry);
+        if ((memoized != null) && memoized.fingerprint().equals(fingerprint)) {
+            return memoized.messages();
         }
 
+        List<IntegrityMessage> messages = new ArrayList<>();
+        for (FieldChecker fieldChecker : fieldCheckers) {
+            messages.addAll(fieldChecker.check(entry));
+        }
         for (EntryChecker entryChecker : entryCheckers) {
-            result.addAll(entryChecker.check(entry));
+            messages.addAll(entryChecker.check(entry));
         }
+        entryResults.put(entry, new EntryResult(fingerprint, List.copyOf(messages)));
+        return messages;
+    }
 
-        return result;
+    private static String getFingerprint(BibEntry entry) {
+        StringBuilder fingerprint = new StringBuilder(entry.getType().getName());
+        entry.getFieldMap().entrySet().stream()
+             .sorted(Comparator.comparing(field -> field.getKey().getName()))
+             .forEach(field -> fingerprint.append('\u0000').append(field.getKey().getName()).append('\u0001').append(field.getValue()));
+        return fingerprint.toString();
     }
 
-    public List<IntegrityMessage> checkDatabase(BibDatabase database) {
-        return new DoiDuplicationChecker().check(database);
+    private record EntryResult(String fingerprint, List<IntegrityMessage> messages) {
     }
 }
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.layout.format.Number;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -20,6 +21,9 @@ public class Layout {
 
     private final List<LayoutEntry> layoutEntries;
 
+    // The entries used for the layout of an entry, in which consecutive constant texts are joined
+    private final List<LayoutEntry> compiledEntries;
+
     private final List<String> missingFormatters = new ArrayList<>();
 
     public Layout(List<StringInt> parsedEntries,
@@ -75,12 +79,29 @@ public class Layout {
         }
 
         layoutEntries = new ArrayList<>(tmpEntries);
+        compiledEntries = joinLayoutTexts(layoutEntries, fileDirForDatabase, layoutPreferences, abbreviationRepository);
 
         for (LayoutEntry layoutEntry : layoutEntries) {
             missingFormatters.addAll(layoutEntry.getInvalidFormatters());
         }
     }
 
+    private static List<LayoutEntry> joinLayoutTexts(List<LayoutEntry> layoutEntries,
+                                                     List<Path> fileDirForDatabase,
+                                                     LayoutFormatterPreferences layoutPreferences,
+                                                     JournalAbbreviationRepository abbreviationRepository) {
+        List<LayoutEntry> joinedEntries = new ArrayList<>(layoutEntries.size());
+        for (LayoutEntry layoutEntry : layoutEntries) {
+            if (layoutEntry.isLayoutText() && !joinedEntries.isEmpty() && joinedEntries.getLast().isLayoutText()) {
+                StringInt joinedText = new StringInt(joinedEntries.getLast().getText() + layoutEntry.getText(), LayoutHelper.IS_LAYOUT_TEXT);
+                joinedEntries.set(joinedEntries.size() - 1, new LayoutEntry(joinedText, fileDirForDatabase, layoutPreferences, abbreviationRepository));
+            } else {
+                joinedEntries.add(layoutEntry);
+            }
+        }
+        return joinedEntries;
+    }
+
     public void setPostFormatter(LayoutFormatter formatter) {
         for (LayoutEntry layoutEntry : layoutEntries) {
             layoutEntry.setPostFormatter(formatter);
@@ -91,6 +112,14 @@ public class Layout {
         return layoutEntries.stream().map(LayoutEntry::getText).collect(Collectors.joining("\n"));
     }
 
+    /**
+     * Returns whether the layout of an entry depends on the entries laid out before (see
+     * {@link LayoutEntry#dependsOnPreviousEntries()}). Otherwise, entries can be laid out in any order and in parallel.
+     */
+    public boolean dependsOnPreviousEntries() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::dependsOnPreviousEntries);
+    }
+
     /**
      * Returns the processed bibtex entry. If the database argument is
      * null, no string references will be resolved. Otherwise all valid
@@ -98,10 +127,19 @@ public class Layout {
      * recursive string references are resolved.
      */
     public String doLayout(BibEntry bibtex, BibDatabase database) {
+        return doLayout(bibtex, database, Number.serialExportNumber);
+    }
+
+    /**
+     * Returns the processed bibtex entry, see {@link #doLayout(BibEntry, BibDatabase)}.
+     *
+     * @param entryNumber the position of the entry in the exported entries (starting at 1), as output by {@link Number}
+     */
+    public String doLayout(BibEntry bibtex, BibDatabase database, int entryNumber) {
         StringBuilder builder = new StringBuilder(100);
 
-        for (LayoutEntry layoutEntry : layoutEntries) {
-            String fieldText = layoutEntry.doLayout(bibtex, database);
+        for (LayoutEntry layoutEntry : compiledEntries) {
+            String fieldText = layoutEntry.doLayout(bibtex, database, entryNumber);
 
             // The following change means we treat null fields as "". This is to fix the
             // problem of whitespace disappearing after missing fields.
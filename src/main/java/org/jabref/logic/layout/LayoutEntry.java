@@ -88,6 +88,7 @@ import org.jabref.logic.openoffice.style.OOPreFormatter;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.UnknownField;
@@ -104,6 +105,11 @@ class LayoutEntry {
     private LayoutFormatter postFormatter;
 
     private String text;
+    // The field of a simple command or an option field, resolved when the layout is read
+    private Field field;
+    // The fields tested by a field or group block, resolved when the layout is read
+    private List<FieldReference> fieldReferences;
+    private boolean isConjunction;
     private List<LayoutEntry> layoutEntries;
     private final int type;
     private final List<String> invalidFormatter = new ArrayList<>();
@@ -124,10 +130,16 @@ class LayoutEntry {
         switch (type) {
             case LayoutHelper.IS_LAYOUT_TEXT ->
                     text = si.s;
-            case LayoutHelper.IS_SIMPLE_COMMAND ->
-                    text = si.s.trim();
-            case LayoutHelper.IS_OPTION_FIELD ->
-                    doOptionField(si.s);
+            case LayoutHelper.IS_SIMPLE_COMMAND -> {
+                text = si.s.trim();
+                field = FieldFactory.parseField(text);
+            }
+            case LayoutHelper.IS_OPTION_FIELD -> {
+                doOptionField(si.s);
+                if (text.startsWith("\\")) {
+                    field = FieldFactory.parseField(text.substring(1));
+                }
+            }
             default -> {
                 // IS_FIELD_START and IS_FIELD_END
             }
@@ -153,6 +165,7 @@ class LayoutEntry {
 
         type = layoutType;
         text = blockEnd;
+        resolveFieldReferences();
         List<StringInt> blockEntries = null;
         for (StringInt parsedEntry : parsedEntries.subList(1, parsedEntries.size() - 1)) {
             switch (parsedEntry.i) {
@@ -196,16 +209,46 @@ class LayoutEntry {
         }
     }
 
+    private void resolveFieldReferences() {
+        fieldReferences = new ArrayList<>();
+        if (type == LayoutHelper.IS_GROUP_START) {
+            fieldReferences.add(new FieldReference(FieldFactory.parseField(text), false));
+            return;
+        }
+
+        // split the strings along &, && or ; for AND formatter, otherwise along |, || for OR formatter
+        isConjunction = text.matches(".*(;|(\\&+)).*");
+        String[] parts = isConjunction ? text.split("\\s*(;|(\\&+))\\s*") : text.split("\\s*(\\|+)\\s*");
+        for (String part : parts) {
+            boolean negated = part.startsWith("!");
+            fieldReferences.add(new FieldReference(FieldFactory.parseField(negated ? part.substring(1).trim() : part), negated));
+        }
+    }
+
     public void setPostFormatter(LayoutFormatter formatter) {
         this.postFormatter = formatter;
     }
 
-    public String doLayout(BibEntry bibtex, BibDatabase database) {
+    /**
+     * Returns whether the output of this entry depends on the entries laid out before, which is the case for groups:
+     * a group header is only written if the value differs from the one of the previous entry.
+     */
+    public boolean dependsOnPreviousEntries() {
+        if (type == LayoutHelper.IS_GROUP_START) {
+            return true;
+        }
+        return (layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::dependsOnPreviousEntries);
+    }
+
+    /**
+     * @param entryNumber the position of the entry in the exported entries (starting at 1), as output by {@link Number}
+     */
+    public String doLayout(BibEntry bibtex, BibDatabase database, int entryNumber) {
         switch (type) {
             case LayoutHelper.IS_LAYOUT_TEXT:
                 return text;
             case LayoutHelper.IS_SIMPLE_COMMAND:
-                String value = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database).orElse("");
+                String value = bibtex.getResolvedFieldOrAlias(field, database).orElse("");
 
                 // If a post formatter has been set, call it:
                 if (postFormatter != null) {
@@ -214,12 +257,12 @@ class LayoutEntry {
                 return value;
             case LayoutHelper.IS_FIELD_START:
             case LayoutHelper.IS_GROUP_START:
-                return handleFieldOrGroupStart(bibtex, database);
+                return handleFieldOrGroupStart(bibtex, database, entryNumber);
             case LayoutHelper.IS_FIELD_END:
             case LayoutHelper.IS_GROUP_END:
                 return "";
             case LayoutHelper.IS_OPTION_FIELD:
-                return handleOptionField(bibtex, database);
+                return handleOptionField(bibtex, database, entryNumber);
             case LayoutHelper.IS_ENCODING_NAME:
                 // Printing the encoding name is not supported in entry layouts, only
                 // in begin/end layouts. This prevents breakage if some users depend
@@ -230,7 +273,7 @@ class LayoutEntry {
         }
     }
 
-    private String handleOptionField(BibEntry bibtex, BibDatabase database) {
+    private String handleOptionField(BibEntry bibtex, BibDatabase database, int entryNumber) {
         String fieldEntry;
 
         if (InternalField.TYPE_HEADER.getName().equals(text)) {
@@ -243,15 +286,19 @@ class LayoutEntry {
         } else {
             // changed section begin - arudert
             // resolve field (recognized by leading backslash) or text
-            fieldEntry = text.startsWith("\\") ? bibtex
-                    .getResolvedFieldOrAlias(FieldFactory.parseField(text.substring(1)), database)
+            fieldEntry = field != null ? bibtex
+                    .getResolvedFieldOrAlias(field, database)
                     .orElse("") : BibDatabase.getText(text, database);
             // changed section end - arudert
         }
 
         if (option != null) {
             for (LayoutFormatter anOption : option) {
-                fieldEntry = anOption.format(fieldEntry);
+                if (anOption instanceof Number number) {
+                    fieldEntry = number.format(entryNumber);
+                } else {
+                    fieldEntry = anOption.format(fieldEntry);
+                }
             }
         }
 
@@ -263,32 +310,14 @@ class LayoutEntry {
         return fieldEntry;
     }
 
-    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database) {
-        Optional<String> field;
+    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database, int entryNumber) {
+        Optional<String> field = Optional.empty();
         boolean negated = false;
-        if (type == LayoutHelper.IS_GROUP_START) {
-            field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database);
-        } else if (text.matches(".*(;|(\\&+)).*")) {
-            // split the strings along &, && or ; for AND formatter
-            String[] parts = text.split("\\s*(;|(\\&+))\\s*");
-            field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
-                if (field.isPresent() == negated) {
-                    break;
-                }
-            }
-        } else {
-            // split the strings along |, ||  for OR formatter
-            String[] parts = text.split("\\s*(\\|+)\\s*");
-            field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
-                if (field.isPresent() ^ negated) {
-                    break;
-                }
+        for (FieldReference fieldReference : fieldReferences) {
+            negated = fieldReference.negated();
+            field = bibtex.getResolvedFieldOrAlias(fieldReference.field(), database);
+            if (isConjunction ? (field.isPresent() == negated) : (field.isPresent() ^ negated)) {
+                break;
             }
         }
 
@@ -304,11 +333,11 @@ class LayoutEntry {
             boolean previousSkipped = false;
 
             for (int i = 0; i < layoutEntries.size(); i++) {
-                fieldText = layoutEntries.get(i).doLayout(bibtex, database);
+                fieldText = layoutEntries.get(i).doLayout(bibtex, database, entryNumber);
 
                 if (fieldText == null) {
                     if ((i + 1) < layoutEntries.size()) {
-                        if (layoutEntries.get(i + 1).doLayout(bibtex, database).trim().isEmpty()) {
+                        if (layoutEntries.get(i + 1).doLayout(bibtex, database, entryNumber).trim().isEmpty()) {
                             i++;
                             previousSkipped = true;
                             continue;
@@ -622,4 +651,11 @@ class LayoutEntry {
     public String getText() {
         return text;
     }
+
+    public boolean isLayoutText() {
+        return type == LayoutHelper.IS_LAYOUT_TEXT;
+    }
+
+    private record FieldReference(Field field, boolean negated) {
+    }
 }
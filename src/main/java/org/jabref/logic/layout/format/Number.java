@@ -8,6 +8,9 @@ import org.jabref.logic.layout.ParamLayoutFormatter;
  */
 public class Number implements ParamLayoutFormatter {
 
+    /**
+     * The sequence number used by {@link #format(String)}, i.e., when the layout is not given the number of the entry
+     */
     public static int serialExportNumber;
 
     @Override
@@ -17,6 +20,10 @@ public class Number implements ParamLayoutFormatter {
 
     @Override
     public String format(String fieldText) {
-        return String.valueOf(serialExportNumber);
+        return format(serialExportNumber);
+    }
+
+    public String format(int entryNumber) {
+        return String.valueOf(entryNumber);
     }
 }
@@ -8,13 +8,15 @@ import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
 import org.jabref.model.entry.Author;
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.Date;
 import org.jabref.model.entry.Month;
 import org.jabref.model.strings.StringUtil;
 
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -233,122 +235,128 @@ class MSBibEntry {
     }
 
     /**
-     * Gets the dom representation for one entry, used for export
+     * Writes the XML representation of this entry, used for export
      *
-     * @param document XmlDocument
-     * @return XmlElement represenation of one entry
+     * @param writer writer in which the prefix {@link MSBibDatabase#PREFIX} is bound to {@link MSBibDatabase#NAMESPACE}
      */
-    public Element getEntryDom(Document document) {
-        Element rootNode = document.createElementNS(MSBibDatabase.NAMESPACE, MSBibDatabase.PREFIX + "Source");
+    public void writeEntry(XMLStreamWriter writer) throws XMLStreamException {
+        writeStartElement(writer, "Source");
 
         for (Map.Entry<String, String> entry : fields.entrySet()) {
-            addField(document, rootNode, entry.getKey(), entry.getValue());
+            addField(writer, entry.getKey(), entry.getValue());
         }
 
-        Optional.ofNullable(dateAccessed).ifPresent(field -> addDateAcessedFields(document, rootNode));
-
-        Element allAuthors = document.createElementNS(MSBibDatabase.NAMESPACE, MSBibDatabase.PREFIX + "Author");
-
-        addAuthor(document, allAuthors, "Author", authors);
-        addAuthor(document, allAuthors, "BookAuthor", bookAuthors);
-        addAuthor(document, allAuthors, "Editor", editors);
-        addAuthor(document, allAuthors, "Translator", translators);
-        addAuthor(document, allAuthors, "ProducerName", producerNames);
-        addAuthor(document, allAuthors, "Composer", composers);
-        addAuthor(document, allAuthors, "Conductor", conductors);
-        addAuthor(document, allAuthors, "Performer", performers);
-        addAuthor(document, allAuthors, "Writer", writers);
-        addAuthor(document, allAuthors, "Director", directors);
-        addAuthor(document, allAuthors, "Compiler", compilers);
-        addAuthor(document, allAuthors, "Interviewer", interviewers);
-        addAuthor(document, allAuthors, "Interviewee", interviewees);
-        addAuthor(document, allAuthors, "Inventor", inventors);
-        addAuthor(document, allAuthors, "Counsel", counsels);
+        if (dateAccessed != null) {
+            addDateAcessedFields(writer);
+        }
 
-        rootNode.appendChild(allAuthors);
+        writeStartElement(writer, "Author");
+
+        addAuthor(writer, "Author", authors);
+        addAuthor(writer, "BookAuthor", bookAuthors);
+        addAuthor(writer, "Editor", editors);
+        addAuthor(writer, "Translator", translators);
+        addAuthor(writer, "ProducerName", producerNames);
+        addAuthor(writer, "Composer", composers);
+        addAuthor(writer, "Conductor", conductors);
+        addAuthor(writer, "Performer", performers);
+        addAuthor(writer, "Writer", writers);
+        addAuthor(writer, "Director", directors);
+        addAuthor(writer, "Compiler", compilers);
+        addAuthor(writer, "Interviewer", interviewers);
+        addAuthor(writer, "Interviewee", interviewees);
+        addAuthor(writer, "Inventor", inventors);
+        addAuthor(writer, "Counsel", counsels);
+
+        writer.writeEndElement();
 
         if (pages != null) {
-            addField(document, rootNode, "Pages", pages.toString("-"));
+            addField(writer, "Pages", pages.toString("-"));
         }
-        addField(document, rootNode, "Year", year);
-        addField(document, rootNode, "Month", month);
-        addField(document, rootNode, "Day", day);
+        addField(writer, "Year", year);
+        addField(writer, "Month", month);
+        addField(writer, "Day", day);
+
+        addField(writer, "JournalName", journalName);
+        addField(writer, "PatentNumber", patentNumber);
 
-        addField(document, rootNode, "JournalName", journalName);
-        addField(document, rootNode, "PatentNumber", patentNumber);
+        addField(writer, "Number", number);
 
-        addField(document, rootNode, "Number", number);
+        addField(writer, "StandardNumber", standardNumber);
+        addField(writer, "ConferenceName", conferenceName);
 
-        addField(document, rootNode, "StandardNumber", standardNumber);
-        addField(document, rootNode, "ConferenceName", conferenceName);
+        addAddress(writer, address);
 
-        addAddress(document, rootNode, address);
+        addField(writer, "ThesisType", thesisType);
+        addField(writer, "InternetSiteTitle", internetSiteTitle);
 
-        addField(document, rootNode, "ThesisType", thesisType);
-        addField(document, rootNode, "InternetSiteTitle", internetSiteTitle);
+        addField(writer, "PublicationTitle", publicationTitle);
+        addField(writer, "AlbumTitle", albumTitle);
+        addField(writer, "BroadcastTitle", broadcastTitle);
 
-        addField(document, rootNode, "PublicationTitle", publicationTitle);
-        addField(document, rootNode, "AlbumTitle", albumTitle);
-        addField(document, rootNode, "BroadcastTitle", broadcastTitle);
+        writer.writeEndElement();
+    }
 
-        return rootNode;
+    private static void writeStartElement(XMLStreamWriter writer, String name) throws XMLStreamException {
+        writer.writeStartElement(MSBibDatabase.PREFIX, name, MSBibDatabase.NAMESPACE);
     }
 
-    private void addField(Document document, Element parent, String name, String value) {
+    private void addField(XMLStreamWriter writer, String name, String value) throws XMLStreamException {
         if (value == null) {
             return;
         }
-        Element elem = document.createElementNS(MSBibDatabase.NAMESPACE, MSBibDatabase.PREFIX + name);
-        elem.appendChild(document.createTextNode(StringUtil.stripNonValidXMLCharacters(value)));
-        parent.appendChild(elem);
+        writeStartElement(writer, name);
+        writer.writeCharacters(StringUtil.stripNonValidXMLCharacters(value));
+        writer.writeEndElement();
     }
 
     // Add authors for export
-    private void addAuthor(Document document, Element allAuthors, String entryName, List<MsBibAuthor> authorsLst) {
+    private void addAuthor(XMLStreamWriter writer, String entryName, List<MsBibAuthor> authorsLst) throws XMLStreamException {
         if (authorsLst == null) {
             return;
         }
-        Element authorTop = document.createElementNS(MSBibDatabase.NAMESPACE, MSBibDatabase.PREFIX + entryName);
+        writeStartElement(writer, entryName);
 
         Optional<MsBibAuthor> personName = authorsLst.stream()
                                                      .filter(MsBibAuthor::isCorporate)
                                                      .findFirst();
         if (personName.isPresent()) {
             MsBibAuthor person = personName.get();
-            Element corporate = document.createElementNS(MSBibDatabase.NAMESPACE,
-                    MSBibDatabase.PREFIX + "Corporate");
-            corporate.setTextContent(person.getLastName());
-            authorTop.appendChild(corporate);
+            writeStartElement(writer, "Corporate");
+            writer.writeCharacters(StringUtil.stripNonValidXMLCharacters(person.getLastName()));
+            writer.writeEndElement();
         } else {
-            Element nameList = document.createElementNS(MSBibDatabase.NAMESPACE, MSBibDatabase.PREFIX + "NameList");
+            writeStartElement(writer, "NameList");
             for (MsBibAuthor name : authorsLst) {
-                Element person = document.createElementNS(MSBibDatabase.NAMESPACE, MSBibDatabase.PREFIX + "Person");
-                addField(document, person, "Last", name.getLastName());
-                addField(document, person, "Middle", name.getMiddleName());
-                addField(document, person, "First", name.getFirstName());
-                nameList.appendChild(person);
+                writeStartElement(writer, "Person");
+                addField(writer, "Last", name.getLastName());
+                addField(writer, "Middle", name.getMiddleName());
+                addField(writer, "First", name.getFirstName());
+                writer.writeEndElement();
             }
-            authorTop.appendChild(nameList);
+            writer.writeEndElement();
         }
-        allAuthors.appendChild(authorTop);
+        writer.writeEndElement();
     }
 
-    private void addDateAcessedFields(Document document, Element rootNode) {
+    private void addDateAcessedFields(XMLStreamWriter writer) throws XMLStreamException {
         Optional<Date> parsedDateAcesseField = Date.parse(dateAccessed);
-        parsedDateAcesseField.flatMap(Date::getYear).map(Object::toString).ifPresent(yearAccessed -> {
-            addField(document, rootNode, "Year" + "Accessed", yearAccessed);
-        });
-
-        parsedDateAcesseField.flatMap(Date::getMonth)
-                             .map(Month::getFullName).ifPresent(monthAcessed -> {
-            addField(document, rootNode, "Month" + "Accessed", monthAcessed);
-        });
-        parsedDateAcesseField.flatMap(Date::getDay).map(Object::toString).ifPresent(dayAccessed -> {
-            addField(document, rootNode, "Day" + "Accessed", dayAccessed);
-        });
+        Optional<String> yearAccessed = parsedDateAcesseField.flatMap(Date::getYear).map(Object::toString);
+        if (yearAccessed.isPresent()) {
+            addField(writer, "Year" + "Accessed", yearAccessed.get());
+        }
+
+        Optional<String> monthAcessed = parsedDateAcesseField.flatMap(Date::getMonth).map(Month::getFullName);
+        if (monthAcessed.isPresent()) {
+            addField(writer, "Month" + "Accessed", monthAcessed.get());
+        }
+        Optional<String> dayAccessed = parsedDateAcesseField.flatMap(Date::getDay).map(Object::toString);
+        if (dayAccessed.isPresent()) {
+            addField(writer, "Day" + "Accessed", dayAccessed.get());
+        }
     }
 
-    private void addAddress(Document document, Element parent, String addressToSplit) {
+    private void addAddress(XMLStreamWriter writer, String addressToSplit) throws XMLStreamException {
         if (addressToSplit == null) {
             return;
         }
@@ -356,11 +364,11 @@ class MSBibEntry {
         Matcher matcher = ADDRESS_PATTERN.matcher(addressToSplit);
 
         if (addressToSplit.contains(",") && matcher.matches() && (matcher.groupCount() >= 3)) {
-            addField(document, parent, "City", matcher.group(1));
-            addField(document, parent, "StateProvince", matcher.group(2));
-            addField(document, parent, "CountryRegion", matcher.group(3));
+            addField(writer, "City", matcher.group(1));
+            addField(writer, "StateProvince", matcher.group(2));
+            addField(writer, "CountryRegion", matcher.group(3));
         } else {
-            addField(document, parent, "City", addressToSplit);
+            addField(writer, "City", addressToSplit);
         }
     }
 }
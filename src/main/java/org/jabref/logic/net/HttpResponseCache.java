@@ -0,0 +1,262 @@
+package org.jabref.logic.net;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk cache for the bodies of HTTP GET responses, used by {@link URLDownload}.
+ * <p>
+ * The freshness of a response is determined by its {@code Cache-Control} and {@code Expires} headers. A response
+ * without these headers is only stored if it has a validator ({@code ETag} or {@code Last-Modified}), and it is
+ * revalidated on each use. Stale responses are revalidated using {@code If-None-Match} and {@code If-Modified-Since},
+ * so that an unchanged resource is not transferred again. Responses with {@code Cache-Control: no-store} and responses
+ * without any caching information are never stored.
+ * <p>
+ * The total size of the stored bodies is bounded; if the bound is exceeded, the least recently used responses are
+ * evicted. In cache-only mode, no network access happens at all and stored responses are returned regardless of their
+ * freshness.
+ */
+public class HttpResponseCache implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseCache.class);
+
+    private static final int BODY = 0;
+    private static final int ETAG = 1;
+    private static final int LAST_MODIFIED = 2;
+    private static final int EXPIRES_AT = 3;
+
+    private final MVStore store;
+    private final MVMap<String, Object[]> responses;
+    // maps each response to a logical timestamp of its last access, used to find the least recently used responses
+    private final MVMap<String, Long> lastAccess;
+    private final AtomicLong accessCounter;
+    private final AtomicLong currentSize;
+    private final long maximumSizeInBytes;
+    private volatile boolean cacheOnly;
+
+    /**
+     * @param storeFile          the file the responses are persisted in. If it is {@code null} or cannot be opened, an
+     *                           in-memory store is used.
+     * @param maximumSizeInBytes the maximum total size of all stored response bodies
+     */
+    public HttpResponseCache(Path storeFile, long maximumSizeInBytes) {
+        this.store = openStore(storeFile);
+        this.responses = store.openMap("responses");
+        this.lastAccess = store.openMap("lastAccess");
+        this.accessCounter = new AtomicLong(lastAccess.values().stream().mapToLong(Long::longValue).max().orElse(0));
+        this.currentSize = new AtomicLong(responses.values().stream().mapToLong(response -> ((byte[]) response[BODY]).length).sum());
+        this.maximumSizeInBytes = maximumSizeInBytes;
+    }
+
+    private static MVStore openStore(Path storeFile) {
+        if (storeFile != null) {
+            try {
+                Files.createDirectories(storeFile.getParent());
+                return new MVStore.Builder().fileName(storeFile.toAbsolutePath().toString()).compress().open();
+            } catch (IOException | IllegalStateException e) {
+                LOGGER.warn("Could not open HTTP cache '{}'. Falling back to an in-memory store.", storeFile, e);
+            }
+        }
+        return new MVStore.Builder().open();
+    }
+
+    /**
+     * @param maximumSizeInMegabytes the maximum total size of all stored response bodies
+     */
+    public static HttpResponseCache withMaximumSizeInMegabytes(Path storeFile, int maximumSizeInMegabytes) {
+        return new HttpResponseCache(storeFile, maximumSizeInMegabytes * 1024L * 1024L);
+    }
+
+    /**
+     * Computes the key of a request. The request headers are part of the key, because they may influence the response
+     * (e.g., {@code Accept} or API keys). The key is hashed so that no credentials are written to disk.
+     */
+    public static String getKey(URL url, Map<String, String> headers) {
+        StringBuilder request = new StringBuilder(url.toString());
+        new TreeMap<>(headers).forEach((name, value) -> {
+            if (!"User-Agent".equalsIgnoreCase(name)) {
+                request.append('\n').append(name.toLowerCase(Locale.ROOT)).append(':').append(value);
+            }
+        });
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(request.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is available on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Optional<CachedResponse> get(String key) {
+        Object[] stored = responses.get(key);
+        if (stored == null) {
+            return Optional.empty();
+        }
+        lastAccess.put(key, accessCounter.incrementAndGet());
+        return Optional.of(new CachedResponse(
+                (byte[]) stored[BODY],
+                (String) stored[ETAG],
+                (String) stored[LAST_MODIFIED],
+                (Long) stored[EXPIRES_AT]));
+    }
+
+    /**
+     * Stores the body of a response, unless the headers of the response forbid it.
+     *
+     * @param connection the connection the body was read from; used to read the caching headers
+     */
+    public void put(String key, byte[] body, URLConnection connection) {
+        boolean hasValidator = (connection.getHeaderField("ETag") != null) || (connection.getHeaderField("Last-Modified") != null);
+        Optional<Long> expiresAt = getExpiresAt(connection, hasValidator);
+        if (expiresAt.isEmpty() || (body.length > (maximumSizeInBytes / 10))) {
+            return;
+        }
+
+        Object[] previous = responses.put(key, new Object[] {
+                body,
+                connection.getHeaderField("ETag"),
+                connection.getHeaderField("Last-Modified"),
+                expiresAt.get()});
+        lastAccess.put(key, accessCounter.incrementAndGet());
+        currentSize.addAndGet(body.length - ((previous == null) ? 0 : ((byte[]) previous[BODY]).length));
+        evictIfNecessary();
+    }
+
+    /**
+     * Updates the freshness of a stored response after the server answered a conditional request with
+     * {@code 304 Not Modified}.
+     */
+    public void revalidated(String key, CachedResponse response, URLConnection connection) {
+        Optional<Long> expiresAt = getExpiresAt(connection, response.hasValidator());
+        if (expiresAt.isEmpty()) {
+            remove(key);
+            return;
+        }
+        String eTag = Optional.ofNullable(connection.getHeaderField("ETag")).orElse(response.eTag());
+        String lastModified = Optional.ofNullable(connection.getHeaderField("Last-Modified")).orElse(response.lastModified());
+        responses.put(key, new Object[] {response.body(), eTag, lastModified, expiresAt.get()});
+    }
+
+    public void remove(String key) {
+        Object[] previous = responses.remove(key);
+        lastAccess.remove(key);
+        if (previous != null) {
+            currentSize.addAndGet(-((byte[]) previous[BODY]).length);
+        }
+    }
+
+    public void clear() {
+        responses.clear();
+        lastAccess.clear();
+        currentSize.set(0);
+    }
+
+    public long getSizeInBytes() {
+        return currentSize.get();
+    }
+
+    /**
+     * In cache-only mode, {@link URLDownload} does not access the network for cacheable requests. Stored responses are
+     * returned even if they are stale; all other requests fail.
+     */
+    public void setCacheOnly(boolean cacheOnly) {
+        this.cacheOnly = cacheOnly;
+    }
+
+    public boolean isCacheOnly() {
+        return cacheOnly;
+    }
+
+    /**
+     * Determines until when a response is fresh based on its {@code Cache-Control} and {@code Expires} headers.
+     *
+     * @param hasValidator whether the response can be revalidated; such a response is stored as stale if the server
+     *                     does not state its freshness
+     * @return the point in time (in milliseconds since the epoch) until the response is fresh, or an empty Optional if
+     * the response must not be stored
+     */
+    private Optional<Long> getExpiresAt(URLConnection connection, boolean hasValidator) {
+        long now = System.currentTimeMillis();
+        String cacheControl = connection.getHeaderField("Cache-Control");
+        if (cacheControl != null) {
+            for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+                directive = directive.trim();
+                if ("no-store".equals(directive)) {
+                    return Optional.empty();
+                }
+                if ("no-cache".equals(directive)) {
+                    return Optional.of(now);
+                }
+                if (directive.startsWith("max-age=")) {
+                    try {
+                        return Optional.of(now + (Long.parseLong(directive.substring("max-age=".length()).trim()) * 1000));
+                    } catch (NumberFormatException e) {
+                        LOGGER.debug("Invalid max-age directive '{}'", directive);
+                        return Optional.of(now);
+                    }
+                }
+            }
+        }
+        long expiration = connection.getExpiration();
+        if (expiration > 0) {
+            return Optional.of(expiration);
+        }
+        if (hasValidator) {
+            return Optional.of(now);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Removes the least recently used responses until the stored bodies fit into the maximum size. To avoid sorting
+     * too often, the cache is shrunk to 90% of the maximum size at once.
+     */
+    private synchronized void evictIfNecessary() {
+        if (currentSize.get() <= maximumSizeInBytes) {
+            return;
+        }
+        long targetSize = maximumSizeInBytes - (maximumSizeInBytes / 10);
+        for (String key : lastAccess.entrySet().stream()
+                                    .sorted(Map.Entry.comparingByValue())
+                                    .map(Map.Entry::getKey)
+                                    .toList()) {
+            if (currentSize.get() <= targetSize) {
+                return;
+            }
+            remove(key);
+        }
+    }
+
+    @Override
+    public void close() {
+        store.close();
+    }
+
+    public record CachedResponse(byte[] body, String eTag, String lastModified, long expiresAt) {
+
+        public boolean isFresh() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+
+        public boolean hasValidator() {
+            return (eTag != null) || (lastModified != null);
+        }
+    }
+}
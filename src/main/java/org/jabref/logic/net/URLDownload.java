@@ -32,6 +32,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -61,7 +62,12 @@ import org.slf4j.LoggerFactory;
  * </code>
  * <br/><br/>
  * Almost each call to a public method creates a new HTTP connection (except for {@link #asString(Charset, URLConnection) asString},
- * which uses an already opened connection). Nothing is cached.
+ * which uses an already opened connection).
+ * <p>
+ * If a {@link HttpResponseCache} is configured using {@link #setResponseCache(HttpResponseCache)}, the bodies of GET
+ * requests of downloads marked as {@link #cached()} are cached when read by {@link #asString(Charset) asString} or
+ * {@link #asInputStream()}. Stale responses are revalidated using conditional requests. All other downloads, e.g., of
+ * linked files, are streamed from the network.
  */
 public class URLDownload {
 
@@ -69,10 +75,13 @@ public class URLDownload {
     private static final Logger LOGGER = LoggerFactory.getLogger(URLDownload.class);
     private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
 
+    private static volatile HttpResponseCache responseCache;
+
     private final URL source;
     private final Map<String, String> parameters = new HashMap<>();
     private String postData = "";
     private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+    private boolean useResponseCache;
 
     /**
      * @param source the URL to download from
@@ -151,6 +160,39 @@ public class URLDownload {
         }
     }
 
+    /**
+     * Sets the cache used by all downloads. Pass {@code null} to disable caching.
+     */
+    public static void setResponseCache(HttpResponseCache cache) {
+        responseCache = cache;
+    }
+
+    public static Optional<HttpResponseCache> getResponseCache() {
+        return Optional.ofNullable(responseCache);
+    }
+
+    /**
+     * Removes the cache used by all downloads and closes it. Later downloads are not cached.
+     */
+    public static void closeResponseCache() {
+        HttpResponseCache cache = responseCache;
+        responseCache = null;
+        if (cache != null) {
+            cache.close();
+        }
+    }
+
+    /**
+     * Reads the body through the response cache, if one is configured. This should only be used for small responses
+     * which are read completely, e.g., the text responses parsed by fetchers.
+     *
+     * @return this download
+     */
+    public URLDownload cached() {
+        this.useResponseCache = true;
+        return this;
+    }
+
     public URL getSource() {
         return source;
     }
@@ -241,7 +283,7 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString() throws IOException {
-        return asString(StandardCharsets.UTF_8, this.openConnection());
+        return asString(StandardCharsets.UTF_8);
     }
 
     /**
@@ -251,6 +293,10 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString(Charset encoding) throws IOException {
+        HttpResponseCache cache = getUsableResponseCache();
+        if (cache != null) {
+            return asString(encoding, new ByteArrayInputStream(downloadThroughCache(cache)));
+        }
         return asString(encoding, this.openConnection());
     }
 
@@ -272,8 +318,11 @@ public class URLDownload {
      * @return the downloaded string
      */
     public static String asString(Charset encoding, URLConnection connection) throws IOException {
+        return asString(encoding, connection.getInputStream());
+    }
 
-        try (InputStream input = new BufferedInputStream(connection.getInputStream());
+    private static String asString(Charset encoding, InputStream inputStream) throws IOException {
+        try (InputStream input = new BufferedInputStream(inputStream);
              Writer output = new StringWriter()) {
             copy(input, output, encoding);
             return output.toString();
@@ -314,6 +363,12 @@ public class URLDownload {
      * Takes the web resource as the source for a monitored input stream.
      */
     public ProgressInputStream asInputStream() throws IOException {
+        HttpResponseCache cache = getUsableResponseCache();
+        if (cache != null) {
+            byte[] body = downloadThroughCache(cache);
+            return new ProgressInputStream(new ByteArrayInputStream(body), body.length);
+        }
+
         HttpURLConnection urlConnection = (HttpURLConnection) this.openConnection();
 
         if ((urlConnection.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND) || (urlConnection.getResponseCode() == HttpURLConnection.HTTP_BAD_REQUEST)) {
@@ -351,6 +406,65 @@ public class URLDownload {
         return "URLDownload{" + "source=" + this.source + '}';
     }
 
+    /**
+     * @return the response cache to read this download through, or {@code null} if it is not cached
+     */
+    private HttpResponseCache getUsableResponseCache() {
+        HttpResponseCache cache = responseCache;
+        if (!useResponseCache
+                || (cache == null)
+                || !this.postData.isEmpty()
+                || !("http".equalsIgnoreCase(source.getProtocol()) || "https".equalsIgnoreCase(source.getProtocol()))) {
+            return null;
+        }
+        return cache;
+    }
+
+    /**
+     * Downloads the body of the web resource using the response cache. A fresh cached response is returned without
+     * network access; a stale one is revalidated with a conditional request.
+     */
+    private byte[] downloadThroughCache(HttpResponseCache cache) throws IOException {
+        String key = HttpResponseCache.getKey(source, parameters);
+        Optional<HttpResponseCache.CachedResponse> cached = cache.get(key);
+        if (cached.isPresent() && (cached.get().isFresh() || cache.isCacheOnly())) {
+            LOGGER.debug("Serving {} from cache", source);
+            return cached.get().body();
+        }
+        if (cache.isCacheOnly()) {
+            throw new IOException("%s is not cached and network access is disabled".formatted(source));
+        }
+
+        Map<String, String> headers = new HashMap<>(parameters);
+        cached.ifPresent(response -> {
+            if (response.eTag() != null) {
+                headers.put("If-None-Match", response.eTag());
+            }
+            if (response.lastModified() != null) {
+                headers.put("If-Modified-Since", response.lastModified());
+            }
+        });
+
+        URLConnection connection = openConnection(headers);
+        if (cached.isPresent()
+                && (connection instanceof HttpURLConnection httpConnection)
+                && (httpConnection.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED)) {
+            LOGGER.debug("{} not modified, serving from cache", source);
+            cache.revalidated(key, cached.get(), connection);
+            return cached.get().body();
+        }
+
+        byte[] body;
+        try (InputStream input = connection.getInputStream()) {
+            body = input.readAllBytes();
+        }
+        // Only successful responses are stored; error pages and the like must not be served later on
+        if (!(connection instanceof HttpURLConnection httpConnection) || ((httpConnection.getResponseCode() / 100) == 2)) {
+            cache.put(key, body, connection);
+        }
+        return body;
+    }
+
     private static void copy(InputStream in, Writer out, Charset encoding) throws IOException {
         Reader r = new InputStreamReader(in, encoding);
         try (BufferedReader read = new BufferedReader(r)) {
@@ -369,9 +483,13 @@ public class URLDownload {
      * @return an open connection
      */
     public URLConnection openConnection() throws IOException {
+        return openConnection(this.parameters);
+    }
+
+    private URLConnection openConnection(Map<String, String> headers) throws IOException {
         URLConnection connection = this.source.openConnection();
         connection.setConnectTimeout((int) connectTimeout.toMillis());
-        for (Entry<String, String> entry : this.parameters.entrySet()) {
+        for (Entry<String, String> entry : headers.entrySet()) {
             connection.setRequestProperty(entry.getKey(), entry.getValue());
         }
         if (!this.postData.isEmpty()) {
@@ -18,12 +18,22 @@ import org.jabref.preferences.FilePreferences;
 public class EntryAnnotationImporter {
 
     private final BibEntry entry;
+    private final AnnotationImporter importer;
 
     /**
      * @param entry The BibEntry whose attached files are scanned for annotations.
      */
     public EntryAnnotationImporter(BibEntry entry) {
+        this(entry, new PdfAnnotationImporter());
+    }
+
+    /**
+     * @param entry    The BibEntry whose attached files are scanned for annotations.
+     * @param importer The importer used to read the annotations of a single file.
+     */
+    public EntryAnnotationImporter(BibEntry entry, AnnotationImporter importer) {
         this.entry = entry;
+        this.importer = importer;
     }
 
     /**
@@ -45,7 +55,6 @@ public class EntryAnnotationImporter {
      */
     public Map<Path, List<FileAnnotation>> importAnnotationsFromFiles(BibDatabaseContext databaseContext, FilePreferences filePreferences) {
         Map<Path, List<FileAnnotation>> annotations = new HashMap<>();
-        AnnotationImporter importer = new PdfAnnotationImporter();
 
         // import annotationsOfFiles if the selected files are valid which is checked in getFilteredFileList()
         for (LinkedFile linkedFile : this.getFilteredFileList()) {
@@ -1,6 +1,7 @@
 package org.jabref.logic.pdf;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +24,9 @@ public class FileAnnotationCache {
 
     // the inner list holds the annotations per file, the outer collection maps this to a BibEntry.
     private LoadingCache<BibEntry, Map<Path, List<FileAnnotation>>> annotationCache;
+    private BibDatabaseContext context;
+    private FilePreferences filePreferences;
+    private AnnotationImporter importer;
 
     /**
      * Creates an empty fil annotation cache. Required to allow the annotation cache to be injected into views without
@@ -32,10 +36,21 @@ public class FileAnnotationCache {
     }
 
     public FileAnnotationCache(BibDatabaseContext context, FilePreferences filePreferences) {
+        this(context, filePreferences, new PdfAnnotationImporter());
+    }
+
+    /**
+     * @param importer the importer used to read the annotations of a single file. Pass a
+     *                 {@link PersistentAnnotationCache} to keep the annotations across sessions.
+     */
+    public FileAnnotationCache(BibDatabaseContext context, FilePreferences filePreferences, AnnotationImporter importer) {
+        this.context = context;
+        this.filePreferences = filePreferences;
+        this.importer = importer;
         annotationCache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build(new CacheLoader<BibEntry, Map<Path, List<FileAnnotation>>>() {
             @Override
             public Map<Path, List<FileAnnotation>> load(BibEntry entry) throws Exception {
-                return new EntryAnnotationImporter(entry).importAnnotationsFromFiles(context, filePreferences);
+                return new EntryAnnotationImporter(entry, importer).importAnnotationsFromFiles(context, filePreferences);
             }
         });
     }
@@ -51,6 +66,20 @@ public class FileAnnotationCache {
         return annotationCache.getUnchecked(entry);
     }
 
+    /**
+     * Reads the annotations of all files attached to the given entries without putting them into the in-memory cache.
+     * This only has an effect if the underlying importer keeps the annotations itself, e.g., a
+     * {@link PersistentAnnotationCache}. This method is blocking and should be called in a background task.
+     */
+    public void prefetch(Collection<BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            new EntryAnnotationImporter(entry, importer).importAnnotationsFromFiles(context, filePreferences);
+        }
+    }
+
     public void remove(BibEntry entry) {
         LOGGER.debug("Deleted Bibentry '%s' from cache.".formatted(entry.getCitationKey().orElse(entry.getId())));
         annotationCache.invalidate(entry);
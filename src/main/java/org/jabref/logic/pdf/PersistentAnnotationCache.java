@@ -0,0 +1,197 @@
+package org.jabref.logic.pdf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jabref.model.pdf.FileAnnotation;
+import org.jabref.model.pdf.FileAnnotationType;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Second-level, on-disk store for the annotations of PDF files. It wraps another {@link AnnotationImporter} and only
+ * asks it to parse a file if the file is unknown or has changed since it was last parsed.
+ * <p>
+ * Entries are keyed by the absolute path of the file. Together with the annotations the size and modification time of
+ * the file are stored; if one of them differs, the entry is considered stale and the file is parsed again. The number
+ * of stored files is bounded; if the bound is exceeded, the least recently used files are evicted.
+ * <p>
+ * The annotations are stored as plain object arrays, because {@link FileAnnotation} is not serializable.
+ */
+public class PersistentAnnotationCache implements AnnotationImporter, AutoCloseable {
+
+    public static final int DEFAULT_MAXIMUM_NUMBER_OF_FILES = 5000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PersistentAnnotationCache.class);
+
+    private static final String ANNOTATIONS_MAP = "annotations";
+    private static final String LAST_ACCESS_MAP = "lastAccess";
+
+    private final AnnotationImporter delegate;
+    private final int maximumNumberOfFiles;
+    private final MVStore store;
+    private final MVMap<String, Object[]> annotations;
+    // maps each file to a logical timestamp of its last access, used to find the least recently used files
+    private final MVMap<String, Long> lastAccess;
+    private final AtomicLong accessCounter;
+
+    /**
+     * @param storeFile            the file the annotations are persisted in. If it is {@code null} or cannot be opened
+     *                             (e.g., because another JabRef instance holds the lock), an in-memory store is used.
+     * @param delegate             the importer that is used to parse files which are not (yet) in the store
+     * @param maximumNumberOfFiles the maximum number of files for which annotations are kept
+     */
+    public PersistentAnnotationCache(Path storeFile, AnnotationImporter delegate, int maximumNumberOfFiles) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.maximumNumberOfFiles = maximumNumberOfFiles;
+        this.store = openStore(storeFile);
+        this.annotations = store.openMap(ANNOTATIONS_MAP);
+        this.lastAccess = store.openMap(LAST_ACCESS_MAP);
+        this.accessCounter = new AtomicLong(lastAccess.values().stream().mapToLong(Long::longValue).max().orElse(0));
+    }
+
+    public PersistentAnnotationCache(Path storeFile) {
+        this(storeFile, new PdfAnnotationImporter(), DEFAULT_MAXIMUM_NUMBER_OF_FILES);
+    }
+
+    private static MVStore openStore(Path storeFile) {
+        if (storeFile != null) {
+            try {
+                Files.createDirectories(storeFile.getParent());
+                return new MVStore.Builder().fileName(storeFile.toAbsolutePath().toString()).compress().open();
+            } catch (IOException | IllegalStateException e) {
+                LOGGER.warn("Could not open annotation store '{}'. Falling back to an in-memory store.", storeFile, e);
+            }
+        }
+        return new MVStore.Builder().open();
+    }
+
+    /**
+     * Returns the annotations of the given file, either from the store or by parsing the file with the delegate.
+     */
+    @Override
+    public List<FileAnnotation> importAnnotations(final Path path) {
+        Optional<FileFingerprint> fingerprint = FileFingerprint.of(path);
+        if (fingerprint.isEmpty()) {
+            // File does not exist (anymore) - let the delegate decide what to return
+            return delegate.importAnnotations(path);
+        }
+
+        String key = path.toAbsolutePath().toString();
+        Object[] stored = annotations.get(key);
+        if ((stored != null) && fingerprint.get().matches(stored)) {
+            LOGGER.debug("Using stored annotations of '{}'.", path);
+            lastAccess.put(key, accessCounter.incrementAndGet());
+            return decodeAll((Object[]) stored[2]);
+        }
+
+        List<FileAnnotation> imported = delegate.importAnnotations(path);
+        annotations.put(key, new Object[] {fingerprint.get().size(), fingerprint.get().modificationTime(), encodeAll(imported)});
+        lastAccess.put(key, accessCounter.incrementAndGet());
+        evictIfNecessary();
+        return imported;
+    }
+
+    /**
+     * Checks whether up-to-date annotations of the given file are present in the store
+     */
+    public boolean contains(Path path) {
+        Object[] stored = annotations.get(path.toAbsolutePath().toString());
+        return (stored != null) && FileFingerprint.of(path).map(fingerprint -> fingerprint.matches(stored)).orElse(false);
+    }
+
+    public int size() {
+        return annotations.size();
+    }
+
+    /**
+     * Removes the least recently used files until the store holds at most {@link #maximumNumberOfFiles} files. To
+     * avoid sorting on every insertion, a tenth of the capacity is freed at once.
+     */
+    private void evictIfNecessary() {
+        if (annotations.size() <= maximumNumberOfFiles) {
+            return;
+        }
+        int targetSize = maximumNumberOfFiles - (maximumNumberOfFiles / 10);
+        lastAccess.entrySet().stream()
+                  .sorted(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+                  .limit(Math.max(0, annotations.size() - targetSize))
+                  .map(Map.Entry::getKey)
+                  .toList()
+                  .forEach(key -> {
+                      annotations.remove(key);
+                      lastAccess.remove(key);
+                  });
+    }
+
+    private static Object[] encodeAll(List<FileAnnotation> fileAnnotations) {
+        return fileAnnotations.stream().map(PersistentAnnotationCache::encode).toArray();
+    }
+
+    private static Object[] encode(FileAnnotation annotation) {
+        return new Object[] {
+                annotation.getAuthor(),
+                annotation.getTimeModified().toString(),
+                annotation.getPage(),
+                annotation.getContent(),
+                annotation.getAnnotationType().name(),
+                annotation.hasLinkedAnnotation() ? encode(annotation.getLinkedFileAnnotation()) : null
+        };
+    }
+
+    private static List<FileAnnotation> decodeAll(Object[] encodedAnnotations) {
+        List<FileAnnotation> result = new ArrayList<>(encodedAnnotations.length);
+        for (Object encodedAnnotation : encodedAnnotations) {
+            result.add(decode((Object[]) encodedAnnotation));
+        }
+        return result;
+    }
+
+    private static FileAnnotation decode(Object[] encoded) {
+        Optional<FileAnnotation> linked = Optional.ofNullable((Object[]) encoded[5]).map(PersistentAnnotationCache::decode);
+        return new FileAnnotation(
+                (String) encoded[0],
+                LocalDateTime.parse((String) encoded[1]),
+                (Integer) encoded[2],
+                (String) encoded[3],
+                FileAnnotationType.valueOf((String) encoded[4]),
+                linked);
+    }
+
+    @Override
+    public void close() {
+        store.close();
+    }
+
+    private record FileFingerprint(long size, long modificationTime) {
+
+        static Optional<FileFingerprint> of(Path path) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (!attributes.isRegularFile()) {
+                    return Optional.empty();
+                }
+                return Optional.of(new FileFingerprint(attributes.size(), attributes.lastModifiedTime().toMillis()));
+            } catch (IOException e) {
+                return Optional.empty();
+            }
+        }
+
+        boolean matches(Object[] stored) {
+            return (size == (Long) stored[0]) && (modificationTime == (Long) stored[1]);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.TaskPriority;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
@@ -32,6 +33,10 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
         this.taskExecutor = taskExecutor;
         showToUser(true);
         willBeRecoveredAutomatically(true);
+        // Indexing runs until the queue is empty, which may take minutes. It therefore does not run on the bounded pool
+        // of compute-bound tasks, because the tasks the user is waiting for (e.g., filtering the table) would wait behind
+        // it. The priority is only recorded in the metrics of the scheduler.
+        withPriority(TaskPriority.BACKGROUND);
         // runs on fx thread, no need to wrap
         this.updateProgress(1, 1);
         this.titleProperty().set(Localization.lang("Indexing pdf files"));
@@ -92,14 +97,17 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
      * Updates the index by performing a delta analysis of the files already existing in the index and the files in the library.
      */
     public void updateIndex(PdfIndexer indexer, BibDatabaseContext databaseContext) {
-        Set<String> pathsToRemove = indexer.getListOfFilePaths();
-        databaseContext.getEntries().stream()
-                       .flatMap(entry -> entry.getFiles().stream())
-                       .map(LinkedFile::getLink)
-                       .forEach(pathsToRemove::remove);
-        // The indexer checks the attached PDFs for modifications (based on the timestamp of the PDF) and reindexes the PDF if it is newer than the index. Therefore, we need to pass the whole library to the indexer for re-indexing.
-        addToIndex(indexer, databaseContext.getEntries());
-        enqueueTask(() -> indexer.removePathsFromIndex(pathsToRemove));
+        // Reading the files of the index takes long for large libraries, thus the delta analysis is a task of its own
+        enqueueTask(() -> {
+            Set<String> pathsToRemove = indexer.getListOfFilePaths();
+            databaseContext.getEntries().stream()
+                           .flatMap(entry -> entry.getFiles().stream())
+                           .map(LinkedFile::getLink)
+                           .forEach(pathsToRemove::remove);
+            // The indexer checks the attached PDFs for modifications (based on the timestamp of the PDF) and reindexes the PDF if it is newer than the index. Therefore, we need to pass the whole library to the indexer for re-indexing.
+            addToIndex(indexer, databaseContext.getEntries());
+            enqueueTask(() -> indexer.removePathsFromIndex(pathsToRemove));
+        });
     }
 
     public void addToIndex(PdfIndexer indexer, List<BibEntry> entries) {
@@ -19,6 +19,8 @@ import org.slf4j.LoggerFactory;
  * or the file preferences, we need to create a new PdfIndexer. Otherwise, we can reuse the existing one.
  * <p>
  * This manager implements a <a href="https://www.neatcode.org/object-pool/">Object Pool pattern</a> for {@link PdfIndexer}.
+ * <p>
+ * The libraries are opened in parallel, thus the access to the pool is synchronized.
  */
 public class PdfIndexerManager {
 
@@ -30,7 +32,7 @@ public class PdfIndexerManager {
     // We store the file preferences for each path, so that we can update the indexer when the preferences change
     private static Map<Path, FilePreferences> pathFilePreferencesMap = new HashMap<>();
 
-    public static @NonNull PdfIndexer getIndexer(BibDatabaseContext context, FilePreferences filePreferences) throws IOException {
+    public static synchronized @NonNull PdfIndexer getIndexer(BibDatabaseContext context, FilePreferences filePreferences) throws IOException {
         Path fulltextIndexPath = context.getFulltextIndexPath();
         PdfIndexer indexer = indexerMap.get(fulltextIndexPath);
         if (indexer != null) {
@@ -54,7 +56,7 @@ public class PdfIndexerManager {
         return indexer;
     }
 
-    public static void shutdownAllIndexers() {
+    public static synchronized void shutdownAllIndexers() {
         indexerMap.values().forEach(indexer -> {
             try {
                 indexer.close();
@@ -66,7 +68,7 @@ public class PdfIndexerManager {
         pathFilePreferencesMap.clear();
     }
 
-    public static void shutdownIndexer(BibDatabaseContext context) {
+    public static synchronized void shutdownIndexer(BibDatabaseContext context) {
         Path fulltextIndexPath = context.getFulltextIndexPath();
         PdfIndexer indexer = indexerMap.remove(fulltextIndexPath);
         if (indexer != null) {
@@ -23,6 +23,8 @@ public class ProtectedTermsLoader {
     private static final Logger LOGGER = LoggerFactory.getLogger(ProtectedTermsLoader.class);
 
     private final List<ProtectedTermsList> mainList = new ArrayList<>();
+    // The preferences of the lists which are not read yet
+    private ProtectedTermsPreferences pendingPreferences;
 
     static {
         INTERNAL_LISTS.put("/protectedterms/months_weekdays.terms", () -> Localization.lang("Months and weekdays in English"));
@@ -31,15 +33,20 @@ public class ProtectedTermsLoader {
         INTERNAL_LISTS.put("/protectedterms/computer_science.terms", () -> Localization.lang("Computer science"));
     }
 
+    /**
+     * Creates the loader. The lists are read on first use, as they are only needed for some formatters and the
+     * preferences.
+     */
     public ProtectedTermsLoader(ProtectedTermsPreferences preferences) {
-        update(preferences);
+        this.pendingPreferences = preferences;
     }
 
     public static List<String> getInternalLists() {
         return new ArrayList<>(INTERNAL_LISTS.keySet());
     }
 
-    public void update(ProtectedTermsPreferences preferences) {
+    public synchronized void update(ProtectedTermsPreferences preferences) {
+        pendingPreferences = null;
         mainList.clear();
 
         // Read internal lists
@@ -87,23 +94,31 @@ public class ProtectedTermsLoader {
         }
     }
 
+    private synchronized List<ProtectedTermsList> getMainList() {
+        if (pendingPreferences != null) {
+            update(pendingPreferences);
+        }
+        return mainList;
+    }
+
     public void reloadProtectedTermsList(ProtectedTermsList list) {
         ProtectedTermsList newList = readProtectedTermsListFromFile(Path.of(list.getLocation()), list.isEnabled());
-        int index = mainList.indexOf(list);
+        List<ProtectedTermsList> lists = getMainList();
+        int index = lists.indexOf(list);
         if (index >= 0) {
-            mainList.set(index, newList);
+            lists.set(index, newList);
         } else {
             LOGGER.warn("Problem reloading protected terms file");
         }
     }
 
     public List<ProtectedTermsList> getProtectedTermsLists() {
-        return mainList;
+        return getMainList();
     }
 
     public List<String> getProtectedTerms() {
         Set<String> result = new HashSet<>();
-        for (ProtectedTermsList list : mainList) {
+        for (ProtectedTermsList list : getMainList()) {
             if (list.isEnabled()) {
                 result.addAll(list.getTermList());
             }
@@ -113,7 +128,7 @@ public class ProtectedTermsLoader {
     }
 
     public void addProtectedTermsListFromFile(Path path, boolean enabled) {
-        mainList.add(readProtectedTermsListFromFile(path, enabled));
+        getMainList().add(readProtectedTermsListFromFile(path, enabled));
     }
 
     public static ProtectedTermsList readProtectedTermsListFromResource(String resource, String description, boolean enabled) {
@@ -131,7 +146,7 @@ public class ProtectedTermsLoader {
 
     public boolean removeProtectedTermsList(ProtectedTermsList termList) {
         termList.setEnabled(false);
-        return mainList.remove(termList);
+        return getMainList().remove(termList);
     }
 
     public ProtectedTermsList addNewProtectedTermsList(String newDescription, String newLocation, boolean enabled) {
@@ -140,7 +155,7 @@ public class ProtectedTermsLoader {
         ProtectedTermsList resultingList = new ProtectedTermsList(newDescription, new ArrayList<>(), newLocation);
         resultingList.setEnabled(enabled);
         resultingList.createAndWriteHeading(newDescription);
-        mainList.add(resultingList);
+        getMainList().add(resultingList);
         return resultingList;
     }
 
@@ -6,6 +6,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -42,6 +43,12 @@ public abstract class DBMSProcessor {
 
     protected final Connection connection;
 
+    /**
+     * Maximum number of rows written or queried by one statement. Keeps the number of parameters below the limits of
+     * the database systems (e.g., 32767 for PostgreSQL).
+     */
+    protected static final int MAX_ROWS_PER_STATEMENT = 500;
+
     protected DatabaseConnectionProperties connectionProperties;
 
     protected DBMSProcessor(DatabaseConnection dbmsConnection) {
@@ -168,7 +175,9 @@ public abstract class DBMSProcessor {
         if (notYetExistingEntries.isEmpty()) {
             return;
         }
-        insertIntoEntryTable(notYetExistingEntries);
+        for (List<BibEntry> partition : Lists.partition(notYetExistingEntries, MAX_ROWS_PER_STATEMENT)) {
+            insertIntoEntryTable(partition);
+        }
         insertIntoFieldTable(notYetExistingEntries);
     }
 
@@ -217,7 +226,7 @@ public abstract class DBMSProcessor {
      * @return <code>true</code> if existent, else <code>false</code>
      */
     private List<BibEntry> getNotYetExistingEntries(List<BibEntry> bibEntries) {
-        List<Integer> remoteIds = new ArrayList<>();
+        Set<Integer> remoteIds = new HashSet<>();
         List<Integer> localIds = bibEntries.stream()
                                            .map(BibEntry::getSharedBibEntryData)
                                            .map(SharedBibEntryData::getSharedID)
@@ -226,18 +235,30 @@ public abstract class DBMSProcessor {
         if (localIds.isEmpty()) {
             return bibEntries;
         }
-        try {
-            String selectQuery = "SELECT * FROM " +
-                    escape_Table("ENTRY");
-
-            try (ResultSet resultSet = connection.createStatement().executeQuery(selectQuery)) {
-                while (resultSet.next()) {
-                    int id = resultSet.getInt("SHARED_ID");
-                    remoteIds.add(id);
+        // Only the ids of the given entries are queried, not the whole table
+        for (List<Integer> partition : Lists.partition(localIds, MAX_ROWS_PER_STATEMENT)) {
+            String selectQuery = "SELECT " +
+                    escape("SHARED_ID") +
+                    " FROM " +
+                    escape_Table("ENTRY") +
+                    " WHERE " +
+                    escape("SHARED_ID") +
+                    " IN (" +
+                    "?, ".repeat(partition.size() - 1) +
+                    "?)";
+
+            try (PreparedStatement preparedStatement = connection.prepareStatement(selectQuery)) {
+                for (int i = 0; i < partition.size(); i++) {
+                    preparedStatement.setInt(i + 1, partition.get(i));
                 }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        remoteIds.add(resultSet.getInt("SHARED_ID"));
+                    }
+                }
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
         return bibEntries.stream().filter(entry ->
                 !remoteIds.contains(entry.getSharedBibEntryData().getSharedID()))
@@ -250,48 +271,67 @@ public abstract class DBMSProcessor {
      * @param bibEntries {@link BibEntry} to be inserted
      */
     protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
+        List<FieldRow> rows = new ArrayList<>();
+        for (BibEntry bibEntry : bibEntries) {
+            int sharedID = bibEntry.getSharedBibEntryData().getSharedID();
+            bibEntry.getFieldMap().forEach((field, value) -> rows.add(new FieldRow(sharedID, field, value)));
+        }
         try {
-            // Inserting into FIELD table
-            // Coerce to ArrayList in order to use List.get()
-            List<List<Field>> fields = bibEntries.stream().map(bibEntry -> new ArrayList<>(bibEntry.getFields()))
-                                                 .collect(Collectors.toList());
-
-            StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape_Table("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
-            int numFields = 0;
-            for (List<Field> entryFields : fields) {
-                numFields += entryFields.size();
-            }
+            insertFieldRows(rows);
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
 
-            if (numFields == 0) {
-                return; // Prevent SQL Exception
-            }
+    /**
+     * Returns the statement inserting the given number of rows into the FIELD table. The parameters are the columns
+     * ENTRY_SHARED_ID, NAME and VALUE of each row.
+     */
+    protected String getInsertIntoFieldTableQuery(int numberOfRows) {
+        return "INSERT INTO " +
+                escape_Table("FIELD") +
+                "(" +
+                escape("ENTRY_SHARED_ID") +
+                ", " +
+                escape("NAME") +
+                ", " +
+                escape("VALUE") +
+                ") VALUES(?, ?, ?)" +
+                // Number of commas is numberOfRows - 1
+                ", (?, ?, ?)".repeat(Math.max(0, numberOfRows - 1));
+    }
 
-            // Number of commas is fields.size() - 1
-            insertFieldQuery.append(", (?, ?, ?)".repeat(Math.max(0, (numFields - 1))));
-            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                int fieldsCompleted = 0;
-                for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
-                    for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
-                        // columnIndex starts with 1
-                        preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
-                        fieldsCompleted += 1;
-                    }
+    /**
+     * Inserts the given rows into the FIELD table using multi-row inserts. The rows are split into statements of
+     * {@link #MAX_ROWS_PER_STATEMENT} rows to stay below the parameter limits of the database systems. All full
+     * statements share one prepared statement and are sent as one batch.
+     */
+    private void insertFieldRows(List<FieldRow> rows) throws SQLException {
+        int fullStatements = rows.size() / MAX_ROWS_PER_STATEMENT;
+        if (fullStatements > 0) {
+            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(getInsertIntoFieldTableQuery(MAX_ROWS_PER_STATEMENT))) {
+                for (int i = 0; i < fullStatements; i++) {
+                    setFieldRows(preparedFieldStatement, rows.subList(i * MAX_ROWS_PER_STATEMENT, (i + 1) * MAX_ROWS_PER_STATEMENT));
+                    preparedFieldStatement.addBatch();
                 }
+                preparedFieldStatement.executeBatch();
+            }
+        }
+        List<FieldRow> remainingRows = rows.subList(fullStatements * MAX_ROWS_PER_STATEMENT, rows.size());
+        if (!remainingRows.isEmpty()) {
+            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(getInsertIntoFieldTableQuery(remainingRows.size()))) {
+                setFieldRows(preparedFieldStatement, remainingRows);
                 preparedFieldStatement.executeUpdate();
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
+        }
+    }
+
+    private static void setFieldRows(PreparedStatement preparedFieldStatement, List<FieldRow> rows) throws SQLException {
+        for (int i = 0; i < rows.size(); i++) {
+            // columnIndex starts with 1
+            preparedFieldStatement.setInt((3 * i) + 1, rows.get(i).sharedID());
+            preparedFieldStatement.setString((3 * i) + 2, rows.get(i).field().getName());
+            preparedFieldStatement.setString((3 * i) + 3, rows.get(i).value());
         }
     }
 
@@ -299,50 +339,77 @@ public abstract class DBMSProcessor {
      * Updates the whole {@link BibEntry} on shared database.
      *
      * @param localBibEntry {@link BibEntry} affected by changes
-     * @throws SQLException in case of error
+     * @throws OfflineLockException if the shared entry has a higher version than the local one
+     * @throws SQLException         in case of error
      */
     public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
+        List<OfflineLockException> refusedUpdates = updateEntries(Collections.singletonList(localBibEntry));
+        if (!refusedUpdates.isEmpty()) {
+            throw refusedUpdates.getFirst();
+        }
+    }
+
+    /**
+     * Updates the given {@link BibEntry BibEntries} on shared database in one transaction. The shared entries are read
+     * in one query and compared with the local ones, so that only the changed fields are written. The changes of all
+     * entries are sent as batches.
+     * <p>
+     * An entry is only updated if its local version is not lower than the shared one or if both are equal. The other
+     * entries are left unchanged and returned as refused updates.
+     *
+     * @param localBibEntries {@link BibEntry BibEntries} affected by changes
+     * @return the refused updates
+     * @throws SQLException in case of error
+     */
+    public List<OfflineLockException> updateEntries(List<BibEntry> localBibEntries) throws SQLException {
+        List<OfflineLockException> refusedUpdates = new ArrayList<>();
+        if (localBibEntries.isEmpty()) {
+            return refusedUpdates;
+        }
+
         connection.setAutoCommit(false); // disable auto commit due to transaction
 
         try {
-            Optional<BibEntry> sharedEntryOptional = getSharedEntry(localBibEntry.getSharedBibEntryData().getSharedID());
-
-            if (sharedEntryOptional.isEmpty()) {
-                return;
+            List<Integer> sharedIDs = localBibEntries.stream()
+                                                     .map(entry -> entry.getSharedBibEntryData().getSharedID())
+                                                     .toList();
+            Map<Integer, BibEntry> sharedEntries = new HashMap<>();
+            for (BibEntry sharedEntry : partitionAndGetSharedEntries(sharedIDs)) {
+                sharedEntries.put(sharedEntry.getSharedBibEntryData().getSharedID(), sharedEntry);
             }
 
-            BibEntry sharedBibEntry = sharedEntryOptional.get();
-
-            // remove shared fields which do not exist locally
-            removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
-
-            // update only if local version is higher or the entries are equal
-            if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
-                                                                                     .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
-                insertOrUpdateFields(localBibEntry);
-
-                // updating entry type
-                String updateEntryTypeQuery = "UPDATE " +
-                        escape_Table("ENTRY") +
-                        " SET " +
-                        escape("TYPE") +
-                        " = ?, " +
-                        escape("VERSION") +
-                        " = " +
-                        escape("VERSION") +
-                        " + 1 WHERE " +
-                        escape("SHARED_ID") +
-                        " = ?";
-
-                try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery)) {
-                    preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
-                    preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                    preparedUpdateEntryTypeStatement.executeUpdate();
+            List<FieldRow> removedFields = new ArrayList<>();
+            List<FieldRow> changedFields = new ArrayList<>();
+            List<FieldRow> addedFields = new ArrayList<>();
+            List<BibEntry> updatedEntries = new ArrayList<>();
+            for (BibEntry localBibEntry : localBibEntries) {
+                BibEntry sharedBibEntry = sharedEntries.get(localBibEntry.getSharedBibEntryData().getSharedID());
+                if (sharedBibEntry == null) {
+                    continue;
+                }
+
+                // update only if local version is higher or the entries are equal
+                if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
+                                                                                         .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
+                    addFieldDifferences(localBibEntry, sharedBibEntry, removedFields, changedFields, addedFields);
+                    updatedEntries.add(localBibEntry);
+                } else {
+                    refusedUpdates.add(new OfflineLockException(localBibEntry, sharedBibEntry));
                 }
+            }
+
+            deleteFieldRows(removedFields);
+            updateFieldRows(changedFields);
+            insertFieldRows(addedFields);
+            updateEntryTypes(updatedEntries);
+
+            connection.commit(); // apply all changes in current transaction
 
-                connection.commit(); // apply all changes in current transaction
-            } else {
-                throw new OfflineLockException(localBibEntry, sharedBibEntry);
+            // The local entries are now in the state of the new shared version. Otherwise, the next update of these
+            // entries would be refused and a pull would overwrite local changes made in the meantime.
+            for (BibEntry updatedEntry : updatedEntries) {
+                BibEntry sharedBibEntry = sharedEntries.get(updatedEntry.getSharedBibEntryData().getSharedID());
+                updatedEntry.getSharedBibEntryData().setVersion(sharedBibEntry.getSharedBibEntryData().getVersion() + 1);
             }
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
@@ -350,98 +417,104 @@ public abstract class DBMSProcessor {
         } finally {
             connection.setAutoCommit(true); // enable auto commit mode again
         }
+        return refusedUpdates;
     }
 
     /**
-     * Helping method. Removes shared fields which do not exist locally
+     * Helping method. Collects the fields which were removed, changed or added locally.
      */
-    private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
-        Set<Field> nullFields = new HashSet<>(sharedBibEntry.getFields());
-        nullFields.removeAll(localBibEntry.getFields());
-        for (Field nullField : nullFields) {
-            String deleteFieldQuery = "DELETE FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
-
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery)) {
-                preparedDeleteFieldStatement.setString(1, nullField.getName());
-                preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
+    private static void addFieldDifferences(BibEntry localBibEntry, BibEntry sharedBibEntry, List<FieldRow> removedFields,
+                                            List<FieldRow> changedFields, List<FieldRow> addedFields) {
+        int sharedID = localBibEntry.getSharedBibEntryData().getSharedID();
+        Map<Field, String> sharedFields = sharedBibEntry.getFieldMap();
+        for (Map.Entry<Field, String> localField : localBibEntry.getFieldMap().entrySet()) {
+            String sharedValue = sharedFields.get(localField.getKey());
+            if (sharedValue == null) {
+                addedFields.add(new FieldRow(sharedID, localField.getKey(), localField.getValue()));
+            } else if (!sharedValue.equals(localField.getValue())) {
+                changedFields.add(new FieldRow(sharedID, localField.getKey(), localField.getValue()));
+            }
+        }
+        for (Field sharedField : sharedFields.keySet()) {
+            if (localBibEntry.getField(sharedField).isEmpty()) {
+                removedFields.add(new FieldRow(sharedID, sharedField, null));
             }
         }
     }
 
-    /**
-     * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an
-     * update is performed.
-     */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
-        for (Field field : localBibEntry.getFields()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(field);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
+    private void deleteFieldRows(List<FieldRow> rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        String deleteFieldQuery = "DELETE FROM " +
+                escape_Table("FIELD") +
+                " WHERE " +
+                escape("NAME") +
+                " = ? AND " +
+                escape("ENTRY_SHARED_ID") +
+                " = ?";
+
+        try (PreparedStatement preparedDeleteFieldStatement = connection.prepareStatement(deleteFieldQuery)) {
+            for (FieldRow row : rows) {
+                preparedDeleteFieldStatement.setString(1, row.field().getName());
+                preparedDeleteFieldStatement.setInt(2, row.sharedID());
+                preparedDeleteFieldStatement.addBatch();
             }
+            preparedDeleteFieldStatement.executeBatch();
+        }
+    }
 
-            String selectFieldQuery = "SELECT * FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
-
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery)) {
-                preparedSelectFieldStatement.setString(1, field.getName());
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        String updateFieldQuery = "UPDATE " +
-                                escape_Table("FIELD") +
-                                " SET " +
-                                escape("VALUE") +
-                                " = ? WHERE " +
-                                escape("NAME") +
-                                " = ? AND " +
-                                escape("ENTRY_SHARED_ID") +
-                                " = ?";
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery)) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, field.getName());
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        String insertFieldQuery = "INSERT INTO " +
-                                escape_Table("FIELD") +
-                                "(" +
-                                escape("ENTRY_SHARED_ID") +
-                                ", " +
-                                escape("NAME") +
-                                ", " +
-                                escape("VALUE") +
-                                ") VALUES(?, ?, ?)";
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery)) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, field.getName());
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
-                }
+    private void updateFieldRows(List<FieldRow> rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        String updateFieldQuery = "UPDATE " +
+                escape_Table("FIELD") +
+                " SET " +
+                escape("VALUE") +
+                " = ? WHERE " +
+                escape("NAME") +
+                " = ? AND " +
+                escape("ENTRY_SHARED_ID") +
+                " = ?";
+
+        try (PreparedStatement preparedUpdateFieldStatement = connection.prepareStatement(updateFieldQuery)) {
+            for (FieldRow row : rows) {
+                preparedUpdateFieldStatement.setString(1, row.value());
+                preparedUpdateFieldStatement.setString(2, row.field().getName());
+                preparedUpdateFieldStatement.setInt(3, row.sharedID());
+                preparedUpdateFieldStatement.addBatch();
+            }
+            preparedUpdateFieldStatement.executeBatch();
+        }
+    }
+
+    /**
+     * Helping method. Writes the entry types and increases the versions of the given entries.
+     */
+    private void updateEntryTypes(List<BibEntry> bibEntries) throws SQLException {
+        if (bibEntries.isEmpty()) {
+            return;
+        }
+        String updateEntryTypeQuery = "UPDATE " +
+                escape_Table("ENTRY") +
+                " SET " +
+                escape("TYPE") +
+                " = ?, " +
+                escape("VERSION") +
+                " = " +
+                escape("VERSION") +
+                " + 1 WHERE " +
+                escape("SHARED_ID") +
+                " = ?";
+
+        try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery)) {
+            for (BibEntry bibEntry : bibEntries) {
+                preparedUpdateEntryTypeStatement.setString(1, bibEntry.getType().getName());
+                preparedUpdateEntryTypeStatement.setInt(2, bibEntry.getSharedBibEntryData().getSharedID());
+                preparedUpdateEntryTypeStatement.addBatch();
             }
+            preparedUpdateEntryTypeStatement.executeBatch();
         }
     }
 
@@ -494,7 +567,7 @@ public abstract class DBMSProcessor {
      * @param sharedIDs the list of Ids to filter. If list is empty, then no filter is applied
      */
     public List<BibEntry> partitionAndGetSharedEntries(List<Integer> sharedIDs) {
-        List<List<Integer>> partitions = Lists.partition(sharedIDs, 500);
+        List<List<Integer>> partitions = Lists.partition(sharedIDs, MAX_ROWS_PER_STATEMENT);
         List<BibEntry> result = new ArrayList<>();
 
         for (List<Integer> sublist : partitions) {
@@ -584,7 +657,11 @@ public abstract class DBMSProcessor {
      */
     public Map<Integer, Integer> getSharedIDVersionMapping() {
         Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
-        String selectEntryQuery = "SELECT * FROM " +
+        String selectEntryQuery = "SELECT " +
+                escape("SHARED_ID") +
+                ", " +
+                escape("VERSION") +
+                " FROM " +
                 escape_Table("ENTRY") +
                 " ORDER BY " +
                 escape("SHARED_ID");
@@ -600,6 +677,42 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /**
+     * Retrieves a mapping between the columns SHARED_ID and VERSION for the given ids. Ids of entries which do not
+     * exist on the shared database are not contained.
+     */
+    public Map<Integer, Integer> getSharedIDVersionMapping(Collection<Integer> sharedIDs) {
+        Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
+        for (List<Integer> partition : Lists.partition(List.copyOf(sharedIDs), MAX_ROWS_PER_STATEMENT)) {
+            String selectEntryQuery = "SELECT " +
+                    escape("SHARED_ID") +
+                    ", " +
+                    escape("VERSION") +
+                    " FROM " +
+                    escape_Table("ENTRY") +
+                    " WHERE " +
+                    escape("SHARED_ID") +
+                    " IN (" +
+                    "?, ".repeat(partition.size() - 1) +
+                    "?)";
+
+            try (PreparedStatement preparedStatement = connection.prepareStatement(selectEntryQuery)) {
+                for (int i = 0; i < partition.size(); i++) {
+                    preparedStatement.setInt(i + 1, partition.get(i));
+                }
+                try (ResultSet selectEntryResultSet = preparedStatement.executeQuery()) {
+                    while (selectEntryResultSet.next()) {
+                        sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
+                    }
+                }
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error", e);
+            }
+        }
+
+        return sharedIDVersionMapping;
+    }
+
     /**
      * Fetches and returns all shared meta data.
      */
@@ -704,4 +817,21 @@ public abstract class DBMSProcessor {
     public void notifyClients() {
         // nothing to do
     }
+
+    /**
+     * Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS that the given entries
+     * were inserted, changed or removed, so that they only need to pull these entries. Needs to be implemented if
+     * LiveUpdate is supported by the DBMS
+     *
+     * @param changedSharedIDs the shared ids of the changed entries
+     */
+    public void notifyClients(@SuppressWarnings("unused") Collection<Integer> changedSharedIDs) {
+        // nothing to do
+    }
+
+    /**
+     * A row of the FIELD table
+     */
+    private record FieldRow(int sharedID, Field field, String value) {
+    }
 }
@@ -3,11 +3,14 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtex.FieldPreferences;
@@ -19,6 +22,7 @@ import org.jabref.logic.importer.util.MetaDataParser;
 import org.jabref.logic.shared.event.ConnectionLostEvent;
 import org.jabref.logic.shared.event.SharedEntriesNotPresentEvent;
 import org.jabref.logic.shared.event.UpdateRefusedEvent;
+import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
 import org.jabref.logic.shared.exception.OfflineLockException;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
@@ -28,6 +32,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -45,7 +50,14 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DBMSSynchronizer.class);
 
+    // Time to wait for further changes (e.g., typing in the entry editor) before writing changed entries
+    private static final long WRITE_DELAY_MILLISECONDS = 300;
+
     private DBMSProcessor dbmsProcessor;
+    // Writes the changed entries using a connection of its own, so that writing does not block the pulls
+    private DBMSProcessor writeProcessor;
+    private Connection writeConnection;
+    private SharedEntryWriteQueue writeQueue;
     private String dbName;
     private final BibDatabaseContext bibDatabaseContext;
     private MetaData metaData;
@@ -56,11 +68,29 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final GlobalCitationKeyPatterns globalCiteKeyPattern;
     private final FieldPreferences fieldPreferences;
     private final FileUpdateMonitor fileMonitor;
-    private Optional<BibEntry> lastEntryChanged;
+    // Changed by the listeners and read by the writer thread, see hasUnwrittenChanges(BibEntry)
+    private volatile Optional<BibEntry> lastEntryChanged;
+    // Applies the changes pulled in the background to the local database
+    private final Executor localChangesExecutor;
 
+    /**
+     * Creates a synchronizer which applies the changes pulled in the background in the thread pulling them.
+     */
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
                             FieldPreferences fieldPreferences,
                             GlobalCitationKeyPatterns globalCiteKeyPattern, FileUpdateMonitor fileMonitor) {
+        this(bibDatabaseContext, keywordSeparator, fieldPreferences, globalCiteKeyPattern, fileMonitor, Runnable::run);
+    }
+
+    /**
+     * @param localChangesExecutor applies the changes pulled in the background (by the writer of the local changes
+     *                             and on notifications of other clients) to the local database, e.g., in the JavaFX
+     *                             thread. The shared database is queried before, in the pulling thread.
+     */
+    public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
+                            FieldPreferences fieldPreferences,
+                            GlobalCitationKeyPatterns globalCiteKeyPattern, FileUpdateMonitor fileMonitor,
+                            Executor localChangesExecutor) {
         this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
         this.bibDatabase = bibDatabaseContext.getDatabase();
         this.metaData = bibDatabaseContext.getMetaData();
@@ -70,6 +100,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         this.keywordSeparator = keywordSeparator;
         this.globalCiteKeyPattern = Objects.requireNonNull(globalCiteKeyPattern);
         this.lastEntryChanged = Optional.empty();
+        this.localChangesExecutor = Objects.requireNonNull(localChangesExecutor);
     }
 
     /**
@@ -84,30 +115,43 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             pullWithLastEntry();
             synchronizeLocalDatabase();
             dbmsProcessor.insertEntries(event.getBibEntries());
+            dbmsProcessor.notifyClients(getSharedIDs(event.getBibEntries()));
             // Reset last changed entry because it just has already been synchronized -> Why necessary?
             lastEntryChanged = Optional.empty();
         }
     }
 
     /**
-     * Listening method. Updates an existing shared {@link BibEntry}.
+     * Listening method. Schedules updating an existing shared {@link BibEntry}. The entry is written in the background
+     * by the {@link SharedEntryWriteQueue}.
      */
     @Subscribe
     public void listen(FieldChangedEvent event) {
         BibEntry bibEntry = event.getBibEntry();
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
-        if (isPresentLocalBibEntry(bibEntry) && isEventSourceAccepted(event) && checkCurrentConnection() && !event.isFilteredOut()) {
-            synchronizeLocalMetaData();
-            pullWithLastEntry();
-            synchronizeSharedEntry(bibEntry);
-            synchronizeLocalDatabase(); // Pull changes for the case that there were some
+        if (isPresentLocalBibEntry(bibEntry) && isEventSourceAccepted(event) && !event.isFilteredOut()) {
+            enqueueLastEntry();
+            enqueueSharedEntry(bibEntry);
         } else {
             // Set new BibEntry that has been changed last
             lastEntryChanged = Optional.of(bibEntry);
         }
     }
 
+    /**
+     * Listening method. Schedules updating all shared {@link BibEntry} changed in a batch. They are written together
+     * by the {@link SharedEntryWriteQueue}.
+     */
+    @Subscribe
+    public void listen(FieldsChangedEvent event) {
+        List<BibEntry> presentEntries = event.getBibEntries().stream().filter(this::isPresentLocalBibEntry).toList();
+        if (!presentEntries.isEmpty() && isEventSourceAccepted(event)) {
+            enqueueLastEntry();
+            presentEntries.forEach(this::enqueueSharedEntry);
+        }
+    }
+
     /**
      * Listening method. Deletes the given list of {@link BibEntry} from shared database.
      */
@@ -119,6 +163,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             synchronizeLocalMetaData();
             pullWithLastEntry();
             dbmsProcessor.removeEntries(event.getBibEntries());
+            dbmsProcessor.notifyClients(getSharedIDs(event.getBibEntries()));
             synchronizeLocalDatabase();
         }
     }
@@ -175,62 +220,141 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
 
-        List<BibEntry> localEntries = bibDatabase.getEntries();
-        Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
+        applySharedChanges(getSharedChanges(dbmsProcessor), localEntry -> true);
+    }
+
+    /**
+     * Determines the changes of all shared entries which are not present in the local database yet. The local database
+     * is only read.
+     */
+    private SharedChanges getSharedChanges(DBMSProcessor processor) {
+        Map<Integer, Integer> idVersionMap = processor.getSharedIDVersionMapping();
 
         // remove old entries locally
-        removeNotSharedEntries(localEntries, idVersionMap.keySet());
+        List<BibEntry> entriesToRemove =
+                bibDatabase.getEntries().stream()
+                           .filter(localEntry -> !idVersionMap.containsKey(localEntry.getSharedBibEntryData().getSharedID()))
+                           .collect(Collectors.toList());
+        return getSharedChanges(processor, idVersionMap, entriesToRemove);
+    }
+
+    /**
+     * Synchronizes the given entries of the local database with the shared ones. Only these entries are queried, so
+     * the effort depends on the number of changes and not on the size of the shared database.
+     *
+     * @param changedSharedIDs the shared ids of the entries which were inserted, updated or removed on the shared side
+     */
+    public void synchronizeLocalDatabase(Set<Integer> changedSharedIDs) {
+        if (changedSharedIDs.isEmpty() || !checkCurrentConnection()) {
+            return;
+        }
+        applySharedChanges(getSharedChanges(dbmsProcessor, changedSharedIDs), localEntry -> true);
+    }
+
+    /**
+     * Determines the changes of the given shared entries which are not present in the local database yet. The local
+     * database is only read.
+     *
+     * @param processor        the processor to fetch the shared entries with
+     * @param changedSharedIDs the shared ids of the entries which were inserted, updated or removed on the shared side
+     */
+    private SharedChanges getSharedChanges(DBMSProcessor processor, Set<Integer> changedSharedIDs) {
+        Map<Integer, Integer> idVersionMap = processor.getSharedIDVersionMapping(changedSharedIDs);
+
+        // remove entries locally which were removed on the shared side
+        List<BibEntry> entriesToRemove = bibDatabase.getEntries().stream()
+                                                    .filter(localEntry -> {
+                                                        int sharedID = localEntry.getSharedBibEntryData().getSharedID();
+                                                        return changedSharedIDs.contains(sharedID) && !idVersionMap.containsKey(sharedID);
+                                                    })
+                                                    .toList();
+        return getSharedChanges(processor, idVersionMap, entriesToRemove);
+    }
+
+    /**
+     * Fetches the shared entries whose version is newer than the one of the local entry and the shared entries not
+     * present locally.
+     *
+     * @param processor       the processor to fetch the shared entries with
+     * @param idVersionMap    the shared ids and versions of the shared entries to synchronize
+     * @param entriesToRemove the local entries which are not present on the shared side anymore
+     */
+    private SharedChanges getSharedChanges(DBMSProcessor processor, Map<Integer, Integer> idVersionMap, List<BibEntry> entriesToRemove) {
+        Map<Integer, BibEntry> localEntries = getLocalEntriesBySharedID();
+
+        List<Integer> entriesToUpdateLocally = new ArrayList<>();
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
         // compare versions and update local entry if needed
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
-                }
-            }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
+            BibEntry localEntry = localEntries.get(idVersionEntry.getKey());
+            if (localEntry == null) {
                 entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            } else if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
+                entriesToUpdateLocally.add(idVersionEntry.getKey());
             }
         }
 
-        if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
-            // in case entries should be added into the local database, insert them
-            bibDatabase.insertEntries(dbmsProcessor.partitionAndGetSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
-        }
+        // the outdated entries are fetched together instead of one query per entry
+        List<BibEntry> updatedSharedEntries = processor.partitionAndGetSharedEntries(entriesToUpdateLocally);
+        List<BibEntry> sharedEntriesToInsert = entriesToInsertIntoLocalDatabase.isEmpty()
+                ? List.of()
+                : processor.partitionAndGetSharedEntries(entriesToInsertIntoLocalDatabase);
+        return new SharedChanges(entriesToRemove, updatedSharedEntries, sharedEntriesToInsert);
     }
 
     /**
-     * Removes all local entries which are not present on shared database.
+     * Applies the given shared changes to the local database: removal, update, or insert of a {@link BibEntry}.
      *
-     * @param localEntries List of {@link BibEntry} the entries should be removed from
-     * @param sharedIDs    Set of all IDs which are present on shared database
+     * @param isOverwritable whether the given local entry may be removed or overwritten by the shared one
      */
-    private void removeNotSharedEntries(List<BibEntry> localEntries, Set<Integer> sharedIDs) {
-        List<BibEntry> entriesToRemove =
-                localEntries.stream()
-                            .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
-                            .collect(Collectors.toList());
+    private void applySharedChanges(SharedChanges changes, Predicate<BibEntry> isOverwritable) {
+        removeLocalEntries(changes.entriesToRemove().stream().filter(isOverwritable).toList());
+
+        Map<Integer, BibEntry> localEntries = getLocalEntriesBySharedID();
+        for (BibEntry sharedEntry : changes.updatedSharedEntries()) {
+            BibEntry localEntry = localEntries.get(sharedEntry.getSharedBibEntryData().getSharedID());
+            // The local entry may have been removed or updated since the changes were determined
+            if ((localEntry == null)
+                    || (localEntry.getSharedBibEntryData().getVersion() >= sharedEntry.getSharedBibEntryData().getVersion())
+                    || !isOverwritable.test(localEntry)) {
+                continue;
+            }
+            // update fields
+            localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+            localEntry.getSharedBibEntryData()
+                      .setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+            sharedEntry.getFieldMap().forEach(
+                    // copy remote values to local entry
+                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
+            );
+
+            // locally remove not existing fields
+            localEntry.getFields().stream()
+                      .filter(field -> !sharedEntry.hasField(field))
+                      .forEach(
+                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
+                      );
+        }
+
+        List<BibEntry> entriesToInsertIntoLocalDatabase =
+                changes.entriesToInsert().stream()
+                       .filter(sharedEntry -> !localEntries.containsKey(sharedEntry.getSharedBibEntryData().getSharedID()))
+                       .toList();
+        if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
+            // in case entries should be added into the local database, insert them
+            bibDatabase.insertEntries(entriesToInsertIntoLocalDatabase, EntriesEventSource.SHARED);
+        }
+    }
+
+    private Map<Integer, BibEntry> getLocalEntriesBySharedID() {
+        Map<Integer, BibEntry> localEntries = new HashMap<>();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            localEntries.putIfAbsent(localEntry.getSharedBibEntryData().getSharedID(), localEntry);
+        }
+        return localEntries;
+    }
+
+    private void removeLocalEntries(List<BibEntry> entriesToRemove) {
         if (!entriesToRemove.isEmpty()) {
             eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
             // remove all non-shared entries without triggering listeners
@@ -239,16 +363,29 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     }
 
     /**
-     * Synchronizes the shared {@link BibEntry} with the local one.
+     * The changes on the shared side which are not applied to the local database yet
+     *
+     * @param entriesToRemove      the local entries which were removed on the shared side
+     * @param updatedSharedEntries the shared entries which are newer than the local ones
+     * @param entriesToInsert      the shared entries which are not present locally
+     */
+    private record SharedChanges(List<BibEntry> entriesToRemove, List<BibEntry> updatedSharedEntries, List<BibEntry> entriesToInsert) {
+    }
+
+    /**
+     * Synchronizes the shared {@link BibEntry} with the local one immediately.
      */
     @Override
     public void synchronizeSharedEntry(BibEntry bibEntry) {
+        // Pending writes must not overwrite this (newer) state later on
+        writeQueue.flush();
         if (!checkCurrentConnection()) {
             return;
         }
         try {
             BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences); // perform possibly existing save actions
             dbmsProcessor.updateEntry(bibEntry);
+            dbmsProcessor.notifyClients(getSharedIDs(List.of(bibEntry)));
         } catch (OfflineLockException exception) {
             eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
         } catch (SQLException e) {
@@ -256,6 +393,59 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    private void enqueueSharedEntry(BibEntry bibEntry) {
+        BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences); // perform possibly existing save actions
+        writeQueue.add(bibEntry);
+    }
+
+    /**
+     * Writes the given shared {@link BibEntry BibEntries} in one transaction and pulls the changes of other clients to
+     * them. Called by the {@link SharedEntryWriteQueue} in the background.
+     */
+    private void writeSharedEntries(List<BibEntry> bibEntries) {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+        try {
+            for (OfflineLockException exception : writeProcessor.updateEntries(bibEntries)) {
+                eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
+            }
+            writeProcessor.notifyClients(getSharedIDs(bibEntries));
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+        // Pull changes for the case that there were some. Only the shared database is queried here, the local
+        // database is changed by the executor for local changes.
+        SharedChanges changes = getSharedChanges(writeProcessor, Set.copyOf(getSharedIDs(bibEntries)));
+        localChangesExecutor.execute(() -> applySharedChanges(changes, this::isOverwritable));
+    }
+
+    /**
+     * Checks whether the given entry may be overwritten or removed by changes pulled in the background. Since the local
+     * database may have been changed after the changes were pulled, the entry must still be present and must not have
+     * changes which are not written yet.
+     */
+    private boolean isOverwritable(BibEntry bibEntry) {
+        return isPresentLocalBibEntry(bibEntry) && !hasUnwrittenChanges(bibEntry);
+    }
+
+    /**
+     * Checks whether the given entry was changed locally after the changes were written. Such an entry must not be
+     * overwritten by the pulled changes, because they do not contain the local changes yet.
+     */
+    private boolean hasUnwrittenChanges(BibEntry bibEntry) {
+        return writeQueue.isPending(bibEntry) || lastEntryChanged.filter(lastEntry -> lastEntry == bibEntry).isPresent();
+    }
+
+    /**
+     * Writes the local changes which are still waiting in the background. Returns when they are written.
+     */
+    @Override
+    public void flushPendingChanges() {
+        enqueueLastEntry();
+        writeQueue.flush();
+    }
+
     /**
      * Synchronizes all meta data locally.
      */
@@ -264,10 +454,14 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
 
+        applySharedMetaData(dbmsProcessor.getSharedMetaData());
+    }
+
+    private void applySharedMetaData(Map<String, String> sharedMetaData) {
         try {
             metaData.setEventPropagation(false);
             MetaDataParser parser = new MetaDataParser(fileMonitor);
-            parser.parse(metaData, dbmsProcessor.getSharedMetaData(), keywordSeparator);
+            parser.parse(metaData, sharedMetaData, keywordSeparator);
             metaData.setEventPropagation(true);
         } catch (ParseException e) {
             LOGGER.error("Parse error", e);
@@ -295,22 +489,22 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         if (!checkCurrentConnection()) {
             return;
         }
-        for (BibEntry bibEntry : bibDatabase.getEntries()) {
-            try {
-                // synchronize only if changes were present
-                if (!BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences).isEmpty()) {
-                    dbmsProcessor.updateEntry(bibEntry);
-                }
-            } catch (OfflineLockException exception) {
+        // synchronize only if changes were present
+        List<BibEntry> changedEntries = bibDatabase.getEntries().stream()
+                                                   .filter(bibEntry -> !BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences).isEmpty())
+                                                   .toList();
+        try {
+            for (OfflineLockException exception : dbmsProcessor.updateEntries(changedEntries)) {
                 eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
-            } catch (SQLException e) {
-                LOGGER.error("SQL Error: ", e);
             }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
         }
     }
 
     /**
-     * Synchronizes the local BibEntries and applies the fetched MetaData on them.
+     * Synchronizes the local BibEntries and applies the fetched MetaData on them. The changes are applied by the
+     * executor for local changes, since this is called on notifications of other clients, too.
      */
     @Override
     public void pullChanges() {
@@ -319,8 +513,35 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
         // First synchronize entry, then synchronize database
         pullWithLastEntry();
-        synchronizeLocalDatabase();
-        synchronizeLocalMetaData();
+        applyPulledChanges(getSharedChanges(dbmsProcessor));
+    }
+
+    /**
+     * Synchronizes the given local BibEntries and applies the fetched MetaData on them. Used if other clients announced
+     * which entries they changed.
+     *
+     * @param changedSharedIDs the shared ids of the entries changed by other clients
+     */
+    public void pullChanges(Set<Integer> changedSharedIDs) {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+        // First synchronize entry, then synchronize database
+        pullWithLastEntry();
+        applyPulledChanges(changedSharedIDs.isEmpty()
+                ? new SharedChanges(List.of(), List.of(), List.of())
+                : getSharedChanges(dbmsProcessor, changedSharedIDs));
+    }
+
+    /**
+     * Applies the given changes and the shared meta data by the executor for local changes
+     */
+    private void applyPulledChanges(SharedChanges changes) {
+        Map<String, String> sharedMetaData = dbmsProcessor.getSharedMetaData();
+        localChangesExecutor.execute(() -> {
+            applySharedChanges(changes, this::isOverwritable);
+            applySharedMetaData(sharedMetaData);
+        });
     }
 
     /**
@@ -339,11 +560,15 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     }
 
     /**
-     * Synchronizes local BibEntries and pulls remaining last entry changes
+     * Writes the remaining last entry changes and all waiting changes, so that a following pull does not overwrite them
      */
     private void pullWithLastEntry() {
+        flushPendingChanges();
+    }
+
+    private void enqueueLastEntry() {
         if (!lastEntryChanged.isEmpty() && isPresentLocalBibEntry(lastEntryChanged.get())) {
-            synchronizeSharedEntry(lastEntryChanged.get());
+            enqueueSharedEntry(lastEntryChanged.get());
         }
         lastEntryChanged = Optional.empty();
     }
@@ -385,21 +610,51 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         this.dbName = connection.getProperties().getDatabase();
         this.currentConnection = connection.getConnection();
         this.dbmsProcessor = DBMSProcessor.getProcessorInstance(connection);
+        openWriteProcessor(connection);
+        this.writeQueue = new SharedEntryWriteQueue(this::writeSharedEntries, WRITE_DELAY_MILLISECONDS);
         initializeDatabases();
     }
 
+    /**
+     * Opens a second connection for the background writes. If this is not possible, the writes share the connection
+     * used for pulling.
+     */
+    private void openWriteProcessor(DatabaseConnection connection) {
+        this.writeConnection = currentConnection;
+        this.writeProcessor = dbmsProcessor;
+        if (connection.getProperties() instanceof DBMSConnectionProperties properties) {
+            try {
+                DBMSConnection dbmsConnection = new DBMSConnection(properties);
+                this.writeConnection = dbmsConnection.getConnection();
+                this.writeProcessor = DBMSProcessor.getProcessorInstance(dbmsConnection);
+            } catch (SQLException | InvalidDBMSConnectionPropertiesException e) {
+                LOGGER.warn("Could not open a separate connection for writing, using the main connection", e);
+            }
+        }
+    }
+
     @Override
     public void closeSharedDatabase() {
         // Submit remaining entry changes
         pullLastEntryChanges();
+        writeQueue.shutdown();
         try {
             dbmsProcessor.stopNotificationListener();
+            if (writeConnection != currentConnection) {
+                writeConnection.close();
+            }
             currentConnection.close();
         } catch (SQLException e) {
             LOGGER.error("SQL Error:", e);
         }
     }
 
+    private static List<Integer> getSharedIDs(List<BibEntry> bibEntries) {
+        return bibEntries.stream()
+                         .map(bibEntry -> bibEntry.getSharedBibEntryData().getSharedID())
+                         .toList();
+    }
+
     private boolean isPresentLocalBibEntry(BibEntry bibEntry) {
         return bibDatabase.getEntries().contains(bibEntry);
     }
@@ -18,5 +18,7 @@ public interface DatabaseSynchronizer {
 
     void synchronizeLocalDatabase();
 
+    void flushPendingChanges();
+
     DatabaseConnectionProperties getConnectionProperties();
 }
@@ -3,7 +3,7 @@ package org.jabref.logic.shared;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -19,6 +19,9 @@ import org.postgresql.PGConnection;
  */
 public class PostgreSQLProcessor extends DBMSProcessor {
 
+    // PostgreSQL limits the payload to less than 8000 bytes
+    private static final int MAX_NOTIFICATION_PAYLOAD_LENGTH = 7999;
+
     private PostgresSQLNotificationListener listener;
 
     private int VERSION_DB_STRUCT_DEFAULT = -1;
@@ -100,14 +103,14 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                 .append(") VALUES(?)");
         // Number of commas is bibEntries.size() - 1
         insertIntoEntryQuery.append(", (?)".repeat(Math.max(0, bibEntries.size() - 1)));
-        try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery.toString(),
-                Statement.RETURN_GENERATED_KEYS)) {
+        // Returns the ids in the same round trip; RETURN_GENERATED_KEYS would return all columns
+        insertIntoEntryQuery.append(" RETURNING ").append(escape("SHARED_ID"));
+        try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery.toString())) {
             for (int i = 0; i < bibEntries.size(); i++) {
                 preparedEntryStatement.setString(i + 1, bibEntries.get(i).getType().getName());
             }
-            preparedEntryStatement.executeUpdate();
 
-            try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
+            try (ResultSet generatedKeys = preparedEntryStatement.executeQuery()) {
                 // The following assumes that we get the generated keys in the order the entries were inserted
                 // This should be the case
                 for (BibEntry bibEntry : bibEntries) {
@@ -164,6 +167,22 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         }
     }
 
+    @Override
+    public void notifyClients(Collection<Integer> changedSharedIDs) {
+        String payload = PostgresSQLNotificationListener.createPayload(PROCESSOR_ID, changedSharedIDs);
+        if (payload.length() > MAX_NOTIFICATION_PAYLOAD_LENGTH) {
+            // Too many changes for one notification; the clients pull everything instead
+            notifyClients();
+            return;
+        }
+        try {
+            // The payload consists of the processor id and numbers only, so it can be inlined safely
+            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + payload + "';");
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error during client notification", e);
+        }
+    }
+
     @Override
     public void notifyClients() {
         try {
@@ -0,0 +1,103 @@
+package org.jabref.logic.shared;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jabref.model.entry.BibEntry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes changed entries to the shared database in the background, so that editing does not wait for the database.
+ * <p>
+ * The writes are delayed for a short time. Changes of the same entry within that time (e.g., while typing in the entry
+ * editor) are coalesced into one update, and all entries changed within that time are written together. The writes are
+ * performed one after another in the order of the first change of each entry.
+ */
+class SharedEntryWriteQueue {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedEntryWriteQueue.class);
+
+    private final Consumer<List<BibEntry>> writer;
+    private final long delayInMilliseconds;
+    private final ScheduledExecutorService executor;
+
+    // Serializes the writes, so that a flush requested by the caller cannot overtake a running background write
+    private final Object writeLock = new Object();
+
+    // Keyed by the id of the entry, because BibEntry#equals compares the content
+    private final Map<String, BibEntry> pendingEntries = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledWrite;
+
+    /**
+     * @param writer              writes the given entries to the shared database; called by one thread at a time
+     * @param delayInMilliseconds time to wait for further changes before writing
+     */
+    SharedEntryWriteQueue(Consumer<List<BibEntry>> writer, long delayInMilliseconds) {
+        this.writer = writer;
+        this.delayInMilliseconds = delayInMilliseconds;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Shared database writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules writing the given entry. If the entry is already waiting to be written, it is written only once.
+     */
+    synchronized void add(BibEntry bibEntry) {
+        pendingEntries.putIfAbsent(bibEntry.getId(), bibEntry);
+        if (scheduledWrite == null) {
+            scheduledWrite = executor.schedule(this::flush, delayInMilliseconds, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Checks whether the given entry is waiting to be written
+     */
+    synchronized boolean isPending(BibEntry bibEntry) {
+        return pendingEntries.containsKey(bibEntry.getId());
+    }
+
+    /**
+     * Writes all waiting entries immediately. Returns when they are written.
+     */
+    void flush() {
+        synchronized (writeLock) {
+            List<BibEntry> entries;
+            synchronized (this) {
+                entries = List.copyOf(pendingEntries.values());
+                pendingEntries.clear();
+                if (scheduledWrite != null) {
+                    scheduledWrite.cancel(false);
+                    scheduledWrite = null;
+                }
+            }
+            if (entries.isEmpty()) {
+                return;
+            }
+            try {
+                writer.accept(entries);
+            } catch (RuntimeException e) {
+                // Keep the worker alive for later changes
+                LOGGER.error("Could not write {} entries to the shared database", entries.size(), e);
+            }
+        }
+    }
+
+    /**
+     * Writes all waiting entries and stops the background worker
+     */
+    void shutdown() {
+        flush();
+        executor.shutdownNow();
+    }
+}
@@ -1,6 +1,11 @@
 package org.jabref.logic.shared.listener;
 
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
@@ -17,6 +22,10 @@ public class PostgresSQLNotificationListener implements Runnable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSQLNotificationListener.class);
 
+    // Payload of a notification: the id of the sending processor, optionally followed by the shared ids of the changed entries
+    private static final String PROCESSOR_ID_SEPARATOR = ":";
+    private static final String SHARED_ID_SEPARATOR = ",";
+
     private final DBMSSynchronizer dbmsSynchronizer;
     private final PGConnection pgConnection;
     private volatile boolean stop;
@@ -35,11 +44,7 @@ public class PostgresSQLNotificationListener implements Runnable {
                 PGNotification notifications[] = pgConnection.getNotifications();
 
                 if (notifications != null) {
-                    for (PGNotification notification : notifications) {
-                        if (!notification.getName().equals(DBMSProcessor.PROCESSOR_ID)) {
-                            dbmsSynchronizer.pullChanges();
-                        }
-                    }
+                    pullChanges(notifications);
                 }
 
                 // Wait a while before checking again for new notifications
@@ -50,6 +55,45 @@ public class PostgresSQLNotificationListener implements Runnable {
         }
     }
 
+    /**
+     * Pulls the changes announced by the given notifications. If all notifications name the changed entries, only these
+     * entries are pulled. Notifications sent by this JabRef instance are ignored.
+     */
+    private void pullChanges(PGNotification[] notifications) {
+        Set<Integer> changedSharedIDs = new HashSet<>();
+        boolean hasChanges = false;
+        boolean pullAll = false;
+        for (PGNotification notification : notifications) {
+            String[] payload = notification.getParameter().split(PROCESSOR_ID_SEPARATOR, 2);
+            if (payload[0].equals(DBMSProcessor.PROCESSOR_ID)) {
+                continue;
+            }
+            hasChanges = true;
+            if (payload.length < 2) {
+                pullAll = true;
+            } else {
+                Arrays.stream(payload[1].split(SHARED_ID_SEPARATOR))
+                      .filter(id -> !id.isEmpty())
+                      .map(Integer::valueOf)
+                      .forEach(changedSharedIDs::add);
+            }
+        }
+        if (pullAll) {
+            dbmsSynchronizer.pullChanges();
+        } else if (hasChanges) {
+            dbmsSynchronizer.pullChanges(changedSharedIDs);
+        }
+    }
+
+    /**
+     * Creates the payload of a notification announcing that the given entries were changed by the given processor
+     */
+    public static String createPayload(String processorID, Collection<Integer> changedSharedIDs) {
+        return processorID + PROCESSOR_ID_SEPARATOR + changedSharedIDs.stream()
+                                                                      .map(String::valueOf)
+                                                                      .collect(Collectors.joining(SHARED_ID_SEPARATOR));
+    }
+
     public void stop() {
         stop = true;
     }
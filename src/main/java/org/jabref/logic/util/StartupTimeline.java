@@ -0,0 +1,93 @@
+package org.jabref.logic.util;
+
+import java.util.Comparator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.jabref.architecture.AllowedToUseStandardStreams;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records how long the phases of the startup take. Phases may run in parallel on different threads. The timeline is
+ * logged at debug level when the startup is finished, and printed if requested by the command line option
+ * <code>--startup-timeline</code>, so that startup regressions can be measured.
+ */
+@AllowedToUseStandardStreams("Prints the timeline requested by the command line option --startup-timeline")
+public class StartupTimeline {
+
+    public static final StartupTimeline INSTANCE = new StartupTimeline();
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupTimeline.class);
+
+    private final long startNanos = System.nanoTime();
+    private final Queue<Phase> phases = new ConcurrentLinkedQueue<>();
+    private volatile boolean printOnFinish;
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    StartupTimeline() {
+    }
+
+    public void measure(String name, Runnable phase) {
+        measure(name, () -> {
+            phase.run();
+            return null;
+        });
+    }
+
+    public <T> T measure(String name, Supplier<T> phase) {
+        long phaseStartNanos = System.nanoTime();
+        try {
+            return phase.get();
+        } finally {
+            phases.add(new Phase(name, Thread.currentThread().getName(), phaseStartNanos - startNanos, System.nanoTime() - phaseStartNanos));
+        }
+    }
+
+    /**
+     * Prints the timeline to the console when the startup is finished.
+     */
+    public void printOnFinish() {
+        printOnFinish = true;
+    }
+
+    /**
+     * Marks the end of the startup, e.g., when the main window is shown or the command line arguments are processed.
+     * Only the first call has an effect.
+     */
+    public void finish(String name) {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
+        phases.add(new Phase(name, Thread.currentThread().getName(), System.nanoTime() - startNanos, 0));
+
+        String timeline = format();
+        LOGGER.debug("Startup timeline:\n{}", timeline);
+        if (printOnFinish) {
+            System.out.println(timeline);
+        }
+    }
+
+    /**
+     * Returns one line per phase, ordered by start: the start and the duration in milliseconds, the thread and the
+     * name of the phase.
+     */
+    public String format() {
+        return phases.stream()
+                     .sorted(Comparator.comparingLong(Phase::startNanos))
+                     .map(phase -> "%6d ms %+6d ms  %-20s %s".formatted(
+                             TimeUnit.NANOSECONDS.toMillis(phase.startNanos()),
+                             TimeUnit.NANOSECONDS.toMillis(phase.durationNanos()),
+                             "[" + phase.thread() + "]",
+                             phase.name()))
+                     .collect(Collectors.joining("\n"));
+    }
+
+    private record Phase(String name, String thread, long startNanos, long durationNanos) {
+    }
+}
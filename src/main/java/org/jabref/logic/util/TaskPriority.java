@@ -0,0 +1,19 @@
+package org.jabref.logic.util;
+
+/**
+ * The priority classes of the {@link TaskScheduler}. Waiting tasks of a higher priority are started first.
+ */
+public enum TaskPriority {
+    /**
+     * Tasks the user is waiting for while typing or clicking, e.g., updating the search results
+     */
+    INTERACTIVE,
+    /**
+     * Tasks the user started explicitly, e.g., a web search or an export
+     */
+    USER_INITIATED,
+    /**
+     * Tasks which are not awaited by the user, e.g., indexing linked files
+     */
+    BACKGROUND
+}
@@ -0,0 +1,188 @@
+package org.jabref.logic.util;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs tasks according to their {@link TaskPriority}.
+ * <p>
+ * Tasks which block on I/O (e.g., fetchers, file scans or database calls) run on virtual threads, so that slow network
+ * calls never hold back other tasks. Compute-bound tasks share a bounded pool of platform threads, which starts the
+ * waiting tasks by priority and then in the order of their submission. The priority has no effect on the other tasks,
+ * and a running task is never preempted.
+ * <p>
+ * A task can be submitted with a supersede key: a later task with the same key cancels it if it is not finished yet.
+ * This is meant for tasks whose result is outdated by the next one, e.g., updating the search results while typing.
+ * <p>
+ * For each priority, the number of waiting and running tasks and the time the tasks waited for a thread are recorded
+ * (see {@link #getMetrics(TaskPriority)}).
+ */
+public class TaskScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskScheduler.class);
+
+    private final ExecutorService blockingExecutor;
+    private final ThreadPoolExecutor computationExecutor;
+    private final AtomicLong submissionCounter = new AtomicLong();
+    private final Map<Object, Future<?>> supersedableTasks = new ConcurrentHashMap<>();
+    private final Map<TaskPriority, Statistics> statistics = new EnumMap<>(TaskPriority.class);
+
+    /**
+     * @param name               prefix of the names of the threads
+     * @param computationThreads maximal number of compute-bound tasks running at the same time
+     */
+    public TaskScheduler(String name, int computationThreads) {
+        blockingExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + " I/O ", 0).factory());
+        computationExecutor = new ThreadPoolExecutor(computationThreads, computationThreads, 60, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(), Thread.ofPlatform().name(name + " computation ", 0).factory());
+        computationExecutor.allowCoreThreadTimeOut(true);
+        for (TaskPriority priority : TaskPriority.values()) {
+            statistics.put(priority, new Statistics());
+        }
+    }
+
+    public <V> Future<V> submit(RunnableFuture<V> task, TaskPriority priority, boolean isComputeBound) {
+        return submit(task, priority, isComputeBound, null);
+    }
+
+    /**
+     * Submits a task which cancels the unfinished task submitted before with the same supersede key.
+     */
+    public <V> Future<V> submit(RunnableFuture<V> task, TaskPriority priority, boolean isComputeBound, Object supersedeKey) {
+        Objects.requireNonNull(task);
+        Objects.requireNonNull(priority);
+
+        if (supersedeKey != null) {
+            Future<?> supersededTask = supersedableTasks.put(supersedeKey, task);
+            if (supersededTask != null) {
+                supersededTask.cancel(true);
+            }
+        }
+
+        ScheduledTask scheduledTask = new ScheduledTask(task, priority, supersedeKey, submissionCounter.getAndIncrement());
+        statistics.get(priority).queued.incrementAndGet();
+        if (isComputeBound) {
+            // Not submit, because the priority queue has to compare the scheduled tasks and not their wrappers
+            computationExecutor.execute(scheduledTask);
+        } else {
+            blockingExecutor.execute(scheduledTask);
+        }
+        return task;
+    }
+
+    public Metrics getMetrics(TaskPriority priority) {
+        Statistics priorityStatistics = statistics.get(priority);
+        long started = priorityStatistics.started.sum();
+        return new Metrics(
+                priorityStatistics.queued.get(),
+                priorityStatistics.running.get(),
+                started,
+                Duration.ofNanos(started == 0 ? 0 : priorityStatistics.totalWaitNanos.sum() / started),
+                Duration.ofNanos(priorityStatistics.maximumWaitNanos.get()));
+    }
+
+    /**
+     * Cancels all running and waiting tasks.
+     */
+    public void shutdown() {
+        for (TaskPriority priority : TaskPriority.values()) {
+            LOGGER.debug("Tasks of priority {}: {}", priority, getMetrics(priority));
+        }
+        blockingExecutor.shutdownNow();
+        computationExecutor.shutdownNow();
+    }
+
+    /**
+     * @param queued          number of tasks waiting for a thread
+     * @param running         number of running tasks
+     * @param started         number of tasks started since the scheduler was created
+     * @param averageWaitTime average time the started tasks waited for a thread
+     * @param maximumWaitTime longest time a started task waited for a thread
+     */
+    public record Metrics(
+            int queued,
+            int running,
+            long started,
+            Duration averageWaitTime,
+            Duration maximumWaitTime) {
+    }
+
+    private static class Statistics {
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+        private final LongAdder started = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAccumulator maximumWaitNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    private class ScheduledTask implements Runnable, Comparable<ScheduledTask> {
+
+        private final RunnableFuture<?> task;
+        private final TaskPriority priority;
+        private final Object supersedeKey;
+        private final long submissionNumber;
+        private final long submissionNanos = System.nanoTime();
+
+        private ScheduledTask(RunnableFuture<?> task, TaskPriority priority, Object supersedeKey, long submissionNumber) {
+            this.task = task;
+            this.priority = priority;
+            this.supersedeKey = supersedeKey;
+            this.submissionNumber = submissionNumber;
+        }
+
+        @Override
+        public void run() {
+            Statistics priorityStatistics = statistics.get(priority);
+            priorityStatistics.queued.decrementAndGet();
+            // A task cancelled while waiting is not counted, it is only removed from the queue
+            if (task.isCancelled()) {
+                removeSupersedableTask();
+                return;
+            }
+
+            long waitNanos = System.nanoTime() - submissionNanos;
+            priorityStatistics.started.increment();
+            priorityStatistics.totalWaitNanos.add(waitNanos);
+            priorityStatistics.maximumWaitNanos.accumulate(waitNanos);
+            priorityStatistics.running.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                priorityStatistics.running.decrementAndGet();
+                removeSupersedableTask();
+            }
+        }
+
+        private void removeSupersedableTask() {
+            if (supersedeKey != null) {
+                supersedableTasks.remove(supersedeKey, task);
+            }
+        }
+
+        @Override
+        public int compareTo(ScheduledTask other) {
+            int result = priority.compareTo(other.priority);
+            if (result != 0) {
+                return result;
+            }
+            return Long.compare(submissionNumber, other.submissionNumber);
+        }
+    }
+}
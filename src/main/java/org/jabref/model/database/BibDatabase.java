@@ -8,6 +8,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -15,6 +16,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -22,6 +24,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import org.jabref.logic.bibtex.FieldWriter;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.event.EntriesAddedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
@@ -30,13 +33,13 @@ import org.jabref.model.entry.Month;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +60,15 @@ public class BibDatabase {
     // Not included in equals, because it is not relevant for the content of the database
     private final EventBus eventBus = new EventBus();
 
+    // Registered at every entry of this database, relays the changes of the entries to the event bus
+    private final Consumer<FieldChangedEvent> entryChangeRelay = this::relayEntryChangeEvent;
+
+    // Guards the state of the current batch, see batch(Runnable, EntriesEventSource)
+    private final Object batchLock = new Object();
+    private int batchDepth;
+    private EntriesEventSource batchEventSource;
+    private final Map<BatchedChangeKey, FieldChange> batchedChanges = new LinkedHashMap<>();
+
     private String preamble;
 
     // All file contents below the last entry in the file
@@ -196,7 +208,7 @@ public class BibDatabase {
     public synchronized void insertEntries(List<BibEntry> newEntries, EntriesEventSource eventSource) {
         Objects.requireNonNull(newEntries);
         for (BibEntry entry : newEntries) {
-            entry.registerListener(this);
+            entry.addFieldChangeListener(entryChangeRelay);
         }
         if (newEntries.isEmpty()) {
             eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
@@ -239,6 +251,9 @@ public class BibDatabase {
             ids.add(entry.getId());
         }
         boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
+        for (BibEntry entry : toBeDeleted) {
+            entry.removeFieldChangeListener(entryChangeRelay);
+        }
         if (anyRemoved) {
             eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
         }
@@ -542,6 +557,7 @@ public class BibDatabase {
      * <p>
      * - {@link EntriesAddedEvent}
      * - {@link EntryChangedEvent}
+     * - {@link FieldsChangedEvent} (at the end of a {@link #batch(Runnable) batch})
      * - {@link EntriesRemovedEvent}
      *
      * @param listener listener (subscriber) to add
@@ -564,8 +580,63 @@ public class BibDatabase {
         }
     }
 
-    @Subscribe
+    /**
+     * Runs the given changes as one batch: instead of one {@link FieldChangedEvent} per change, a single
+     * {@link FieldsChangedEvent} containing the coalesced changes of all entries is posted after the changes have run.
+     * This avoids that listeners (e.g., autosave, the search index, or the synchronization with a shared database) react
+     * to each single change of a bulk operation.
+     * <p>
+     * Batches may be nested; the event is posted when the outermost batch ends, also if the changes throw an exception.
+     * Adding and removing entries is still reported immediately. All field changes of the entries of this database are
+     * collected while a batch is running, regardless of the thread changing them.
+     *
+     * @param changes     the changes to run
+     * @param eventSource the source of the posted {@link FieldsChangedEvent}, the one of the outermost batch is used
+     */
+    public void batch(Runnable changes, EntriesEventSource eventSource) {
+        Objects.requireNonNull(changes);
+        synchronized (batchLock) {
+            if (batchDepth == 0) {
+                batchEventSource = Objects.requireNonNull(eventSource);
+            }
+            batchDepth++;
+        }
+        try {
+            changes.run();
+        } finally {
+            List<FieldChange> coalescedChanges = List.of();
+            EntriesEventSource source;
+            synchronized (batchLock) {
+                batchDepth--;
+                source = batchEventSource;
+                if (batchDepth == 0) {
+                    coalescedChanges = batchedChanges.values().stream()
+                                                     .filter(change -> !Objects.equals(change.getOldValue(), change.getNewValue()))
+                                                     .toList();
+                    batchedChanges.clear();
+                    batchEventSource = null;
+                }
+            }
+            if (!coalescedChanges.isEmpty()) {
+                eventBus.post(new FieldsChangedEvent(coalescedChanges, source));
+            }
+        }
+    }
+
+    public void batch(Runnable changes) {
+        batch(changes, EntriesEventSource.LOCAL);
+    }
+
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        synchronized (batchLock) {
+            if (batchDepth > 0) {
+                FieldChange change = new FieldChange(event.getBibEntry(), event.getField(), event.getOldValue(), event.getNewValue());
+                // Keep the value before the batch, but take the value after the latest change
+                batchedChanges.merge(new BatchedChangeKey(event.getBibEntry().getId(), event.getField()), change,
+                        (first, latest) -> new FieldChange(first.getEntry(), first.getField(), first.getOldValue(), latest.getNewValue()));
+                return;
+            }
+        }
         eventBus.post(event);
     }
 
@@ -650,4 +721,10 @@ public class BibDatabase {
     public int hashCode() {
         return Objects.hash(entries, bibtexStrings, preamble, epilog, sharedDatabaseID, newLineSeparator);
     }
+
+    /**
+     * Entries are identified by their id, because their equality depends on the (changing) field values
+     */
+    private record BatchedChangeKey(String entryId, Field field) {
+    }
 }
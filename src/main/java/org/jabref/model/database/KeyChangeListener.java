@@ -5,9 +5,11 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.InternalField;
@@ -31,6 +33,15 @@ public class KeyChangeListener {
         }
     }
 
+    @Subscribe
+    public void listen(FieldsChangedEvent event) {
+        for (FieldChange change : event.getChanges()) {
+            if (change.getField().equals(InternalField.KEY_FIELD)) {
+                updateEntryLinks(change.getNewValue(), change.getOldValue());
+            }
+        }
+    }
+
     @Subscribe
     public void listen(EntriesRemovedEvent event) {
         List<BibEntry> entries = event.getBibEntries();
@@ -1,18 +1,21 @@
 package org.jabref.model.entry;
 
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.logic.importer.AuthorListParser;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import org.jspecify.annotations.NonNull;
 
 /**
@@ -120,9 +123,16 @@ import org.jspecify.annotations.NonNull;
 @AllowedToUseLogic("because it needs access to AuthorList parser")
 public class AuthorList implements Iterable<Author> {
 
-    private static final Map<String, AuthorList> AUTHOR_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+    // Bounded, so that the lists of frequently used strings stay cached while others are evicted. The cache is split
+    // into segments, so that parallel searching, sorting and rendering rarely wait for each other.
+    private static final LoadingCache<String, AuthorList> AUTHOR_CACHE = CacheBuilder.newBuilder()
+                                                                                  .maximumSize(20_000)
+                                                                                  .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+                                                                                  .build(CacheLoader.from(authors -> new AuthorListParser().parse(authors)));
     private final List<Author> authors;
     private AuthorList latexFreeAuthors;
+    // The formatted forms of this list, by the index computed in getFormatted
+    private volatile Map<Integer, String> formattedForms;
 
     /**
      * Creates a new list of authors.
@@ -173,10 +183,22 @@ public class AuthorList implements Iterable<Author> {
      * @return An AuthorList object representing the given authors.
      */
     public static AuthorList parse(@NonNull final String authors) {
-        return AUTHOR_CACHE.computeIfAbsent(authors, string -> {
-            AuthorListParser parser = new AuthorListParser();
-            return parser.parse(string);
-        });
+        return AUTHOR_CACHE.getUnchecked(authors);
+    }
+
+    /**
+     * Returns a formatted form of this list, which is computed only on the first request. As an author list is
+     * immutable and cached by {@link #parse(String)}, repeated formatting of the same field is avoided.
+     */
+    private String getFormatted(Form form, boolean abbreviate, boolean oxfordComma, Supplier<String> format) {
+        Map<Integer, String> forms = formattedForms;
+        if (forms == null) {
+            // Two threads may create a map at the same time; then the forms of one map get lost and are computed again
+            forms = new ConcurrentHashMap<>(4);
+            formattedForms = forms;
+        }
+        int index = (form.ordinal() * 4) + (abbreviate ? 2 : 0) + (oxfordComma ? 1 : 0);
+        return forms.computeIfAbsent(index, key -> format.get());
     }
 
     /**
@@ -314,13 +336,15 @@ public class AuthorList implements Iterable<Author> {
      * @return formatted list of authors.
      */
     public String getAsNatbib() {
-        var authors = getAuthors();
-        return switch (authors.size()) {
-            case 0 -> "";
-            case 1 -> authors.getFirst().getNamePrefixAndFamilyName();
-            case 2 -> authors.getFirst().getNamePrefixAndFamilyName() + " and " + authors.get(1).getNamePrefixAndFamilyName();
-            default -> authors.getFirst().getNamePrefixAndFamilyName() + " et al.";
-        };
+        return getFormatted(Form.NATBIB, false, false, () -> {
+            var authors = getAuthors();
+            return switch (authors.size()) {
+                case 0 -> "";
+                case 1 -> authors.getFirst().getNamePrefixAndFamilyName();
+                case 2 -> authors.getFirst().getNamePrefixAndFamilyName() + " and " + authors.get(1).getNamePrefixAndFamilyName();
+                default -> authors.getFirst().getNamePrefixAndFamilyName() + " et al.";
+            };
+        });
     }
 
     /**
@@ -339,7 +363,7 @@ public class AuthorList implements Iterable<Author> {
      * Oxford comma.</a>
      */
     public String getAsLastNames(boolean oxfordComma) {
-        return andCoordinatedConjunction(getAuthors(), Author::getNamePrefixAndFamilyName, oxfordComma);
+        return getFormatted(Form.LAST_NAMES, false, oxfordComma, () -> andCoordinatedConjunction(getAuthors(), Author::getNamePrefixAndFamilyName, oxfordComma));
     }
 
     /**
@@ -361,7 +385,7 @@ public class AuthorList implements Iterable<Author> {
      * Oxford comma.</a>
      */
     public String getAsLastFirstNames(boolean abbreviate, boolean oxfordComma) {
-        return andCoordinatedConjunction(getAuthors(), auth -> auth.getFamilyGiven(abbreviate), oxfordComma);
+        return getFormatted(Form.LAST_FIRST_NAMES, abbreviate, oxfordComma, () -> andCoordinatedConjunction(getAuthors(), auth -> auth.getFamilyGiven(abbreviate), oxfordComma));
     }
 
     @Override
@@ -383,9 +407,9 @@ public class AuthorList implements Iterable<Author> {
      * @return formatted list of authors.
      */
     public String getAsLastFirstNamesWithAnd(boolean abbreviate) {
-        return getAuthors().stream()
-                           .map(author -> author.getFamilyGiven(abbreviate))
-                           .collect(Collectors.joining(" and "));
+        return getFormatted(Form.LAST_FIRST_NAMES_WITH_AND, abbreviate, false, () -> getAuthors().stream()
+                .map(author -> author.getFamilyGiven(abbreviate))
+                .collect(Collectors.joining(" and ")));
     }
 
     /**
@@ -394,17 +418,19 @@ public class AuthorList implements Iterable<Author> {
      * @param abbreviate first names.
      */
     public String getAsLastFirstFirstLastNamesWithAnd(boolean abbreviate) {
-        return switch (authors.size()) {
-            case 0 -> "";
-            case 1 -> authors.getFirst().getFamilyGiven(abbreviate);
-            default -> authors.stream()
-                              .skip(1)
-                              .map(author -> author.getGivenFamily(abbreviate))
-                              .collect(Collectors.joining(
-                                      " and ",
-                                      authors.getFirst().getFamilyGiven(abbreviate) + " and ",
-                                      ""));
-        };
+        return getFormatted(Form.LAST_FIRST_FIRST_LAST_NAMES_WITH_AND, abbreviate, false, () -> {
+            return switch (authors.size()) {
+                case 0 -> "";
+                case 1 -> authors.getFirst().getFamilyGiven(abbreviate);
+                default -> authors.stream()
+                                  .skip(1)
+                                  .map(author -> author.getGivenFamily(abbreviate))
+                                  .collect(Collectors.joining(
+                                          " and ",
+                                          authors.getFirst().getFamilyGiven(abbreviate) + " and ",
+                                          ""));
+            };
+        });
     }
 
     /**
@@ -426,7 +452,7 @@ public class AuthorList implements Iterable<Author> {
      * Oxford comma.</a>
      */
     public String getAsFirstLastNames(boolean abbreviate, boolean oxfordComma) {
-        return andCoordinatedConjunction(getAuthors(), author -> author.getGivenFamily(abbreviate), oxfordComma);
+        return getFormatted(Form.FIRST_LAST_NAMES, abbreviate, oxfordComma, () -> andCoordinatedConjunction(getAuthors(), author -> author.getGivenFamily(abbreviate), oxfordComma));
     }
 
     /**
@@ -466,9 +492,9 @@ public class AuthorList implements Iterable<Author> {
      * @return formatted list of authors.
      */
     public String getAsFirstLastNamesWithAnd() {
-        return getAuthors().stream()
-                           .map(author -> author.getGivenFamily(false))
-                           .collect(Collectors.joining(" and "));
+        return getFormatted(Form.FIRST_LAST_NAMES_WITH_AND, false, false, () -> getAuthors().stream()
+                .map(author -> author.getGivenFamily(false))
+                .collect(Collectors.joining(" and ")));
     }
 
     /**
@@ -481,13 +507,24 @@ public class AuthorList implements Iterable<Author> {
      * @return formatted list of authors
      */
     public String getForAlphabetization() {
-        return getAuthors().stream()
-                           .map(Author::getNameForAlphabetization)
-                           .collect(Collectors.joining(" and "));
+        return getFormatted(Form.ALPHABETIZATION, false, false, () -> getAuthors().stream()
+                .map(Author::getNameForAlphabetization)
+                .collect(Collectors.joining(" and ")));
     }
 
     @Override
     public Iterator<Author> iterator() {
         return authors.iterator();
     }
+
+    private enum Form {
+        NATBIB,
+        LAST_NAMES,
+        LAST_FIRST_NAMES,
+        LAST_FIRST_NAMES_WITH_AND,
+        LAST_FIRST_FIRST_LAST_NAMES_WITH_AND,
+        FIRST_LAST_NAMES,
+        FIRST_LAST_NAMES_WITH_AND,
+        ALPHABETIZATION
+    }
 }
@@ -1,10 +1,10 @@
 package org.jabref.model.entry;
 
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -14,8 +14,10 @@ import java.util.Optional;
 import java.util.SequencedSet;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -44,7 +46,6 @@ import org.jabref.model.entry.types.IEEETranEntryType;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.strings.LatexToUnicodeAdapter;
 import org.jabref.model.strings.StringUtil;
-import org.jabref.model.util.MultiKeyMap;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.eventbus.EventBus;
@@ -100,27 +101,27 @@ public class BibEntry implements Cloneable {
     private final SharedBibEntryData sharedBibEntryData;
 
     /**
-     * Map to store the words in every field
+     * Cache that stores latex free versions, words and keyword lists of fields. Created on first use and evicted by the
+     * garbage collector if memory gets low.
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private volatile SoftReference<DerivedFieldValues> derivedFieldValues;
 
     /**
-     * Cache that stores latex free versions of fields.
+     * Listeners notified directly about every change of this entry. A plain list is used instead of an {@link EventBus},
+     * because there are many entries and nearly all of them have only the listener of their database.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private final CopyOnWriteArrayList<Consumer<FieldChangedEvent>> fieldChangeListeners = new CopyOnWriteArrayList<>();
 
     /**
-     * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
+     * Only created if a listener is registered using {@link #registerListener(Object)}
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
-
-    private final EventBus eventBus = new EventBus();
+    private EventBus eventBus;
 
     private String id;
 
     private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
 
-    private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    private ObservableMap<Field, String> fields = FXCollections.observableMap(new CompactFieldMap());
 
     /**
      * The part before the start of the entry
@@ -376,7 +377,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        notifyListeners(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -445,9 +446,10 @@ public class BibEntry implements Cloneable {
 
         changed = true;
         this.type.setValue(newType);
+        invalidateSortKeys();
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        notifyListeners(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -478,12 +480,20 @@ public class BibEntry implements Cloneable {
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
             return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
+        }
+        Map<Field, String> latexFreeFields = getDerivedFieldValues().latexFreeFields;
+        if (latexFreeFields.containsKey(field)) {
             return Optional.ofNullable(latexFreeFields.get(field));
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
-                String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
+                String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get());
+                if (latexFreeValue.equals(fieldValue.get())) {
+                    // Share the string with the field instead of interning an equal copy
+                    latexFreeValue = fieldValue.get();
+                } else {
+                    latexFreeValue = latexFreeValue.intern();
+                }
                 latexFreeFields.put(field, latexFreeValue);
                 return Optional.of(latexFreeValue);
             } else {
@@ -637,9 +647,9 @@ public class BibEntry implements Cloneable {
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            notifyListeners(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            notifyListeners(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -682,7 +692,7 @@ public class BibEntry implements Cloneable {
         fields.remove(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        notifyListeners(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -708,7 +718,7 @@ public class BibEntry implements Cloneable {
     @Override
     public Object clone() {
         BibEntry clone = new BibEntry(type.getValue());
-        clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+        clone.fields = FXCollections.observableMap(new CompactFieldMap(fields));
         clone.commentsBeforeEntry = commentsBeforeEntry;
         clone.parsedSerialization = parsedSerialization;
         clone.changed = changed;
@@ -945,11 +955,33 @@ public class BibEntry implements Cloneable {
         return Objects.hash(type.getValue(), fields, commentsBeforeEntry);
     }
 
-    public void registerListener(Object object) {
+    /**
+     * Registers a listener which is called directly (on the changing thread) for each change of this entry. Adding the same
+     * listener twice has no effect.
+     */
+    public void addFieldChangeListener(Consumer<FieldChangedEvent> listener) {
+        fieldChangeListeners.addIfAbsent(listener);
+    }
+
+    public void removeFieldChangeListener(Consumer<FieldChangedEvent> listener) {
+        fieldChangeListeners.remove(listener);
+    }
+
+    /**
+     * Registers an object with {@link com.google.common.eventbus.Subscribe} methods for the {@link FieldChangedEvent}s of
+     * this entry. Prefer {@link #addFieldChangeListener(Consumer)}, which does not need an event bus per entry.
+     */
+    public synchronized void registerListener(Object object) {
+        if (eventBus == null) {
+            eventBus = new EventBus();
+        }
         this.eventBus.register(object);
     }
 
-    public void unregisterListener(Object object) {
+    public synchronized void unregisterListener(Object object) {
+        if (eventBus == null) {
+            return;
+        }
         try {
             this.eventBus.unregister(object);
         } catch (IllegalArgumentException e) {
@@ -958,6 +990,19 @@ public class BibEntry implements Cloneable {
         }
     }
 
+    private void notifyListeners(FieldChangedEvent event) {
+        for (Consumer<FieldChangedEvent> listener : fieldChangeListeners) {
+            listener.accept(event);
+        }
+        EventBus bus;
+        synchronized (this) {
+            bus = eventBus;
+        }
+        if (bus != null) {
+            bus.post(event);
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         this.setChanged(false);
@@ -965,10 +1010,11 @@ public class BibEntry implements Cloneable {
     }
 
     /**
-     * A copy is made of the parameter
+     * A copy is made of the parameter. Fields with a null value are left out.
      */
     public BibEntry withFields(Map<Field, String> content) {
-        this.fields = FXCollections.observableMap(new HashMap<>(content));
+        this.fields = FXCollections.observableMap(new CompactFieldMap(content));
+        this.derivedFieldValues = null;
         this.setChanged(false);
         return this;
     }
@@ -1008,6 +1054,7 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
+        Map<Field, Set<String>> fieldsAsWords = getDerivedFieldValues().fieldsAsWords;
         Set<String> storedList = fieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
@@ -1024,20 +1071,17 @@ public class BibEntry implements Cloneable {
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
-        if (field instanceof StandardField standardField) {
-            Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
-            if (storedList.isPresent()) {
-                return storedList.get();
-            }
+        Map<DerivedFieldValues.KeywordsKey, KeywordList> fieldsAsKeywords = getDerivedFieldValues().fieldsAsKeywords;
+        DerivedFieldValues.KeywordsKey key = new DerivedFieldValues.KeywordsKey(field, keywordSeparator);
+        KeywordList storedList = fieldsAsKeywords.get(key);
+        if (storedList != null) {
+            return storedList;
         }
 
         KeywordList keywords = getField(field)
                 .map(content -> KeywordList.parse(content, keywordSeparator))
                 .orElse(new KeywordList());
-
-        if (field instanceof StandardField standardField) {
-            fieldsAsKeywords.put(standardField, keywordSeparator, keywords);
-        }
+        fieldsAsKeywords.put(key, keywords);
         return keywords;
     }
 
@@ -1045,12 +1089,42 @@ public class BibEntry implements Cloneable {
         return clearField(InternalField.KEY_FIELD);
     }
 
+    /**
+     * Returns a key derived from this entry to sort it, e.g., a collation key of a normalized field value. The key is
+     * computed once and kept until a field or the type of this entry changes.
+     *
+     * @param sortKeyType    identifies how the key is computed (e.g., by which comparator and on which fields); has to
+     *                       implement equals and hashCode
+     * @param computeSortKey computes the key; must not return null
+     */
+    @SuppressWarnings("unchecked")
+    public <K> K getSortKey(Object sortKeyType, Function<BibEntry, K> computeSortKey) {
+        return (K) getDerivedFieldValues().sortKeys.computeIfAbsent(sortKeyType, type -> computeSortKey.apply(this));
+    }
+
+    private DerivedFieldValues getDerivedFieldValues() {
+        SoftReference<DerivedFieldValues> reference = derivedFieldValues;
+        DerivedFieldValues values = reference == null ? null : reference.get();
+        if (values == null) {
+            values = new DerivedFieldValues();
+            derivedFieldValues = new SoftReference<>(values);
+        }
+        return values;
+    }
+
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
+        SoftReference<DerivedFieldValues> reference = derivedFieldValues;
+        DerivedFieldValues values = reference == null ? null : reference.get();
+        if (values != null) {
+            values.invalidate(field);
+        }
+    }
 
-        if (field instanceof StandardField standardField) {
-            fieldsAsKeywords.remove(standardField);
+    private void invalidateSortKeys() {
+        SoftReference<DerivedFieldValues> reference = derivedFieldValues;
+        DerivedFieldValues values = reference == null ? null : reference.get();
+        if (values != null) {
+            values.invalidateSortKeys();
         }
     }
 
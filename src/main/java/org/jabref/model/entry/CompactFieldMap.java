@@ -0,0 +1,175 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jabref.model.entry.field.Field;
+
+/**
+ * Stores the fields of a {@link BibEntry} in a single flat array of alternating fields and values.
+ * <p>
+ * An entry typically has less than twenty fields, so a linear scan is as fast as a hash lookup, while a hash map needs a
+ * table and a node object for each field. This makes up a large part of the memory needed for big libraries.
+ * <p>
+ * The map is safe for concurrent use: modifications replace the array (copy on write), thus reads and iterations work
+ * on a consistent snapshot and never throw a {@link java.util.ConcurrentModificationException}. Like
+ * {@link java.util.concurrent.ConcurrentHashMap}, neither fields nor values may be null. When copying a map, fields
+ * with a null value are left out.
+ */
+final class CompactFieldMap extends AbstractMap<Field, String> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    // Field at even, corresponding value at odd indices
+    private volatile Object[] fieldsAndValues = EMPTY;
+
+    CompactFieldMap() {
+    }
+
+    CompactFieldMap(Map<? extends Field, ? extends String> fields) {
+        // BibEntry#withFields accepted maps with null values when the fields were kept in a HashMap
+        fields.forEach((field, value) -> {
+            if ((field != null) && (value != null)) {
+                put(field, value);
+            }
+        });
+    }
+
+    @Override
+    public int size() {
+        return fieldsAndValues.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return fieldsAndValues.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object field) {
+        return indexOf(fieldsAndValues, field) >= 0;
+    }
+
+    @Override
+    public String get(Object field) {
+        Object[] snapshot = fieldsAndValues;
+        int index = indexOf(snapshot, field);
+        return index < 0 ? null : (String) snapshot[index + 1];
+    }
+
+    @Override
+    public synchronized String put(Field field, String value) {
+        Objects.requireNonNull(field);
+        Objects.requireNonNull(value);
+        Object[] snapshot = fieldsAndValues;
+        int index = indexOf(snapshot, field);
+        Object[] updated;
+        String oldValue;
+        if (index < 0) {
+            updated = Arrays.copyOf(snapshot, snapshot.length + 2);
+            updated[snapshot.length] = field;
+            updated[snapshot.length + 1] = value;
+            oldValue = null;
+        } else {
+            updated = snapshot.clone();
+            updated[index + 1] = value;
+            oldValue = (String) snapshot[index + 1];
+        }
+        fieldsAndValues = updated;
+        return oldValue;
+    }
+
+    @Override
+    public synchronized String remove(Object field) {
+        Object[] snapshot = fieldsAndValues;
+        int index = indexOf(snapshot, field);
+        if (index < 0) {
+            return null;
+        }
+        Object[] updated = new Object[snapshot.length - 2];
+        System.arraycopy(snapshot, 0, updated, 0, index);
+        System.arraycopy(snapshot, index + 2, updated, index, snapshot.length - index - 2);
+        fieldsAndValues = updated;
+        return (String) snapshot[index + 1];
+    }
+
+    @Override
+    public synchronized void clear() {
+        fieldsAndValues = EMPTY;
+    }
+
+    @Override
+    public Set<Entry<Field, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Field, String>> iterator() {
+                return new SnapshotIterator(fieldsAndValues);
+            }
+
+            @Override
+            public int size() {
+                return CompactFieldMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * Looks up the field the same way a hash map does: fields with a different hash code are never considered equal.
+     *
+     * @return the index of the field in the given array, or -1 if it is not contained
+     */
+    private static int indexOf(Object[] snapshot, Object field) {
+        if (field == null) {
+            return -1;
+        }
+        int hash = field.hashCode();
+        for (int i = 0; i < snapshot.length; i += 2) {
+            Object candidate = snapshot[i];
+            if ((candidate == field) || ((candidate.hashCode() == hash) && field.equals(candidate))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private class SnapshotIterator implements Iterator<Entry<Field, String>> {
+        private final Object[] snapshot;
+        private int next;
+        private Field current;
+
+        SnapshotIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < snapshot.length;
+        }
+
+        @Override
+        public Entry<Field, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = (Field) snapshot[next];
+            Entry<Field, String> entry = new SimpleImmutableEntry<>(current, (String) snapshot[next + 1]);
+            next += 2;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+            CompactFieldMap.this.remove(current);
+            current = null;
+        }
+    }
+}
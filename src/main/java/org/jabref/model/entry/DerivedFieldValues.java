@@ -0,0 +1,37 @@
+package org.jabref.model.entry;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.model.entry.field.Field;
+
+/**
+ * Values computed from the fields of a {@link BibEntry} (LaTeX free versions, words, keywords, sort keys). They are only
+ * kept to speed up repeated access, e.g., when searching or sorting, and can be recomputed at any time.
+ * <p>
+ * A {@link BibEntry} creates this object only when a derived value is requested for the first time and holds it by a
+ * soft reference, so that the garbage collector can evict the values of all entries when memory gets low.
+ */
+final class DerivedFieldValues {
+
+    final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    final Map<Field, Set<String>> fieldsAsWords = new ConcurrentHashMap<>();
+    final Map<KeywordsKey, KeywordList> fieldsAsKeywords = new ConcurrentHashMap<>();
+    // A sort key may depend on several fields (e.g., aliases) and the type, so any change removes all of them
+    final Map<Object, Object> sortKeys = new ConcurrentHashMap<>();
+
+    void invalidate(Field field) {
+        latexFreeFields.remove(field);
+        fieldsAsWords.remove(field);
+        fieldsAsKeywords.keySet().removeIf(key -> key.field().equals(field));
+        sortKeys.clear();
+    }
+
+    void invalidateSortKeys() {
+        sortKeys.clear();
+    }
+
+    record KeywordsKey(Field field, Character keywordSeparator) {
+    }
+}
@@ -0,0 +1,47 @@
+package org.jabref.model.entry.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.FieldChange;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * <code>FieldsChangedEvent</code> is fired once at the end of a batch of changes (see
+ * {@link org.jabref.model.database.BibDatabase#batch(Runnable)}) instead of one {@link FieldChangedEvent} per change.
+ * <p>
+ * The changes are coalesced: each field of each entry occurs at most once, with the value before the batch as old value
+ * and the value after the batch as new value.
+ */
+public class FieldsChangedEvent extends EntriesEvent {
+
+    private final List<FieldChange> changes;
+
+    /**
+     * @param changes  the coalesced changes
+     * @param location Location affected by this event
+     */
+    public FieldsChangedEvent(List<FieldChange> changes, EntriesEventSource location) {
+        super(getChangedEntries(changes), location);
+        this.changes = List.copyOf(changes);
+    }
+
+    private static List<BibEntry> getChangedEntries(List<FieldChange> changes) {
+        // Entries are compared by identity, as equal entries may be changed in the same batch
+        Set<BibEntry> changedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<BibEntry> result = new ArrayList<>();
+        for (FieldChange change : changes) {
+            if (changedEntries.add(change.getEntry())) {
+                result.add(change.getEntry());
+            }
+        }
+        return result;
+    }
+
+    public List<FieldChange> getChanges() {
+        return changes;
+    }
+}
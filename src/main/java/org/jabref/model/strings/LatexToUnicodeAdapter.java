@@ -10,6 +10,9 @@ import fastparse.Parsed;
 
 /**
  * Adapter class for the latex2unicode lib. This is an alternative to our LatexToUnicode class
+ * <p>
+ * Running the latex2unicode parser is expensive. Thus, strings without LaTeX or with simple LaTeX only (e.g., accents)
+ * are converted by {@link SimpleLatexToUnicode}, which yields the same result.
  */
 public class LatexToUnicodeAdapter {
 
@@ -27,7 +30,7 @@ public class LatexToUnicodeAdapter {
      */
     public static String format(String inField) {
         Objects.requireNonNull(inField);
-        return parse(inField).orElse(Normalizer.normalize(inField, Normalizer.Form.NFC));
+        return parse(inField).orElseGet(() -> Normalizer.normalize(inField, Normalizer.Form.NFC));
     }
 
     /**
@@ -38,6 +41,14 @@ public class LatexToUnicodeAdapter {
      */
     public static Optional<String> parse(String inField) {
         Objects.requireNonNull(inField);
+        return SimpleLatexToUnicode.convert(inField).or(() -> parseWithLatex2Unicode(inField));
+    }
+
+    /**
+     * Resolves the LaTeX using the latex2unicode parser only. Visible for testing that {@link SimpleLatexToUnicode}
+     * yields the same results.
+     */
+    static Optional<String> parseWithLatex2Unicode(String inField) {
         String toFormat = UNDERSCORE_MATCHER.matcher(inField).replaceAll(REPLACEMENT_CHAR);
         var parsingResult = LaTeX2Unicode.parse(toFormat);
         if (parsingResult instanceof Parsed.Success) {
@@ -0,0 +1,208 @@
+package org.jabref.model.strings;
+
+import java.text.Normalizer;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Converts the LaTeX most commonly found in field values to Unicode in a single pass, without invoking the latex2unicode
+ * parser. Supported are braces, accents on single letters (e.g., {@code \"{a}}, {@code \'n}, {@code \c{c}}), special
+ * letters (e.g., {@code \ss}, {@code \L}), and escaped dollar signs and ampersands.
+ * <p>
+ * Everything else (math mode, dashes, sub- and superscripts, other commands, runs of whitespace, ...) is left to
+ * latex2unicode: in that case, an empty Optional is returned. The output is the same as the one of latex2unicode for all
+ * strings this class converts.
+ */
+final class SimpleLatexToUnicode {
+
+    // Accents written as symbol, e.g., \"a
+    private static final Map<Character, Character> SYMBOL_ACCENTS = Map.of(
+            '`', '\u0300',
+            '\'', '\u0301',
+            '^', '\u0302',
+            '~', '\u0303',
+            '=', '\u0304',
+            '.', '\u0307',
+            '"', '\u0308');
+
+    // Accents written as letter, e.g., \v{s}
+    private static final Map<String, Character> LETTER_ACCENTS = Map.of(
+            "u", '\u0306',
+            "r", '\u030A',
+            "H", '\u030B',
+            "v", '\u030C',
+            "d", '\u0323',
+            "c", '\u0327',
+            "k", '\u0328');
+
+    private static final Map<String, String> LETTERS = Map.ofEntries(
+            Map.entry("i", "ı"),
+            Map.entry("j", "ȷ"),
+            Map.entry("l", "ł"),
+            Map.entry("L", "Ł"),
+            Map.entry("o", "ø"),
+            Map.entry("O", "Ø"),
+            Map.entry("ae", "æ"),
+            Map.entry("AE", "Æ"),
+            Map.entry("oe", "œ"),
+            Map.entry("OE", "Œ"),
+            Map.entry("aa", "å"),
+            Map.entry("AA", "Å"),
+            Map.entry("ss", "ß"));
+
+    private SimpleLatexToUnicode() {
+    }
+
+    /**
+     * @return the Unicode representation of the given LaTeX, or an empty Optional if the string contains LaTeX not
+     * supported by this class
+     */
+    static Optional<String> convert(String text) {
+        int firstSpecial = 0;
+        while ((firstSpecial < text.length()) && !isSpecial(text, firstSpecial)) {
+            firstSpecial++;
+        }
+        if (firstSpecial == text.length()) {
+            // Fast path: nothing to convert
+            return Optional.of(normalize(text));
+        }
+
+        StringBuilder result = new StringBuilder(text.length());
+        result.append(text, 0, firstSpecial);
+        int depth = 0;
+        int position = firstSpecial;
+        while (position < text.length()) {
+            char current = text.charAt(position);
+            if (current == '{') {
+                depth++;
+                position++;
+            } else if (current == '}') {
+                depth--;
+                if (depth < 0) {
+                    return Optional.empty();
+                }
+                position++;
+            } else if (current == '\\') {
+                position = appendCommand(text, position, result);
+                if (position < 0) {
+                    return Optional.empty();
+                }
+            } else if (isSpecial(text, position)) {
+                return Optional.empty();
+            } else {
+                result.append(current);
+                position++;
+            }
+        }
+        if (depth != 0) {
+            return Optional.empty();
+        }
+        return Optional.of(normalize(result.toString()));
+    }
+
+    /**
+     * Checks whether the character at the given position is interpreted by latex2unicode.
+     */
+    private static boolean isSpecial(String text, int position) {
+        char current = text.charAt(position);
+        char next = (position + 1) < text.length() ? text.charAt(position + 1) : 0;
+        return switch (current) {
+            case '\\', '{', '}', '$', '~', '^', '_', '%', '&', '#', '`', '"' ->
+                    true;
+            case '-', '\'' ->
+                    next == current;
+            case ' ' ->
+                    Character.isWhitespace(next);
+            default ->
+                    Character.isWhitespace(current);
+        };
+    }
+
+    /**
+     * Appends the Unicode representation of the command starting at the given position.
+     *
+     * @return the position after the command, or -1 if the command is not supported
+     */
+    private static int appendCommand(String text, int position, StringBuilder result) {
+        int nameStart = position + 1;
+        if (nameStart >= text.length()) {
+            return -1;
+        }
+        char first = text.charAt(nameStart);
+
+        if ((first == '$') || (first == '&')) {
+            result.append(first);
+            return nameStart + 1;
+        }
+
+        Character symbolAccent = SYMBOL_ACCENTS.get(first);
+        if (symbolAccent != null) {
+            return appendAccented(text, nameStart + 1, symbolAccent, false, result);
+        }
+
+        int nameEnd = nameStart;
+        while ((nameEnd < text.length()) && isAsciiLetter(text.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        String name = text.substring(nameStart, nameEnd);
+        Character letterAccent = LETTER_ACCENTS.get(name);
+        if (letterAccent != null) {
+            return appendAccented(text, nameEnd, letterAccent, true, result);
+        }
+        String letter = LETTERS.get(name);
+        if ((letter != null) && ((nameEnd == text.length()) || !Character.isWhitespace(text.charAt(nameEnd)))) {
+            result.append(letter);
+            return nameEnd;
+        }
+        return -1;
+    }
+
+    /**
+     * Appends the argument of an accent at the given position followed by the combining accent. The argument is either a
+     * single letter, a single letter in braces, or a dotless i or j in braces.
+     *
+     * @param requireBraces true if the argument has to be enclosed in braces
+     * @return the position after the argument, or -1 if the argument is not supported
+     */
+    private static int appendAccented(String text, int position, char combiningAccent, boolean requireBraces, StringBuilder result) {
+        if (position >= text.length()) {
+            return -1;
+        }
+        if (text.charAt(position) != '{') {
+            if (requireBraces || !isAsciiLetter(text.charAt(position))) {
+                return -1;
+            }
+            result.append(text.charAt(position)).append(combiningAccent);
+            return position + 1;
+        }
+
+        int argumentEnd = text.indexOf('}', position);
+        if (argumentEnd < 0) {
+            return -1;
+        }
+        String argument = text.substring(position + 1, argumentEnd);
+        if ((argument.length() == 1) && isAsciiLetter(argument.charAt(0))) {
+            result.append(argument);
+        } else if ("\\i".equals(argument) || "\\j".equals(argument)) {
+            result.append(LETTERS.get(argument.substring(1)));
+        } else {
+            return -1;
+        }
+        result.append(combiningAccent);
+        return argumentEnd + 1;
+    }
+
+    private static boolean isAsciiLetter(char character) {
+        return ((character >= 'a') && (character <= 'z')) || ((character >= 'A') && (character <= 'Z'));
+    }
+
+    private static String normalize(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return Normalizer.normalize(text, Normalizer.Form.NFC);
+            }
+        }
+        // ASCII is always normalized
+        return text;
+    }
+}
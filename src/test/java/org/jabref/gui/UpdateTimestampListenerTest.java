@@ -5,10 +5,13 @@ import java.util.Optional;
 import org.jabref.logic.preferences.TimestampPreferences;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.preferences.PreferencesService;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -51,7 +54,7 @@ class UpdateTimestampListenerTest {
 
         assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "Initial timestamp not set correctly");
 
-        database.registerListener(new UpdateTimestampListener(preferencesMock));
+        database.registerListener(new UpdateTimestampListener(preferencesMock, database));
 
         bibEntry.setField(new UnknownField("test"), "some value");
 
@@ -69,10 +72,47 @@ class UpdateTimestampListenerTest {
 
         assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "Initial timestamp not set correctly");
 
-        database.registerListener(new UpdateTimestampListener(preferencesMock));
+        database.registerListener(new UpdateTimestampListener(preferencesMock, database));
 
         bibEntry.setField(new UnknownField("test"), "some value");
 
         assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "New timestamp set after entry changed even though updates were disabled");
     }
+
+    @Test
+    void updateTimestampsOfBatchNotifiesOnce() {
+        when(timestampPreferencesMock.now()).thenReturn(newDate);
+        when(timestampPreferencesMock.shouldAddModificationDate()).thenReturn(true);
+        BibEntry otherEntry = new BibEntry();
+        database.insertEntry(otherEntry);
+        database.registerListener(new UpdateTimestampListener(preferencesMock, database));
+        EventCounter eventCounter = new EventCounter();
+        database.registerListener(eventCounter);
+
+        database.batch(() -> {
+            bibEntry.setField(new UnknownField("test"), "some value");
+            otherEntry.setField(new UnknownField("test"), "some value");
+        });
+
+        assertEquals(Optional.of(newDate), bibEntry.getField(StandardField.MODIFICATIONDATE));
+        assertEquals(Optional.of(newDate), otherEntry.getField(StandardField.MODIFICATIONDATE));
+        assertEquals(0, eventCounter.fieldChangedEvents);
+        // one event for the changes and one for the timestamps
+        assertEquals(2, eventCounter.fieldsChangedEvents);
+    }
+
+    private static class EventCounter {
+        private int fieldChangedEvents;
+        private int fieldsChangedEvents;
+
+        @Subscribe
+        public void listen(FieldChangedEvent event) {
+            fieldChangedEvents++;
+        }
+
+        @Subscribe
+        public void listen(FieldsChangedEvent event) {
+            fieldsChangedEvents++;
+        }
+    }
 }
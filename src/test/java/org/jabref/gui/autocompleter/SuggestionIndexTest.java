@@ -0,0 +1,85 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.base.Equivalence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SuggestionIndexTest {
+
+    private BibDatabase database;
+    private SuggestionIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        index = new SuggestionIndex<>(database,
+                StandardField.JOURNAL::equals,
+                (entry, value) -> Stream.of(new SuggestionIndex.Suggestion<>(value, value)),
+                Equivalence.equals());
+    }
+
+    @Test
+    void findReturnsValuesStartingWithTextFirst() {
+        database.insertEntries(
+                new BibEntry().withField(StandardField.JOURNAL, "Applied Physics"),
+                new BibEntry().withField(StandardField.JOURNAL, "Physics Letters"));
+
+        assertEquals(List.of("Physics Letters", "Applied Physics"), index.find("phys").toList());
+    }
+
+    @Test
+    void findReturnsValueOnlyOnce() {
+        database.insertEntries(
+                new BibEntry().withField(StandardField.JOURNAL, "Nature"),
+                new BibEntry().withField(StandardField.JOURNAL, "Nature"));
+
+        assertEquals(List.of("Nature"), index.find("nat").toList());
+    }
+
+    @Test
+    void findReflectsChangedField() {
+        BibEntry entry = new BibEntry().withField(StandardField.JOURNAL, "Nature");
+        database.insertEntry(entry);
+        index.find("nat");
+
+        entry.setField(StandardField.JOURNAL, "Science");
+
+        assertEquals(List.of(), index.find("nat").toList());
+        assertEquals(List.of("Science"), index.find("sci").toList());
+    }
+
+    @Test
+    void findKeepsValueUsedByRemainingEntry() {
+        BibEntry first = new BibEntry().withField(StandardField.JOURNAL, "Nature");
+        BibEntry second = new BibEntry().withField(StandardField.JOURNAL, "Nature");
+        database.insertEntries(first, second);
+        index.find("nat");
+
+        database.removeEntry(first);
+
+        assertEquals(List.of("Nature"), index.find("nat").toList());
+    }
+
+    @Test
+    void findReflectsChangesOfBatch() {
+        BibEntry entry = new BibEntry().withField(StandardField.JOURNAL, "Nature");
+        database.insertEntry(entry);
+        index.find("nat");
+
+        database.batch(() -> {
+            entry.setField(StandardField.JOURNAL, "Cell");
+            entry.setField(StandardField.JOURNAL, "Science");
+        });
+
+        assertEquals(List.of("Science"), index.getAll().toList());
+    }
+}
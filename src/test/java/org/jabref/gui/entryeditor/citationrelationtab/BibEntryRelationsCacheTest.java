@@ -0,0 +1,74 @@
+package org.jabref.gui.entryeditor.citationrelationtab;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BibEntryRelationsCacheTest {
+
+    private final BibEntry entry = new BibEntry()
+            .withField(StandardField.DOI, "10.1234/5678");
+    private final BibEntry citation = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.TITLE, "Citing paper")
+            .withField(StandardField.AUTHOR, "Doe, John")
+            .withField(StandardField.DOI, "10.2345/6789");
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void relationsSurviveReopening() {
+        Path storeFile = tempDir.resolve("relations.mv");
+        try (BibEntryRelationsCache cache = new BibEntryRelationsCache(storeFile, Duration.ofDays(1), 10)) {
+            cache.cacheOrMergeCitations(entry, List.of(citation));
+        }
+        try (BibEntryRelationsCache cache = new BibEntryRelationsCache(storeFile, Duration.ofDays(1), 10)) {
+            assertTrue(cache.citationsCached(entry));
+            assertFalse(cache.referencesCached(entry));
+            assertEquals(List.of(citation), cache.getCitations(entry));
+        }
+    }
+
+    @Test
+    void outdatedRelationsAreNotReportedAsCached() {
+        try (BibEntryRelationsCache cache = new BibEntryRelationsCache(null, Duration.ZERO, 10)) {
+            cache.cacheOrMergeReferences(entry, List.of(citation));
+            assertFalse(cache.referencesCached(entry));
+            assertEquals(List.of(citation), cache.getReferences(entry));
+        }
+    }
+
+    @Test
+    void entryWithoutDoiIsNotCached() {
+        try (BibEntryRelationsCache cache = new BibEntryRelationsCache()) {
+            cache.cacheOrMergeCitations(new BibEntry(), List.of(citation));
+            assertFalse(cache.citationsCached(new BibEntry()));
+            assertEquals(List.of(), cache.getCitations(new BibEntry()));
+        }
+    }
+
+    @Test
+    void numberOfDoisIsBounded() {
+        try (BibEntryRelationsCache cache = new BibEntryRelationsCache(null, Duration.ofDays(1), 10)) {
+            for (int i = 0; i < 20; i++) {
+                cache.cacheOrMergeCitations(new BibEntry().withField(StandardField.DOI, "10.1234/" + i), List.of(citation));
+            }
+            long cachedDois = IntStream.range(0, 20)
+                                       .filter(i -> cache.citationsCached(new BibEntry().withField(StandardField.DOI, "10.1234/" + i)))
+                                       .count();
+            assertTrue(cachedDois <= 10);
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package org.jabref.gui.entryeditor.citationrelationtab;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.jabref.gui.entryeditor.citationrelationtab.semanticscholar.CitationFetcher;
 import org.jabref.gui.entryeditor.citationrelationtab.semanticscholar.SemanticScholarFetcher;
+import org.jabref.logic.importer.FetcherException;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 
@@ -58,4 +64,87 @@ class BibEntryRelationsRepositoryTest {
             assertEquals(getCitedBy(entry), citations);
         }
     }
+
+    @Test
+    void concurrentRequestsForSameDoiAreCoalesced() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        StubFetcher fetcher = new StubFetcher() {
+            @Override
+            public List<BibEntry> searchCitedBy(BibEntry entry) throws FetcherException {
+                fetchStarted.countDown();
+                try {
+                    releaseFetch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.searchCitedBy(entry);
+            }
+        };
+        BibEntryRelationsRepository repository = new BibEntryRelationsRepository(fetcher, new BibEntryRelationsCache());
+        BibEntry entry = createBibEntry(1);
+
+        FutureTask<List<BibEntry>> first = new FutureTask<>(() -> repository.getCitations(entry));
+        FutureTask<List<BibEntry>> second = new FutureTask<>(() -> repository.getCitations(entry));
+        Thread firstThread = new Thread(first);
+        Thread secondThread = new Thread(second);
+        firstThread.start();
+        fetchStarted.await();
+        secondThread.start();
+        // The second request blocks either waiting for the first fetch or, if it is not coalesced, in a fetch of its own
+        while (secondThread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        releaseFetch.countDown();
+
+        assertEquals(getCitedBy(entry), first.get());
+        assertEquals(getCitedBy(entry), second.get());
+        assertEquals(1, fetcher.citedByCalls.get());
+    }
+
+    @Test
+    void prefetchFetchesEachDoiOnce() {
+        StubFetcher fetcher = new StubFetcher();
+        BibEntryRelationsRepository repository = new BibEntryRelationsRepository(fetcher, new BibEntryRelationsCache());
+
+        repository.prefetch(List.of(createBibEntry(1), createBibEntry(1), createBibEntry(2), new BibEntry()));
+        repository.prefetch(List.of(createBibEntry(1), createBibEntry(2)));
+
+        assertEquals(2, fetcher.citedByCalls.get());
+        assertEquals(2, fetcher.citingCalls.get());
+    }
+
+    @Test
+    void outdatedRelationsAreFetchedAgain() {
+        StubFetcher fetcher = new StubFetcher();
+        BibEntryRelationsRepository repository = new BibEntryRelationsRepository(fetcher, new BibEntryRelationsCache(null, Duration.ZERO, 10));
+        BibEntry entry = createBibEntry(1);
+
+        repository.getCitations(entry);
+        repository.getCitations(entry);
+
+        assertEquals(2, fetcher.citedByCalls.get());
+    }
+
+    private class StubFetcher implements CitationFetcher {
+        final AtomicInteger citedByCalls = new AtomicInteger();
+        final AtomicInteger citingCalls = new AtomicInteger();
+
+        @Override
+        public List<BibEntry> searchCitedBy(BibEntry entry) throws FetcherException {
+            citedByCalls.incrementAndGet();
+            return getCitedBy(entry);
+        }
+
+        @Override
+        public List<BibEntry> searchCiting(BibEntry entry) throws FetcherException {
+            citingCalls.incrementAndGet();
+            return List.of();
+        }
+
+        @Override
+        public String getName() {
+            return "Stub";
+        }
+    }
 }
@@ -0,0 +1,102 @@
+package org.jabref.http.server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.jabref.testutils.category.LoadTest;
+
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Sends concurrent requests to the entry endpoints and logs the 50th and 99th percentile of the latencies. Run with
+ * {@code ./gradlew loadTest}.
+ */
+@LoadTest
+class EntriesResourceLoadTest extends ServerTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntriesResourceLoadTest.class);
+
+    private static final int CLIENTS = 8;
+    private static final int REQUESTS_PER_CLIENT = 250;
+
+    @Override
+    protected Application configure() {
+        ResourceConfig resourceConfig = new ResourceConfig(EntriesResource.class);
+        addPreferencesToResourceConfig(resourceConfig);
+        addGsonToResourceConfig(resourceConfig);
+        return resourceConfig.getApplication();
+    }
+
+    @Test
+    void getEntryByCitationKey() throws Exception {
+        setAvailableLibraries(EnumSet.of(TestBibFile.JABREF_AUTHORS));
+
+        measure("citation key lookup", () -> target("/libraries/" + TestBibFile.JABREF_AUTHORS.id + "/entries/GarridoKallstromKummEtAl2016")
+                .request(MediaType.APPLICATION_JSON)
+                .get());
+    }
+
+    @Test
+    void getEntriesMatchingQuery() throws Exception {
+        setAvailableLibraries(EnumSet.of(TestBibFile.JABREF_AUTHORS));
+
+        measure("search", () -> target("/libraries/" + TestBibFile.JABREF_AUTHORS.id + "/entries")
+                .queryParam("q", "author=Kopp")
+                .queryParam("fields", "title,author")
+                .request(MediaType.APPLICATION_JSON)
+                .get());
+    }
+
+    private void measure(String name, Supplier<Response> request) throws Exception {
+        // Warm-up, which also parses the library
+        request.get().close();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<long[]>> clients = new ArrayList<>();
+        try {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(executor.submit(() -> {
+                    long[] latencies = new long[REQUESTS_PER_CLIENT];
+                    for (int j = 0; j < REQUESTS_PER_CLIENT; j++) {
+                        long start = System.nanoTime();
+                        try (Response response = request.get()) {
+                            response.readEntity(String.class);
+                            assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+                        }
+                        latencies[j] = System.nanoTime() - start;
+                    }
+                    return latencies;
+                }));
+            }
+
+            long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+            for (int i = 0; i < CLIENTS; i++) {
+                System.arraycopy(clients.get(i).get(), 0, latencies, i * REQUESTS_PER_CLIENT, REQUESTS_PER_CLIENT);
+            }
+            Arrays.sort(latencies);
+            LOGGER.info("{}: {} requests by {} clients, p50 {} µs, p99 {} µs",
+                    name, latencies.length, CLIENTS, percentile(latencies, 50) / 1000, percentile(latencies, 99) / 1000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long percentile(long[] sortedValues, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedValues.length) - 1;
+        return sortedValues[Math.max(index, 0)];
+    }
+}
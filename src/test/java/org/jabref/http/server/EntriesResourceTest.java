@@ -0,0 +1,76 @@
+package org.jabref.http.server;
+
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EntriesResourceTest extends ServerTest {
+
+    @Override
+    protected Application configure() {
+        ResourceConfig resourceConfig = new ResourceConfig(EntriesResource.class);
+        addPreferencesToResourceConfig(resourceConfig);
+        addGsonToResourceConfig(resourceConfig);
+        return resourceConfig.getApplication();
+    }
+
+    @Test
+    void getEntryWithProjection() {
+        assertEquals("""
+                {"citationKey":"Author2023test","title":"Demo Title","year":"2023"}""",
+                target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries/Author2023test")
+                        .queryParam("fields", "title,year")
+                        .request(MediaType.APPLICATION_JSON)
+                        .get(String.class));
+    }
+
+    @Test
+    void getEntryWithUnknownCitationKeyIsNotFound() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries/unknown")
+                .request(MediaType.APPLICATION_JSON)
+                .get();
+
+        assertEquals(Response.Status.NOT_FOUND.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void getEntriesMatchingQuery() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("q", "author=Demo")
+                .queryParam("fields", "author")
+                .request(MediaType.APPLICATION_JSON)
+                .get();
+
+        assertEquals("""
+                [
+                {"citationKey":"Author2023test","author":"Demo Author"}
+                ]""", response.readEntity(String.class));
+        assertEquals("1", response.getHeaderString(LibraryResource.TOTAL_COUNT_HEADER));
+    }
+
+    @Test
+    void getEntriesWithoutMatch() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("q", "title=unmatched")
+                .request(MediaType.APPLICATION_JSON)
+                .get();
+
+        assertEquals("[]", response.readEntity(String.class));
+        assertEquals("0", response.getHeaderString(LibraryResource.TOTAL_COUNT_HEADER));
+    }
+
+    @Test
+    void getEntriesWithInvalidQueryIsBadRequest() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("q", "title(")
+                .queryParam("regex", true)
+                .request(MediaType.APPLICATION_JSON)
+                .get();
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
+}
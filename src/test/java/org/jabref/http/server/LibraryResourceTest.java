@@ -3,6 +3,10 @@ package org.jabref.http.server;
 import org.jabref.http.JabrefMediaType;
 
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.Test;
 
@@ -36,4 +40,35 @@ class LibraryResourceTest extends ServerTest {
         assertEquals("""
                 [{"id":"Author2023test","type":"article","author":[{"family":"Author","given":"Demo"}],"event-date":{"date-parts":[[2023]]},"issued":{"date-parts":[[2023]]},"title":"Demo Title"}]""", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get(String.class));
     }
+
+    @Test
+    void getJsonWithMatchingEntityTagReturnsNotModified() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(MediaType.APPLICATION_JSON).get();
+        EntityTag entityTag = response.getEntityTag();
+
+        Response secondResponse = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(MediaType.APPLICATION_JSON)
+                                                                                            .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+                                                                                            .get();
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), secondResponse.getStatus());
+    }
+
+    @Test
+    void getJsonReturnsRequestedPage() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).queryParam("offset", 1)
+                                                                                      .request(MediaType.APPLICATION_JSON)
+                                                                                      .get();
+
+        assertEquals("[]", response.readEntity(String.class));
+        assertEquals("1", response.getHeaderString(LibraryResource.TOTAL_COUNT_HEADER));
+    }
+
+    @Test
+    void getJsonWithNegativeOffsetIsBadRequest() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).queryParam("offset", -1)
+                                                                                      .request(MediaType.APPLICATION_JSON)
+                                                                                      .get();
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
 }
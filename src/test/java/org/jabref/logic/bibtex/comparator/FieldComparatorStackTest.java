@@ -0,0 +1,54 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FieldComparatorStackTest {
+
+    private final FieldComparatorStack<BibEntry> comparatorStack = new FieldComparatorStack<>(List.of(
+            new FieldComparator(StandardField.AUTHOR),
+            Comparator.comparing((BibEntry entry) -> entry.getField(StandardField.NOTE).orElse("")),
+            new FieldComparator(StandardField.YEAR)));
+
+    @Test
+    void sortKeepsOrderOfComparatorStack() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            BibEntry entry = new BibEntry()
+                    .withField(StandardField.NOTE, String.valueOf(i % 3))
+                    .withField(StandardField.YEAR, String.valueOf(2000 + (i % 7)));
+            if (i % 5 != 0) {
+                entry.setField(StandardField.AUTHOR, "Author" + (i % 4) + ", First");
+            }
+            entries.add(entry);
+        }
+        List<BibEntry> expected = new ArrayList<>(entries);
+        expected.sort(comparatorStack);
+
+        comparatorStack.sort(entries);
+
+        assertEquals(expected, entries);
+    }
+
+    @Test
+    void sortUsesChangedFieldValue() {
+        BibEntry first = new BibEntry().withField(StandardField.AUTHOR, "Alpha, First");
+        BibEntry second = new BibEntry().withField(StandardField.AUTHOR, "Beta, First");
+        List<BibEntry> entries = new ArrayList<>(List.of(second, first));
+        comparatorStack.sort(entries);
+        assertEquals(List.of(first, second), entries);
+
+        first.setField(StandardField.AUTHOR, "Gamma, First");
+        comparatorStack.sort(entries);
+
+        assertEquals(List.of(second, first), entries);
+    }
+}
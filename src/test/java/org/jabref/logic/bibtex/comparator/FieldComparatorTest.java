@@ -261,4 +261,30 @@ public class FieldComparatorTest {
 
         assertEquals(1, comparator.compare(smaller, bigger));
     }
+
+    @Test
+    public void compareUsesChangedFieldValue() throws Exception {
+        FieldComparator comparator = new FieldComparator(StandardField.TITLE);
+        BibEntry first = new BibEntry()
+                .withField(StandardField.TITLE, "a");
+        BibEntry second = new BibEntry()
+                .withField(StandardField.TITLE, "b");
+        assertEquals(-1, comparator.compare(first, second));
+
+        first.setField(StandardField.TITLE, "c");
+
+        assertEquals(1, comparator.compare(first, second));
+    }
+
+    @Test
+    public void compareUsesChangedType() throws Exception {
+        FieldComparator comparator = new FieldComparator(InternalField.TYPE_HEADER);
+        BibEntry article = new BibEntry(StandardEntryType.Article);
+        BibEntry book = new BibEntry(StandardEntryType.Book);
+        assertEquals(-1, comparator.compare(article, book));
+
+        article.setType(StandardEntryType.Misc);
+
+        assertEquals(1, comparator.compare(article, book));
+    }
 }
@@ -187,6 +187,27 @@ class CleanupWorkerTest {
         assertEquals(Optional.of("#jan#"), entry.getField(StandardField.MONTH));
     }
 
+    @Test
+    void cleanupEntriesReturnsChangesInOrderOfEntries() {
+        CleanupPreferences preset = new CleanupPreferences(new FieldFormatterCleanups(true,
+                Collections.singletonList(new FieldFormatterCleanup(StandardField.MONTH, new NormalizeMonthFormatter()))));
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new BibEntry().withField(StandardField.MONTH, i % 2 == 0 ? "01" : "#jan#"));
+        }
+
+        List<List<FieldChange>> changes = worker.cleanupEntries(preset, entries);
+
+        assertEquals(entries.size(), changes.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(Optional.of("#jan#"), entries.get(i).getField(StandardField.MONTH));
+            List<FieldChange> expected = i % 2 == 0
+                    ? List.of(new FieldChange(entries.get(i), StandardField.MONTH, "01", "#jan#"))
+                    : List.of();
+            assertEquals(expected, changes.get(i));
+        }
+    }
+
     @Test
     void cleanupPageNumbersConvertsSingleDashToDouble() {
         CleanupPreferences preset = new CleanupPreferences(new FieldFormatterCleanups(true,
@@ -0,0 +1,105 @@
+package org.jabref.logic.crawler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.SearchBasedFetcher;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.study.FetchResult;
+import org.jabref.model.study.QueryResult;
+
+import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StudyFetcherTest {
+
+    private static final List<String> QUERIES = List.of("Quantum", "Cloud Computing", "Blockchain", "Edge", "Fog");
+
+    @Test
+    void resultsAreOrderedByQueryAndFetcher() {
+        StubFetcher first = new StubFetcher("First");
+        StubFetcher second = new StubFetcher("Second");
+
+        List<QueryResult> results = new StudyFetcher(List.of(first, second), QUERIES).crawl();
+
+        assertEquals(QUERIES, results.stream().map(QueryResult::getQuery).toList());
+        for (QueryResult result : results) {
+            assertEquals(List.of("First", "Second"), result.getResultsPerFetcher().stream().map(FetchResult::getFetcherName).toList());
+        }
+    }
+
+    @Test
+    void concurrentRequestsPerFetcherAreBounded() {
+        StubFetcher fetcher = new StubFetcher("Rate limited");
+
+        new StudyFetcher(List.of(fetcher), QUERIES).crawl();
+
+        assertEquals(QUERIES.size(), fetcher.calls.get());
+        assertTrue(fetcher.maximumConcurrentCalls.get() <= 2);
+    }
+
+    @Test
+    void checkpointedPairsAreNotFetchedAgain() {
+        InMemoryCheckpoint checkpoint = new InMemoryCheckpoint();
+        new StudyFetcher(List.of(new StubFetcher("Catalog")), QUERIES).crawl(checkpoint);
+        assertEquals(QUERIES.size(), checkpoint.results.size());
+
+        StubFetcher resumedFetcher = new StubFetcher("Catalog");
+        List<QueryResult> results = new StudyFetcher(List.of(resumedFetcher), QUERIES).crawl(checkpoint);
+
+        assertEquals(0, resumedFetcher.calls.get());
+        assertEquals(1, results.getFirst().getResultsPerFetcher().getFirst().getFetchResult().getEntryCount());
+    }
+
+    private static class InMemoryCheckpoint implements CrawlCheckpoint {
+        private final Map<String, FetchResult> results = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<FetchResult> load(String query, String fetcherName) {
+            return Optional.ofNullable(results.get(query + fetcherName));
+        }
+
+        @Override
+        public void save(String query, FetchResult fetchResult) {
+            results.put(query + fetchResult.getFetcherName(), fetchResult);
+        }
+    }
+
+    private static class StubFetcher implements SearchBasedFetcher {
+        private final String name;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger concurrentCalls = new AtomicInteger();
+        private final AtomicInteger maximumConcurrentCalls = new AtomicInteger();
+
+        StubFetcher(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public List<BibEntry> performSearch(QueryNode luceneQuery) throws FetcherException {
+            calls.incrementAndGet();
+            maximumConcurrentCalls.accumulateAndGet(concurrentCalls.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrentCalls.decrementAndGet();
+            }
+            return List.of(new BibEntry().withField(StandardField.TITLE, name));
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateIndexTest {
+
+    private final BibEntry quantumNetworks = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Phillip Kaye and Michele Mosca")
+            .withField(StandardField.TITLE, "Quantum Networks for Generating Arbitrary Quantum States")
+            .withField(StandardField.DOI, "10.1364/OFC.2001.PB28");
+    private final BibEntry quantumLanguages = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Stephen Blaha")
+            .withField(StandardField.TITLE, "Quantum Computers and Quantum Computer Languages");
+
+    private final DuplicateIndex index = new DuplicateIndex(
+            new DuplicateCheck(new BibEntryTypesManager()),
+            BibDatabaseMode.BIBTEX,
+            List.of(quantumNetworks, quantumLanguages));
+
+    @Test
+    void findsEntryWithSameIdentifier() {
+        BibEntry entry = new BibEntry(StandardEntryType.Misc)
+                .withField(StandardField.TITLE, "Something completely different")
+                .withField(StandardField.DOI, "10.1364/OFC.2001.PB28");
+
+        assertEquals(Optional.of(quantumNetworks), index.findDuplicate(entry));
+    }
+
+    @Test
+    void findsSimilarEntry() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Stephen Blaha")
+                .withField(StandardField.TITLE, "Quantum Computers and Quantum Computer Languages");
+
+        assertEquals(Optional.of(quantumLanguages), index.findDuplicate(entry));
+    }
+
+    @Test
+    void doesNotFindUnrelatedEntry() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Joshua Bloch")
+                .withField(StandardField.TITLE, "Effective Java");
+
+        assertEquals(Optional.empty(), index.findDuplicate(entry));
+    }
+
+    @Test
+    void findsAddedEntry() {
+        BibEntry entry = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.AUTHOR, "Joshua Bloch")
+                .withField(StandardField.TITLE, "Effective Java");
+        index.add(entry);
+
+        assertEquals(Optional.of(entry), index.findDuplicate(new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.AUTHOR, "Joshua Bloch")
+                .withField(StandardField.TITLE, "Effective Java")));
+    }
+}
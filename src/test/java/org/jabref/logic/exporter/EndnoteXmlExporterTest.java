@@ -4,6 +4,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
 
+import javax.xml.parsers.DocumentBuilderFactory;
+
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -76,4 +79,17 @@ public class EndnoteXmlExporterTest {
         assertThrows(NullPointerException.class, () ->
                 exporter.export(databaseContext, file, null));
     }
+
+    @Test
+    public void exportStripsCharactersInvalidInXml(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("InvalidCharacters.xml");
+        bookEntry.setField(StandardField.TITLE, "Wave\fEnergy Conversion");
+
+        exporter.export(databaseContext, file, Collections.singletonList(bookEntry));
+
+        String content = Files.readString(file);
+        assertTrue(content.contains("WaveEnergy Conversion"));
+        // The export can be parsed again
+        DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file.toFile());
+    }
 }
@@ -6,14 +6,19 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 
+import javax.xml.parsers.DocumentBuilderFactory;
+
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MsBibExportFormatTest {
 
@@ -34,4 +39,20 @@ public class MsBibExportFormatTest {
         msBibExportFormat.export(databaseContext, path, entries);
         assertEquals(Collections.emptyList(), Files.readAllLines(path));
     }
+
+    @Test
+    public final void performExportStripsCharactersInvalidInXml(@TempDir Path tempFile) throws Exception {
+        Path path = tempFile.resolve("InvalidCharacters.xml");
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "{Form\fFeed Inc.}")
+                .withField(StandardField.TITLE, "Form\fFeed");
+
+        msBibExportFormat.export(databaseContext, path, List.of(entry));
+
+        String content = Files.readString(path);
+        assertTrue(content.contains("FormFeed Inc."));
+        assertTrue(content.contains("<b:Title>FormFeed</b:Title>"));
+        // The export can be parsed again
+        DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(path.toFile());
+    }
 }
@@ -0,0 +1,96 @@
+package org.jabref.logic.exporter;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamingXmlWriterTest {
+
+    private Transformer transformer;
+
+    @BeforeEach
+    void setUp() throws TransformerException {
+        transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+    }
+
+    @Test
+    void writeKeepsOrderOfEntries() throws TransformerException {
+        List<Integer> entries = IntStream.range(0, 10_000).boxed().toList();
+        StreamingXmlWriter<Integer> streamingWriter = new StreamingXmlWriter<>(
+                writer -> writer.writeStartElement("list"),
+                (writer, entry) -> {
+                    writer.writeStartElement("item");
+                    writer.writeCharacters(entry.toString());
+                    writer.writeEndElement();
+                });
+        StringWriter output = new StringWriter();
+
+        streamingWriter.write(entries, transformer, new StreamResult(output));
+
+        String expected = entries.stream()
+                                 .map(entry -> "<item>" + entry + "</item>")
+                                 .collect(Collectors.joining("", "<list>", "</list>"));
+        assertEquals(expected, output.toString());
+    }
+
+    @Test
+    void writeDeclaresNamespacesOnlyAtRootElement() throws TransformerException {
+        String namespace = "http://example.org/ns";
+        StreamingXmlWriter<String> streamingWriter = new StreamingXmlWriter<>(
+                writer -> {
+                    writer.writeStartElement("n", "list", namespace);
+                    writer.writeNamespace("n", namespace);
+                    writer.writeStartElement("n", "items", namespace);
+                },
+                (writer, entry) -> {
+                    writer.writeStartElement("n", "item", namespace);
+                    writer.writeAttribute("name", entry);
+                    writer.writeEndElement();
+                });
+        StringWriter output = new StringWriter();
+
+        streamingWriter.write(List.of("a & b", "c"), transformer, new StreamResult(output));
+
+        assertEquals("<n:list xmlns:n=\"http://example.org/ns\"><n:items><n:item name=\"a &amp; b\"/><n:item name=\"c\"/></n:items></n:list>",
+                output.toString());
+    }
+
+    @Test
+    void writeWithoutEntriesWritesRootElement() throws TransformerException {
+        StreamingXmlWriter<String> streamingWriter = new StreamingXmlWriter<>(
+                writer -> writer.writeStartElement("list"),
+                (writer, entry) -> writer.writeEmptyElement("item"));
+        StringWriter output = new StringWriter();
+
+        streamingWriter.write(List.of(), transformer, new StreamResult(output));
+
+        assertEquals("<list/>", output.toString());
+    }
+
+    @Test
+    void writeThrowsTransformerExceptionIfEntryCannotBeWritten() {
+        StreamingXmlWriter<String> streamingWriter = new StreamingXmlWriter<>(
+                writer -> writer.writeStartElement("list"),
+                (writer, entry) -> {
+                    throw new XMLStreamException("entry " + entry);
+                });
+
+        assertThrows(TransformerException.class,
+                () -> streamingWriter.write(List.of("a"), transformer, new StreamResult(new StringWriter())));
+    }
+}
@@ -0,0 +1,72 @@
+package org.jabref.logic.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RecordReaderTest {
+
+    private static List<List<String>> records(RecordReader recordReader, String input) {
+        return recordReader.records(new BufferedReader(new StringReader(input))).toList();
+    }
+
+    @Test
+    void startingWithSplitsBeforeEachStartLine() {
+        RecordReader recordReader = RecordReader.startingWith(line -> line.startsWith("PT "));
+
+        assertEquals(List.of(List.of("PT J", "TI a"), List.of("PT J", "TI b")),
+                records(recordReader, "PT J\nTI a\nPT J\nTI b"));
+    }
+
+    @Test
+    void startingWithReturnsLinesBeforeFirstStartLine() {
+        RecordReader recordReader = RecordReader.startingWith(line -> line.startsWith("PT "));
+
+        assertEquals(List.of(List.of("FN header"), List.of("PT J")),
+                records(recordReader, "FN header\nPT J"));
+    }
+
+    @Test
+    void separatedBySkipsSeparatorsAndEmptyRecords() {
+        RecordReader recordReader = RecordReader.separatedBy(String::isEmpty);
+
+        assertEquals(List.of(List.of("a", "b"), List.of("c")),
+                records(recordReader, "\na\nb\n\n\n\nc\n\n"));
+    }
+
+    @Test
+    void parseKeepsOrderOfRecords() throws IOException {
+        RecordReader recordReader = RecordReader.separatedBy(String::isEmpty);
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            input.append("title ").append(i).append("\n\n");
+        }
+
+        List<BibEntry> entries = recordReader.parse(new BufferedReader(new StringReader(input.toString())),
+                lines -> Optional.of(new BibEntry().withField(StandardField.TITLE, lines.getFirst())));
+
+        assertEquals(10_000, entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(Optional.of("title " + i), entries.get(i).getTitle());
+        }
+    }
+
+    @Test
+    void parseSkipsRecordsWithoutEntry() throws IOException {
+        RecordReader recordReader = RecordReader.startingWith(line -> line.startsWith("PT "));
+
+        List<BibEntry> entries = recordReader.parse(new BufferedReader(new StringReader("FN header\nPT J")),
+                lines -> lines.getFirst().startsWith("PT ") ? Optional.of(new BibEntry()) : Optional.empty());
+
+        assertEquals(List.of(new BibEntry()), entries);
+    }
+}
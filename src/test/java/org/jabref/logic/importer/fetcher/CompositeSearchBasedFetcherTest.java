@@ -1,10 +1,12 @@
 package org.jabref.logic.importer.fetcher;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
@@ -17,6 +19,7 @@ import org.jabref.logic.importer.ImporterPreferences;
 import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.support.DisabledOnCIServer;
 import org.jabref.testutils.category.FetcherTest;
 
@@ -24,6 +27,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Answers;
 import org.slf4j.Logger;
@@ -56,6 +60,43 @@ public class CompositeSearchBasedFetcherTest {
         Assertions.assertEquals(result, Collections.emptyList());
     }
 
+    @Test
+    public void performSearchSkipsCatalogsExceedingTimeout() throws Exception {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        Set<SearchBasedFetcher> fetchers = Set.of(
+                new StubFetcher("fast", 2, null),
+                new StubFetcher("slow", 2, neverReleased));
+        ImporterPreferences preferences = mock(ImporterPreferences.class);
+        when(preferences.getCatalogs()).thenReturn(FXCollections.observableArrayList("fast", "slow"));
+        CompositeSearchBasedFetcher compositeFetcher = new CompositeSearchBasedFetcher(fetchers, preferences, Integer.MAX_VALUE, Duration.ofMillis(500));
+
+        List<BibEntry> result = compositeFetcher.performSearch("quantum");
+
+        Assertions.assertEquals(List.of(StubFetcher.entry("fast", 0), StubFetcher.entry("fast", 1)), result);
+    }
+
+    @Test
+    public void performSearchStopsAtMaximumNumberOfResults() throws Exception {
+        Set<SearchBasedFetcher> fetchers = Set.of(
+                new StubFetcher("first", 5, null),
+                new StubFetcher("second", 5, null));
+        ImporterPreferences preferences = mock(ImporterPreferences.class);
+        when(preferences.getCatalogs()).thenReturn(FXCollections.observableArrayList("first", "second"));
+        CompositeSearchBasedFetcher compositeFetcher = new CompositeSearchBasedFetcher(fetchers, preferences, 3);
+
+        List<String> answeredCatalogs = new ArrayList<>();
+        List<BibEntry> receivedEntries = new ArrayList<>();
+        List<BibEntry> result = compositeFetcher.performSearch("quantum", (fetcher, entries) -> {
+            answeredCatalogs.add(fetcher.getName());
+            receivedEntries.addAll(entries);
+        });
+
+        Assertions.assertEquals(3, result.size());
+        Assertions.assertEquals(1, answeredCatalogs.size());
+        // The listener receives exactly the entries of the result
+        Assertions.assertEquals(result, receivedEntries);
+    }
+
     @ParameterizedTest(name = "Perform Search on empty query.")
     @MethodSource("performSearchParameters")
     public void performSearchOnEmptyQuery(Set<SearchBasedFetcher> fetchers) throws Exception {
@@ -138,4 +179,36 @@ public class CompositeSearchBasedFetcherTest {
 
         return fetcherParameters.stream().map(Arguments::of);
     }
+
+    /**
+     * Returns a fixed number of entries, optionally after waiting for a latch
+     */
+    private record StubFetcher(String name, int numberOfResults, CountDownLatch latch) implements SearchBasedFetcher {
+
+        static BibEntry entry(String name, int number) {
+            return new BibEntry().withField(StandardField.TITLE, name + number);
+        }
+
+        @Override
+        public List<BibEntry> performSearch(QueryNode luceneQuery) throws FetcherException {
+            if (latch != null) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return List.of();
+                }
+            }
+            List<BibEntry> entries = new ArrayList<>();
+            for (int i = 0; i < numberOfResults; i++) {
+                entries.add(entry(name, i));
+            }
+            return entries;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
 }
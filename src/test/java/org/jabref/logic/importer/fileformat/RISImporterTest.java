@@ -1,10 +1,16 @@
 package org.jabref.logic.importer.fileformat;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,4 +52,32 @@ public class RISImporterTest {
         Path file = Path.of(RISImporterTest.class.getResource("RisImporterCorrupted.ris").toURI());
         assertFalse(importer.isRecognizedFormat(file));
     }
+
+    @Test
+    public void importDatabaseCreatesOneEntryPerRecord() throws IOException {
+        String ris = """
+                TY  - JOUR
+                TI  - First title
+                  continued
+                ER  -\s
+
+                TY  - BOOK
+                TI  - Second title
+                ER  - """;
+
+        List<BibEntry> entries = importer.importDatabase(new BufferedReader(new StringReader(ris))).getDatabase().getEntries();
+
+        assertEquals(List.of(
+                new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "First title continued"),
+                new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "Second title")), entries);
+    }
+
+    @Test
+    public void importDatabaseIgnoresBlankLinesAfterLastRecord() throws IOException {
+        String ris = "TY  - JOUR\nTI  - Title\nER  - \n\n\n";
+
+        List<BibEntry> entries = importer.importDatabase(new BufferedReader(new StringReader(ris))).getDatabase().getEntries();
+
+        assertEquals(List.of(new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Title")), entries);
+    }
 }
@@ -12,6 +12,7 @@ import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
@@ -145,6 +146,39 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void changedEntryIsCheckedAgain() throws Exception {
+        BibDatabaseContext context = withMode(createContext(StandardField.YEAR, "abc", StandardEntryType.Article), BibDatabaseMode.BIBTEX);
+        IntegrityCheck integrityCheck = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+        assertNotEquals(Collections.emptyList(), integrityCheck.check());
+
+        context.getEntries().getFirst().setField(StandardField.YEAR, "2024");
+
+        assertEquals(Collections.emptyList(), integrityCheck.check());
+    }
+
+    @Test
+    void libraryCheckersAreEvaluatedForUnchangedEntries() throws Exception {
+        BibEntry first = new BibEntry(StandardEntryType.Article).withCitationKey("key");
+        BibDatabaseContext context = withMode(new BibDatabaseContext(new BibDatabase(List.of(first))), BibDatabaseMode.BIBTEX);
+        IntegrityCheck integrityCheck = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+        integrityCheck.check();
+
+        context.getDatabase().insertEntry(new BibEntry(StandardEntryType.Article).withCitationKey("key"));
+
+        assertEquals(2, integrityCheck.check().stream()
+                                      .filter(message -> message.getMessage().equals(Localization.lang("Duplicate citation key")))
+                                      .count());
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry(type)
                 .withField(field, value);
@@ -21,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -186,4 +188,29 @@ class LayoutTest {
 
         assertEquals("Joe Doe and Mary Jane: Joe Doe and Mary Jane 1:corresponding,2:highlight", layoutText);
     }
+
+    @Test
+    void numberIsGivenEntryNumber() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "test");
+        Layout layout = new LayoutHelper(new StringReader("[\\format[Number]{\\author}] \\author"), Collections.emptyList(), layoutFormatterPreferences, abbreviationRepository)
+                .getLayoutFromText();
+
+        assertEquals("[42] test", layout.doLayout(entry, null, 42));
+    }
+
+    @Test
+    void layoutWithGroupDependsOnPreviousEntries() throws IOException {
+        Layout layout = new LayoutHelper(new StringReader("\\begingroup{year}\\year\\endgroup{year} \\author"), Collections.emptyList(), layoutFormatterPreferences, abbreviationRepository)
+                .getLayoutFromText();
+
+        assertTrue(layout.dependsOnPreviousEntries());
+    }
+
+    @Test
+    void layoutWithoutGroupDoesNotDependOnPreviousEntries() throws IOException {
+        Layout layout = new LayoutHelper(new StringReader("\\begin{year}\\year\\end{year} \\author"), Collections.emptyList(), layoutFormatterPreferences, abbreviationRepository)
+                .getLayoutFromText();
+
+        assertFalse(layout.dependsOnPreviousEntries());
+    }
 }
@@ -1,9 +1,12 @@
 package org.jabref.logic.layout.format;
 
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -11,50 +14,71 @@ class LatexToUnicodeFormatterTest {
 
     final LatexToUnicodeFormatter formatter = new LatexToUnicodeFormatter();
 
-    @Test
-    void plainFormat() {
-        assertEquals("aaa", formatter.format("aaa"));
-    }
-
-    @Test
-    void formatUmlaut() {
-        assertEquals("ä", formatter.format("{\\\"{a}}"));
-        assertEquals("Ä", formatter.format("{\\\"{A}}"));
+    /**
+     * The expected Unicode and the LaTeX it is converted from. Also used by
+     * {@code org.jabref.model.strings.SimpleLatexToUnicodeTest} to check that the fast path yields the same results.
+     */
+    static Stream<Arguments> latexAndUnicode() {
+        return Stream.of(
+                Arguments.of("aaa", "aaa"),
+                // Umlauts
+                Arguments.of("ä", "{\\\"{a}}"),
+                Arguments.of("Ä", "{\\\"{A}}"),
+                // Small i without dot
+                Arguments.of("ı", "\\i"),
+                Arguments.of("ı", "{\\i}"),
+                // Unknown commands are preserved
+                Arguments.of("\\mbox{-}", "\\mbox{-}"),
+                Arguments.of("\\aaaa", "\\aaaa"),
+                Arguments.of("\\aaaa{bbbb}", "\\aaaa{bbbb}"),
+                Arguments.of("\\aaaa{}", "\\aaaa{}"),
+                // See #1464
+                Arguments.of("\uD835\uDC61\uD835\uDC52\uD835\uDC65\uD835\uDC61", "\\textit{text}"),
+                Arguments.of("$", "\\$"),
+                // Equations
+                Arguments.of("σ", "$\\sigma$"),
+                Arguments.of("A 32 mA ΣΔ-modulator", "A 32~{mA} {$\\Sigma\\Delta$}-modulator"),
+                // See #1464
+                Arguments.of("χ", "$\\chi$"),
+                // Bug #1264
+                Arguments.of("Š", "{\\v{S}}"),
+                Arguments.of("ï", "\\\"{i}"),
+                // this might look strange in the test, but is actually a correct translation and renders identically to the above example in the UI
+                Arguments.of("ı̈", "\\\"{\\i}"),
+                Arguments.of("ï", "{\\\"{i}}"),
+                Arguments.of("Ï", "\\\"{I}"),
+                Arguments.of("Łęski", "\\L\\k{e}ski"),
+                // Combining accents
+                Arguments.of("ώ", "$\\acute{\\omega}$"),
+                Arguments.of("ḩ", "{\\c{h}}"),
+                Arguments.of("Montaña", "Monta\\~{n}a"),
+                Arguments.of("Maliński", "Mali\\'{n}ski"),
+                Arguments.of("MaliŃski", "Mali\\'{N}ski"),
+                Arguments.of("Maliński", "Mali\\'nski"),
+                Arguments.of("MaliŃski", "Mali\\'Nski"),
+                // Apostrophes
+                Arguments.of("Mali'nski", "Mali'nski"),
+                Arguments.of("Mali'Nski", "Mali'Nski"),
+                Arguments.of("L'oscillation", "L'oscillation"),
+                Arguments.of("O'Connor", "O'Connor"),
+                // Underscores
+                Arguments.of("Lorem ipsum_lorem ipsum", "Lorem ipsum_lorem ipsum"),
+                Arguments.of("Lorem ipsum_(lorem ipsum)", "Lorem ipsum_{lorem ipsum}"),
+                // Two different macrons, see https://github.com/JabRef/jabref/issues/5547
+                Arguments.of("Puṇya-pattana-vidyā-pı̄ṭhādhi-kṛtaiḥ prā-kaśyaṃ nı̄taḥ", "Pu{\\d{n}}ya-pattana-vidy{\\={a}}-p{\\={\\i}}{\\d{t}}h{\\={a}}dhi-k{\\d{r}}tai{\\d{h}} pr{\\={a}}-ka{{\\'{s}}}ya{\\d{m}} n{\\={\\i}}ta{\\d{h}}"),
+                // Ordinals
+                Arguments.of("1ˢᵗ", "1\\textsuperscript{st}"),
+                Arguments.of("2ⁿᵈ", "2\\textsuperscript{nd}"),
+                Arguments.of("3ʳᵈ", "3\\textsuperscript{rd}"),
+                Arguments.of("4ᵗʰ", "4\\textsuperscript{th}"),
+                Arguments.of("9ᵗʰ", "9\\textsuperscript{th}")
+        );
     }
 
     @ParameterizedTest
-    @CsvSource({
-            "ı, \\i",
-            "ı, {\\i}"
-    })
-    void smallIwithoutDot(String expected, String input) {
-        assertEquals(expected, formatter.format(input));
-    }
-
-    @Test
-    void preserveUnknownCommand() {
-        assertEquals("\\mbox{-}", formatter.format("\\mbox{-}"));
-    }
-
-    @Test
-    void formatTextit() {
-        // See #1464
-        assertEquals("\uD835\uDC61\uD835\uDC52\uD835\uDC65\uD835\uDC61", formatter.format("\\textit{text}"));
-    }
-
-    @Test
-    void escapedDollarSign() {
-        assertEquals("$", formatter.format("\\$"));
-    }
-
-    @Test
-    void equationsSingleSymbol() {
-        assertEquals("σ", formatter.format("$\\sigma$"));
-    }
-
-    @Test
-    void equationsMoreComplicatedFormatting() {
-        assertEquals("A 32 mA ΣΔ-modulator", formatter.format("A 32~{mA} {$\\Sigma\\Delta$}-modulator"));
+    @MethodSource("latexAndUnicode")
+    void format(String expected, String latex) {
+        assertEquals(expected, formatter.format(latex));
     }
 
     @Test
@@ -62,148 +86,9 @@ class LatexToUnicodeFormatterTest {
         assertEquals("Mönch", formatter.format(formatter.getExampleInput()));
     }
 
-    @Test
-    void chi() {
-        // See #1464
-        assertEquals("χ", formatter.format("$\\chi$"));
-    }
-
-    @Test
-    void sWithCaron() {
-        // Bug #1264
-        assertEquals("Š", formatter.format("{\\v{S}}"));
-    }
-
-    @Test
-    void iWithDiaresis() {
-        assertEquals("ï", formatter.format("\\\"{i}"));
-    }
-
-    @Test
-    void iWithDiaresisAndEscapedI() {
-        // this might look strange in the test, but is actually a correct translation and renders identically to the above example in the UI
-        assertEquals("ı̈", formatter.format("\\\"{\\i}"));
-    }
-
-    @Test
-    void iWithDiaresisAndUnnecessaryBraces() {
-        assertEquals("ï", formatter.format("{\\\"{i}}"));
-    }
-
-    @Test
-    void upperCaseIWithDiaresis() {
-        assertEquals("Ï", formatter.format("\\\"{I}"));
-    }
-
-    @Test
-    void polishName() {
-        assertEquals("Łęski", formatter.format("\\L\\k{e}ski"));
-    }
-
-    @Test
-    void doubleCombiningAccents() {
-        assertEquals("ώ", formatter.format("$\\acute{\\omega}$"));
-    }
-
-    @Test
-    void combiningAccentsCase1() {
-        assertEquals("ḩ", formatter.format("{\\c{h}}"));
-    }
-
     @Disabled("This is not a standard LaTeX command. It is debatable why we should convert this.")
     @Test
     void combiningAccentsCase2() {
         assertEquals("a͍", formatter.format("\\spreadlips{a}"));
     }
-
-    @Test
-    void keepUnknownCommandWithoutArgument() {
-        assertEquals("\\aaaa", formatter.format("\\aaaa"));
-    }
-
-    @Test
-    void keepUnknownCommandWithArgument() {
-        assertEquals("\\aaaa{bbbb}", formatter.format("\\aaaa{bbbb}"));
-    }
-
-    @Test
-    void keepUnknownCommandWithEmptyArgument() {
-        assertEquals("\\aaaa{}", formatter.format("\\aaaa{}"));
-    }
-
-    @Test
-    void tildeN() {
-        assertEquals("Montaña", formatter.format("Monta\\~{n}a"));
-    }
-
-    @Test
-    void acuteNLongVersion() {
-        assertEquals("Maliński", formatter.format("Mali\\'{n}ski"));
-        assertEquals("MaliŃski", formatter.format("Mali\\'{N}ski"));
-    }
-
-    @Test
-    void acuteNShortVersion() {
-        assertEquals("Maliński", formatter.format("Mali\\'nski"));
-        assertEquals("MaliŃski", formatter.format("Mali\\'Nski"));
-    }
-
-    @Test
-    void apostrophN() {
-        assertEquals("Mali'nski", formatter.format("Mali'nski"));
-        assertEquals("Mali'Nski", formatter.format("Mali'Nski"));
-    }
-
-    @Test
-    void apostrophO() {
-        assertEquals("L'oscillation", formatter.format("L'oscillation"));
-    }
-
-    @Test
-    void apostrophC() {
-        assertEquals("O'Connor", formatter.format("O'Connor"));
-    }
-
-    @Test
-    void preservationOfSingleUnderscore() {
-        assertEquals("Lorem ipsum_lorem ipsum", formatter.format("Lorem ipsum_lorem ipsum"));
-    }
-
-    @Test
-    void conversionOfUnderscoreWithBraces() {
-        assertEquals("Lorem ipsum_(lorem ipsum)", formatter.format("Lorem ipsum_{lorem ipsum}"));
-    }
-
-    /**
-     * <a href="https://github.com/JabRef/jabref/issues/5547">Issue 5547</a>
-     */
-    @Test
-    void twoDifferentMacrons() {
-        assertEquals("Puṇya-pattana-vidyā-pı̄ṭhādhi-kṛtaiḥ prā-kaśyaṃ nı̄taḥ", formatter.format("Pu{\\d{n}}ya-pattana-vidy{\\={a}}-p{\\={\\i}}{\\d{t}}h{\\={a}}dhi-k{\\d{r}}tai{\\d{h}} pr{\\={a}}-ka{{\\'{s}}}ya{\\d{m}} n{\\={\\i}}ta{\\d{h}}"));
-    }
-
-    @Test
-    void conversionOfOrdinal1st() {
-        assertEquals("1ˢᵗ", formatter.format("1\\textsuperscript{st}"));
-    }
-
-    @Test
-    void conversionOfOrdinal2nd() {
-        assertEquals("2ⁿᵈ", formatter.format("2\\textsuperscript{nd}"));
-    }
-
-    @Test
-    void conversionOfOrdinal3rd() {
-        assertEquals("3ʳᵈ", formatter.format("3\\textsuperscript{rd}"));
-    }
-
-    @Test
-    void conversionOfOrdinal4th() {
-        assertEquals("4ᵗʰ", formatter.format("4\\textsuperscript{th}"));
-    }
-
-    @Test
-    void conversionOfOrdinal9th() {
-        assertEquals("9ᵗʰ", formatter.format("9\\textsuperscript{th}"));
-    }
 }
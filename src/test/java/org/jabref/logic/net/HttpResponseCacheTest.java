@@ -0,0 +1,222 @@
+package org.jabref.logic.net;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpResponseCacheTest {
+
+    private static final String BODY = "@article{key, title = {Cached}}";
+    private static final String ETAG = "\"v1\"";
+
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+
+    @TempDir
+    private Path tempDir;
+    private HttpServer server;
+    private HttpResponseCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/fresh", exchange -> respond(exchange, "max-age=3600"));
+        server.createContext("/revalidate", exchange -> respond(exchange, "no-cache"));
+        server.createContext("/nostore", exchange -> respond(exchange, "no-store"));
+        server.createContext("/choices", exchange -> {
+            fullResponses.incrementAndGet();
+            exchange.getResponseHeaders().add("Cache-Control", "max-age=3600");
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(300, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.createContext("/plain", exchange -> {
+            fullResponses.incrementAndGet();
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        URLDownload.setResponseCache(null);
+        if (cache != null) {
+            cache.close();
+        }
+        server.stop(0);
+    }
+
+    private void respond(HttpExchange exchange, String cacheControl) throws IOException {
+        exchange.getResponseHeaders().add("Cache-Control", cacheControl);
+        exchange.getResponseHeaders().add("ETag", ETAG);
+        if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModifiedResponses.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        fullResponses.incrementAndGet();
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private URLDownload uncachedDownload(String path) throws IOException {
+        return new URLDownload(new URL("http://localhost:" + server.getAddress().getPort() + path));
+    }
+
+    private URLDownload download(String path) throws IOException {
+        return uncachedDownload(path).cached();
+    }
+
+    private void useCache(Path storeFile) {
+        cache = HttpResponseCache.withMaximumSizeInMegabytes(storeFile, 100);
+        URLDownload.setResponseCache(cache);
+    }
+
+    @Test
+    void freshResponseIsServedLocally() throws IOException {
+        useCache(null);
+
+        assertEquals(BODY + "\n", download("/fresh").asString());
+        assertEquals(BODY + "\n", download("/fresh").asString());
+        assertEquals(BODY, new String(download("/fresh").asInputStream().readAllBytes(), StandardCharsets.UTF_8));
+
+        assertEquals(1, fullResponses.get());
+    }
+
+    @Test
+    void staleResponseIsRevalidated() throws IOException {
+        useCache(null);
+
+        download("/revalidate").asString();
+        assertEquals(BODY + "\n", download("/revalidate").asString());
+
+        assertEquals(1, fullResponses.get());
+        assertEquals(1, notModifiedResponses.get());
+    }
+
+    @Test
+    void noStoreResponseIsNotCached() throws IOException {
+        useCache(null);
+
+        download("/nostore").asString();
+        download("/nostore").asString();
+
+        assertEquals(2, fullResponses.get());
+        assertEquals(0, cache.getSizeInBytes());
+    }
+
+    @Test
+    void responseWithoutCachingHeadersIsNotCached() throws IOException {
+        useCache(null);
+
+        download("/plain").asString();
+        download("/plain").asString();
+
+        assertEquals(2, fullResponses.get());
+        assertEquals(0, cache.getSizeInBytes());
+    }
+
+    @Test
+    void unsuccessfulResponseIsNotCached() throws IOException {
+        useCache(null);
+
+        download("/choices").asString();
+        download("/choices").asString();
+
+        assertEquals(2, fullResponses.get());
+        assertEquals(0, cache.getSizeInBytes());
+    }
+
+    @Test
+    void downloadNotMarkedAsCachedBypassesCache() throws IOException {
+        useCache(null);
+
+        uncachedDownload("/fresh").asString();
+        uncachedDownload("/fresh").asInputStream().readAllBytes();
+
+        assertEquals(2, fullResponses.get());
+        assertEquals(0, cache.getSizeInBytes());
+    }
+
+    @Test
+    void closedCacheIsNoLongerUsed() throws IOException {
+        useCache(null);
+
+        URLDownload.closeResponseCache();
+        cache = null;
+
+        assertEquals(Optional.empty(), URLDownload.getResponseCache());
+        assertEquals(BODY + "\n", download("/fresh").asString());
+    }
+
+    @Test
+    void responsesSurviveReopening() throws IOException {
+        Path storeFile = tempDir.resolve("http-cache.mv");
+        useCache(storeFile);
+        download("/fresh").asString();
+        cache.close();
+
+        useCache(storeFile);
+        assertEquals(BODY + "\n", download("/fresh").asString());
+        assertEquals(1, fullResponses.get());
+    }
+
+    @Test
+    void cacheOnlyModeDoesNotAccessNetwork() throws IOException {
+        useCache(null);
+        download("/revalidate").asString();
+        cache.setCacheOnly(true);
+
+        assertEquals(BODY + "\n", download("/revalidate").asString());
+        assertThrows(IOException.class, () -> download("/fresh").asString());
+        assertEquals(1, fullResponses.get());
+        assertEquals(0, notModifiedResponses.get());
+    }
+
+    @Test
+    void requestHeadersArePartOfKey() throws IOException {
+        URL url = new URL("http://localhost/");
+        assertEquals(HttpResponseCache.getKey(url, Map.of("User-Agent", "a")), HttpResponseCache.getKey(url, Map.of("User-Agent", "b")));
+        assertNotEquals(HttpResponseCache.getKey(url, Map.of("Accept", "application/json")), HttpResponseCache.getKey(url, Map.of("Accept", "text/xml")));
+    }
+
+    @Test
+    void sizeIsBounded() throws IOException {
+        cache = new HttpResponseCache(null, 10 * BODY.length());
+        URLDownload.setResponseCache(cache);
+
+        for (int i = 0; i < 20; i++) {
+            download("/fresh?page=" + i).asString();
+        }
+
+        assertTrue(cache.getSizeInBytes() <= (10 * BODY.length()));
+    }
+}
@@ -0,0 +1,97 @@
+package org.jabref.logic.pdf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.pdf.FileAnnotation;
+import org.jabref.model.pdf.FileAnnotationType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistentAnnotationCacheTest {
+
+    private static final FileAnnotation NOTE = new FileAnnotation("Linus Dietz", LocalDateTime.of(2017, 3, 12, 20, 25), 1,
+            "inline note annotation", FileAnnotationType.FREETEXT, Optional.empty());
+    private static final FileAnnotation HIGHLIGHT = new FileAnnotation("Linus Dietz", LocalDateTime.of(2017, 3, 12, 20, 28), 1,
+            "World", FileAnnotationType.HIGHLIGHT, Optional.of(NOTE));
+
+    private final AtomicInteger importCount = new AtomicInteger();
+    private final AnnotationImporter countingImporter = path -> {
+        importCount.incrementAndGet();
+        return List.of(NOTE, HIGHLIGHT);
+    };
+
+    @TempDir
+    private Path tempDir;
+    private Path storeFile;
+    private Path pdf;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storeFile = tempDir.resolve("annotations.mv");
+        pdf = Files.writeString(tempDir.resolve("paper.pdf"), "dummy");
+    }
+
+    @Test
+    void secondImportIsServedFromStore() {
+        try (PersistentAnnotationCache cache = new PersistentAnnotationCache(storeFile, countingImporter, 10)) {
+            assertEquals(List.of(NOTE, HIGHLIGHT), cache.importAnnotations(pdf));
+            assertEquals(List.of(NOTE, HIGHLIGHT), cache.importAnnotations(pdf));
+        }
+        assertEquals(1, importCount.get());
+    }
+
+    @Test
+    void annotationsSurviveReopening() {
+        try (PersistentAnnotationCache cache = new PersistentAnnotationCache(storeFile, countingImporter, 10)) {
+            cache.importAnnotations(pdf);
+        }
+        try (PersistentAnnotationCache cache = new PersistentAnnotationCache(storeFile, countingImporter, 10)) {
+            assertTrue(cache.contains(pdf));
+            assertEquals(List.of(NOTE, HIGHLIGHT), cache.importAnnotations(pdf));
+        }
+        assertEquals(1, importCount.get());
+    }
+
+    @Test
+    void modifiedFileIsImportedAgain() throws IOException {
+        try (PersistentAnnotationCache cache = new PersistentAnnotationCache(storeFile, countingImporter, 10)) {
+            cache.importAnnotations(pdf);
+            Files.setLastModifiedTime(pdf, FileTime.fromMillis(Files.getLastModifiedTime(pdf).toMillis() + 10_000));
+            assertFalse(cache.contains(pdf));
+            cache.importAnnotations(pdf);
+        }
+        assertEquals(2, importCount.get());
+    }
+
+    @Test
+    void leastRecentlyUsedFilesAreEvicted() throws IOException {
+        try (PersistentAnnotationCache cache = new PersistentAnnotationCache(storeFile, countingImporter, 10)) {
+            for (int i = 0; i < 11; i++) {
+                cache.importAnnotations(Files.writeString(tempDir.resolve("paper" + i + ".pdf"), "dummy"));
+            }
+            assertTrue(cache.size() <= 10);
+            assertTrue(cache.contains(tempDir.resolve("paper10.pdf")));
+        }
+    }
+
+    @Test
+    void missingFileIsNotStored() {
+        try (PersistentAnnotationCache cache = new PersistentAnnotationCache(storeFile, countingImporter, 10)) {
+            cache.importAnnotations(tempDir.resolve("does-not-exist.pdf"));
+            assertEquals(0, cache.size());
+        }
+    }
+}
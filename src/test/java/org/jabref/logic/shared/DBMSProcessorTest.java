@@ -169,6 +169,37 @@ class DBMSProcessorTest {
         assertEquals(List.of(firstEntry, secondEntry), sharedEntriesByIdList);
     }
 
+    @Test
+    void insertEntriesExceedingOneStatement() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < (2 * DBMSProcessor.MAX_ROWS_PER_STATEMENT) + 1; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "title " + i));
+        }
+
+        dbmsProcessor.insertEntries(entries);
+
+        assertEquals(entries, dbmsProcessor.getSharedEntries());
+    }
+
+    @Test
+    void updateEntriesRefusesOnlyOutdatedEntries() throws Exception {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample2();
+        dbmsProcessor.insertEntries(List.of(firstEntry, secondEntry));
+
+        firstEntry.setField(StandardField.YEAR, "1995");
+        firstEntry.clearField(StandardField.BOOKTITLE);
+        // simulate older version
+        secondEntry.getSharedBibEntryData().setVersion(0);
+        secondEntry.setField(StandardField.YEAR, "1980");
+        List<OfflineLockException> refusedUpdates = dbmsProcessor.updateEntries(List.of(firstEntry, secondEntry));
+
+        assertEquals(List.of(secondEntry), refusedUpdates.stream().map(OfflineLockException::getLocalBibEntry).toList());
+        assertEquals(Optional.of(firstEntry), dbmsProcessor.getSharedEntry(firstEntry.getSharedBibEntryData().getSharedID()));
+        assertEquals(Optional.of("1979"), dbmsProcessor.getSharedEntry(secondEntry.getSharedBibEntryData().getSharedID())
+                                                       .flatMap(entry -> entry.getField(StandardField.YEAR)));
+    }
+
     @Test
     void updateNewerEntry() {
         BibEntry bibEntry = getBibEntryExample();
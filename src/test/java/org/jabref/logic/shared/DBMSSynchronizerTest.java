@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 
@@ -102,6 +103,7 @@ public class DBMSSynchronizerTest {
         bibDatabase.insertEntry(expectedEntry);
         expectedEntry.setField(StandardField.AUTHOR, "Brad L and Gilson");
         expectedEntry.setField(StandardField.TITLE, "The micro multiplexer");
+        dbmsSynchronizer.flushPendingChanges();
 
         List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries();
         assertEquals(Collections.singletonList(expectedEntry), actualEntries);
@@ -114,6 +116,7 @@ public class DBMSSynchronizerTest {
 
         bibDatabase.insertEntry(exampleBibEntry);
         exampleBibEntry.setField(StandardField.AUTHOR, "Brad L and Gilson");
+        dbmsSynchronizer.flushPendingChanges();
         // shared updates are not synchronized back to the remote database
         exampleBibEntry.setField(StandardField.TITLE, "The micro multiplexer", EntriesEventSource.SHARED);
 
@@ -210,6 +213,30 @@ public class DBMSSynchronizerTest {
         assertEquals(List.of(modifiedBibEntry), dbmsProcessor.getSharedEntries());
     }
 
+    @Test
+    public void synchronizeLocalDatabaseWithChangedIDsPullsOnlyTheseEntries() throws Exception {
+        BibEntry firstEntry = createExampleBibEntry(1);
+        BibEntry secondEntry = createExampleBibEntry(2);
+        dbmsProcessor.insertEntries(List.of(firstEntry, secondEntry));
+
+        dbmsSynchronizer.synchronizeLocalDatabase(Set.of(2));
+
+        assertEquals(List.of(secondEntry), bibDatabase.getEntries());
+    }
+
+    @Test
+    public void synchronizeLocalDatabaseWithChangedIDsRemovesDeletedEntries() throws Exception {
+        BibEntry firstEntry = createExampleBibEntry(1);
+        BibEntry secondEntry = createExampleBibEntry(2);
+        dbmsProcessor.insertEntries(List.of(firstEntry, secondEntry));
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        dbmsProcessor.removeEntries(List.of(firstEntry));
+        dbmsSynchronizer.synchronizeLocalDatabase(Set.of(1));
+
+        assertEquals(List.of(secondEntry), bibDatabase.getEntries());
+    }
+
     @Test
     public void updateEntryDoesNotModifyLocalDatabase() throws Exception {
         BibEntry bibEntry = createExampleBibEntry(1);
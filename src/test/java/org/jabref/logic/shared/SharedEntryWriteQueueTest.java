@@ -0,0 +1,78 @@
+package org.jabref.logic.shared;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SharedEntryWriteQueueTest {
+
+    private final List<List<BibEntry>> writes = new ArrayList<>();
+    private SharedEntryWriteQueue writeQueue;
+
+    @BeforeEach
+    void setUp() {
+        // The delay is long enough that only flush() writes
+        writeQueue = new SharedEntryWriteQueue(writes::add, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeQueue.shutdown();
+    }
+
+    @Test
+    void flushWritesChangesOfSameEntryOnce() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "first");
+        writeQueue.add(entry);
+        entry.setField(StandardField.TITLE, "second");
+        writeQueue.add(entry);
+
+        writeQueue.flush();
+
+        assertEquals(List.of(List.of(entry)), writes);
+    }
+
+    @Test
+    void flushWritesEntriesTogetherInOrderOfFirstChange() {
+        BibEntry first = new BibEntry().withField(StandardField.TITLE, "title");
+        BibEntry second = new BibEntry().withField(StandardField.TITLE, "title");
+        writeQueue.add(first);
+        writeQueue.add(second);
+        writeQueue.add(first);
+
+        writeQueue.flush();
+
+        assertEquals(1, writes.size());
+        assertEquals(List.of(first.getId(), second.getId()), writes.getFirst().stream().map(BibEntry::getId).toList());
+    }
+
+    @Test
+    void flushWithoutChangesDoesNotWrite() {
+        writeQueue.flush();
+
+        assertEquals(List.of(), writes);
+    }
+
+    @Test
+    void entryIsPendingUntilFlushed() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "title");
+        writeQueue.add(entry);
+
+        assertTrue(writeQueue.isPending(entry));
+        assertFalse(writeQueue.isPending(new BibEntry().withField(StandardField.TITLE, "title")));
+
+        writeQueue.flush();
+
+        assertFalse(writeQueue.isPending(entry));
+    }
+}
@@ -96,6 +96,7 @@ public class SynchronizationSimulatorTest {
         bibEntry.setField(new UnknownField("custom"), "custom value");
         // client B pulls the changes
         bibEntry.clearField(StandardField.AUTHOR);
+        clientContextA.getDBMSSynchronizer().flushPendingChanges();
 
         clientContextB.getDBMSSynchronizer().pullChanges();
 
@@ -143,6 +144,7 @@ public class SynchronizationSimulatorTest {
         // client B tries to update the entry
         BibEntry bibEntryOfClientB = clientContextB.getDatabase().getEntries().getFirst();
         bibEntryOfClientB.setField(StandardField.YEAR, "2009");
+        clientContextB.getDBMSSynchronizer().flushPendingChanges();
 
         // here a new SharedEntryNotPresentEvent has been thrown. In this case the user B would get an pop-up window.
         assertNotNull(eventListenerB.getSharedEntriesNotPresentEvent());
@@ -159,6 +161,7 @@ public class SynchronizationSimulatorTest {
 
         // A now increases the version number
         bibEntryOfClientA.setField(StandardField.YEAR, "2001");
+        clientContextA.getDBMSSynchronizer().flushPendingChanges();
 
         // B does nothing here, so there is no event occurrence
         assertFalse(clientContextB.getDatabase().getEntries().isEmpty());
@@ -167,6 +170,7 @@ public class SynchronizationSimulatorTest {
         BibEntry bibEntryOfClientB = clientContextB.getDatabase().getEntries().getFirst();
         // B also tries to change something
         bibEntryOfClientB.setField(StandardField.YEAR, "2016");
+        clientContextB.getDBMSSynchronizer().flushPendingChanges();
 
         // B now cannot update the shared entry, due to optimistic offline lock.
         // In this case an BibEntry merge dialog pops up.
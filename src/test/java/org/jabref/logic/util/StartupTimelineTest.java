@@ -0,0 +1,42 @@
+package org.jabref.logic.util;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupTimelineTest {
+
+    private final StartupTimeline timeline = new StartupTimeline();
+
+    @Test
+    void measureReturnsResultOfPhase() {
+        assertEquals("result", timeline.measure("phase", () -> "result"));
+    }
+
+    @Test
+    void formatListsPhasesInOrderOfStart() {
+        timeline.measure("first", () -> { });
+        timeline.measure("second", () -> { });
+        timeline.finish("finished");
+
+        List<String> lines = timeline.format().lines().toList();
+
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).endsWith(" first"));
+        assertTrue(lines.get(1).endsWith(" second"));
+        assertTrue(lines.get(2).endsWith(" finished"));
+    }
+
+    @Test
+    void failedPhaseIsRecorded() {
+        assertThrows(IllegalStateException.class, () -> timeline.measure("failing", () -> {
+            throw new IllegalStateException();
+        }));
+
+        assertTrue(timeline.format().endsWith(" failing"));
+    }
+}
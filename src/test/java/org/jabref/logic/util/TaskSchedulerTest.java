@@ -0,0 +1,90 @@
+package org.jabref.logic.util;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskSchedulerTest {
+
+    private TaskScheduler scheduler;
+    private CountDownLatch computationThreadReleased;
+    private Future<?> occupyingTask;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new TaskScheduler("test", 1);
+        computationThreadReleased = new CountDownLatch(1);
+        occupyingTask = scheduler.submit(task(() -> await(computationThreadReleased)), TaskPriority.USER_INITIATED, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    private static FutureTask<Void> task(Runnable runnable) {
+        return new FutureTask<>(runnable, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void computeBoundTasksStartByPriority() throws Exception {
+        List<TaskPriority> started = new CopyOnWriteArrayList<>();
+        scheduler.submit(task(() -> started.add(TaskPriority.BACKGROUND)), TaskPriority.BACKGROUND, true);
+        scheduler.submit(task(() -> started.add(TaskPriority.USER_INITIATED)), TaskPriority.USER_INITIATED, true);
+        scheduler.submit(task(() -> started.add(TaskPriority.INTERACTIVE)), TaskPriority.INTERACTIVE, true);
+
+        computationThreadReleased.countDown();
+        // Submitted last with the lowest priority, thus started after all others
+        scheduler.submit(task(() -> { }), TaskPriority.BACKGROUND, true).get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of(TaskPriority.INTERACTIVE, TaskPriority.USER_INITIATED, TaskPriority.BACKGROUND), started);
+    }
+
+    @Test
+    void blockingTaskDoesNotWaitForComputeBoundTasks() throws Exception {
+        scheduler.submit(task(() -> { }), TaskPriority.BACKGROUND, false).get(10, TimeUnit.SECONDS);
+
+        assertFalse(occupyingTask.isDone());
+    }
+
+    @Test
+    void taskWithSameSupersedeKeyCancelsUnfinishedTask() throws Exception {
+        Object key = new Object();
+        CountDownLatch released = new CountDownLatch(1);
+        Future<?> superseded = scheduler.submit(task(() -> await(released)), TaskPriority.INTERACTIVE, false, key);
+        Future<?> superseding = scheduler.submit(task(() -> { }), TaskPriority.INTERACTIVE, false, key);
+
+        superseding.get(10, TimeUnit.SECONDS);
+
+        assertTrue(superseded.isCancelled());
+        assertFalse(superseding.isCancelled());
+    }
+
+    @Test
+    void metricsCountWaitingTasks() {
+        scheduler.submit(task(() -> { }), TaskPriority.BACKGROUND, true);
+
+        TaskScheduler.Metrics metrics = scheduler.getMetrics(TaskPriority.BACKGROUND);
+        assertEquals(1, metrics.queued());
+        assertEquals(0, metrics.started());
+    }
+}
@@ -10,13 +10,17 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.jabref.model.FieldChange;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldsChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.event.EventListenerTest;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -314,6 +318,72 @@ class BibDatabaseTest {
         assertEquals(entry, tel.getChangedEntry());
     }
 
+    @Test
+    void batchPostsOneEventWithCoalescedChanges() {
+        BibEntry first = new BibEntry().withField(StandardField.TITLE, "old title");
+        BibEntry second = new BibEntry();
+        database.insertEntries(first, second);
+        BatchListener listener = new BatchListener();
+        database.registerListener(listener);
+
+        database.batch(() -> {
+            first.setField(StandardField.TITLE, "intermediate title");
+            first.setField(StandardField.TITLE, "new title");
+            first.setField(StandardField.YEAR, "2024");
+            first.clearField(StandardField.YEAR);
+            second.setField(StandardField.AUTHOR, "Author");
+        });
+
+        assertEquals(List.of(), listener.fieldChangedEvents);
+        assertEquals(1, listener.fieldsChangedEvents.size());
+        assertEquals(List.of(
+                        new FieldChange(first, StandardField.TITLE, "old title", "new title"),
+                        new FieldChange(second, StandardField.AUTHOR, null, "Author")),
+                listener.fieldsChangedEvents.getFirst().getChanges());
+        assertEquals(List.of(first, second), listener.fieldsChangedEvents.getFirst().getBibEntries());
+    }
+
+    @Test
+    void nestedBatchPostsEventAtEndOfOutermostBatch() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        BatchListener listener = new BatchListener();
+        database.registerListener(listener);
+
+        database.batch(() -> {
+            database.batch(() -> entry.setField(StandardField.TITLE, "title"));
+            assertEquals(List.of(), listener.fieldsChangedEvents);
+        });
+
+        assertEquals(1, listener.fieldsChangedEvents.size());
+    }
+
+    @Test
+    void changingEntryAfterBatchPostsChangeEntryEvent() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        BatchListener listener = new BatchListener();
+        database.registerListener(listener);
+
+        database.batch(() -> entry.setField(StandardField.TITLE, "title"));
+        entry.setField(StandardField.TITLE, "other title");
+
+        assertEquals(1, listener.fieldChangedEvents.size());
+    }
+
+    @Test
+    void changingRemovedEntryPostsNoEvent() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        BatchListener listener = new BatchListener();
+        database.registerListener(listener);
+
+        entry.setField(StandardField.TITLE, "title");
+
+        assertEquals(List.of(), listener.fieldChangedEvents);
+    }
+
     @Test
     void correctKeyCountOne() {
         BibEntry entry = new BibEntry();
@@ -458,4 +528,19 @@ class BibDatabaseTest {
         database.setPreamble("Oh yeah!");
         assertEquals(Optional.of("Oh yeah!"), database.getPreamble());
     }
+
+    public static class BatchListener {
+        private final List<FieldChangedEvent> fieldChangedEvents = new ArrayList<>();
+        private final List<FieldsChangedEvent> fieldsChangedEvents = new ArrayList<>();
+
+        @Subscribe
+        public void listen(FieldChangedEvent event) {
+            fieldChangedEvents.add(event);
+        }
+
+        @Subscribe
+        public void listen(FieldsChangedEvent event) {
+            fieldsChangedEvents.add(event);
+        }
+    }
 }
@@ -1100,29 +1100,28 @@ public class AuthorListTest {
     }
 
     @Test
-    public void parseRetrieveCachedAuthorListAfterGarbageCollection() throws Exception {
+    public void parseRetrieveCachedAuthorList() throws Exception {
         final String uniqueAuthorName = "Osvaldo Iongi";
         AuthorList author = AuthorList.parse(uniqueAuthorName);
-        System.gc();
         assertSame(author, AuthorList.parse(uniqueAuthorName));
     }
 
     @Test
-    public void parseGarbageCollectAuthorListForUnreachableKey() throws Exception {
+    public void parseReturnsCachedAuthorListForEqualString() throws Exception {
         final String uniqueAuthorName = "Fleur Hornbach";
         // Note that "new String()" is needed, uniqueAuthorName is a reference to a String literal
         AuthorList uniqueAuthor = AuthorList.parse(new String(uniqueAuthorName));
-        System.gc();
-        assertNotSame(uniqueAuthor, AuthorList.parse(uniqueAuthorName));
+        assertSame(uniqueAuthor, AuthorList.parse(uniqueAuthorName));
     }
 
     @Test
-    public void parseGarbageCollectUnreachableInstitution() throws Exception {
-        final String uniqueInstitutionName = "{Unique LLC}";
-        // Note that "new String()" is needed, uniqueAuthorName is a reference to a String literal
-        AuthorList uniqueInstitution = AuthorList.parse(new String(uniqueInstitutionName));
-        System.gc();
-        assertNotSame(uniqueInstitution, AuthorList.parse(uniqueInstitutionName));
+    public void formattedFormsAreKeptPerArguments() throws Exception {
+        AuthorList authorList = AuthorList.parse("John von Neumann and John Smith and Black Brown, Peter");
+
+        assertEquals("J. von Neumann, J. Smith and P. Black Brown", authorList.getAsFirstLastNames(true, false));
+        assertEquals("John von Neumann, John Smith, and Peter Black Brown", authorList.getAsFirstLastNames(false, true));
+        assertSame(authorList.getAsFirstLastNames(true, false), authorList.getAsFirstLastNames(true, false));
+        assertEquals("John von Neumann and John Smith and Peter Black Brown", authorList.getAsFirstLastNamesWithAnd());
     }
 
     /**
@@ -1132,7 +1131,6 @@ public class AuthorListTest {
     public void parseCacheAuthorsWithTwoOrMoreCommasAndWithSpaceInAllParts() throws Exception {
         final String uniqueAuthorsNames = "Basil Dankworth, Gianna Birdwhistle, Cosmo Berrycloth";
         AuthorList uniqueAuthors = AuthorList.parse(uniqueAuthorsNames);
-        System.gc();
         assertSame(uniqueAuthors, AuthorList.parse(uniqueAuthorsNames));
     }
 
@@ -1143,7 +1141,6 @@ public class AuthorListTest {
     public void parseCacheAuthorsWithTwoOrMoreCommasAndWithoutSpaceInAllParts() throws Exception {
         final String uniqueAuthorsNames = "Dankworth, Jr., Braelynn";
         AuthorList uniqueAuthors = AuthorList.parse(uniqueAuthorsNames);
-        System.gc();
         assertSame(uniqueAuthors, AuthorList.parse(uniqueAuthorsNames));
     }
 
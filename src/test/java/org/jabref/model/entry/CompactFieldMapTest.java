@@ -0,0 +1,87 @@
+package org.jabref.model.entry;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompactFieldMapTest {
+
+    private final CompactFieldMap map = new CompactFieldMap();
+
+    @Test
+    void putReturnsOldValue() {
+        assertNull(map.put(StandardField.TITLE, "first"));
+        assertEquals("first", map.put(StandardField.TITLE, "second"));
+        assertEquals("second", map.get(StandardField.TITLE));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void removeKeepsOtherFields() {
+        map.put(StandardField.AUTHOR, "author");
+        map.put(StandardField.TITLE, "title");
+        map.put(StandardField.YEAR, "2024");
+
+        assertEquals("title", map.remove(StandardField.TITLE));
+
+        assertEquals(Map.of(StandardField.AUTHOR, "author", StandardField.YEAR, "2024"), map);
+    }
+
+    @Test
+    void unknownFieldIsFoundIgnoringCase() {
+        map.put(new UnknownField("Custom"), "value");
+
+        assertEquals("value", map.get(new UnknownField("custom")));
+    }
+
+    @Test
+    void equalsHashMapWithSameContent() {
+        Map<Field, String> expected = new HashMap<>();
+        expected.put(StandardField.TITLE, "title");
+        expected.put(new UnknownField("custom"), "value");
+
+        CompactFieldMap actual = new CompactFieldMap(expected);
+
+        assertEquals(expected, actual);
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+
+    @Test
+    void iterationIsNotAffectedByModification() {
+        map.put(StandardField.AUTHOR, "author");
+        map.put(StandardField.TITLE, "title");
+
+        Iterator<Map.Entry<Field, String>> iterator = map.entrySet().iterator();
+        map.put(StandardField.YEAR, "2024");
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(List.of(StandardField.TITLE, StandardField.YEAR), List.copyOf(map.keySet()));
+        assertEquals("title", iterator.next().getValue());
+    }
+
+    @Test
+    void nullValueIsRejected() {
+        assertThrows(NullPointerException.class, () -> map.put(StandardField.TITLE, null));
+    }
+
+    @Test
+    void copyLeavesOutNullValues() {
+        Map<Field, String> fields = new HashMap<>();
+        fields.put(StandardField.TITLE, "title");
+        fields.put(StandardField.YEAR, null);
+
+        assertEquals(Map.of(StandardField.TITLE, "title"), new CompactFieldMap(fields));
+    }
+}
@@ -0,0 +1,74 @@
+package org.jabref.model.strings;
+
+import java.util.Optional;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimpleLatexToUnicodeTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "aaa",
+            "O'Connor",
+            "Mali'nski",
+            "A ΣΔ-modulator",
+            "Müller",
+            "{A} Title",
+            "{\\\"{a}}",
+            "{\\\"{A}}",
+            "\\i",
+            "{\\i}",
+            "\\\"{\\i}",
+            "{\\v{S}}",
+            "\\L\\k{e}ski",
+            "{\\c{h}}",
+            "Monta\\~{n}a",
+            "Mali\\'{n}ski",
+            "Mali\\'Nski",
+            "\\$",
+            "Stra{\\ss}e",
+            "Pu{\\d{n}}ya-pattana-vidy{\\={a}}-p{\\={\\i}}{\\d{t}}h{\\={a}}dhi-k{\\d{r}}tai{\\d{h}} pr{\\={a}}-ka{{\\'{s}}}ya{\\d{m}} n{\\={\\i}}ta{\\d{h}}"
+    })
+    void convertsLikeLatex2Unicode(String latex) {
+        Optional<String> converted = SimpleLatexToUnicode.convert(latex);
+
+        assertTrue(converted.isPresent());
+        assertEquals(LatexToUnicodeAdapter.parseWithLatex2Unicode(latex), converted);
+    }
+
+    @ParameterizedTest
+    @MethodSource("org.jabref.logic.layout.format.LatexToUnicodeFormatterTest#latexAndUnicode")
+    void agreesWithLatex2UnicodeOnFormatterCases(String expected, String latex) {
+        SimpleLatexToUnicode.convert(latex).ifPresent(converted -> {
+            assertEquals(LatexToUnicodeAdapter.parseWithLatex2Unicode(latex), Optional.of(converted));
+            assertEquals(expected, converted);
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "$\\sigma$",
+            "A 32~{mA}",
+            "pages 1--10",
+            "two  spaces",
+            "line\nbreak",
+            "Lorem ipsum_lorem ipsum",
+            "1\\textsuperscript{st}",
+            "\\textit{text}",
+            "\\aaaa{}",
+            "\\mbox{-}",
+            "\\\"{}",
+            "{unbalanced",
+            "unbalanced}",
+            "\\ss x"
+    })
+    void leavesOtherLatexToLatex2Unicode(String latex) {
+        assertEquals(Optional.empty(), SimpleLatexToUnicode.convert(latex));
+    }
+}